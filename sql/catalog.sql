@@ -44,6 +44,37 @@ LOCK TABLES `attribute` WRITE;
 /*!40000 ALTER TABLE `attribute` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `attributestatistics`
+--
+
+DROP TABLE IF EXISTS `attributestatistics`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `attributestatistics` (
+  `OID` bigint(20) NOT NULL,
+  `ATTRIBUTE_OID` bigint(20) NOT NULL,
+  `PARTITION_OID` bigint(20) NOT NULL,
+  `DISTINCT_COUNT` bigint(20) NOT NULL,
+  `NULL_FRACTION` double NOT NULL,
+  `MIN_VALUE` varchar(255) DEFAULT NULL,
+  `MAX_VALUE` varchar(255) DEFAULT NULL,
+  `HISTOGRAM` text,
+  PRIMARY KEY (`OID`),
+  UNIQUE KEY `ATTRIBUTESTATISTICS_ATTRIBUTE_OID_PARTITION_OID_key` (`ATTRIBUTE_OID`,`PARTITION_OID`),
+  CONSTRAINT `ATTRIBUTESTATISTICS_ATTRIBUTE_OID_fkey` FOREIGN KEY (`ATTRIBUTE_OID`) REFERENCES `attribute` (`OID`) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `attributestatistics`
+--
+
+LOCK TABLES `attributestatistics` WRITE;
+/*!40000 ALTER TABLE `attributestatistics` DISABLE KEYS */;
+/*!40000 ALTER TABLE `attributestatistics` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `connection`
 --
@@ -234,6 +265,33 @@ LOCK TABLES `table` WRITE;
 /*!40000 ALTER TABLE `table` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `tablestatistics`
+--
+
+DROP TABLE IF EXISTS `tablestatistics`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `tablestatistics` (
+  `OID` bigint(20) NOT NULL,
+  `TABLE_OID` bigint(20) NOT NULL,
+  `PARTITION_OID` bigint(20) NOT NULL,
+  `ROW_COUNT` bigint(20) NOT NULL,
+  PRIMARY KEY (`OID`),
+  UNIQUE KEY `TABLESTATISTICS_TABLE_OID_PARTITION_OID_key` (`TABLE_OID`,`PARTITION_OID`),
+  CONSTRAINT `TABLESTATISTICS_TABLE_OID_fkey` FOREIGN KEY (`TABLE_OID`) REFERENCES `table` (`OID`) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `tablestatistics`
+--
+
+LOCK TABLES `tablestatistics` WRITE;
+/*!40000 ALTER TABLE `tablestatistics` DISABLE KEYS */;
+/*!40000 ALTER TABLE `tablestatistics` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `tabletoconnection`
 --
@@ -50,6 +50,8 @@ public class Config implements Serializable {
 	public static boolean COMPUTE_INTERMEDIATE_KEYS = true;
 	public static int COMPUTE_THINKTIME = 1000;
 	public static String COMPUTE_ENGINE = "MEMORY";
+	public static int COMPUTE_PRE_AGGREGATION_SAMPLE_ROWS = 10000; // input rows sampled to check the reduction of a pre-aggregation
+	public static double COMPUTE_PRE_AGGREGATION_BYPASS_RATIO = 0.8; // sampled groups per input row above which a pre-aggregation passes tuples through
 
 	// Compile Server
 	public static String METADATA_DRIVER_CLASS = "com.mysql.jdbc.Driver";
@@ -74,6 +76,21 @@ public class Config implements Serializable {
 	public static double COMPILE_FT_MERGING_SMALLOPS_THRESHOLD = 0.98;
 	public static final int COMPILE_FT_MAT_SPEED_CONST = 20;
 	public static final int COMPILE_FT_MAT_TO_PROCESSING_SPEED_RATIO = 7;
+	public static boolean COMPILE_JOIN_ENUMERATION = false; // cost-based join order instead of from clause order
+	public static int COMPILE_JOIN_DP_LIMIT = 10; // max tables for exhaustive enumeration (greedy above)
+	public static double COMPILE_JOIN_TRANSFER_COST = 2.0; // cost of moving a row relative to producing it
+	public static boolean COMPILE_BROADCAST_JOIN = false; // broadcast small join inputs instead of re-partitioning
+	public static int COMPILE_BROADCAST_MAX_SIZE = 16777216; // in bytes, max estimated size of broadcast join inputs
+	public static boolean COMPILE_PARTITION_PRUNING = false; // skip partitions of hash partitioned tables not matching equality predicates
+	public static boolean COMPILE_BLOOM_FILTER = false; // semi-join reduction of join inputs if estimated to be beneficial
+	public static int COMPILE_BLOOM_FILTER_BITS = 262144; // size of Bloom filters (number of hash values)
+	public static double COMPILE_BLOOM_FILTER_MAX_RATE = 0.5; // max estimated fraction of tuples passing a Bloom filter
+	public static double COMPILE_PRE_AGGREGATION_MAX_RATIO = 0.5; // max estimated groups per input row of a partition to add a pre-aggregation
+	public static int COMPILE_DEFAULT_PARTITION_ROWS = 100000; // estimated rows per table partition
+	public static int COMPILE_STATISTICS_SAMPLE_SIZE = 10000; // sampled rows per partition for ANALYZE histograms
+	public static int COMPILE_STATISTICS_HISTOGRAM_BUCKETS = 20; // buckets of equi-depth histograms
+	public static boolean COMPILE_PLAN_CACHE = true; // reuse compiled plans of repeated SELECT and CALL statements
+	public static int COMPILE_PLAN_CACHE_SIZE = 200; // max number of cached compile plans
 
 
 	// Optimizer
@@ -82,17 +99,43 @@ public class Config implements Serializable {
 	static {
 		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(0, false); // push selections
 		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(1, true); // combine selections
+		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(2, false); // prune columns
+		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(3, false); // rewrite predicates
+		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, false); // share common sub-plans
 		OPTIMIZER_ACTIVE_RULES_SELECT.set(0, false); // push selections
 		OPTIMIZER_ACTIVE_RULES_SELECT.set(1, true); // combine selections
+		OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false); // prune columns
+		OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false); // rewrite predicates
+		OPTIMIZER_ACTIVE_RULES_SELECT.set(4, false); // share common sub-plans
 	}
+	public static boolean OPTIMIZER_INCREMENTAL_REWRITE = true; // push down each selection from its position instead of re-walking the plan
 
 	// Master Tracker Server
 	public static int MASTERTRACKER_PORT = 55501;
 	public static String MASTERTRACKER_URL = "127.0.0.1";
+	public static int MASTERTRACKER_MAX_RUNNING_PLANS = 0; // 0 = unbounded
+	public static int MASTERTRACKER_MAX_RUNNING_OPS = 0; // sum of compile operators of running plans (0 = unbounded)
+	public static int MASTERTRACKER_ADMISSION_TIMEOUT = 0; // max. queue time in ms (0 = wait forever)
+	public static String MASTERTRACKER_CLIENT_WEIGHTS = ""; // e.g. dashboard:4,batch:1 (default weight 1)
 
 	// Query Tracker Server
 	public static int QUERYTRACKER_PORT = 55600;
 	public static EnumResourceScheduler QUERYTRACKER_SCHEDULER = EnumResourceScheduler.WISHLIST_AWARE;
+	public static int QUERYTRACKER_NODE_CAPACITY = 0; // max. operators per compute node (0 = unbounded)
+	public static int QUERYTRACKER_DEFAULT_SIZE = 1048576; // in bytes, used if no size estimate exists
+	public static int QUERYTRACKER_NETWORK_BANDWIDTH = 104857600; // in bytes/s
+	public static boolean QUERYTRACKER_REPLICA_BALANCING = false; // spread reads of replicated partitions
+	public static int QUERYTRACKER_EXECUTOR_THREADS = 4; // threads which drive all plan executions
+	public static int QUERYTRACKER_WORKER_THREADS = 16; // threads for blocking steps of plan executions (e.g., RPCs)
+	public static boolean QUERYTRACKER_SPECULATION_ACTIVATED = false; // launch backup copies of stragglers
+	public static double QUERYTRACKER_SPECULATION_FACTOR = 2.0; // straggler if slower than factor * expected time
+	public static int QUERYTRACKER_SPECULATION_MIN_TIME = 5000; // in ms, never speculate on shorter operators
+	public static boolean QUERYTRACKER_OUTPUT_REPLICATION = false; // copy materialized outputs to a buddy node
+	public static boolean QUERYTRACKER_LAZY_DEPLOYMENT = false; // open operators once their sources run
+	public static boolean QUERYTRACKER_ADAPTIVE_PLANNING = false; // re-plan pending operators with measured sizes
+	public static double QUERYTRACKER_ADAPTIVE_ERROR_FACTOR = 4.0; // re-plan if size estimate is off by this factor
+	public static boolean QUERYTRACKER_PLAN_CACHE = false; // reuse generated plans of repeated queries
+	public static int QUERYTRACKER_PLAN_CACHE_SIZE = 100; // max number of cached plan templates
 
 	// Query Tracker Server: Code generation
 	public static boolean CODEGEN_OPTIMIZE = true;
@@ -114,6 +157,7 @@ public class Config implements Serializable {
 	public static boolean TRACE_COMPILE_PLAN_HEADER_RESULT = true;
 	public static boolean TRACE_COMPILE_PLAN_HEADER_RESULT_SCHEMA = false;
 	public static boolean TRACE_COMPILE_PLAN_HEADER_RESULT_PARTITIONING = true;
+	public static boolean TRACE_COMPILE_PLAN_HEADER_RESULT_ESTIMATES = true;
 
 	public static boolean TRACE_TRACKER_PLAN_HEADER = false;
 	public static boolean TRACE_TRACKER_PLAN_FOOTER = false;
@@ -281,16 +325,36 @@ public class Config implements Serializable {
 		String[] intProperties = { "COMPUTE_MAX_FETCHSIZE", "COMPUTE_PORT",
 				"COMPILE_PORT", "MASTERTRACKER_PORT", "QUERYTRACKER_PORT",
 				"QUERYTRACKER_MONITOR_ATTEMPTS",
-				"QUERYTRACKER_MONITOR_INTERVAL", "TEST_NODE_COUNT",
+				"QUERYTRACKER_MONITOR_INTERVAL", "QUERYTRACKER_NODE_CAPACITY",
+				"QUERYTRACKER_DEFAULT_SIZE", "QUERYTRACKER_NETWORK_BANDWIDTH",
+				"QUERYTRACKER_EXECUTOR_THREADS", "QUERYTRACKER_WORKER_THREADS",
+				"QUERYTRACKER_SPECULATION_MIN_TIME",
+				"QUERYTRACKER_PLAN_CACHE_SIZE",
+				"MASTERTRACKER_MAX_RUNNING_PLANS",
+				"MASTERTRACKER_MAX_RUNNING_OPS",
+				"MASTERTRACKER_ADMISSION_TIMEOUT",
+				"TEST_NODE_COUNT",
 				"TEST_FT_NUMBER_OF_FAILURES", "TEST_FT_NUMBER_OF_RUNS",
 				"TEST_PARTS_PER_NODE", "TEST_FT_RECORDS_LIMIT",
 				"COMPILE_FT_BENCHMARK_ROWS_NUMBER",
-				"COMPILE_FT_BENCHMARK_COLUMNS_NUMBER" };
-
-		String[] doubleProperties = { "COMPILE_FT_PIPELINE_CNST", "COMPILE_FT_SUCPROB" };
+				"COMPILE_FT_BENCHMARK_COLUMNS_NUMBER",
+				"COMPILE_JOIN_DP_LIMIT", "COMPILE_DEFAULT_PARTITION_ROWS",
+				"COMPILE_BROADCAST_MAX_SIZE", "COMPILE_BLOOM_FILTER_BITS",
+				"COMPILE_STATISTICS_SAMPLE_SIZE",
+				"COMPILE_STATISTICS_HISTOGRAM_BUCKETS",
+				"COMPILE_PLAN_CACHE_SIZE",
+				"COMPUTE_PRE_AGGREGATION_SAMPLE_ROWS" };
+
+		String[] doubleProperties = { "COMPILE_FT_PIPELINE_CNST", "COMPILE_FT_SUCPROB",
+				"QUERYTRACKER_SPECULATION_FACTOR",
+				"QUERYTRACKER_ADAPTIVE_ERROR_FACTOR",
+				"COMPILE_JOIN_TRANSFER_COST", "COMPILE_BLOOM_FILTER_MAX_RATE",
+				"COMPILE_PRE_AGGREGATION_MAX_RATIO",
+				"COMPUTE_PRE_AGGREGATION_BYPASS_RATIO" };
 
 		String[] stringProperties = { "PLATTFORM", "COMPILE_URL",
-				"MASTERTRACKER_URL", "TEST_DB_NAME", "TEST_CLUSTER",
+				"MASTERTRACKER_URL", "MASTERTRACKER_CLIENT_WEIGHTS",
+				"TEST_DB_NAME", "TEST_CLUSTER",
 				"COMPUTE_ENGINE", "SHOOTED_COMPUTE_NODES", "COMPILE_FT_MODE",
 				"DOT_EXE", "NAIVE_STRATEGY_MODE" };
 
@@ -299,6 +363,7 @@ public class Config implements Serializable {
 				"TRACE_COMPILE_PLAN_HEADER",
 				"TRACE_COMPILE_PLAN_HEADER_RESULT",
 				"TRACE_COMPILE_PLAN_HEADER_RESULT_PARTITIONING",
+				"TRACE_COMPILE_PLAN_HEADER_RESULT_ESTIMATES",
 				"TRACE_COMPILE_PLAN_HEADER_RESULT_SCHEMA",
 				"TRACE_COMPILE_PLAN_FOOTER", "TRACE_TRACKER_PLAN_HEADER",
 				"TRACE_TRACKER_PLAN_FOOTER", "TRACE_TRACKER_PLAN_CAPTIONS",
@@ -306,8 +371,18 @@ public class Config implements Serializable {
 				"TRACE_EXECUTE_PLAN", "TRACE_CODEGEN_PLAN",
 				"LOG_EXECUTION_TIME", "CODEGEN_OPTIMIZE", "TEST_RUN_LOCAL",
 				"QUERYTRACKER_MONITOR_ACTIVATED",
+				"QUERYTRACKER_REPLICA_BALANCING",
+				"QUERYTRACKER_SPECULATION_ACTIVATED",
+				"QUERYTRACKER_OUTPUT_REPLICATION",
+				"QUERYTRACKER_LAZY_DEPLOYMENT",
+				"QUERYTRACKER_ADAPTIVE_PLANNING",
+				"QUERYTRACKER_PLAN_CACHE", "COMPILE_PARTITION_PRUNING",
+				"COMPILE_BLOOM_FILTER", "COMPILE_PLAN_CACHE",
+				"COMPILE_BROADCAST_JOIN",
+				"OPTIMIZER_INCREMENTAL_REWRITE",
 				"MASTERTRACKER_MONITOR_ACTIVATED", "TEST_FT_CHECKPOINTING",
-				"COMPILE_FT_ACTIVE", "COMPILE_FT_PRUNING", "COMPUTE_INTERMEDIATE_KEYS", "SIMULATION_MODE", "TRACE_FAILURE_SIMULATOR" };
+				"COMPILE_FT_ACTIVE", "COMPILE_FT_PRUNING",
+				"COMPILE_JOIN_ENUMERATION", "COMPUTE_INTERMEDIATE_KEYS", "SIMULATION_MODE", "TRACE_FAILURE_SIMULATOR" };
 
 		Properties props;
 		props = new Properties();
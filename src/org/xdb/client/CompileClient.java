@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.xdb.Config;
+import org.xdb.client.statement.ClientPreparedStmt;
 import org.xdb.client.statement.ClientStmt;
 import org.xdb.doomdb.DoomDBPlan;
 import org.xdb.doomdb.QueryStats;
@@ -37,6 +38,39 @@ public class CompileClient extends AbstractClient {
 		return this.executeCmd(CompileServer.CMD_EXECUTE_WO_RESULT, args);
 	}
 
+	/**
+	 * Prepare a given FunSQL statement with parameters (?) on compile server
+	 * 
+	 * @param stmt
+	 * @return handle of prepared statement
+	 */
+	public Tuple<Error, Integer> prepareStmt(String stmt) {
+		ClientStmt clientStmt = new ClientStmt(stmt);
+		Object[] args = { clientStmt };
+		Tuple<Error, Object> result = this.executeCmdWithResult(
+				CompileServer.CMD_PREPARE, args);
+		return new Tuple<Error, Integer>(result.getObject1(),
+				(Integer) result.getObject2());
+	}
+
+	/**
+	 * Execute a prepared statement with given parameter values
+	 * 
+	 * @param handle
+	 * @param params
+	 * @return
+	 */
+	public Error executePreparedStmt(int handle, Object... params) {
+		ClientPreparedStmt clientStmt = new ClientPreparedStmt(handle, params);
+		Object[] args = { clientStmt };
+		return this.executeCmd(CompileServer.CMD_EXECUTE_PREPARED, args);
+	}
+
+	public Error closePreparedStmt(int handle) {
+		Object[] args = { handle };
+		return this.executeCmd(CompileServer.CMD_CLOSE_PREPARED, args);
+	}
+
 	public Tuple<Error, DoomDBPlan> compileDoomStmtWithStats(String stmt,
 			Map<Identifier, Double> queryRuntimesStat,
 			Map<Identifier, Double> queryMattimesStat,
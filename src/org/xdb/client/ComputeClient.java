@@ -9,6 +9,7 @@ import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.execute.signals.CloseSignal;
+import org.xdb.execute.signals.KillSignal;
 import org.xdb.execute.signals.ReadySignal;
 import org.xdb.execute.signals.RestartSignal;
 import org.xdb.logging.EnumXDBComponents;
@@ -144,6 +145,20 @@ public class ComputeClient extends AbstractClient {
 		return this.closeOperator(dest.getComputeNode(), execOp);
 	}
 
+	/**
+	 * Kills operator on node (e.g., if operator is not needed anymore)
+	 * 
+	 * @param dest
+	 * @return
+	 */
+	public Error killOperator(final OperatorDesc dest) {
+		final KillSignal signal = new KillSignal(dest.getOperatorID());
+		Object[] args = { signal };
+		return this.executeCmdIgnoreCommErr(dest.getComputeNode().getUrl(),
+				dest.getComputeNode().getPort(), ComputeServer.CMD_KILL_SIGNAL,
+				args);
+	}
+
 	/**
 	 * Stop compute server
 	 * 
@@ -0,0 +1,27 @@
+package org.xdb.client.statement;
+
+/**
+ * Client side statement which executes a statement prepared 
+ * on the compile server with the given parameter values.
+ */
+public class ClientPreparedStmt extends ClientStmt {
+
+	private static final long serialVersionUID = 3390478126154734462L;
+
+	// handle of prepared statement returned by compile server
+	protected int handle;
+
+	// Constructor
+	public ClientPreparedStmt(int handle, Object... params) {
+		super(null);
+		this.handle = handle;
+		for (Object param : params) {
+			this.params.add(param);
+		}
+	}
+
+	// getter and setter
+	public int getHandle() {
+		return handle;
+	}
+}
@@ -15,7 +15,10 @@ public class ClientStmt implements Serializable {
 	private static final long serialVersionUID = -6521230894217627053L;
 	
 	protected String stmt;
-	protected Vector<Object> params;
+	protected Vector<Object> params = new Vector<Object>();
+	
+	// client or user name used for fair sharing (optional)
+	protected String clientId;
 
 	// Constructor
 	public ClientStmt(String stmt) {
@@ -27,6 +30,10 @@ public class ClientStmt implements Serializable {
 	public void addParameter(int idx, Object param){
 		this.params.add(idx, param);
 	}
+	
+	public Vector<Object> getParameters(){
+		return this.params;
+	}
 
 	public String getStmt() {
 		return stmt;
@@ -35,4 +42,12 @@ public class ClientStmt implements Serializable {
 	public void setStmt(String stmt) {
 		this.stmt = stmt;
 	}
+	
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
 }
@@ -35,6 +35,8 @@ public class DoomDBClient implements IDoomDBClient {
 	private long endTime = 0;
 	private long runTime = 0;
 	private int killedNodes = 0; 
+	private long recoveryTime = 0; // in ms
+	private int replicaFailovers = 0;
 	private boolean queryRunning = false;
 	private boolean clusterRunning = false;
 	
@@ -268,8 +270,10 @@ public class DoomDBClient implements IDoomDBClient {
 		DoomDBPlanStatus planStatus =  result.getObject2();
 		this.stopOnError(planStatus.getError());
 		
-		//set deployment
+		//set deployment and recovery statistics
 		dplan.setDeployment(planStatus.getDeployment());
+		this.recoveryTime = planStatus.getRecoveryTime();
+		this.replicaFailovers = planStatus.getReplicaFailovers();
 		
 		//measure time if plan has finished
 		if(planStatus.isFinished()){
@@ -314,4 +318,31 @@ public class DoomDBClient implements IDoomDBClient {
 	public int getMTBF() {
 		return this.mtbf;
 	}
+
+	/**
+	 * Returns runtime of last finished query in s
+	 * 
+	 * @return
+	 */
+	public long getRunTime() {
+		return this.runTime;
+	}
+
+	public int getKilledNodes() {
+		return this.killedNodes;
+	}
+
+	/**
+	 * Returns time in ms which query tracker needed to recover aborted
+	 * operators of running query
+	 * 
+	 * @return
+	 */
+	public long getRecoveryTime() {
+		return this.recoveryTime;
+	}
+
+	public int getReplicaFailovers() {
+		return this.replicaFailovers;
+	}
 }
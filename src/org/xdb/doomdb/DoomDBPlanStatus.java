@@ -14,6 +14,8 @@ public class DoomDBPlanStatus implements Serializable {
 	private Boolean isFinished = false;
 	private Map<Identifier, OperatorDesc> deployment;
 	private Error err;
+	private long recoveryTime = 0;
+	private int replicaFailovers = 0;
 	
 	public DoomDBPlanStatus(Boolean isFinished,
 			Map<Identifier, OperatorDesc> deployment,
@@ -36,6 +38,22 @@ public class DoomDBPlanStatus implements Serializable {
 	public Error getError() {
 		return err;
 	}
+
+	public long getRecoveryTime() {
+		return recoveryTime;
+	}
+
+	public void setRecoveryTime(long recoveryTime) {
+		this.recoveryTime = recoveryTime;
+	}
+
+	public int getReplicaFailovers() {
+		return replicaFailovers;
+	}
+
+	public void setReplicaFailovers(int replicaFailovers) {
+		this.replicaFailovers = replicaFailovers;
+	}
 	
 	@Override
 	public String toString(){
@@ -328,6 +328,11 @@ public class ComputeNode {
 		Identifier failedExecOpId = killSignal.getFailedExecOpId();
 
 		final AbstractExecuteOperator op = operators.get(failedExecOpId);
+		if (op == null) {
+			logger.log(Level.INFO, "Operator " + failedExecOpId
+					+ " to be killed not found");
+			return err;
+		}
 
 		if (!executingOperators.containsKey(failedExecOpId)) {
 			logger.log(Level.INFO, "Failed Operator " + failedExecOpId
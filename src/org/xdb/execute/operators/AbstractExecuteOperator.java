@@ -3,8 +3,13 @@ package org.xdb.execute.operators;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
@@ -55,6 +60,20 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	// DDL statements to drop input and output tables
 	protected Vector<String> closeSQLs = new Vector<String>();
 
+	// DDL statements for all replicas of replicated input tables: deployed
+	// table name -> DDLs (first one is part of openSQLs)
+	protected HashMap<String, Vector<String>> replicaSQLs = new HashMap<String, Vector<String>>();
+
+	// index of replica currently read per replicated input table
+	protected HashMap<String, Integer> usedReplicas = new HashMap<String, Integer>();
+
+	// deployed names of output tables
+	protected Vector<String> outTableNames = new Vector<String>();
+
+	// size of output tables in bytes and rows after execution (-1 if unknown)
+	protected long outputSize = -1;
+	protected long outputRows = -1;
+
 	// status
 	protected EnumOperatorStatus status = EnumOperatorStatus.INIT;
 
@@ -115,6 +134,39 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		this.closeSQLs.add(ddl);
 	}
 
+	/**
+	 * Adds DDLs to create a replicated input table: first DDL is executed on
+	 * open, others are used to fail over to another replica
+	 * 
+	 * @param tableName
+	 * @param ddls
+	 */
+	public void addReplicatedOpenSQL(String tableName, List<String> ddls) {
+		this.openSQLs.add(ddls.get(0));
+		this.replicaSQLs.put(tableName, new Vector<String>(ddls));
+		this.usedReplicas.put(tableName, 0);
+	}
+
+	public int getReplicaCount() {
+		int count = 0;
+		for (Vector<String> ddls : this.replicaSQLs.values()) {
+			count += ddls.size() - 1;
+		}
+		return count;
+	}
+
+	public void addOutTableName(String tableName) {
+		this.outTableNames.add(tableName);
+	}
+
+	public long getOutputSize() {
+		return this.outputSize;
+	}
+
+	public long getOutputRows() {
+		return this.outputRows;
+	}
+
 	public Set<Identifier> getSourceTrackerIds() {
 		return this.sourceTrackerIds;
 	}
@@ -144,7 +196,15 @@ public abstract class AbstractExecuteOperator implements Serializable {
 			Statement openStmt = conn.createStatement();
 			for (String ddl : this.openSQLs) {
 				//System.out.println(this.getOperatorId()+">"+ddl+";");
-				openStmt.execute(ddl);
+				try {
+					openStmt.execute(ddl);
+				} catch (SQLException e) {
+					// try other replicas of replicated input table
+					String tableName = this.getReplicatedTable(ddl);
+					if (tableName == null
+							|| !this.switchReplica(openStmt, tableName))
+						throw e;
+				}
 			}
 
 		} catch (final Exception e) {
@@ -196,8 +256,10 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		
 		// execute operator 
 		this.err = executeOperator();
-		if (!err.isError())
+		if (!err.isError()){
+			this.measureOutputSize();
 			this.status = EnumOperatorStatus.FINISHED;
+		}
 
 		// close connection
 		try {
@@ -209,6 +271,135 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		return this.err;
 	}
 
+	/**
+	 * Reads size and number of rows of output tables from compute DB after
+	 * execution
+	 */
+	private void measureOutputSize() {
+		if (Config.SIMULATION_MODE || this.outTableNames.isEmpty())
+			return;
+
+		StringBuffer sizeSQL = new StringBuffer(
+				"SELECT SUM(DATA_LENGTH), SUM(TABLE_ROWS) FROM information_schema.TABLES WHERE TABLE_SCHEMA='");
+		sizeSQL.append(this.dbname);
+		sizeSQL.append("' AND TABLE_NAME IN (");
+		for (int i = 0; i < this.outTableNames.size(); ++i) {
+			if (i > 0)
+				sizeSQL.append(AbstractToken.COMMA);
+			sizeSQL.append("'");
+			sizeSQL.append(this.outTableNames.get(i));
+			sizeSQL.append("'");
+		}
+		sizeSQL.append(")");
+
+		try {
+			Statement sizeStmt = this.conn.createStatement();
+			ResultSet rs = sizeStmt.executeQuery(sizeSQL.toString());
+			if (rs.next()) {
+				this.outputSize = rs.getLong(1);
+				this.outputRows = rs.getLong(2);
+			}
+			rs.close();
+			sizeStmt.close();
+		} catch (Exception e) {
+			// size is only used for statistics
+			this.outputSize = -1;
+			this.outputRows = -1;
+		}
+	}
+
+	/**
+	 * Checks all replicated input tables and switches unreachable ones to
+	 * the next replica. Output tables are emptied so that the operator can
+	 * be re-executed.
+	 * 
+	 * @return true if a replica was switched and all inputs are reachable
+	 */
+	protected boolean failoverReplicas() {
+		if (this.replicaSQLs.isEmpty())
+			return false;
+
+		boolean switched = false;
+		try {
+			Statement stmt = this.conn.createStatement();
+			for (String tableName : this.replicaSQLs.keySet()) {
+				if (this.isReachable(stmt, tableName))
+					continue;
+
+				if (!this.switchReplica(stmt, tableName))
+					return false;
+				switched = true;
+			}
+
+			if (switched) {
+				for (String outTableName : this.outTableNames) {
+					stmt.execute("DELETE FROM " + outTableName);
+				}
+			}
+			stmt.close();
+		} catch (Exception e) {
+			return false;
+		}
+		return switched;
+	}
+
+	/**
+	 * Re-creates replicated input table with the next reachable replica
+	 * 
+	 * @param stmt
+	 * @param tableName
+	 * @return false if no replica is left
+	 */
+	private boolean switchReplica(Statement stmt, String tableName) {
+		Vector<String> ddls = this.replicaSQLs.get(tableName);
+		for (int i = this.usedReplicas.get(tableName) + 1; i < ddls.size(); ++i) {
+			this.usedReplicas.put(tableName, i);
+			try {
+				stmt.execute("DROP TABLE IF EXISTS " + tableName);
+				stmt.execute(ddls.get(i));
+				if (this.isReachable(stmt, tableName))
+					return true;
+			} catch (SQLException e) {
+				// try next replica
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the data source of a FEDERATED table can be read
+	 * 
+	 * @param stmt
+	 * @param tableName
+	 * @return
+	 */
+	private boolean isReachable(Statement stmt, String tableName) {
+		try {
+			ResultSet rs = stmt.executeQuery("SELECT 1 FROM " + tableName
+					+ " LIMIT 1");
+			rs.close();
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns name of replicated input table which is created by DDL (null
+	 * if not replicated)
+	 * 
+	 * @param ddl
+	 * @return
+	 */
+	private String getReplicatedTable(String ddl) {
+		for (Map.Entry<String, Vector<String>> entry : this.replicaSQLs
+				.entrySet()) {
+			if (entry.getValue().get(0).equals(ddl))
+				return entry.getKey();
+		}
+		return null;
+	}
+
 	/**
 	 * Operator specific implementation of execute()
 	 * 
@@ -1,6 +1,8 @@
 package org.xdb.execute.operators;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Vector;
 
 import org.xdb.Config;
@@ -24,6 +26,13 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 	protected Vector<String> executeSQLs = new Vector<String>();
 	private transient Vector<PreparedStatement> executeStmts;
 
+	// DML statements executed instead if check query exceeds bypass ratio
+	protected String bypassCheckSQL = null;
+	protected double bypassRatio;
+	protected Vector<String> bypassSQLs = new Vector<String>();
+	private transient PreparedStatement bypassCheckStmt;
+	private transient Vector<PreparedStatement> bypassStmts;
+
 	// constructor
 	public MySQLExecuteOperator(final Identifier operatorId) {
 		super(operatorId);
@@ -34,6 +43,15 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 		executeSQLs.add(dml);
 	}
 
+	public void setBypass(final String checkSQL, final double ratio) {
+		this.bypassCheckSQL = checkSQL;
+		this.bypassRatio = ratio;
+	}
+
+	public void addBypassSQL(final String dml) {
+		bypassSQLs.add(dml);
+	}
+
 	// methods
 	@Override
 	/**
@@ -49,6 +67,14 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 				// System.err.println(this.getOperatorId()+">"+ dml+";");
 				this.executeStmts.add(conn.prepareStatement(dml));
 			}
+
+			this.bypassStmts = new Vector<PreparedStatement>();
+			if (this.bypassCheckSQL != null) {
+				this.bypassCheckStmt = conn.prepareStatement(this.bypassCheckSQL);
+				for (final String dml : bypassSQLs) {
+					this.bypassStmts.add(conn.prepareStatement(dml));
+				}
+			}
 		} 
 		catch (final Exception e) {
 			this.err = createMySQLError(e);
@@ -73,25 +99,58 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 				this.status = EnumOperatorStatus.getRuntimeFailure();
 			} 
 		} else { 
-			try {
-				for (final PreparedStatement stmt : executeStmts) {
-					stmt.execute();
+			// replicated inputs allow to re-execute on another replica
+			int attempts = this.getReplicaCount();
+			while (true) {
+				try {
+					Vector<PreparedStatement> stmts = this.executeStmts;
+					if (this.doBypass())
+						stmts = this.bypassStmts;
+
+					for (final PreparedStatement stmt : stmts) {
+						stmt.execute();
+					}
+					break;
+				} 
+				catch (final Exception e) {
+					if (attempts-- > 0 && this.failoverReplicas())
+						continue;
+					
+					this.err = createMySQLError(e);
+					this.status = EnumOperatorStatus.getRuntimeFailure();
+					break;
 				}
-			} 
-			catch (final Exception e) {
-				this.err = createMySQLError(e);
-				this.status = EnumOperatorStatus.getRuntimeFailure();
 			}
 		}
 		return err;
 	}
 
+	/**
+	 * Executes check query and decides if bypass statements are executed
+	 * 
+	 * @return
+	 * @throws SQLException
+	 */
+	private boolean doBypass() throws SQLException {
+		if (this.bypassCheckStmt == null)
+			return false;
+
+		double ratio = 0.0;
+		ResultSet rs = this.bypassCheckStmt.executeQuery();
+		if (rs.next())
+			ratio = rs.getDouble(1);
+		rs.close();
+		return ratio > this.bypassRatio;
+	}
+
 	@Override
 	/**
 	 * Clear prepared statements 
 	 */
 	protected Error closeOperator() {
 		this.executeStmts = null;
+		this.bypassCheckStmt = null;
+		this.bypassStmts = null;
 		return this.err;
 	}
 
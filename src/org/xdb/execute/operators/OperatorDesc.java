@@ -1,6 +1,9 @@
 package org.xdb.execute.operators;
 
 import java.io.Serializable;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
 
 import org.xdb.execute.ComputeNodeDesc;
 import org.xdb.utils.Identifier;
@@ -24,6 +27,9 @@ public class OperatorDesc implements Serializable {
 	// operator status
 	private EnumOperatorStatus operatorStatus; 
 	
+	// ranked replicas of replicated input tables: table name -> URIs
+	private HashMap<String, List<URI>> inputReplicas = new HashMap<String, List<URI>>();
+	
 	// constructors
 	public OperatorDesc(Identifier execOpId, ComputeNodeDesc computeNode) {
 		super();
@@ -58,6 +64,21 @@ public class OperatorDesc implements Serializable {
 		//System.err.println("Set "+this.execOpId + " to status "+ this.operatorStatus);
 	}
 	
+	public void setInputReplicas(String tableName, List<URI> replicas) {
+		this.inputReplicas.put(tableName, replicas);
+	}
+
+	/**
+	 * Returns replicas of an input table in the order they should be read
+	 * (null if table is not replicated)
+	 * 
+	 * @param tableName
+	 * @return
+	 */
+	public List<URI> getInputReplicas(String tableName) {
+		return this.inputReplicas.get(tableName);
+	}
+	
 	// methods
 	@Override
 	public int hashCode() {
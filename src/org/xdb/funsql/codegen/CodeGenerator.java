@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,12 +17,17 @@ import org.xdb.error.Error;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.funsql.compile.analyze.operator.ConnectionAnnotationVisitor;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.BloomFilterDesc;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.PartitionDesc;
 import org.xdb.funsql.compile.operator.ResultDesc;
 import org.xdb.funsql.compile.operator.TableOperator;
 import org.xdb.funsql.compile.tokens.AbstractToken;
 import org.xdb.metadata.Connection;
 import org.xdb.tracker.QueryTrackerPlan;
 import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.JoinInputDesc;
 import org.xdb.tracker.operator.MySQLTrackerOperator;
 import org.xdb.tracker.operator.TableDesc;
 import org.xdb.utils.Identifier;
@@ -41,6 +47,8 @@ public class CodeGenerator {
 	private static final String PART1 = "PART1";
 	public static final String OUT_PREFIX = "OUT";
 	public static final String PART_PREFIX = "P";
+	public static final String BLOOM_PREFIX = "BF";
+	private static final String BLOOM_ATT = "BF_HASH";
 	//public static final String TABLE_PREFIX = "_";
 
 	// compile plan
@@ -56,6 +64,9 @@ public class CodeGenerator {
 	// mapping: compile operator ID -> tracker operator ID
 	private Map<Identifier, List<Identifier>> compileOp2trackerOp = new HashMap<Identifier, List<Identifier>>();
 
+	// mapping: compile operator ID -> Bloom filter built by operator
+	private Map<Identifier, BloomFilterDesc> bloomFilterBuildOps = new HashMap<Identifier, BloomFilterDesc>();
+
 	// roots of sub-plans: each sub-plan results in one tracker operator
 	private List<Identifier> splitOpIds;
 
@@ -274,6 +285,15 @@ public class CodeGenerator {
 	 */
 	private Error genTrackerPlan() {
 		Error err = new Error();
+
+		// collect operators which build Bloom filters
+		for (Identifier splitOpId : this.splitOpIds) {
+			BloomFilterDesc bloomFilter = this.compilePlan
+					.getOperator(splitOpId).getResult().getBloomFilter();
+			if (bloomFilter != null)
+				this.bloomFilterBuildOps.put(bloomFilter.getBuildOpId(),
+						bloomFilter);
+		}
        
 		// for each sub-plan generate a tracker operator
 		for (Identifier splitOpId : this.splitOpIds) {
@@ -283,8 +303,8 @@ public class CodeGenerator {
 			try {
 				ResultDesc splitResult = splitCompileOp.getResult();
 
-				// generate one tracker operator for each partition
-				for (int i = 0; i < splitResult.getPartitionCount(); ++i) {
+				// generate one tracker operator for each (active) partition
+				for (int i : splitResult.getActivePartitions()) {
 					trackerOp = this.genTrackerOp(splitCompileOp, i);
 					// add mapping: compile operator -> tracker operator
 					this.addCompileOp2TrackerOp(splitCompileOp.getOperatorId(),
@@ -298,6 +318,9 @@ public class CodeGenerator {
 			}
 		}
 
+		// distribute Bloom filters to filtered operators
+		this.addBloomFilterInputs();
+
 		// connect tracker operator in QueryTrackerPlan
 		for (Map.Entry<Identifier, Set<Identifier>> entry : this.sources
 				.entrySet()) {
@@ -324,11 +347,139 @@ public class CodeGenerator {
 		Identifier outTableId = this.genOutputTableName(compileOp);
 		String outTableName = outTableId.toString();
 		String executeDML = genExecuteDML(compileOp);
+
+		// apply Bloom filter before result is materialized
+		ResultDesc outputResult = compileOp.getResult();
+		BloomFilterDesc bloomFilter = outputResult.getBloomFilter();
+		if (bloomFilter != null) {
+			StringBuffer filterDML = new StringBuffer("SELECT * FROM (");
+			filterDML.append(executeDML);
+			filterDML.append(") AS ");
+			filterDML.append(BLOOM_PREFIX);
+			filterDML.append(" WHERE ");
+			filterDML.append(this.genBloomHash(outputResult,
+					bloomFilter.getProbeAttIdx(), bloomFilter.getBits()));
+			filterDML.append(" IN (SELECT ");
+			filterDML.append(BLOOM_ATT);
+			filterDML.append(" FROM <");
+			filterDML.append(this.genBloomInputName(bloomFilter
+					.getBuildOpId()));
+			filterDML.append(">)");
+			executeDML = filterDML.toString();
+		}
+
 		Map<String, String> args = new HashMap<String, String>();
 		args.put(SQL1, executeDML);
 		args.put(TAB1, outTableName);
 		executeDML = this.sqlInsertSelectTemplate.toString(args);
 		trackerOp.addExecuteSQL(new StringTemplate(executeDML));
+
+		// pre-aggregation passes tuples through if it does not reduce input
+		if (compileOp.getType() == EnumOperator.GENERIC_AGGREGATION
+				&& ((GenericAggregation) compileOp).isBypassable()
+				&& bloomFilter == null
+				&& !this.bloomFilterBuildOps.containsKey(compileOp
+						.getOperatorId())) {
+			GenericAggregation preAgg = (GenericAggregation) compileOp;
+			String checkSQL = this.genExecuteDML(preAgg, preAgg
+					.toBypassCheckSqlString(Config.COMPUTE_PRE_AGGREGATION_SAMPLE_ROWS));
+			args.put(SQL1, this.genExecuteDML(preAgg, preAgg.toBypassSqlString()));
+			trackerOp.setBypass(new StringTemplate(checkSQL),
+					Config.COMPUTE_PRE_AGGREGATION_BYPASS_RATIO);
+			trackerOp.addBypassSQL(new StringTemplate(
+					this.sqlInsertSelectTemplate.toString(args)));
+		}
+
+		// build Bloom filter from materialized result
+		bloomFilter = this.bloomFilterBuildOps.get(compileOp.getOperatorId());
+		if (bloomFilter != null) {
+			StringBuffer buildDML = new StringBuffer("SELECT DISTINCT ");
+			buildDML.append(this.genBloomHash(outputResult,
+					bloomFilter.getBuildAttIdx(), bloomFilter.getBits()));
+			buildDML.append(" FROM <");
+			buildDML.append(outTableName);
+			buildDML.append(">");
+
+			args.put(SQL1, buildDML.toString());
+			args.put(TAB1, this.genBloomOutputName(compileOp.getOperatorId())
+					.toString());
+			trackerOp.addExecuteSQL(new StringTemplate(
+					this.sqlInsertSelectTemplate.toString(args)));
+		}
+	}
+
+	/**
+	 * Generates SQL expression which hashes join key into Bloom filter
+	 * 
+	 * @param result
+	 * @param attIdx
+	 * @param bits
+	 * @return
+	 */
+	private String genBloomHash(ResultDesc result, int attIdx, int bits) {
+		StringBuffer hash = new StringBuffer("MOD(CRC32(");
+		hash.append(result.getAttribute(attIdx).getName().toSqlString());
+		hash.append("), ");
+		hash.append(bits);
+		hash.append(")");
+		return hash.toString();
+	}
+
+	/**
+	 * Adds inputs for Bloom filters to tracker operators of filtered
+	 * operators: each partition reads the filters of all partitions of the
+	 * build operator
+	 */
+	private void addBloomFilterInputs() {
+		Map<String, String> args = new HashMap<String, String>();
+		args.put(SQL1, "(" + BLOOM_ATT + " INTEGER)");
+
+		for (Identifier splitOpId : this.splitOpIds) {
+			BloomFilterDesc bloomFilter = this.compilePlan
+					.getOperator(splitOpId).getResult().getBloomFilter();
+			if (bloomFilter == null)
+				continue;
+
+			Identifier buildOpId = bloomFilter.getBuildOpId();
+			String inViewName = this.genBloomInputName(buildOpId).toString();
+			for (Identifier trackerOpId : this.compileOp2trackerOp
+					.get(splitOpId)) {
+				MySQLTrackerOperator trackerOp = (MySQLTrackerOperator) this.qtPlan
+						.getTrackerOperator(trackerOpId);
+
+				StringBuffer sqlUnionDML = new StringBuffer();
+				int i = 0;
+				for (Identifier inTrackerOpId : this.compileOp2trackerOp
+						.get(buildOpId)) {
+					Identifier inPartId = this.genBloomInputName(buildOpId);
+					inPartId.append(i++);
+					String inPartName = inPartId.toString();
+					args.put(TAB1, inPartName);
+					trackerOp.addInTable(inPartName, new StringTemplate(
+							this.sqlInOutDDLTemplate.toString(args)));
+
+					TableDesc tableDesc = new TableDesc(this.genBloomOutputName(
+							buildOpId).toString(), inTrackerOpId);
+					trackerOp.addInTableFederated(inPartName, tableDesc);
+					this.addTrackerDependency(inTrackerOpId, trackerOpId);
+
+					if (sqlUnionDML.length() > 0) {
+						sqlUnionDML.append(AbstractToken.BLANK);
+						sqlUnionDML.append(AbstractToken.UNION);
+						sqlUnionDML.append(AbstractToken.BLANK);
+					}
+					sqlUnionDML.append(AbstractToken.LBRACE);
+					sqlUnionDML.append(this.sqlSelectAllTemplate.toString(args));
+					sqlUnionDML.append(AbstractToken.RBRACE);
+				}
+
+				args.put(VIEW1, inViewName);
+				Map<String, String> viewArgs = new HashMap<String, String>(args);
+				viewArgs.put(SQL1, sqlUnionDML.toString());
+				trackerOp.addInView(inViewName,
+						this.sqlViewTemplate.toString(viewArgs));
+			}
+		}
 	}
 
 	/**
@@ -357,25 +508,68 @@ public class CodeGenerator {
 			trackerOp.addOutTable(outTableName, outAttsDDL, repartitionDDL);
 
 			// add one output view for each partition
-			for (Integer i = 0; i < outputResult.getPartitionCount(); ++i) {
-				Identifier outViewId = this.genOutputTableName(compileOp,
-						partNum);
-				outViewId.append(i);
-				String outputViewName = outViewId.toString();
-
-				args.put(TAB1, outTableName);
-				args.put(PART1, i.toString());
-				args.put(VIEW1, outputViewName);
-
-				String selectPartDML = sqlViewSelectPartTemplate.toString(args);
-
-				trackerOp.addOutView(outputViewName, selectPartDML);
+			for (Map.Entry<String, String> view : this.genOutputViews(
+					compileOp, partNum, outputResult.getPartitionCount())
+					.entrySet()) {
+				trackerOp.addOutView(view.getKey(), view.getValue());
 			}
 		}
 		// add output table w/o repartition specification
 		else {
 			trackerOp.addOutTable(outTableName, outAttsDDL);
 		}
+
+		// join input: query tracker may switch between re-partitioning by
+		// join key and broadcasting before operator is deployed
+		PartitionDesc joinPartDesc = outputResult.getJoinPartitionDesc();
+		if (joinPartDesc != null) {
+			JoinInputDesc joinInput = new JoinInputDesc(outTableName,
+					joinPartDesc.getRepartDDL(),
+					outputResult.getRePartitionCount() == 1,
+					outputResult.isJoinKeyPartitioned());
+			for (Map.Entry<String, String> view : this.genOutputViews(
+					compileOp, partNum, joinPartDesc.getPartitionCount())
+					.entrySet()) {
+				joinInput.addView(view.getKey(), view.getValue());
+			}
+			trackerOp.setJoinInput(joinInput);
+		}
+
+		// add output table for Bloom filter
+		if (this.bloomFilterBuildOps.containsKey(compileOp.getOperatorId())) {
+			String bloomTableName = this.genBloomOutputName(
+					compileOp.getOperatorId()).toString();
+			args.put(TAB1, bloomTableName);
+			args.put(SQL1, "(" + BLOOM_ATT + " INTEGER)");
+			trackerOp.addAuxOutTable(bloomTableName,
+					this.sqlInOutDDLTemplate.toString(args));
+		}
+	}
+
+	/**
+	 * Generates one view per partition of a re-partitioned output table
+	 * 
+	 * @param compileOp
+	 * @param partNum
+	 * @param partCnt
+	 * @return map: view name -> DDL
+	 */
+	private Map<String, String> genOutputViews(
+			AbstractCompileOperator compileOp, int partNum, int partCnt) {
+		Map<String, String> views = new LinkedHashMap<String, String>();
+		Map<String, String> args = new HashMap<String, String>();
+		args.put(TAB1, this.genOutputTableName(compileOp).toString());
+		for (Integer i = 0; i < partCnt; ++i) {
+			Identifier outViewId = this.genOutputTableName(compileOp, partNum);
+			outViewId.append(i);
+			String outputViewName = outViewId.toString();
+
+			args.put(PART1, i.toString());
+			args.put(VIEW1, outputViewName);
+			views.put(outputViewName,
+					this.sqlViewSelectPartTemplate.toString(args));
+		}
+		return views;
 	}
 
 	/**
@@ -393,6 +587,21 @@ public class CodeGenerator {
 	     
 		trackerOp.setRunime(compileOp.getRuntime()); 
 		trackerOp.setMattime(compileOp.getMattime());
+
+		// estimated output size per partition for scheduling
+		if (compileOp.getResult().hasEstimate()) {
+			trackerOp.setOutputSize((long) compileOp.getResult()
+					.getEstimatedBytesPerPartition());
+		}
+
+		// estimated rows per partition before Bloom filter for reporting
+		BloomFilterDesc bloomFilter = compileOp.getResult().getBloomFilter();
+		if (bloomFilter != null) {
+			trackerOp.setFilterInputRows((long) (bloomFilter
+					.getEstimatedInputRows() / compileOp.getResult()
+					.getActivePartitionCount()));
+		}
+
 		// for each input operator create input DDL
 		for (AbstractCompileOperator inputCompileOp : inputCompileOps) { 
 			// generate input DDL
@@ -411,7 +620,7 @@ public class CodeGenerator {
 			// if input is has more than one partition
 			if (inputResult.repartition()) {
 				StringBuffer sqlUnionDML = new StringBuffer();
-				for (int i = 0; i < inputResult.getPartitionCount(); ++i) {
+				for (int i : inputResult.getActivePartitions()) {
 					// input table name
 					Identifier inPartId = this
 							.genInputTableName(inputCompileOp);
@@ -425,7 +634,7 @@ public class CodeGenerator {
 							inAttsDDL));
 
 					// input view DDL
-					if (i > 0) {
+					if (sqlUnionDML.length() > 0) {
 						sqlUnionDML.append(AbstractToken.BLANK);
 						sqlUnionDML.append(AbstractToken.UNION);
 						sqlUnionDML.append(AbstractToken.BLANK);
@@ -454,14 +663,36 @@ public class CodeGenerator {
 			if (inputCompileOp.isTable()) { // table
 				TableOperator inputTableOp = (TableOperator) inputCompileOp;
 
-				if (inputTableOp.isPartitioned()) {
+				// broadcast table (re-partitioned without materializing):
+				// read all (active) partitions
+				if (inputTableOp.isPartitioned() && inputResult.repartition()
+						&& !inputResult.materialize()) {
+					for (int i : inputResult.getActivePartitions()) {
+						Identifier inPartId = this
+								.genInputTableName(inputCompileOp);
+						inPartId.append(i);
+						TableDesc tableDesc = new TableDesc(
+								inputTableOp.getTableName(i),
+								inputTableOp.getURIs(i));
+						if (inputResult.hasEstimate())
+							tableDesc.setSize((long) inputResult
+									.getEstimatedBytesPerPartition());
+						trackerOp.addInTableFederated(inPartId.toString(),
+								tableDesc);
+					}
+				} else if (inputTableOp.isPartitioned()) {
 					TableDesc tableDesc = new TableDesc(
 							inputTableOp.getTableName(partNum),
 							inputTableOp.getURIs(partNum));
+					if (inputResult.hasEstimate())
+						tableDesc.setSize((long) inputResult
+								.getEstimatedBytesPerPartition());
 					trackerOp.addInTableFederated(inTableName, tableDesc);
 				} else {
 					TableDesc tableDesc = new TableDesc(
 							inputTableOp.getTableName(), inputTableOp.getURIs(partNum));
+					if (inputResult.hasEstimate())
+						tableDesc.setSize((long) inputResult.getEstimatedBytes());
 					trackerOp.addInTableFederated(inTableName, tableDesc);
 				}
 			}
@@ -469,10 +700,13 @@ public class CodeGenerator {
 			else {
 				// if input is has more than one partition
 				if (inputResult.repartition()) {
-					// create one input per partition
-					int remotePartNum = 0;
+					// create one input per (active) partition
+					List<Integer> remotePartNums = inputResult
+							.getActivePartitions();
+					int i = 0;
 					for (Identifier inTrackerOpId : this.compileOp2trackerOp
 							.get(inputCompileOp.getOperatorId())) {
+						int remotePartNum = remotePartNums.get(i++);
 
 						// remote table name
 						Identifier inPartRemoteId = null;
@@ -494,10 +728,20 @@ public class CodeGenerator {
 						// table description
 						TableDesc tableDesc = new TableDesc(
 								inPartRemoteId.toString(), inTrackerOpId);
+						tableDesc.setSourceParts(inputCompileOp.getResult()
+								.getRePartitionCount());
+
+						// part of join input which is read if source
+						// re-partitions its output (see JoinInputDesc)
+						if (inputResult.getJoinPartitionDesc() != null) {
+							Identifier inPartViewId = this.genOutputTableName(
+									inputCompileOp, remotePartNum);
+							inPartViewId.append(partNum);
+							tableDesc.setPartTableName(inPartViewId.toString());
+						}
 						trackerOp.addInTableFederated(inPartName, tableDesc);
 						this.addTrackerDependency(inTrackerOpId,
 								trackerOp.getOperatorId());
-						remotePartNum++;
 					}
 				} else {
 					// create one input table
@@ -506,8 +750,11 @@ public class CodeGenerator {
 					
 					Identifier inTrackerOpId = null;
 					if (inputCompileOp.getResult().getPartitionCount() > 1) {
+						// tracker operators only exist for active partitions
+						int i = inputResult.getActivePartitions().indexOf(
+								partNum);
 						inTrackerOpId = this.compileOp2trackerOp.get(
-							inputCompileOp.getOperatorId()).get(partNum);
+							inputCompileOp.getOperatorId()).get(i);
 					}
 					else{
 						inTrackerOpId = this.compileOp2trackerOp.get(
@@ -540,6 +787,7 @@ public class CodeGenerator {
 		// generate a new MySQL operator
 		MySQLTrackerOperator trackerOp = new MySQLTrackerOperator();
 		this.qtPlan.addOperator(trackerOp);
+		trackerOp.setCompileOperatorId(compileOp.getOperatorId());
 
 		// add DML statement for execution
 		this.addTrackerExecuteDML(trackerOp, compileOp);
@@ -632,8 +880,20 @@ public class CodeGenerator {
 	 * @return
 	 */
 	private String genExecuteDML(AbstractCompileOperator compileOp) {
+		return this.genExecuteDML(compileOp, compileOp.toSqlString());
+	}
+
+	/**
+	 * Generate DML statement for execution from given SQL statement of
+	 * compile operator
+	 * 
+	 * @param compileOp
+	 * @param executeDML
+	 * @return
+	 */
+	private String genExecuteDML(AbstractCompileOperator compileOp,
+			String executeDML) {
 		Map<String, String> args = new HashMap<String, String>();
-		String executeDML = compileOp.toSqlString();
 
 		StringTemplate sqlTemplate = new StringTemplate(executeDML);
 		for (AbstractCompileOperator childOp : compileOp.getChildren()) {
@@ -686,6 +946,27 @@ public class CodeGenerator {
 		return compileOp.getOperatorId().clone();
 	}
 
+	/**
+	 * Generate name for output table of Bloom filter built by given compile
+	 * operator
+	 * 
+	 * @param buildOpId
+	 * @return
+	 */
+	private Identifier genBloomOutputName(final Identifier buildOpId) {
+		return buildOpId.clone().append(BLOOM_PREFIX).append(OUT_PREFIX);
+	}
+
+	/**
+	 * Generate name for input of Bloom filter built by given compile operator
+	 * 
+	 * @param buildOpId
+	 * @return
+	 */
+	private Identifier genBloomInputName(final Identifier buildOpId) {
+		return buildOpId.clone().append(BLOOM_PREFIX);
+	}
+
 	/**
 	 * Extract root operators of sub-plans in compile plan which are
 	 * materialized (i.e., operators that have multiple consumers or that are
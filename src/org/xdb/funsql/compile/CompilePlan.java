@@ -17,6 +17,7 @@ import org.xdb.funsql.compile.analyze.operator.AbstractTreeVisitor;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
 import org.xdb.funsql.compile.operator.Rename;
 import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenParameter;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
 import org.xdb.utils.Dotty;
@@ -51,6 +52,18 @@ public class CompilePlan implements Serializable {
 	private List<Identifier> matOpsIds =  new Vector<Identifier>();
 	
 	private QueryStats queryStats;
+	
+	// client which submitted plan (used for fair sharing)
+	private String clientId;
+	
+	// normalized source of plan and catalog version it was compiled against
+	// (used to reuse generated query tracker plans; null if not cacheable)
+	private String fingerprint;
+	private long catalogVersion;
+	
+	// values of parameter markers by template variable (prepared statements)
+	private Map<String, String> parameters = new HashMap<String, String>();
+	
 	// logger
 	private transient Logger logger;
 
@@ -59,7 +72,7 @@ public class CompilePlan implements Serializable {
 
 	// constructor
 	public CompilePlan() {
-		this.planId = new Identifier(lastPlanId++);
+		this.planId = createPlanId();
 		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPILE_SERVER);
 	}
 
@@ -79,6 +92,39 @@ public class CompilePlan implements Serializable {
 	public Identifier getPlanId() {
 		return this.planId;
 	}
+	
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+	
+	public String getClientId() {
+		return this.clientId;
+	}
+	
+	public void setFingerprint(String fingerprint, long catalogVersion) {
+		this.fingerprint = fingerprint;
+		this.catalogVersion = catalogVersion;
+	}
+	
+	public String getFingerprint() {
+		return this.fingerprint;
+	}
+	
+	public long getCatalogVersion() {
+		return this.catalogVersion;
+	}
+	
+	public void addParameter(int index, String sqlValue) {
+		this.parameters.put(TokenParameter.createKey(index), sqlValue);
+	}
+	
+	public Map<String, String> getParameters() {
+		return this.parameters;
+	}
+	
+	public boolean hasParameters() {
+		return !this.parameters.isEmpty();
+	}
 
 	public Collection<AbstractCompileOperator> getOperators() {
 		return operators.values();
@@ -165,6 +211,15 @@ public class CompilePlan implements Serializable {
 	}
 
 	// methods
+	/**
+	 * Returns a new unique plan ID
+	 * 
+	 * @return
+	 */
+	public static synchronized Identifier createPlanId() {
+		return new Identifier(lastPlanId++);
+	}
+
 	/**
 	 * Initialize transient attributes after shipping
 	 */
@@ -0,0 +1,323 @@
+package org.xdb.funsql.compile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Vector;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.funsql.compile.tokens.TokenVariable;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.Catalog;
+
+/**
+ * Cache of compiled plans of SELECT statements and called functions. Plans
+ * are cached by their normalized statement text, the catalog version they
+ * were compiled against and the compile settings they were compiled with
+ * (see createConfigKey): a plan is only reused as long as no catalog object
+ * and no such setting changed. Entries are evicted in LRU order.
+ *
+ * Plans are stored serialized and each lookup returns a fresh copy since
+ * callers modify the plans they get (e.g., when variables of a function are
+ * replaced). Copies get new plan and operator IDs since the trackers identify
+ * running plans by their IDs.
+ */
+public final class CompilePlanCache {
+
+	/**
+	 * Compiled plan of a statement
+	 */
+	private static class Entry {
+		// catalog version plan was compiled against
+		private final long catalogVersion;
+
+		// serialized plan
+		private final byte[] plan;
+
+		// input parameters of function
+		private final Vector<TokenVariable> inVars;
+
+		private Entry(long catalogVersion, byte[] plan,
+				Vector<TokenVariable> inVars) {
+			this.catalogVersion = catalogVersion;
+			this.plan = plan;
+			this.inVars = inVars;
+		}
+	}
+
+	// singleton
+	private static CompilePlanCache cache;
+
+	// entries by normalized statement, catalog version and compile settings
+	// in access order
+	private final LinkedHashMap<String, Entry> entries;
+
+	// newest catalog version seen by cache
+	private long catalogVersion = -1;
+
+	// metrics
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	private long invalidations = 0;
+
+	// logger
+	private final Logger logger;
+
+	public synchronized static CompilePlanCache getCache() {
+		if (cache == null) {
+			cache = new CompilePlanCache(Config.COMPILE_PLAN_CACHE_SIZE);
+		}
+		return cache;
+	}
+
+	// constructors
+	public CompilePlanCache(final int maxSize) {
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = -6118309318207716364L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (this.size() > maxSize) {
+					CompilePlanCache.this.evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPILE_SERVER);
+	}
+
+	// getters and setters
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	public synchronized long getInvalidations() {
+		return this.invalidations;
+	}
+
+	public synchronized double getHitRate() {
+		if (this.hits + this.misses == 0)
+			return 0.0;
+		return (double) this.hits / (this.hits + this.misses);
+	}
+
+	// methods
+	/**
+	 * Normalizes statement text: white spaces outside of string literals are
+	 * collapsed and a trailing semicolon is removed
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public static String normalize(String stmt) {
+		StringBuffer normalized = new StringBuffer(stmt.length());
+		boolean inLiteral = false;
+		boolean blank = false;
+		for (int i = 0; i < stmt.length(); ++i) {
+			char c = stmt.charAt(i);
+			if (!inLiteral && Character.isWhitespace(c)) {
+				blank = true;
+				continue;
+			}
+
+			if (blank && normalized.length() > 0)
+				normalized.append(' ');
+			blank = false;
+			if (c == '\'')
+				inLiteral = !inLiteral;
+			normalized.append(c);
+		}
+
+		int last = normalized.length() - 1;
+		if (last >= 0 && normalized.charAt(last) == ';')
+			normalized.setLength(last);
+		return normalized.toString().trim();
+	}
+
+	/**
+	 * Returns key of the current values of all settings which change the
+	 * plans built by optimizer and parallelizer
+	 *
+	 * @return
+	 */
+	public static String createConfigKey() {
+		Object[] values = { Config.COMPILE_DEFAULT_SCHEMA,
+				Config.SIMULATION_MODE, Config.OPTIMIZER_ACTIVE_RULES_FUNCTION,
+				Config.OPTIMIZER_ACTIVE_RULES_SELECT,
+				Config.OPTIMIZER_INCREMENTAL_REWRITE,
+				Config.COMPILE_JOIN_ENUMERATION, Config.COMPILE_JOIN_DP_LIMIT,
+				Config.COMPILE_JOIN_TRANSFER_COST,
+				Config.COMPILE_BROADCAST_JOIN,
+				Config.COMPILE_BROADCAST_MAX_SIZE,
+				Config.COMPILE_PARTITION_PRUNING, Config.COMPILE_BLOOM_FILTER,
+				Config.COMPILE_BLOOM_FILTER_BITS,
+				Config.COMPILE_BLOOM_FILTER_MAX_RATE,
+				Config.COMPILE_PRE_AGGREGATION_MAX_RATIO,
+				Config.COMPILE_DEFAULT_PARTITION_ROWS };
+		return Arrays.toString(values);
+	}
+
+	/**
+	 * Returns copy of plan compiled for statement against current catalog
+	 * version with new IDs (null if there is none)
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public CompilePlan getPlan(String stmt) {
+		Entry entry = this.getEntry(stmt);
+		if (entry == null)
+			return null;
+
+		try {
+			ObjectInputStream in = new CompilePlanInputStream(
+					new ByteArrayInputStream(entry.plan));
+			CompilePlan plan = (CompilePlan) in.readObject();
+			in.close();
+			plan.init();
+			return plan;
+		} catch (Exception e) {
+			this.logger.log(Level.WARNING, "Cached plan can not be read: "
+					+ e.toString());
+			return null;
+		}
+	}
+
+	/**
+	 * Returns input parameters of function cached for statement (null if
+	 * there are none)
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public synchronized Vector<TokenVariable> getInVars(String stmt) {
+		Entry entry = this.entries.get(this.createKey(stmt,
+				Catalog.getVersion()));
+		if (entry == null)
+			return null;
+		return entry.inVars;
+	}
+
+	/**
+	 * Adds plan compiled for statement against given catalog version; if a
+	 * plan exists for the statement, it is updated
+	 *
+	 * @param stmt
+	 * @param catalogVersion
+	 * @param plan
+	 */
+	public void addPlan(String stmt, long catalogVersion, CompilePlan plan) {
+		this.addPlan(stmt, catalogVersion, plan, null);
+	}
+
+	public void addPlan(String stmt, long catalogVersion, CompilePlan plan,
+			Vector<TokenVariable> inVars) {
+		byte[] serializedPlan;
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(plan);
+			out.close();
+			serializedPlan = bytes.toByteArray();
+		} catch (IOException e) {
+			this.logger.log(Level.WARNING, "Plan " + plan.getPlanId()
+					+ " can not be cached: " + e.toString());
+			return;
+		}
+
+		Vector<TokenVariable> vars = null;
+		if (inVars != null && !inVars.isEmpty())
+			vars = new Vector<TokenVariable>(inVars);
+
+		synchronized (this) {
+			this.invalidate(catalogVersion);
+			if (catalogVersion < this.catalogVersion)
+				return;
+
+			this.entries.put(this.createKey(stmt, catalogVersion), new Entry(
+					catalogVersion, serializedPlan, vars));
+		}
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Looks up entry for statement and current catalog version and updates
+	 * metrics
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	private synchronized Entry getEntry(String stmt) {
+		long version = Catalog.getVersion();
+		this.invalidate(version);
+
+		Entry entry = this.entries.get(this.createKey(stmt, version));
+		if (entry == null) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		return entry;
+	}
+
+	/**
+	 * Removes all entries compiled against a catalog version older than given
+	 * one
+	 *
+	 * @param version
+	 */
+	private void invalidate(long version) {
+		if (version <= this.catalogVersion)
+			return;
+
+		this.catalogVersion = version;
+		Iterator<Entry> entryIt = this.entries.values().iterator();
+		while (entryIt.hasNext()) {
+			if (entryIt.next().catalogVersion < version) {
+				entryIt.remove();
+				this.invalidations++;
+			}
+		}
+	}
+
+	private String createKey(String stmt, long version) {
+		return version + ":" + createConfigKey() + ":" + normalize(stmt);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "[plans=" + this.entries.size() + ", hits=" + this.hits
+				+ ", misses=" + this.misses + ", evictions=" + this.evictions
+				+ ", invalidations=" + this.invalidations + ", hitRate="
+				+ this.getHitRate() + "]";
+	}
+}
@@ -0,0 +1,81 @@
+package org.xdb.funsql.compile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.TokenPair;
+
+/**
+ * Reads a copy of a serialized compile plan with fresh plan and operator IDs:
+ * each plan ID used by the copy (a function plan contains operators of several
+ * sub-plans) is replaced by a new unique plan ID. Operator IDs and all
+ * references to operators (e.g., tables of attributes) are renamed
+ * accordingly such that copies of the same plan can be executed concurrently.
+ */
+class CompilePlanInputStream extends ObjectInputStream {
+	private static final String SEPARATOR = "_";
+
+	// plan IDs are numbers and operator IDs used as table names are numbers
+	// separated by '_' (identifiers of FunSQL can not start with a digit)
+	private static final Pattern PLAN_ID = Pattern.compile("\\d+");
+	private static final Pattern OPERATOR_ID = Pattern.compile("\\d+(_\\d+)+");
+
+	// old plan ID -> new plan ID
+	private final Map<String, Identifier> planIds = new HashMap<String, Identifier>();
+
+	public CompilePlanInputStream(InputStream in) throws IOException {
+		super(in);
+		this.enableResolveObject(true);
+	}
+
+	@Override
+	protected Object resolveObject(Object obj) throws IOException {
+		if (obj instanceof Identifier) {
+			return this.rename((Identifier) obj);
+		} else if (obj instanceof TokenIdentifier) {
+			TokenIdentifier ident = (TokenIdentifier) obj;
+			ident.setValue(this.rename(ident.getValue()));
+		} else if (obj instanceof TokenPair) {
+			TokenPair pair = (TokenPair) obj;
+			pair.setLeftTableName(this.rename(pair.getLeftTableName()));
+			pair.setRightTableName(this.rename(pair.getRightTableName()));
+		}
+		return obj;
+	}
+
+	private Identifier rename(Identifier id) {
+		String[] ids = id.toString().split(SEPARATOR);
+		if (!PLAN_ID.matcher(ids[0]).matches())
+			return id;
+
+		Identifier newId = this.getPlanId(ids[0]).clone();
+		for (int i = 1; i < ids.length; ++i) {
+			newId.append(ids[i]);
+		}
+		return newId;
+	}
+
+	private String rename(String opId) {
+		if (opId == null || !OPERATOR_ID.matcher(opId).matches())
+			return opId;
+
+		int idx = opId.indexOf(SEPARATOR);
+		return this.getPlanId(opId.substring(0, idx)).toString()
+				+ opId.substring(idx);
+	}
+
+	private Identifier getPlanId(String oldPlanId) {
+		Identifier planId = this.planIds.get(oldPlanId);
+		if (planId == null) {
+			planId = CompilePlan.createPlanId();
+			this.planIds.put(oldPlanId, planId);
+		}
+		return planId;
+	}
+}
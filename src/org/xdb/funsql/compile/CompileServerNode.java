@@ -1,5 +1,10 @@
 package org.xdb.funsql.compile;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xdb.client.MasterTrackerClient;
+import org.xdb.client.statement.ClientPreparedStmt;
 import org.xdb.client.statement.ClientStmt;
 import org.xdb.doomdb.DoomDBPlan;
 import org.xdb.doomdb.QueryStats;
@@ -14,6 +19,10 @@ import org.xdb.utils.Tuple;
  */
 public class CompileServerNode {
 
+	// prepared statements by handle
+	private final Map<Integer, PreparedStmt> preparedStmts = new HashMap<Integer, PreparedStmt>();
+	private int lastHandle = 0;
+
 	/**
 	 * 
 	 * @param clientStmt
@@ -28,12 +37,96 @@ public class CompileServerNode {
 		if (err.isError()) {
 			return err;
 		}
+		if (compiler.getParameterCount() > 0) {
+			return FunSQLCompiler
+					.createGenericCompileErr("Statements with parameters must be prepared!");
+		}
 
+		serverStmt.setClientId(clientStmt.getClientId());
 		err = serverStmt.execute();
 
 		return err;
 	}
 
+	/**
+	 * Compiles a statement with parameters and returns handle to execute it
+	 * 
+	 * @param clientStmt
+	 * @return
+	 */
+	public Tuple<Error, Integer> prepareStmt(final ClientStmt clientStmt) {
+		Tuple<Error, PreparedStmt> result = PreparedStmt.prepare(clientStmt
+				.getStmt());
+		Error err = result.getObject1();
+		if (err.isError()) {
+			return new Tuple<Error, Integer>(err, -1);
+		}
+
+		synchronized (this.preparedStmts) {
+			int handle = ++this.lastHandle;
+			this.preparedStmts.put(handle, result.getObject2());
+			return new Tuple<Error, Integer>(err, handle);
+		}
+	}
+
+	/**
+	 * Executes a prepared statement with given parameter values
+	 * (statement is recompiled if catalog changed)
+	 * 
+	 * @param clientStmt
+	 * @return
+	 */
+	public Error executePreparedStmt(final ClientPreparedStmt clientStmt) {
+		Error err = new Error();
+		int handle = clientStmt.getHandle();
+		PreparedStmt pStmt;
+		synchronized (this.preparedStmts) {
+			pStmt = this.preparedStmts.get(handle);
+		}
+		if (pStmt == null) {
+			return FunSQLCompiler.createGenericCompileErr("Prepared statement "
+					+ handle + " does not exist!");
+		}
+
+		if (pStmt.isStale()) {
+			Tuple<Error, PreparedStmt> result = PreparedStmt.prepare(pStmt
+					.getStmt());
+			err = result.getObject1();
+			if (err.isError()) {
+				return err;
+			}
+			pStmt = result.getObject2();
+			synchronized (this.preparedStmts) {
+				this.preparedStmts.put(handle, pStmt);
+			}
+		}
+
+		Tuple<Error, CompilePlan> result = pStmt.bind(clientStmt
+				.getParameters());
+		err = result.getObject1();
+		if (err.isError()) {
+			return err;
+		}
+
+		CompilePlan plan = result.getObject2();
+		plan.setClientId(clientStmt.getClientId());
+		MasterTrackerClient client = new MasterTrackerClient();
+		return client.executePlan(plan);
+	}
+
+	/**
+	 * Removes a prepared statement
+	 * 
+	 * @param handle
+	 * @return
+	 */
+	public Error closePreparedStmt(final int handle) {
+		synchronized (this.preparedStmts) {
+			this.preparedStmts.remove(handle);
+		}
+		return new Error();
+	}
+
 	/**
 	 * 
 	 * @param clientStmt
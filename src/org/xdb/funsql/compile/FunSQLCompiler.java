@@ -10,9 +10,12 @@ import org.xdb.error.Error;
 import org.xdb.funsql.compile.antlr.FunSQLLexer;
 import org.xdb.funsql.compile.antlr.FunSQLParser;
 import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.Catalog;
 
 public class FunSQLCompiler {
 	private Error lastError;
+	private int parameterCount = 0;
 	
 	private boolean doOptimize = true;
 	private boolean doParallelize = true;
@@ -33,6 +36,15 @@ public class FunSQLCompiler {
 		return lastError;
 	}
 
+	/**
+	 * Returns number of parameter markers in last compiled statement
+	 * 
+	 * @return
+	 */
+	public int getParameterCount() {
+		return parameterCount;
+	}
+
 	public void doParallelize(boolean doParallelize) {
 		this.doParallelize = doParallelize;
 	}
@@ -57,6 +69,19 @@ public class FunSQLCompiler {
 				createGenericCompileErr("Statement could not be parsed (No details can be provided)!");
 				return null;
 			}
+			this.parameterCount = parser.getParameterCount();
+			
+			//reuse plan compiled for same statement if catalog did not change
+			boolean cacheable = this.isCacheable(statement);
+			long catalogVersion = Catalog.getVersion();
+			if (cacheable) {
+				CompilePlan plan = CompilePlanCache.getCache().getPlan(sql);
+				if (plan != null) {
+					((SelectStmt) statement).setPlan(plan);
+					this.lastError = new Error();
+					return statement;
+				}
+			}
 			
 			//compile (including semantic analysis if requested)
 			statement.doSemanticAnalysis(this.doSemanticAnalysis);
@@ -86,6 +111,11 @@ public class FunSQLCompiler {
 				if(lastError.isError()) 
 					return null; 
 			}
+			
+			if (cacheable) {
+				CompilePlanCache.getCache().addPlan(sql, catalogVersion,
+						((SelectStmt) statement).getPlan());
+			}
 					
 			return statement;
 
@@ -98,6 +128,19 @@ public class FunSQLCompiler {
 		return null;
 	}
 
+	/**
+	 * Checks if compiled plan of statement can be cached: only SELECT
+	 * statements which pass all compiler phases without query statistics
+	 * 
+	 * @param statement
+	 * @return
+	 */
+	private boolean isCacheable(AbstractServerStmt statement) {
+		return Config.COMPILE_PLAN_CACHE && statement instanceof SelectStmt
+				&& this.doSemanticAnalysis && this.doOptimize
+				&& this.doParallelize && this.queryStats == null;
+	}
+
 	/**
 	 * Create generic compiler error
 	 * 
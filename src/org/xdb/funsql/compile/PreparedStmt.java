@@ -0,0 +1,253 @@
+package org.xdb.funsql.compile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenDateLiteral;
+import org.xdb.funsql.compile.tokens.TokenDecimalLiteral;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+import org.xdb.funsql.compile.tokens.TokenLiteral;
+import org.xdb.funsql.compile.tokens.TokenParameter;
+import org.xdb.funsql.compile.tokens.TokenStringLiteral;
+import org.xdb.funsql.parallelize.PartitionPruningVisitor;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.Catalog;
+import org.xdb.utils.Tuple;
+
+/**
+ * SELECT statement with parameter markers which is compiled once and executed
+ * with different parameter values: each execution binds the values into a
+ * copy of the compiled plan with fresh plan and operator IDs.
+ *
+ * Values which restrict the partitions of a table change the partitions the
+ * plan is executed on. Therefore the pruning outcome is part of the
+ * fingerprint of the bound plan such that the query tracker reuses one
+ * generated plan per outcome.
+ */
+public class PreparedStmt {
+
+	/**
+	 * Reads a copy of a compile plan and binds values to its parameter
+	 * markers
+	 */
+	private static class BindingInputStream extends CompilePlanInputStream {
+		private final List<TokenLiteral> values;
+
+		public BindingInputStream(InputStream in, List<TokenLiteral> values)
+				throws IOException {
+			super(in);
+			this.values = values;
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj instanceof TokenParameter) {
+				TokenParameter param = (TokenParameter) obj;
+				param.bind(this.values.get(param.getIndex()));
+			}
+			return super.resolveObject(obj);
+		}
+	}
+
+	// source of statement
+	private final String stmt;
+
+	// serialized compiled plan
+	private final byte[] plan;
+	private final String fingerprint;
+	private final long catalogVersion;
+
+	private final int parameterCount;
+
+	// constructors
+	private PreparedStmt(String stmt, byte[] plan, String fingerprint,
+			long catalogVersion, int parameterCount) {
+		this.stmt = stmt;
+		this.plan = plan;
+		this.fingerprint = fingerprint;
+		this.catalogVersion = catalogVersion;
+		this.parameterCount = parameterCount;
+	}
+
+	// getters and setters
+	public String getStmt() {
+		return this.stmt;
+	}
+
+	public int getParameterCount() {
+		return this.parameterCount;
+	}
+
+	/**
+	 * Checks if catalog changed since statement was compiled
+	 *
+	 * @return
+	 */
+	public boolean isStale() {
+		return this.catalogVersion != Catalog.getVersion();
+	}
+
+	// methods
+	/**
+	 * Compiles a SELECT statement with parameter markers
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public static Tuple<Error, PreparedStmt> prepare(String stmt) {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		Object serverStmt = compiler.compile(stmt);
+		Error err = compiler.getLastError();
+		if (err.isError())
+			return new Tuple<Error, PreparedStmt>(err, null);
+
+		if (!(serverStmt instanceof SelectStmt)) {
+			err = FunSQLCompiler
+					.createGenericCompileErr("Only SELECT statements can be prepared!");
+			return new Tuple<Error, PreparedStmt>(err, null);
+		}
+
+		CompilePlan cplan = ((SelectStmt) serverStmt).getPlan();
+		byte[] serializedPlan;
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(cplan);
+			out.close();
+			serializedPlan = bytes.toByteArray();
+		} catch (IOException e) {
+			err = FunSQLCompiler.createGenericCompileErr(e.toString());
+			return new Tuple<Error, PreparedStmt>(err, null);
+		}
+
+		PreparedStmt pStmt = new PreparedStmt(stmt, serializedPlan,
+				cplan.getFingerprint(), cplan.getCatalogVersion(),
+				compiler.getParameterCount());
+		return new Tuple<Error, PreparedStmt>(err, pStmt);
+	}
+
+	/**
+	 * Creates copy of compiled plan with given parameter values
+	 *
+	 * @param params
+	 * @return
+	 */
+	public Tuple<Error, CompilePlan> bind(List<Object> params) {
+		Error err = new Error();
+		if (params.size() != this.parameterCount) {
+			err = FunSQLCompiler.createGenericCompileErr("Statement expects "
+					+ this.parameterCount + " parameters but got "
+					+ params.size() + "!");
+			return new Tuple<Error, CompilePlan>(err, null);
+		}
+
+		// create literals for parameters
+		List<TokenLiteral> values = new ArrayList<TokenLiteral>(params.size());
+		for (Object param : params) {
+			TokenLiteral value = createLiteral(param);
+			if (value == null) {
+				err = FunSQLCompiler
+						.createGenericCompileErr("Parameter value " + param
+								+ " is not supported!");
+				return new Tuple<Error, CompilePlan>(err, null);
+			}
+			values.add(value);
+		}
+
+		// copy plan and bind values to parameter markers
+		CompilePlan cplan;
+		try {
+			ObjectInputStream in = new BindingInputStream(
+					new ByteArrayInputStream(this.plan), values);
+			cplan = (CompilePlan) in.readObject();
+			in.close();
+		} catch (Exception e) {
+			err = FunSQLCompiler.createGenericCompileErr(e.toString());
+			return new Tuple<Error, CompilePlan>(err, null);
+		}
+		cplan.init();
+		for (int i = 0; i < values.size(); ++i) {
+			cplan.addParameter(i, values.get(i).toSqlString());
+		}
+
+		// restrict partitions using bound values
+		String pruning = "";
+		if (Config.COMPILE_PARTITION_PRUNING && values.size() > 0) {
+			err = cplan.applyVisitor(new PartitionPruningVisitor());
+			if (err.isError())
+				return new Tuple<Error, CompilePlan>(err, null);
+			pruning = getPruningOutcome(cplan);
+		}
+		if (this.fingerprint != null)
+			cplan.setFingerprint(this.fingerprint + pruning,
+					this.catalogVersion);
+
+		return new Tuple<Error, CompilePlan>(err, cplan);
+	}
+
+	/**
+	 * Describes active partitions of all pruned tables in plan
+	 *
+	 * @param cplan
+	 * @return
+	 */
+	private static String getPruningOutcome(CompilePlan cplan) {
+		List<String> pruned = new ArrayList<String>();
+		for (AbstractCompileOperator op : cplan.getOperators()) {
+			if (op instanceof TableOperator && op.getResult().isPruned()) {
+				pruned.add(op.getOperatorId() + "="
+						+ op.getResult().getActivePartitions());
+			}
+		}
+		if (pruned.isEmpty())
+			return "";
+
+		Collections.sort(pruned);
+		return " PRUNED " + pruned;
+	}
+
+	/**
+	 * Creates literal for value of parameter (null if type is not supported)
+	 *
+	 * @param param
+	 * @return
+	 */
+	private static TokenLiteral createLiteral(Object param) {
+		if (param instanceof Integer || param instanceof Short
+				|| param instanceof Byte) {
+			return new TokenIntegerLiteral(((Number) param).intValue());
+		} else if (param instanceof Long) {
+			long value = (Long) param;
+			if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+				return new TokenIntegerLiteral((int) value);
+			return new TokenDecimalLiteral(BigDecimal.valueOf(value));
+		} else if (param instanceof Float || param instanceof Double) {
+			return new TokenDecimalLiteral(BigDecimal.valueOf(((Number) param)
+					.doubleValue()));
+		} else if (param instanceof BigDecimal) {
+			return new TokenDecimalLiteral((BigDecimal) param);
+		} else if (param instanceof Date) {
+			java.sql.Date date = new java.sql.Date(((Date) param).getTime());
+			return new TokenDateLiteral("'" + date.toString() + "'");
+		} else if (param instanceof String) {
+			// escape value since it is inlined into SQL
+			String value = ((String) param).replace("\\", "\\\\").replace(
+					"'", "''");
+			return new TokenStringLiteral(value);
+		}
+		return null;
+	}
+}
@@ -24,23 +24,25 @@ import org.xdb.funsql.types.EnumSimpleType;
 import org.xdb.metadata.Attribute;
 
 /**
- * Builds result description for operators in a compile plan
+ * Builds result description for operators in a compile plan including
+ * estimated result sizes (see EstimateResultVisitor)
  * 
  * @author cbinnig
  * 
  */
 public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 	private Map<AbstractToken, EnumSimpleType> types;
+	private EstimateResultVisitor estimator;
 
 	public CreateResultVisitor(AbstractCompileOperator root,
 			Map<AbstractToken, EnumSimpleType> types) {
 		super(root);
 		this.types = types;
+		this.estimator = new EstimateResultVisitor(root);
 	}
 
 	@Override
 	public Error visitEquiJoin(EquiJoin ej) {
-		Error e = new Error();
 		ResultDesc leftDesc = ej.getLeftChild().getResult().clone();
 		ResultDesc rightDesc = ej.getRightChild().getResult().clone();
 
@@ -58,12 +60,11 @@ public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 		}
 
 		ej.setResult(leftDesc);
-		return e;
+		return this.estimator.visitEquiJoin(ej);
 	}
 
 	@Override
 	public Error visitGenericSelection(GenericSelection gs) {
-		Error e = new Error();
 		ResultDesc rDesc = gs.getChild().getResult().clone();
 
 		for (TokenAttribute att : rDesc.getAttributes()) {
@@ -71,12 +72,11 @@ public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 		}
 
 		gs.setResult(rDesc);
-		return e;
+		return this.estimator.visitGenericSelection(gs);
 	}
 
 	@Override
 	public Error visitGenericAggregation(GenericAggregation ga) {
-		Error e = new Error();
 		ResultDesc rDesc = new ResultDesc();
 		Vector<TokenIdentifier> aliases = ga.getAliases();
 
@@ -90,12 +90,11 @@ public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 		}
 
 		ga.setResult(rDesc);
-		return e;
+		return this.estimator.visitGenericAggregation(ga);
 	}
 
 	@Override
 	public Error visitGenericProjection(GenericProjection gp) {
-		Error e = new Error();
 		ResultDesc rDesc = new ResultDesc();
 		Vector<AbstractExpression> exprs = gp.getExpressions();
 		Vector<TokenIdentifier> aliases = gp.getAliases();
@@ -113,12 +112,11 @@ public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 		}
 
 		gp.setResult(rDesc);
-		return e;
+		return this.estimator.visitGenericProjection(gp);
 	}
 
 	@Override
 	public Error visitTableOperator(TableOperator to) {
-		Error e = new Error();
 		ResultDesc rDesc = new ResultDesc();
 
 		for (Attribute attr : to.getAttributes()) {
@@ -131,7 +129,7 @@ public class CreateResultVisitor extends AbstractBottomUpTreeVisitor {
 		}
 
 		to.setResult(rDesc);
-		return e;
+		return this.estimator.visitTableOperator(to);
 	}
 
 	@Override
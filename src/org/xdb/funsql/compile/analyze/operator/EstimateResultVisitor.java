@@ -0,0 +1,428 @@
+package org.xdb.funsql.compile.analyze.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.ComplexExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.FunctionCall;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.funsql.compile.tokens.TokenLiteral;
+import org.xdb.funsql.compile.tokens.TokenParameter;
+import org.xdb.metadata.Attribute;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+
+/**
+ * Estimates the number of rows of each operator result bottom-up from catalog
+ * statistics (see ANALYZE). Result attributes are traced back to the catalog
+ * attributes they are read from; if no statistics exist default selectivities
+ * and a default partition size are used.
+ *
+ * Runs as part of CreateResultVisitor and again after the plan was rewritten
+ * by the optimizer or parallelizer.
+ */
+public class EstimateResultVisitor extends AbstractBottomUpTreeVisitor {
+	public static final double EQUAL_SELECTIVITY = 0.1;
+	public static final double RANGE_SELECTIVITY = 1.0 / 3.0;
+
+	// share of input rows which are distinct in unknown group-by attributes
+	private static final double GROUP_SELECTIVITY = 0.1;
+
+	// catalog attributes by name of result attribute
+	private Map<String, Attribute> sourceAtts = new HashMap<String, Attribute>();
+
+	// constructors
+	public EstimateResultVisitor() {
+		super();
+	}
+
+	public EstimateResultVisitor(AbstractCompileOperator root) {
+		super(root);
+	}
+
+	// methods
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		this.addSourceAttributes(to.getTableAlias(), to.getTable());
+		ResultDesc result = to.getResult();
+		double rows = estimateTableRows(to.getTable());
+
+		// pruned partitions are not read
+		if (result.isPruned())
+			rows *= (double) result.getActivePartitionCount()
+					/ result.getPartitionCount();
+		result.setEstimatedRows(rows);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		double childRows = gs.getChild().getResult().getEstimatedRows();
+		double selectivity = this.estimateSelectivity(gs.getPredicate(),
+				childRows);
+		gs.getResult().setEstimatedRows(Math.max(1.0, childRows * selectivity));
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		Vector<AbstractExpression> exprs = gp.getExpressions();
+		Vector<TokenIdentifier> aliases = gp.getAliases();
+		for (int i = 0; i < exprs.size() && i < aliases.size(); ++i) {
+			this.addSourceAttribute(aliases.get(i), exprs.get(i));
+		}
+
+		double rows = gp.getChild().getResult().getEstimatedRows();
+		// at most limit rows per partition
+		if (gp.hasLimit()) {
+			int partCnt = Math.max(1, gp.getResult().getPartitionCount());
+			rows = Math.min(rows, (double) gp.getOrderDesc().getLimit()
+					* partCnt);
+		}
+		gp.getResult().setEstimatedRows(rows);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		double childRows = ga.getChild().getResult().getEstimatedRows();
+		Vector<TokenIdentifier> groupAliases = ga.getGroupAliases();
+
+		// one row per group
+		double groups = 1.0;
+		int i = 0;
+		for (AbstractExpression groupExpr : ga.getGroupExpressions()) {
+			groups *= this.estimateDistinct(groupExpr, childRows);
+			if (i < groupAliases.size())
+				this.addSourceAttribute(groupAliases.get(i), groupExpr);
+			i++;
+		}
+
+		ga.getResult().setEstimatedRows(
+				Math.max(1.0, Math.min(childRows, groups)));
+		return new Error();
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		double leftRows = ej.getLeftChild().getResult().getEstimatedRows();
+		double rightRows = ej.getRightChild().getResult().getEstimatedRows();
+
+		// containment of join keys: 1 / distinct values of larger key domain
+		double leftDistinct = this.estimateDistinct(
+				ej.getLeftTokenAttribute(), leftRows);
+		double rightDistinct = this.estimateDistinct(
+				ej.getRightTokenAttribute(), rightRows);
+		double rows = leftRows * rightRows
+				/ Math.max(1.0, Math.max(leftDistinct, rightDistinct));
+
+		ej.getResult().setEstimatedRows(Math.max(1.0, rows));
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		ro.getResult().setEstimatedRows(
+				ro.getChild().getResult().getEstimatedRows());
+		return new Error();
+	}
+
+	@Override
+	public Error visitFunctionCall(FunctionCall fc) {
+		// results of function calls are unknown
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		// result is shared with combined operators
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin ej) {
+		// result is shared with combined operators
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		// result is shared with combined operators
+		return new Error();
+	}
+
+	/**
+	 * Estimates number of rows of a table from statistics or a default
+	 * number of rows per partition if table was not analyzed
+	 *
+	 * @param table
+	 * @return
+	 */
+	public static double estimateTableRows(Table table) {
+		if (table == null)
+			return Config.COMPILE_DEFAULT_PARTITION_ROWS;
+
+		TableStatistics stats = Catalog.getTableStatistics(table.getOid());
+		if (stats != null)
+			return Math.max(1.0, stats.getRowCount());
+
+		long partCount = table.isPartioned() ? table.getPartitionCount() : 1;
+		return (double) Config.COMPILE_DEFAULT_PARTITION_ROWS * partCount;
+	}
+
+	/**
+	 * Estimates share of input rows which satisfy predicate
+	 *
+	 * @param pred
+	 * @param inputRows
+	 * @return
+	 */
+	public double estimateSelectivity(AbstractPredicate pred, double inputRows) {
+		double selectivity;
+		if (pred instanceof SimplePredicate) {
+			selectivity = this.estimateSelectivity((SimplePredicate) pred,
+					inputRows);
+		} else if (pred instanceof ComplexPredicate) {
+			ComplexPredicate cPred = (ComplexPredicate) pred;
+			selectivity = this.estimateSelectivity(cPred.getPredicate1(),
+					inputRows);
+			switch (cPred.getType()) {
+			case AND_PREDICATE:
+				for (AbstractPredicate pred2 : cPred.getPredicates2()) {
+					selectivity *= this.estimateSelectivity(pred2, inputRows);
+				}
+				break;
+			case OR_PREDICATE:
+				for (AbstractPredicate pred2 : cPred.getPredicates2()) {
+					double selectivity2 = this.estimateSelectivity(pred2,
+							inputRows);
+					selectivity = selectivity + selectivity2 - selectivity
+							* selectivity2;
+				}
+				break;
+			default:
+				break;
+			}
+		} else {
+			return 1.0;
+		}
+
+		if (pred.isNegated())
+			selectivity = 1.0 - selectivity;
+		return Math.max(0.0, Math.min(1.0, selectivity));
+	}
+
+	private double estimateSelectivity(SimplePredicate pred, double inputRows) {
+		AbstractExpression expr1 = pred.getExpr1();
+		AbstractExpression expr2 = pred.getExpr2();
+		EnumCompOperator comp = pred.getComp();
+
+		// join predicate between attributes of same input
+		if (expr1.isAttribute() && expr2 != null && expr2.isAttribute()) {
+			if (comp != EnumCompOperator.SQL_EQUAL)
+				return RANGE_SELECTIVITY;
+			double distinct = Math.max(
+					this.estimateDistinct(expr1.getAttribute(), inputRows),
+					this.estimateDistinct(expr2.getAttribute(), inputRows));
+			return 1.0 / Math.max(1.0, distinct);
+		}
+
+		// normalize to: attribute comp literal
+		String literal = null;
+		TokenAttribute att = null;
+		if (expr1.isAttribute() && isLiteral(expr2)) {
+			att = expr1.getAttribute();
+			literal = getLiteral(expr2);
+		} else if (isLiteral(expr1) && expr2 != null && expr2.isAttribute()) {
+			att = expr2.getAttribute();
+			literal = getLiteral(expr1);
+			comp = swap(comp);
+		}
+
+		AttributeStatistics stats = att == null ? null : this
+				.getStatistics(att);
+		switch (comp) {
+		case SQL_EQUAL:
+		case SQL_NOT_EQUAL:
+			double equal = EQUAL_SELECTIVITY;
+			if (stats != null && stats.getDistinctCount() > 0)
+				equal = (1.0 - stats.getNullFraction())
+						/ stats.getDistinctCount();
+			return comp == EnumCompOperator.SQL_EQUAL ? equal : 1.0 - equal;
+		case SQL_LESS_THAN:
+		case SQL_LESS_EQUAL:
+		case SQL_GREATER_THAN:
+		case SQL_GREATER_EQUAL:
+			if (stats == null || literal == null)
+				return RANGE_SELECTIVITY;
+			double less = stats.estimateLessThanFraction(this.sourceAtts.get(
+					this.getSourceKey(att)).getDataType(), literal);
+			if (less < 0)
+				return RANGE_SELECTIVITY;
+			if (comp == EnumCompOperator.SQL_GREATER_THAN
+					|| comp == EnumCompOperator.SQL_GREATER_EQUAL)
+				less = 1.0 - less;
+			return less * (1.0 - stats.getNullFraction());
+		default:
+			return RANGE_SELECTIVITY;
+		}
+	}
+
+	/**
+	 * Estimates number of distinct values of an expression in an input with
+	 * the given number of rows
+	 *
+	 * @param expr
+	 * @param inputRows
+	 * @return
+	 */
+	private double estimateDistinct(AbstractExpression expr, double inputRows) {
+		if (expr.isAttribute())
+			return this.estimateDistinct(expr.getAttribute(), inputRows);
+		return Math.max(1.0, inputRows * GROUP_SELECTIVITY);
+	}
+
+	/**
+	 * Estimates number of distinct values of an attribute in an input with
+	 * the given number of rows
+	 *
+	 * @param att
+	 * @param inputRows
+	 * @return
+	 */
+	public double estimateDistinct(TokenAttribute att, double inputRows) {
+		AttributeStatistics stats = this.getStatistics(att);
+		if (stats != null)
+			return Math.max(1.0, Math.min(inputRows, stats.getDistinctCount()));
+
+		// attribute of a table without statistics: assume it is a key
+		String key = this.getSourceKey(att);
+		if (key != null) {
+			Table table = Catalog.getTable(this.sourceAtts.get(key)
+					.getTableOid());
+			return Math.max(1.0, Math.min(inputRows, estimateTableRows(table)));
+		}
+		return Math.max(1.0, inputRows * GROUP_SELECTIVITY);
+	}
+
+	/**
+	 * Registers attributes of a table which are referenced as alias.attribute
+	 * (used to estimate predicates before a compile plan is built)
+	 *
+	 * @param tableAlias
+	 * @param table
+	 */
+	public void addSourceAttributes(String tableAlias, Table table) {
+		for (Attribute att : table.getAttributes()) {
+			this.sourceAtts.put(
+					ResultDesc.createResultAtt(tableAlias, att.getName()), att);
+		}
+	}
+
+	private AttributeStatistics getStatistics(TokenAttribute att) {
+		String key = this.getSourceKey(att);
+		if (key == null)
+			return null;
+		return Catalog.getAttributeStatistics(this.sourceAtts.get(key)
+				.getOid());
+	}
+
+	/**
+	 * Returns key of attribute in lineage (attributes are named R1_A after
+	 * renaming and R1.A before)
+	 *
+	 * @param att
+	 * @return
+	 */
+	private String getSourceKey(TokenAttribute att) {
+		String name = att.getName().getValue();
+		if (this.sourceAtts.containsKey(name))
+			return name;
+
+		if (att.getTable() != null && att.getTable().getName() != null) {
+			String resultName = ResultDesc.createResultAtt(att.getTable()
+					.getName().getValue(), name);
+			if (this.sourceAtts.containsKey(resultName))
+				return resultName;
+		}
+		return null;
+	}
+
+	private void addSourceAttribute(TokenIdentifier alias,
+			AbstractExpression expr) {
+		if (!expr.isAttribute())
+			return;
+
+		String key = this.getSourceKey(expr.getAttribute());
+		if (key != null)
+			this.sourceAtts.put(alias.getValue(), this.sourceAtts.get(key));
+	}
+
+	/**
+	 * Unwraps single-operand expressions created by the parser (they are
+	 * only removed if predicates are rewritten by the optimizer)
+	 *
+	 * @param expr
+	 * @return
+	 */
+	private static AbstractExpression unwrap(AbstractExpression expr) {
+		while (expr instanceof ComplexExpression && !expr.isNegated()
+				&& ((ComplexExpression) expr).getExprs2().isEmpty()) {
+			expr = ((ComplexExpression) expr).getExpr1();
+		}
+		return expr;
+	}
+
+	private static boolean isLiteral(AbstractExpression expr) {
+		expr = unwrap(expr);
+		return expr instanceof SimpleExpression
+				&& ((SimpleExpression) expr).isLiteral();
+	}
+
+	private static String getLiteral(AbstractExpression expr) {
+		TokenLiteral literal = (TokenLiteral) ((SimpleExpression) unwrap(expr))
+				.getOper();
+		// value of unbound parameters is unknown
+		if (literal instanceof TokenParameter)
+			literal = ((TokenParameter) literal).getValue();
+		return literal == null ? null : literal.toString();
+	}
+
+	private static EnumCompOperator swap(EnumCompOperator comp) {
+		switch (comp) {
+		case SQL_LESS_THAN:
+			return EnumCompOperator.SQL_GREATER_THAN;
+		case SQL_LESS_EQUAL:
+			return EnumCompOperator.SQL_GREATER_EQUAL;
+		case SQL_GREATER_THAN:
+			return EnumCompOperator.SQL_LESS_THAN;
+		case SQL_GREATER_EQUAL:
+			return EnumCompOperator.SQL_LESS_EQUAL;
+		default:
+			return comp;
+		}
+	}
+}
@@ -70,6 +70,12 @@ import org.xdb.funsql.statement.*;
 } 
 
 @parser::members {
+  private int parameterCount = 0;
+
+  public int getParameterCount() {
+    return parameterCount;
+  }
+
   @Override
   protected Object recoverFromMismatchedToken(IntStream input, int ttype, BitSet follow) throws RecognitionException {
     throw new MismatchedTokenException(ttype, input);
@@ -164,6 +170,12 @@ statement returns [AbstractServerStmt stmt]
                 	$stmt = $loadDataInfileStatement.stmt;
                 	$stmt.setStmtString($loadDataInfileStatement.text);
                 }
+                |
+                analyzeStatement
+                {
+                	$stmt = $analyzeStatement.stmt;
+                	$stmt.setStmtString($analyzeStatement.text);
+                }
                 )
                 SEMI?
         );
@@ -411,6 +423,20 @@ dropTableStatement returns [DropTableStmt stmt]
 	)
 	;
 	
+analyzeStatement returns [AnalyzeStmt stmt]
+        @init{
+        	$stmt = new AnalyzeStmt();
+        }
+        :
+        (
+                KEYWORD_ANALYZE
+                KEYWORD_TABLE?
+                table1=tokenTable {
+                	$stmt.setTable($table1.table);
+                }
+	)
+	;
+	
 createFunctionStatement returns [CreateFunctionStmt stmt]
         @init{
         	$stmt = new CreateFunctionStmt();
@@ -596,6 +622,52 @@ selectStatement returns [SelectStmt stmt]
                 	$stmt.setHavingPredicate($havingPred.predicate);
                 }
                 )?
+                
+                //ORDER BY
+                (
+                KEYWORD_ORDER KEYWORD_BY
+                {
+                	i=0;
+                }
+                orderExpr1=abstractExpression
+                {
+                	$stmt.addOrderExpression($orderExpr1.expression);
+                	++i;
+                }
+                (
+                	KEYWORD_ASC
+                	|
+                	KEYWORD_DESC
+                	{
+                		$stmt.setOrderDescending(i-1);
+                	}
+                )?
+                (
+                COMMA
+                orderExpr2=abstractExpression
+                {
+                	$stmt.addOrderExpression($orderExpr2.expression);
+                	++i;
+                }
+                (
+                	KEYWORD_ASC
+                	|
+                	KEYWORD_DESC
+                	{
+                		$stmt.setOrderDescending(i-1);
+                	}
+                )?
+                )*
+                )?
+                
+                //LIMIT
+                (
+                KEYWORD_LIMIT
+                limit=tokenIntegerLiteral
+                {
+                	$stmt.setLimit($limit.literal);
+                }
+                )?
 	)
 	;
 	
@@ -1117,10 +1189,26 @@ tokenLiteral returns [TokenLiteral literal]
                 tokenDateLiteral {
                 	$literal = $tokenDateLiteral.literal;
                 }
+                |
+                tokenParameter {
+                	$literal = $tokenParameter.literal;
+                }
                 )
         )
         ;        
 
+tokenParameter returns [TokenParameter literal]
+	@init{
+        	$literal = null;
+        }
+        :
+        (
+                QUESTION {
+                	$literal = new TokenParameter(parameterCount++);
+                }
+        )
+        ;
+
 tokenStringLiteral returns [TokenStringLiteral literal]
 	@init{
         	$literal = null;
@@ -1269,6 +1357,7 @@ KEYWORD_INTO:	I N T O;
 KEYWORD_INFILE:	I N F I L E;
 KEYWORD_DATA:	D A T A;
 KEYWORD_LOAD:	L O A D;
+KEYWORD_ANALYZE:	A N A L Y Z E;
 KEYWORD_CALL: C A L L;
 KEYWORD_CREATE: C R E A T E;
 KEYWORD_DROP: D R O P;	 
@@ -1278,6 +1367,10 @@ KEYWORD_WHERE: W H E R E;
 KEYWORD_HAVING: H A V I N G;
 KEYWORD_GROUP: G R O U P;
 KEYWORD_BY: B Y;
+KEYWORD_ORDER: O R D E R;
+KEYWORD_ASC: A S C;
+KEYWORD_DESC: D E S C;
+KEYWORD_LIMIT: L I M I T;
 KEYWORD_IN: I N;
 KEYWORD_OUT: O U T;
 KEYWORD_AND: A N D;
@@ -1,4 +1,4 @@
-// $ANTLR 3.5 /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g 2014-05-06 09:30:31
+// $ANTLR 3.3 Nov 30, 2010 12:50:56 FunSQL.g 2026-10-19 15:05:17
  
 package org.xdb.funsql.compile.antlr;
 
@@ -8,4424 +8,4454 @@ import java.util.Stack;
 import java.util.List;
 import java.util.ArrayList;
 
-@SuppressWarnings("all")
 public class FunSQLLexer extends Lexer {
-	public static final int EOF=-1;
-	public static final int A=4;
-	public static final int AMPERSAND=5;
-	public static final int APOSTROPHE=6;
-	public static final int AT=7;
-	public static final int B=8;
-	public static final int BACKSLASH=9;
-	public static final int C=10;
-	public static final int CHAR=11;
-	public static final int COLON=12;
-	public static final int COMMA=13;
-	public static final int CONTROL_CHAR=14;
-	public static final int D=15;
-	public static final int DIGIT=16;
-	public static final int DIV=17;
-	public static final int DOLLAR=18;
-	public static final int DOT=19;
-	public static final int DOUBLE_PIPE=20;
-	public static final int E=21;
-	public static final int EQUAL1=22;
-	public static final int EQUAL2=23;
-	public static final int F=24;
-	public static final int FUNCTION_AGGREGATION=25;
-	public static final int G=26;
-	public static final int GREATER_EQUAL1=27;
-	public static final int GREATER_EQUAL2=28;
-	public static final int GREATER_THAN=29;
-	public static final int H=30;
-	public static final int HAT=31;
-	public static final int I=32;
-	public static final int IDENTIFIER=33;
-	public static final int IGNORE_CHAR=34;
-	public static final int J=35;
-	public static final int K=36;
-	public static final int KEYWORD_AND=37;
-	public static final int KEYWORD_AS=38;
-	public static final int KEYWORD_AVG=39;
-	public static final int KEYWORD_BEGIN=40;
-	public static final int KEYWORD_BY=41;
-	public static final int KEYWORD_CALL=42;
-	public static final int KEYWORD_CONNECTION=43;
-	public static final int KEYWORD_COUNT=44;
-	public static final int KEYWORD_CREATE=45;
-	public static final int KEYWORD_DATA=46;
-	public static final int KEYWORD_DISTINCT=47;
-	public static final int KEYWORD_DROP=48;
-	public static final int KEYWORD_END=49;
-	public static final int KEYWORD_FROM=50;
-	public static final int KEYWORD_FUNCTION=51;
-	public static final int KEYWORD_GROUP=52;
-	public static final int KEYWORD_HAVING=53;
-	public static final int KEYWORD_IN=54;
-	public static final int KEYWORD_INFILE=55;
-	public static final int KEYWORD_INTO=56;
-	public static final int KEYWORD_LIKE=57;
-	public static final int KEYWORD_LOAD=58;
-	public static final int KEYWORD_MAX=59;
-	public static final int KEYWORD_MIN=60;
-	public static final int KEYWORD_NOT=61;
-	public static final int KEYWORD_OR=62;
-	public static final int KEYWORD_OUT=63;
-	public static final int KEYWORD_PARTITION=64;
-	public static final int KEYWORD_PARTITIONED=65;
-	public static final int KEYWORD_PASSWD=66;
-	public static final int KEYWORD_REFERENCES=67;
-	public static final int KEYWORD_REPLICATED=68;
-	public static final int KEYWORD_SCHEMA=69;
-	public static final int KEYWORD_SELECT=70;
-	public static final int KEYWORD_STORE=71;
-	public static final int KEYWORD_SUM=72;
-	public static final int KEYWORD_TABLE=73;
-	public static final int KEYWORD_URL=74;
-	public static final int KEYWORD_USER=75;
-	public static final int KEYWORD_VAR=76;
-	public static final int KEYWORD_WHERE=77;
-	public static final int L=78;
-	public static final int LBRACKET=79;
-	public static final int LESS_EQUAL1=80;
-	public static final int LESS_EQUAL2=81;
-	public static final int LESS_THAN=82;
-	public static final int LITERAL_DECIMAL=83;
-	public static final int LITERAL_INTEGER=84;
-	public static final int LITERAL_STRING=85;
-	public static final int LPAREN=86;
-	public static final int M=87;
-	public static final int MINUS=88;
-	public static final int MOD=89;
-	public static final int MULT=90;
-	public static final int N=91;
-	public static final int NOT_EQUAL1=92;
-	public static final int NOT_EQUAL2=93;
-	public static final int O=94;
-	public static final int P=95;
-	public static final int PIPE=96;
-	public static final int PLUS=97;
-	public static final int Q=98;
-	public static final int QUESTION=99;
-	public static final int QUOTED_STRING=100;
-	public static final int QUOTE_DOUBLE=101;
-	public static final int QUOTE_SINGLE=102;
-	public static final int QUOTE_TRIPLE=103;
-	public static final int R=104;
-	public static final int RBRACKET=105;
-	public static final int RPAREN=106;
-	public static final int S=107;
-	public static final int SEMI=108;
-	public static final int SHIFT_LEFT=109;
-	public static final int SHIFT_RIGHT=110;
-	public static final int T=111;
-	public static final int TILDE=112;
-	public static final int TYPE_DATE=113;
-	public static final int TYPE_DECIMAL=114;
-	public static final int TYPE_INTEGER=115;
-	public static final int TYPE_VARCHAR=116;
-	public static final int U=117;
-	public static final int UNDERSCORE=118;
-	public static final int V=119;
-	public static final int W=120;
-	public static final int WS=121;
-	public static final int X=122;
-	public static final int Y=123;
-	public static final int Z=124;
-
-	    @Override
-	    public void reportError(RecognitionException e) {
-	        throw new RuntimeException(e);
-	    }
-
-
-	// delegates
-	// delegators
-	public Lexer[] getDelegates() {
-		return new Lexer[] {};
-	}
-
-	public FunSQLLexer() {} 
-	public FunSQLLexer(CharStream input) {
-		this(input, new RecognizerSharedState());
-	}
-	public FunSQLLexer(CharStream input, RecognizerSharedState state) {
-		super(input,state);
-	}
-	@Override public String getGrammarFileName() { return "/Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g"; }
-
-	// $ANTLR start "AMPERSAND"
-	public final void mAMPERSAND() throws RecognitionException {
-		try {
-			int _type = AMPERSAND;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:12:11: ( '&' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:12:13: '&'
-			{
-			match('&'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "AMPERSAND"
-
-	// $ANTLR start "APOSTROPHE"
-	public final void mAPOSTROPHE() throws RecognitionException {
-		try {
-			int _type = APOSTROPHE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:13:12: ( '`' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:13:14: '`'
-			{
-			match('`'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "APOSTROPHE"
-
-	// $ANTLR start "AT"
-	public final void mAT() throws RecognitionException {
-		try {
-			int _type = AT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:14:4: ( '@' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:14:6: '@'
-			{
-			match('@'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "AT"
-
-	// $ANTLR start "BACKSLASH"
-	public final void mBACKSLASH() throws RecognitionException {
-		try {
-			int _type = BACKSLASH;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:15:11: ( '\\\\' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:15:13: '\\\\'
-			{
-			match('\\'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "BACKSLASH"
-
-	// $ANTLR start "COLON"
-	public final void mCOLON() throws RecognitionException {
-		try {
-			int _type = COLON;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:16:7: ( ':' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:16:9: ':'
-			{
-			match(':'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "COLON"
-
-	// $ANTLR start "COMMA"
-	public final void mCOMMA() throws RecognitionException {
-		try {
-			int _type = COMMA;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:17:7: ( ',' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:17:9: ','
-			{
-			match(','); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "COMMA"
-
-	// $ANTLR start "DIV"
-	public final void mDIV() throws RecognitionException {
-		try {
-			int _type = DIV;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:18:5: ( '/' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:18:7: '/'
-			{
-			match('/'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "DIV"
-
-	// $ANTLR start "DOLLAR"
-	public final void mDOLLAR() throws RecognitionException {
-		try {
-			int _type = DOLLAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:19:8: ( '$' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:19:10: '$'
-			{
-			match('$'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "DOLLAR"
-
-	// $ANTLR start "DOT"
-	public final void mDOT() throws RecognitionException {
-		try {
-			int _type = DOT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:20:5: ( '.' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:20:7: '.'
-			{
-			match('.'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "DOT"
-
-	// $ANTLR start "DOUBLE_PIPE"
-	public final void mDOUBLE_PIPE() throws RecognitionException {
-		try {
-			int _type = DOUBLE_PIPE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:21:13: ( '||' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:21:15: '||'
-			{
-			match("||"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "DOUBLE_PIPE"
-
-	// $ANTLR start "EQUAL1"
-	public final void mEQUAL1() throws RecognitionException {
-		try {
-			int _type = EQUAL1;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:22:8: ( '=' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:22:10: '='
-			{
-			match('='); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "EQUAL1"
-
-	// $ANTLR start "EQUAL2"
-	public final void mEQUAL2() throws RecognitionException {
-		try {
-			int _type = EQUAL2;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:23:8: ( '==' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:23:10: '=='
-			{
-			match("=="); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "EQUAL2"
-
-	// $ANTLR start "GREATER_EQUAL1"
-	public final void mGREATER_EQUAL1() throws RecognitionException {
-		try {
-			int _type = GREATER_EQUAL1;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:24:16: ( '>=' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:24:18: '>='
-			{
-			match(">="); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "GREATER_EQUAL1"
-
-	// $ANTLR start "GREATER_EQUAL2"
-	public final void mGREATER_EQUAL2() throws RecognitionException {
-		try {
-			int _type = GREATER_EQUAL2;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:25:16: ( '!<' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:25:18: '!<'
-			{
-			match("!<"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "GREATER_EQUAL2"
-
-	// $ANTLR start "GREATER_THAN"
-	public final void mGREATER_THAN() throws RecognitionException {
-		try {
-			int _type = GREATER_THAN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:26:14: ( '>' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:26:16: '>'
-			{
-			match('>'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "GREATER_THAN"
-
-	// $ANTLR start "HAT"
-	public final void mHAT() throws RecognitionException {
-		try {
-			int _type = HAT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:27:5: ( '^' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:27:7: '^'
-			{
-			match('^'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "HAT"
-
-	// $ANTLR start "LBRACKET"
-	public final void mLBRACKET() throws RecognitionException {
-		try {
-			int _type = LBRACKET;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:28:10: ( '[' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:28:12: '['
-			{
-			match('['); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LBRACKET"
-
-	// $ANTLR start "LESS_EQUAL1"
-	public final void mLESS_EQUAL1() throws RecognitionException {
-		try {
-			int _type = LESS_EQUAL1;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:29:13: ( '<=' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:29:15: '<='
-			{
-			match("<="); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LESS_EQUAL1"
-
-	// $ANTLR start "LESS_EQUAL2"
-	public final void mLESS_EQUAL2() throws RecognitionException {
-		try {
-			int _type = LESS_EQUAL2;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:30:13: ( '!>' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:30:15: '!>'
-			{
-			match("!>"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LESS_EQUAL2"
-
-	// $ANTLR start "LESS_THAN"
-	public final void mLESS_THAN() throws RecognitionException {
-		try {
-			int _type = LESS_THAN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:31:11: ( '<' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:31:13: '<'
-			{
-			match('<'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LESS_THAN"
-
-	// $ANTLR start "LPAREN"
-	public final void mLPAREN() throws RecognitionException {
-		try {
-			int _type = LPAREN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:32:8: ( '(' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:32:10: '('
-			{
-			match('('); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LPAREN"
-
-	// $ANTLR start "MINUS"
-	public final void mMINUS() throws RecognitionException {
-		try {
-			int _type = MINUS;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:33:7: ( '-' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:33:9: '-'
-			{
-			match('-'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "MINUS"
-
-	// $ANTLR start "MOD"
-	public final void mMOD() throws RecognitionException {
-		try {
-			int _type = MOD;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:34:5: ( '%' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:34:7: '%'
-			{
-			match('%'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "MOD"
-
-	// $ANTLR start "MULT"
-	public final void mMULT() throws RecognitionException {
-		try {
-			int _type = MULT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:35:6: ( '*' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:35:8: '*'
-			{
-			match('*'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "MULT"
-
-	// $ANTLR start "NOT_EQUAL1"
-	public final void mNOT_EQUAL1() throws RecognitionException {
-		try {
-			int _type = NOT_EQUAL1;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:36:12: ( '!=' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:36:14: '!='
-			{
-			match("!="); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "NOT_EQUAL1"
-
-	// $ANTLR start "NOT_EQUAL2"
-	public final void mNOT_EQUAL2() throws RecognitionException {
-		try {
-			int _type = NOT_EQUAL2;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:37:12: ( '<>' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:37:14: '<>'
-			{
-			match("<>"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "NOT_EQUAL2"
-
-	// $ANTLR start "PIPE"
-	public final void mPIPE() throws RecognitionException {
-		try {
-			int _type = PIPE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:38:6: ( '|' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:38:8: '|'
-			{
-			match('|'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "PIPE"
-
-	// $ANTLR start "PLUS"
-	public final void mPLUS() throws RecognitionException {
-		try {
-			int _type = PLUS;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:39:6: ( '+' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:39:8: '+'
-			{
-			match('+'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "PLUS"
-
-	// $ANTLR start "QUESTION"
-	public final void mQUESTION() throws RecognitionException {
-		try {
-			int _type = QUESTION;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:40:10: ( '?' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:40:12: '?'
-			{
-			match('?'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "QUESTION"
-
-	// $ANTLR start "QUOTE_DOUBLE"
-	public final void mQUOTE_DOUBLE() throws RecognitionException {
-		try {
-			int _type = QUOTE_DOUBLE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:41:14: ( '\"' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:41:16: '\"'
-			{
-			match('\"'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "QUOTE_DOUBLE"
-
-	// $ANTLR start "QUOTE_SINGLE"
-	public final void mQUOTE_SINGLE() throws RecognitionException {
-		try {
-			int _type = QUOTE_SINGLE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:42:14: ( '\\'' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:42:16: '\\''
-			{
-			match('\''); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "QUOTE_SINGLE"
-
-	// $ANTLR start "QUOTE_TRIPLE"
-	public final void mQUOTE_TRIPLE() throws RecognitionException {
-		try {
-			int _type = QUOTE_TRIPLE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:43:14: ( '\\'\\'\\'' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:43:16: '\\'\\'\\''
-			{
-			match("'''"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "QUOTE_TRIPLE"
-
-	// $ANTLR start "RBRACKET"
-	public final void mRBRACKET() throws RecognitionException {
-		try {
-			int _type = RBRACKET;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:44:10: ( ']' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:44:12: ']'
-			{
-			match(']'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "RBRACKET"
-
-	// $ANTLR start "RPAREN"
-	public final void mRPAREN() throws RecognitionException {
-		try {
-			int _type = RPAREN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:45:8: ( ')' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:45:10: ')'
-			{
-			match(')'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "RPAREN"
-
-	// $ANTLR start "SEMI"
-	public final void mSEMI() throws RecognitionException {
-		try {
-			int _type = SEMI;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:46:6: ( ';' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:46:8: ';'
-			{
-			match(';'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "SEMI"
-
-	// $ANTLR start "SHIFT_LEFT"
-	public final void mSHIFT_LEFT() throws RecognitionException {
-		try {
-			int _type = SHIFT_LEFT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:47:12: ( '<<' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:47:14: '<<'
-			{
-			match("<<"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "SHIFT_LEFT"
-
-	// $ANTLR start "SHIFT_RIGHT"
-	public final void mSHIFT_RIGHT() throws RecognitionException {
-		try {
-			int _type = SHIFT_RIGHT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:48:13: ( '>>' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:48:15: '>>'
-			{
-			match(">>"); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "SHIFT_RIGHT"
-
-	// $ANTLR start "TILDE"
-	public final void mTILDE() throws RecognitionException {
-		try {
-			int _type = TILDE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:49:7: ( '~' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:49:9: '~'
-			{
-			match('~'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "TILDE"
-
-	// $ANTLR start "UNDERSCORE"
-	public final void mUNDERSCORE() throws RecognitionException {
-		try {
-			int _type = UNDERSCORE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:50:12: ( '_' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:50:14: '_'
-			{
-			match('_'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "UNDERSCORE"
-
-	// $ANTLR start "FUNCTION_AGGREGATION"
-	public final void mFUNCTION_AGGREGATION() throws RecognitionException {
-		try {
-			int _type = FUNCTION_AGGREGATION;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1262:2: ( ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
-			int alt1=5;
-			switch ( input.LA(1) ) {
-			case 'S':
-			case 's':
-				{
-				alt1=1;
-				}
-				break;
-			case 'M':
-			case 'm':
-				{
-				int LA1_2 = input.LA(2);
-				if ( (LA1_2=='I'||LA1_2=='i') ) {
-					alt1=2;
-				}
-				else if ( (LA1_2=='A'||LA1_2=='a') ) {
-					alt1=3;
-				}
-
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 1, 2, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
-
-				}
-				break;
-			case 'A':
-			case 'a':
-				{
-				alt1=4;
-				}
-				break;
-			case 'C':
-			case 'c':
-				{
-				alt1=5;
-				}
-				break;
-			default:
-				NoViableAltException nvae =
-					new NoViableAltException("", 1, 0, input);
-				throw nvae;
-			}
-			switch (alt1) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:3: KEYWORD_SUM
-					{
-					mKEYWORD_SUM(); 
-
-					}
-					break;
-				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:15: KEYWORD_MIN
-					{
-					mKEYWORD_MIN(); 
-
-					}
-					break;
-				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:27: KEYWORD_MAX
-					{
-					mKEYWORD_MAX(); 
-
-					}
-					break;
-				case 4 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:39: KEYWORD_AVG
-					{
-					mKEYWORD_AVG(); 
-
-					}
-					break;
-				case 5 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:51: KEYWORD_COUNT
-					{
-					mKEYWORD_COUNT(); 
-
-					}
-					break;
-
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "FUNCTION_AGGREGATION"
-
-	// $ANTLR start "KEYWORD_PARTITION"
-	public final void mKEYWORD_PARTITION() throws RecognitionException {
-		try {
-			int _type = KEYWORD_PARTITION;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1266:18: ( P A R T I T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1266:20: P A R T I T I O N
-			{
-			mP(); 
-
-			mA(); 
-
-			mR(); 
-
-			mT(); 
-
-			mI(); 
-
-			mT(); 
-
-			mI(); 
-
-			mO(); 
-
-			mN(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_PARTITION"
-
-	// $ANTLR start "KEYWORD_REFERENCES"
-	public final void mKEYWORD_REFERENCES() throws RecognitionException {
-		try {
-			int _type = KEYWORD_REFERENCES;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1267:19: ( R E F E R E N C E S )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1267:21: R E F E R E N C E S
-			{
-			mR(); 
-
-			mE(); 
-
-			mF(); 
-
-			mE(); 
-
-			mR(); 
-
-			mE(); 
-
-			mN(); 
-
-			mC(); 
-
-			mE(); 
-
-			mS(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_REFERENCES"
-
-	// $ANTLR start "KEYWORD_INTO"
-	public final void mKEYWORD_INTO() throws RecognitionException {
-		try {
-			int _type = KEYWORD_INTO;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1268:13: ( I N T O )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1268:15: I N T O
-			{
-			mI(); 
-
-			mN(); 
-
-			mT(); 
-
-			mO(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_INTO"
-
-	// $ANTLR start "KEYWORD_INFILE"
-	public final void mKEYWORD_INFILE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_INFILE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1269:15: ( I N F I L E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1269:17: I N F I L E
-			{
-			mI(); 
-
-			mN(); 
-
-			mF(); 
-
-			mI(); 
-
-			mL(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_INFILE"
-
-	// $ANTLR start "KEYWORD_DATA"
-	public final void mKEYWORD_DATA() throws RecognitionException {
-		try {
-			int _type = KEYWORD_DATA;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1270:13: ( D A T A )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1270:15: D A T A
-			{
-			mD(); 
-
-			mA(); 
-
-			mT(); 
-
-			mA(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_DATA"
-
-	// $ANTLR start "KEYWORD_LOAD"
-	public final void mKEYWORD_LOAD() throws RecognitionException {
-		try {
-			int _type = KEYWORD_LOAD;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1271:13: ( L O A D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1271:15: L O A D
-			{
-			mL(); 
-
-			mO(); 
-
-			mA(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_LOAD"
-
-	// $ANTLR start "KEYWORD_CALL"
-	public final void mKEYWORD_CALL() throws RecognitionException {
-		try {
-			int _type = KEYWORD_CALL;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1272:13: ( C A L L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1272:15: C A L L
-			{
-			mC(); 
-
-			mA(); 
-
-			mL(); 
-
-			mL(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_CALL"
-
-	// $ANTLR start "KEYWORD_CREATE"
-	public final void mKEYWORD_CREATE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_CREATE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1273:15: ( C R E A T E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1273:17: C R E A T E
-			{
-			mC(); 
-
-			mR(); 
-
-			mE(); 
-
-			mA(); 
-
-			mT(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_CREATE"
-
-	// $ANTLR start "KEYWORD_DROP"
-	public final void mKEYWORD_DROP() throws RecognitionException {
-		try {
-			int _type = KEYWORD_DROP;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1274:13: ( D R O P )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1274:15: D R O P
-			{
-			mD(); 
-
-			mR(); 
-
-			mO(); 
-
-			mP(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_DROP"
-
-	// $ANTLR start "KEYWORD_SELECT"
-	public final void mKEYWORD_SELECT() throws RecognitionException {
-		try {
-			int _type = KEYWORD_SELECT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1275:15: ( S E L E C T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1275:17: S E L E C T
-			{
-			mS(); 
-
-			mE(); 
-
-			mL(); 
-
-			mE(); 
-
-			mC(); 
-
-			mT(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_SELECT"
-
-	// $ANTLR start "KEYWORD_FROM"
-	public final void mKEYWORD_FROM() throws RecognitionException {
-		try {
-			int _type = KEYWORD_FROM;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1276:13: ( F R O M )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1276:15: F R O M
-			{
-			mF(); 
-
-			mR(); 
-
-			mO(); 
-
-			mM(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_FROM"
-
-	// $ANTLR start "KEYWORD_WHERE"
-	public final void mKEYWORD_WHERE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_WHERE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1277:14: ( W H E R E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1277:16: W H E R E
-			{
-			mW(); 
-
-			mH(); 
-
-			mE(); 
-
-			mR(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_WHERE"
-
-	// $ANTLR start "KEYWORD_HAVING"
-	public final void mKEYWORD_HAVING() throws RecognitionException {
-		try {
-			int _type = KEYWORD_HAVING;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1278:15: ( H A V I N G )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1278:17: H A V I N G
-			{
-			mH(); 
-
-			mA(); 
-
-			mV(); 
-
-			mI(); 
-
-			mN(); 
-
-			mG(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_HAVING"
-
-	// $ANTLR start "KEYWORD_GROUP"
-	public final void mKEYWORD_GROUP() throws RecognitionException {
-		try {
-			int _type = KEYWORD_GROUP;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1279:14: ( G R O U P )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1279:16: G R O U P
-			{
-			mG(); 
-
-			mR(); 
-
-			mO(); 
-
-			mU(); 
-
-			mP(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_GROUP"
-
-	// $ANTLR start "KEYWORD_BY"
-	public final void mKEYWORD_BY() throws RecognitionException {
-		try {
-			int _type = KEYWORD_BY;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1280:11: ( B Y )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1280:13: B Y
-			{
-			mB(); 
-
-			mY(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_BY"
-
-	// $ANTLR start "KEYWORD_IN"
-	public final void mKEYWORD_IN() throws RecognitionException {
-		try {
-			int _type = KEYWORD_IN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1281:11: ( I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1281:13: I N
-			{
-			mI(); 
-
-			mN(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_IN"
-
-	// $ANTLR start "KEYWORD_OUT"
-	public final void mKEYWORD_OUT() throws RecognitionException {
-		try {
-			int _type = KEYWORD_OUT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1282:12: ( O U T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1282:14: O U T
-			{
-			mO(); 
-
-			mU(); 
-
-			mT(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_OUT"
-
-	// $ANTLR start "KEYWORD_AND"
-	public final void mKEYWORD_AND() throws RecognitionException {
-		try {
-			int _type = KEYWORD_AND;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:12: ( A N D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:14: A N D
-			{
-			mA(); 
-
-			mN(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_AND"
-
-	// $ANTLR start "KEYWORD_OR"
-	public final void mKEYWORD_OR() throws RecognitionException {
-		try {
-			int _type = KEYWORD_OR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1284:11: ( O R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1284:13: O R
-			{
-			mO(); 
-
-			mR(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_OR"
-
-	// $ANTLR start "KEYWORD_NOT"
-	public final void mKEYWORD_NOT() throws RecognitionException {
-		try {
-			int _type = KEYWORD_NOT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1285:12: ( N O T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1285:14: N O T
-			{
-			mN(); 
-
-			mO(); 
-
-			mT(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_NOT"
-
-	// $ANTLR start "KEYWORD_AS"
-	public final void mKEYWORD_AS() throws RecognitionException {
-		try {
-			int _type = KEYWORD_AS;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:11: ( A S )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:13: A S
-			{
-			mA(); 
-
-			mS(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_AS"
-
-	// $ANTLR start "KEYWORD_LIKE"
-	public final void mKEYWORD_LIKE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_LIKE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:13: ( L I K E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:15: L I K E
-			{
-			mL(); 
-
-			mI(); 
-
-			mK(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_LIKE"
-
-	// $ANTLR start "KEYWORD_SUM"
-	public final void mKEYWORD_SUM() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:21: ( S U M )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:23: S U M
-			{
-			mS(); 
-
-			mU(); 
-
-			mM(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_SUM"
-
-	// $ANTLR start "KEYWORD_MIN"
-	public final void mKEYWORD_MIN() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:21: ( M I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:23: M I N
-			{
-			mM(); 
-
-			mI(); 
-
-			mN(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_MIN"
-
-	// $ANTLR start "KEYWORD_MAX"
-	public final void mKEYWORD_MAX() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:21: ( M A X )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:23: M A X
-			{
-			mM(); 
-
-			mA(); 
-
-			mX(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_MAX"
-
-	// $ANTLR start "KEYWORD_AVG"
-	public final void mKEYWORD_AVG() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:21: ( A V G )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:23: A V G
-			{
-			mA(); 
-
-			mV(); 
-
-			mG(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_AVG"
-
-	// $ANTLR start "KEYWORD_COUNT"
-	public final void mKEYWORD_COUNT() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:23: ( C O U N T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:25: C O U N T
-			{
-			mC(); 
-
-			mO(); 
-
-			mU(); 
-
-			mN(); 
-
-			mT(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_COUNT"
-
-	// $ANTLR start "KEYWORD_DISTINCT"
-	public final void mKEYWORD_DISTINCT() throws RecognitionException {
-		try {
-			int _type = KEYWORD_DISTINCT;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:17: ( D I S T I N C T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:19: D I S T I N C T
-			{
-			mD(); 
-
-			mI(); 
-
-			mS(); 
-
-			mT(); 
-
-			mI(); 
-
-			mN(); 
-
-			mC(); 
-
-			mT(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_DISTINCT"
-
-	// $ANTLR start "KEYWORD_CONNECTION"
-	public final void mKEYWORD_CONNECTION() throws RecognitionException {
-		try {
-			int _type = KEYWORD_CONNECTION;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:19: ( C O N N E C T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:21: C O N N E C T I O N
-			{
-			mC(); 
-
-			mO(); 
-
-			mN(); 
-
-			mN(); 
-
-			mE(); 
-
-			mC(); 
-
-			mT(); 
-
-			mI(); 
-
-			mO(); 
-
-			mN(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_CONNECTION"
-
-	// $ANTLR start "KEYWORD_PARTITIONED"
-	public final void mKEYWORD_PARTITIONED() throws RecognitionException {
-		try {
-			int _type = KEYWORD_PARTITIONED;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:20: ( P A R T I O N E D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:22: P A R T I O N E D
-			{
-			mP(); 
-
-			mA(); 
-
-			mR(); 
-
-			mT(); 
-
-			mI(); 
-
-			mO(); 
-
-			mN(); 
-
-			mE(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_PARTITIONED"
-
-	// $ANTLR start "KEYWORD_REPLICATED"
-	public final void mKEYWORD_REPLICATED() throws RecognitionException {
-		try {
-			int _type = KEYWORD_REPLICATED;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:19: ( R E P L I C A T E D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:21: R E P L I C A T E D
-			{
-			mR(); 
-
-			mE(); 
-
-			mP(); 
-
-			mL(); 
-
-			mI(); 
-
-			mC(); 
-
-			mA(); 
-
-			mT(); 
-
-			mE(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_REPLICATED"
-
-	// $ANTLR start "KEYWORD_SCHEMA"
-	public final void mKEYWORD_SCHEMA() throws RecognitionException {
-		try {
-			int _type = KEYWORD_SCHEMA;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:15: ( S C H E M A )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:17: S C H E M A
-			{
-			mS(); 
-
-			mC(); 
-
-			mH(); 
-
-			mE(); 
-
-			mM(); 
-
-			mA(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_SCHEMA"
-
-	// $ANTLR start "KEYWORD_TABLE"
-	public final void mKEYWORD_TABLE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_TABLE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:14: ( T A B L E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:16: T A B L E
-			{
-			mT(); 
-
-			mA(); 
-
-			mB(); 
-
-			mL(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_TABLE"
-
-	// $ANTLR start "KEYWORD_FUNCTION"
-	public final void mKEYWORD_FUNCTION() throws RecognitionException {
-		try {
-			int _type = KEYWORD_FUNCTION;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:17: ( F U N C T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:19: F U N C T I O N
-			{
-			mF(); 
-
-			mU(); 
-
-			mN(); 
-
-			mC(); 
-
-			mT(); 
+    public static final int EOF=-1;
+    public static final int EQUAL1=4;
+    public static final int EQUAL2=5;
+    public static final int NOT_EQUAL1=6;
+    public static final int NOT_EQUAL2=7;
+    public static final int LESS_THAN=8;
+    public static final int LESS_EQUAL1=9;
+    public static final int LESS_EQUAL2=10;
+    public static final int GREATER_THAN=11;
+    public static final int GREATER_EQUAL1=12;
+    public static final int GREATER_EQUAL2=13;
+    public static final int SHIFT_LEFT=14;
+    public static final int SHIFT_RIGHT=15;
+    public static final int AMPERSAND=16;
+    public static final int HAT=17;
+    public static final int PIPE=18;
+    public static final int DOUBLE_PIPE=19;
+    public static final int DIV=20;
+    public static final int MULT=21;
+    public static final int PLUS=22;
+    public static final int MINUS=23;
+    public static final int TILDE=24;
+    public static final int BACKSLASH=25;
+    public static final int MOD=26;
+    public static final int SEMI=27;
+    public static final int DOT=28;
+    public static final int COMMA=29;
+    public static final int LPAREN=30;
+    public static final int RPAREN=31;
+    public static final int QUESTION=32;
+    public static final int AT=33;
+    public static final int DOLLAR=34;
+    public static final int QUOTE_DOUBLE=35;
+    public static final int QUOTE_TRIPLE=36;
+    public static final int QUOTE_SINGLE=37;
+    public static final int APOSTROPHE=38;
+    public static final int LBRACKET=39;
+    public static final int RBRACKET=40;
+    public static final int UNDERSCORE=41;
+    public static final int COLON=42;
+    public static final int KEYWORD_CREATE=43;
+    public static final int KEYWORD_SCHEMA=44;
+    public static final int KEYWORD_DROP=45;
+    public static final int KEYWORD_CONNECTION=46;
+    public static final int KEYWORD_URL=47;
+    public static final int KEYWORD_USER=48;
+    public static final int KEYWORD_PASSWD=49;
+    public static final int KEYWORD_STORE=50;
+    public static final int KEYWORD_TABLE=51;
+    public static final int KEYWORD_IN=52;
+    public static final int KEYWORD_REPLICATED=53;
+    public static final int KEYWORD_PARTITIONED=54;
+    public static final int KEYWORD_BY=55;
+    public static final int KEYWORD_REFERENCES=56;
+    public static final int KEYWORD_ANALYZE=57;
+    public static final int KEYWORD_FUNCTION=58;
+    public static final int KEYWORD_OUT=59;
+    public static final int KEYWORD_BEGIN=60;
+    public static final int KEYWORD_END=61;
+    public static final int KEYWORD_CALL=62;
+    public static final int KEYWORD_SELECT=63;
+    public static final int KEYWORD_AS=64;
+    public static final int KEYWORD_FROM=65;
+    public static final int KEYWORD_WHERE=66;
+    public static final int KEYWORD_GROUP=67;
+    public static final int KEYWORD_HAVING=68;
+    public static final int KEYWORD_ORDER=69;
+    public static final int KEYWORD_ASC=70;
+    public static final int KEYWORD_DESC=71;
+    public static final int KEYWORD_LIMIT=72;
+    public static final int KEYWORD_LOAD=73;
+    public static final int KEYWORD_DATA=74;
+    public static final int KEYWORD_INFILE=75;
+    public static final int KEYWORD_INTO=76;
+    public static final int KEYWORD_PARTITION=77;
+    public static final int KEYWORD_OR=78;
+    public static final int KEYWORD_AND=79;
+    public static final int KEYWORD_NOT=80;
+    public static final int FUNCTION_AGGREGATION=81;
+    public static final int KEYWORD_DISTINCT=82;
+    public static final int KEYWORD_VAR=83;
+    public static final int TYPE_VARCHAR=84;
+    public static final int TYPE_INTEGER=85;
+    public static final int TYPE_DECIMAL=86;
+    public static final int TYPE_DATE=87;
+    public static final int LITERAL_STRING=88;
+    public static final int LITERAL_INTEGER=89;
+    public static final int LITERAL_DECIMAL=90;
+    public static final int IDENTIFIER=91;
+    public static final int KEYWORD_LIKE=92;
+    public static final int KEYWORD_SUM=93;
+    public static final int KEYWORD_MIN=94;
+    public static final int KEYWORD_MAX=95;
+    public static final int KEYWORD_AVG=96;
+    public static final int KEYWORD_COUNT=97;
+    public static final int P=98;
+    public static final int A=99;
+    public static final int R=100;
+    public static final int T=101;
+    public static final int I=102;
+    public static final int O=103;
+    public static final int N=104;
+    public static final int E=105;
+    public static final int F=106;
+    public static final int C=107;
+    public static final int S=108;
+    public static final int L=109;
+    public static final int D=110;
+    public static final int Y=111;
+    public static final int Z=112;
+    public static final int M=113;
+    public static final int W=114;
+    public static final int H=115;
+    public static final int V=116;
+    public static final int G=117;
+    public static final int U=118;
+    public static final int B=119;
+    public static final int K=120;
+    public static final int X=121;
+    public static final int QUOTED_STRING=122;
+    public static final int DIGIT=123;
+    public static final int CHAR=124;
+    public static final int WS=125;
+    public static final int CONTROL_CHAR=126;
+    public static final int IGNORE_CHAR=127;
+    public static final int J=128;
+    public static final int Q=129;
+
+        @Override
+        public void reportError(RecognitionException e) {
+            throw new RuntimeException(e);
+        }
+
+
+    // delegates
+    // delegators
+
+    public FunSQLLexer() {;} 
+    public FunSQLLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public FunSQLLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+
+    }
+    public String getGrammarFileName() { return "FunSQL.g"; }
+
+    // $ANTLR start "EQUAL1"
+    public final void mEQUAL1() throws RecognitionException {
+        try {
+            int _type = EQUAL1;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:13:8: ( '=' )
+            // FunSQL.g:13:10: '='
+            {
+            match('='); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "EQUAL1"
+
+    // $ANTLR start "EQUAL2"
+    public final void mEQUAL2() throws RecognitionException {
+        try {
+            int _type = EQUAL2;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:14:8: ( '==' )
+            // FunSQL.g:14:10: '=='
+            {
+            match("=="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "EQUAL2"
+
+    // $ANTLR start "NOT_EQUAL1"
+    public final void mNOT_EQUAL1() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL1;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:15:12: ( '!=' )
+            // FunSQL.g:15:14: '!='
+            {
+            match("!="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NOT_EQUAL1"
+
+    // $ANTLR start "NOT_EQUAL2"
+    public final void mNOT_EQUAL2() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL2;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:16:12: ( '<>' )
+            // FunSQL.g:16:14: '<>'
+            {
+            match("<>"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NOT_EQUAL2"
+
+    // $ANTLR start "LESS_THAN"
+    public final void mLESS_THAN() throws RecognitionException {
+        try {
+            int _type = LESS_THAN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:17:11: ( '<' )
+            // FunSQL.g:17:13: '<'
+            {
+            match('<'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LESS_THAN"
+
+    // $ANTLR start "LESS_EQUAL1"
+    public final void mLESS_EQUAL1() throws RecognitionException {
+        try {
+            int _type = LESS_EQUAL1;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:18:13: ( '<=' )
+            // FunSQL.g:18:15: '<='
+            {
+            match("<="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LESS_EQUAL1"
+
+    // $ANTLR start "LESS_EQUAL2"
+    public final void mLESS_EQUAL2() throws RecognitionException {
+        try {
+            int _type = LESS_EQUAL2;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:19:13: ( '!>' )
+            // FunSQL.g:19:15: '!>'
+            {
+            match("!>"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LESS_EQUAL2"
+
+    // $ANTLR start "GREATER_THAN"
+    public final void mGREATER_THAN() throws RecognitionException {
+        try {
+            int _type = GREATER_THAN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:20:14: ( '>' )
+            // FunSQL.g:20:16: '>'
+            {
+            match('>'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GREATER_THAN"
+
+    // $ANTLR start "GREATER_EQUAL1"
+    public final void mGREATER_EQUAL1() throws RecognitionException {
+        try {
+            int _type = GREATER_EQUAL1;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:21:16: ( '>=' )
+            // FunSQL.g:21:18: '>='
+            {
+            match(">="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GREATER_EQUAL1"
+
+    // $ANTLR start "GREATER_EQUAL2"
+    public final void mGREATER_EQUAL2() throws RecognitionException {
+        try {
+            int _type = GREATER_EQUAL2;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:22:16: ( '!<' )
+            // FunSQL.g:22:18: '!<'
+            {
+            match("!<"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GREATER_EQUAL2"
+
+    // $ANTLR start "SHIFT_LEFT"
+    public final void mSHIFT_LEFT() throws RecognitionException {
+        try {
+            int _type = SHIFT_LEFT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:23:12: ( '<<' )
+            // FunSQL.g:23:14: '<<'
+            {
+            match("<<"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SHIFT_LEFT"
+
+    // $ANTLR start "SHIFT_RIGHT"
+    public final void mSHIFT_RIGHT() throws RecognitionException {
+        try {
+            int _type = SHIFT_RIGHT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:24:13: ( '>>' )
+            // FunSQL.g:24:15: '>>'
+            {
+            match(">>"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SHIFT_RIGHT"
+
+    // $ANTLR start "AMPERSAND"
+    public final void mAMPERSAND() throws RecognitionException {
+        try {
+            int _type = AMPERSAND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:25:11: ( '&' )
+            // FunSQL.g:25:13: '&'
+            {
+            match('&'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AMPERSAND"
+
+    // $ANTLR start "HAT"
+    public final void mHAT() throws RecognitionException {
+        try {
+            int _type = HAT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:26:5: ( '^' )
+            // FunSQL.g:26:7: '^'
+            {
+            match('^'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "HAT"
+
+    // $ANTLR start "PIPE"
+    public final void mPIPE() throws RecognitionException {
+        try {
+            int _type = PIPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:27:6: ( '|' )
+            // FunSQL.g:27:8: '|'
+            {
+            match('|'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PIPE"
+
+    // $ANTLR start "DOUBLE_PIPE"
+    public final void mDOUBLE_PIPE() throws RecognitionException {
+        try {
+            int _type = DOUBLE_PIPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:28:13: ( '||' )
+            // FunSQL.g:28:15: '||'
+            {
+            match("||"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOUBLE_PIPE"
+
+    // $ANTLR start "DIV"
+    public final void mDIV() throws RecognitionException {
+        try {
+            int _type = DIV;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:29:5: ( '/' )
+            // FunSQL.g:29:7: '/'
+            {
+            match('/'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DIV"
+
+    // $ANTLR start "MULT"
+    public final void mMULT() throws RecognitionException {
+        try {
+            int _type = MULT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:30:6: ( '*' )
+            // FunSQL.g:30:8: '*'
+            {
+            match('*'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "MULT"
+
+    // $ANTLR start "PLUS"
+    public final void mPLUS() throws RecognitionException {
+        try {
+            int _type = PLUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:31:6: ( '+' )
+            // FunSQL.g:31:8: '+'
+            {
+            match('+'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PLUS"
+
+    // $ANTLR start "MINUS"
+    public final void mMINUS() throws RecognitionException {
+        try {
+            int _type = MINUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:32:7: ( '-' )
+            // FunSQL.g:32:9: '-'
+            {
+            match('-'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "MINUS"
+
+    // $ANTLR start "TILDE"
+    public final void mTILDE() throws RecognitionException {
+        try {
+            int _type = TILDE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:33:7: ( '~' )
+            // FunSQL.g:33:9: '~'
+            {
+            match('~'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TILDE"
+
+    // $ANTLR start "BACKSLASH"
+    public final void mBACKSLASH() throws RecognitionException {
+        try {
+            int _type = BACKSLASH;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:34:11: ( '\\\\' )
+            // FunSQL.g:34:13: '\\\\'
+            {
+            match('\\'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "BACKSLASH"
+
+    // $ANTLR start "MOD"
+    public final void mMOD() throws RecognitionException {
+        try {
+            int _type = MOD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:35:5: ( '%' )
+            // FunSQL.g:35:7: '%'
+            {
+            match('%'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "MOD"
+
+    // $ANTLR start "SEMI"
+    public final void mSEMI() throws RecognitionException {
+        try {
+            int _type = SEMI;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:36:6: ( ';' )
+            // FunSQL.g:36:8: ';'
+            {
+            match(';'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SEMI"
+
+    // $ANTLR start "DOT"
+    public final void mDOT() throws RecognitionException {
+        try {
+            int _type = DOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:37:5: ( '.' )
+            // FunSQL.g:37:7: '.'
+            {
+            match('.'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOT"
+
+    // $ANTLR start "COMMA"
+    public final void mCOMMA() throws RecognitionException {
+        try {
+            int _type = COMMA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:38:7: ( ',' )
+            // FunSQL.g:38:9: ','
+            {
+            match(','); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COMMA"
+
+    // $ANTLR start "LPAREN"
+    public final void mLPAREN() throws RecognitionException {
+        try {
+            int _type = LPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:39:8: ( '(' )
+            // FunSQL.g:39:10: '('
+            {
+            match('('); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LPAREN"
+
+    // $ANTLR start "RPAREN"
+    public final void mRPAREN() throws RecognitionException {
+        try {
+            int _type = RPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:40:8: ( ')' )
+            // FunSQL.g:40:10: ')'
+            {
+            match(')'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RPAREN"
+
+    // $ANTLR start "QUESTION"
+    public final void mQUESTION() throws RecognitionException {
+        try {
+            int _type = QUESTION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:41:10: ( '?' )
+            // FunSQL.g:41:12: '?'
+            {
+            match('?'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "QUESTION"
+
+    // $ANTLR start "AT"
+    public final void mAT() throws RecognitionException {
+        try {
+            int _type = AT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:42:4: ( '@' )
+            // FunSQL.g:42:6: '@'
+            {
+            match('@'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AT"
+
+    // $ANTLR start "DOLLAR"
+    public final void mDOLLAR() throws RecognitionException {
+        try {
+            int _type = DOLLAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:43:8: ( '$' )
+            // FunSQL.g:43:10: '$'
+            {
+            match('$'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOLLAR"
+
+    // $ANTLR start "QUOTE_DOUBLE"
+    public final void mQUOTE_DOUBLE() throws RecognitionException {
+        try {
+            int _type = QUOTE_DOUBLE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:44:14: ( '\"' )
+            // FunSQL.g:44:16: '\"'
+            {
+            match('\"'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "QUOTE_DOUBLE"
+
+    // $ANTLR start "QUOTE_TRIPLE"
+    public final void mQUOTE_TRIPLE() throws RecognitionException {
+        try {
+            int _type = QUOTE_TRIPLE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:45:14: ( '\\'\\'\\'' )
+            // FunSQL.g:45:16: '\\'\\'\\''
+            {
+            match("'''"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "QUOTE_TRIPLE"
+
+    // $ANTLR start "QUOTE_SINGLE"
+    public final void mQUOTE_SINGLE() throws RecognitionException {
+        try {
+            int _type = QUOTE_SINGLE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:46:14: ( '\\'' )
+            // FunSQL.g:46:16: '\\''
+            {
+            match('\''); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "QUOTE_SINGLE"
+
+    // $ANTLR start "APOSTROPHE"
+    public final void mAPOSTROPHE() throws RecognitionException {
+        try {
+            int _type = APOSTROPHE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:47:12: ( '`' )
+            // FunSQL.g:47:14: '`'
+            {
+            match('`'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "APOSTROPHE"
+
+    // $ANTLR start "LBRACKET"
+    public final void mLBRACKET() throws RecognitionException {
+        try {
+            int _type = LBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:48:10: ( '[' )
+            // FunSQL.g:48:12: '['
+            {
+            match('['); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LBRACKET"
+
+    // $ANTLR start "RBRACKET"
+    public final void mRBRACKET() throws RecognitionException {
+        try {
+            int _type = RBRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:49:10: ( ']' )
+            // FunSQL.g:49:12: ']'
+            {
+            match(']'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RBRACKET"
+
+    // $ANTLR start "UNDERSCORE"
+    public final void mUNDERSCORE() throws RecognitionException {
+        try {
+            int _type = UNDERSCORE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:50:12: ( '_' )
+            // FunSQL.g:50:14: '_'
+            {
+            match('_'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "UNDERSCORE"
+
+    // $ANTLR start "COLON"
+    public final void mCOLON() throws RecognitionException {
+        try {
+            int _type = COLON;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:51:7: ( ':' )
+            // FunSQL.g:51:9: ':'
+            {
+            match(':'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COLON"
+
+    // $ANTLR start "FUNCTION_AGGREGATION"
+    public final void mFUNCTION_AGGREGATION() throws RecognitionException {
+        try {
+            int _type = FUNCTION_AGGREGATION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1350:2: ( ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT ) )
+            // FunSQL.g:1351:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
+            {
+            // FunSQL.g:1351:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
+            int alt1=5;
+            switch ( input.LA(1) ) {
+            case 'S':
+            case 's':
+                {
+                alt1=1;
+                }
+                break;
+            case 'M':
+            case 'm':
+                {
+                int LA1_2 = input.LA(2);
+
+                if ( (LA1_2=='I'||LA1_2=='i') ) {
+                    alt1=2;
+                }
+                else if ( (LA1_2=='A'||LA1_2=='a') ) {
+                    alt1=3;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 1, 2, input);
+
+                    throw nvae;
+                }
+                }
+                break;
+            case 'A':
+            case 'a':
+                {
+                alt1=4;
+                }
+                break;
+            case 'C':
+            case 'c':
+                {
+                alt1=5;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 1, 0, input);
+
+                throw nvae;
+            }
+
+            switch (alt1) {
+                case 1 :
+                    // FunSQL.g:1351:3: KEYWORD_SUM
+                    {
+                    mKEYWORD_SUM(); 
+
+                    }
+                    break;
+                case 2 :
+                    // FunSQL.g:1351:15: KEYWORD_MIN
+                    {
+                    mKEYWORD_MIN(); 
+
+                    }
+                    break;
+                case 3 :
+                    // FunSQL.g:1351:27: KEYWORD_MAX
+                    {
+                    mKEYWORD_MAX(); 
+
+                    }
+                    break;
+                case 4 :
+                    // FunSQL.g:1351:39: KEYWORD_AVG
+                    {
+                    mKEYWORD_AVG(); 
+
+                    }
+                    break;
+                case 5 :
+                    // FunSQL.g:1351:51: KEYWORD_COUNT
+                    {
+                    mKEYWORD_COUNT(); 
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "FUNCTION_AGGREGATION"
+
+    // $ANTLR start "KEYWORD_PARTITION"
+    public final void mKEYWORD_PARTITION() throws RecognitionException {
+        try {
+            int _type = KEYWORD_PARTITION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1354:18: ( P A R T I T I O N )
+            // FunSQL.g:1354:20: P A R T I T I O N
+            {
+            mP(); 
+            mA(); 
+            mR(); 
+            mT(); 
+            mI(); 
+            mT(); 
+            mI(); 
+            mO(); 
+            mN(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_PARTITION"
+
+    // $ANTLR start "KEYWORD_REFERENCES"
+    public final void mKEYWORD_REFERENCES() throws RecognitionException {
+        try {
+            int _type = KEYWORD_REFERENCES;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1355:19: ( R E F E R E N C E S )
+            // FunSQL.g:1355:21: R E F E R E N C E S
+            {
+            mR(); 
+            mE(); 
+            mF(); 
+            mE(); 
+            mR(); 
+            mE(); 
+            mN(); 
+            mC(); 
+            mE(); 
+            mS(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_REFERENCES"
+
+    // $ANTLR start "KEYWORD_INTO"
+    public final void mKEYWORD_INTO() throws RecognitionException {
+        try {
+            int _type = KEYWORD_INTO;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1356:13: ( I N T O )
+            // FunSQL.g:1356:15: I N T O
+            {
+            mI(); 
+            mN(); 
+            mT(); 
+            mO(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_INTO"
+
+    // $ANTLR start "KEYWORD_INFILE"
+    public final void mKEYWORD_INFILE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_INFILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1357:15: ( I N F I L E )
+            // FunSQL.g:1357:17: I N F I L E
+            {
+            mI(); 
+            mN(); 
+            mF(); 
+            mI(); 
+            mL(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_INFILE"
+
+    // $ANTLR start "KEYWORD_DATA"
+    public final void mKEYWORD_DATA() throws RecognitionException {
+        try {
+            int _type = KEYWORD_DATA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1358:13: ( D A T A )
+            // FunSQL.g:1358:15: D A T A
+            {
+            mD(); 
+            mA(); 
+            mT(); 
+            mA(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_DATA"
+
+    // $ANTLR start "KEYWORD_LOAD"
+    public final void mKEYWORD_LOAD() throws RecognitionException {
+        try {
+            int _type = KEYWORD_LOAD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1359:13: ( L O A D )
+            // FunSQL.g:1359:15: L O A D
+            {
+            mL(); 
+            mO(); 
+            mA(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_LOAD"
+
+    // $ANTLR start "KEYWORD_ANALYZE"
+    public final void mKEYWORD_ANALYZE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_ANALYZE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1360:16: ( A N A L Y Z E )
+            // FunSQL.g:1360:18: A N A L Y Z E
+            {
+            mA(); 
+            mN(); 
+            mA(); 
+            mL(); 
+            mY(); 
+            mZ(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_ANALYZE"
+
+    // $ANTLR start "KEYWORD_CALL"
+    public final void mKEYWORD_CALL() throws RecognitionException {
+        try {
+            int _type = KEYWORD_CALL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1361:13: ( C A L L )
+            // FunSQL.g:1361:15: C A L L
+            {
+            mC(); 
+            mA(); 
+            mL(); 
+            mL(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_CALL"
+
+    // $ANTLR start "KEYWORD_CREATE"
+    public final void mKEYWORD_CREATE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_CREATE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1362:15: ( C R E A T E )
+            // FunSQL.g:1362:17: C R E A T E
+            {
+            mC(); 
+            mR(); 
+            mE(); 
+            mA(); 
+            mT(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_CREATE"
+
+    // $ANTLR start "KEYWORD_DROP"
+    public final void mKEYWORD_DROP() throws RecognitionException {
+        try {
+            int _type = KEYWORD_DROP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1363:13: ( D R O P )
+            // FunSQL.g:1363:15: D R O P
+            {
+            mD(); 
+            mR(); 
+            mO(); 
+            mP(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_DROP"
+
+    // $ANTLR start "KEYWORD_SELECT"
+    public final void mKEYWORD_SELECT() throws RecognitionException {
+        try {
+            int _type = KEYWORD_SELECT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1364:15: ( S E L E C T )
+            // FunSQL.g:1364:17: S E L E C T
+            {
+            mS(); 
+            mE(); 
+            mL(); 
+            mE(); 
+            mC(); 
+            mT(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_SELECT"
+
+    // $ANTLR start "KEYWORD_FROM"
+    public final void mKEYWORD_FROM() throws RecognitionException {
+        try {
+            int _type = KEYWORD_FROM;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1365:13: ( F R O M )
+            // FunSQL.g:1365:15: F R O M
+            {
+            mF(); 
+            mR(); 
+            mO(); 
+            mM(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_FROM"
+
+    // $ANTLR start "KEYWORD_WHERE"
+    public final void mKEYWORD_WHERE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_WHERE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1366:14: ( W H E R E )
+            // FunSQL.g:1366:16: W H E R E
+            {
+            mW(); 
+            mH(); 
+            mE(); 
+            mR(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_WHERE"
+
+    // $ANTLR start "KEYWORD_HAVING"
+    public final void mKEYWORD_HAVING() throws RecognitionException {
+        try {
+            int _type = KEYWORD_HAVING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1367:15: ( H A V I N G )
+            // FunSQL.g:1367:17: H A V I N G
+            {
+            mH(); 
+            mA(); 
+            mV(); 
+            mI(); 
+            mN(); 
+            mG(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_HAVING"
+
+    // $ANTLR start "KEYWORD_GROUP"
+    public final void mKEYWORD_GROUP() throws RecognitionException {
+        try {
+            int _type = KEYWORD_GROUP;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1368:14: ( G R O U P )
+            // FunSQL.g:1368:16: G R O U P
+            {
+            mG(); 
+            mR(); 
+            mO(); 
+            mU(); 
+            mP(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_GROUP"
+
+    // $ANTLR start "KEYWORD_BY"
+    public final void mKEYWORD_BY() throws RecognitionException {
+        try {
+            int _type = KEYWORD_BY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1369:11: ( B Y )
+            // FunSQL.g:1369:13: B Y
+            {
+            mB(); 
+            mY(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_BY"
+
+    // $ANTLR start "KEYWORD_ORDER"
+    public final void mKEYWORD_ORDER() throws RecognitionException {
+        try {
+            int _type = KEYWORD_ORDER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1370:14: ( O R D E R )
+            // FunSQL.g:1370:16: O R D E R
+            {
+            mO(); 
+            mR(); 
+            mD(); 
+            mE(); 
+            mR(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_ORDER"
+
+    // $ANTLR start "KEYWORD_ASC"
+    public final void mKEYWORD_ASC() throws RecognitionException {
+        try {
+            int _type = KEYWORD_ASC;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1371:12: ( A S C )
+            // FunSQL.g:1371:14: A S C
+            {
+            mA(); 
+            mS(); 
+            mC(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_ASC"
+
+    // $ANTLR start "KEYWORD_DESC"
+    public final void mKEYWORD_DESC() throws RecognitionException {
+        try {
+            int _type = KEYWORD_DESC;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1372:13: ( D E S C )
+            // FunSQL.g:1372:15: D E S C
+            {
+            mD(); 
+            mE(); 
+            mS(); 
+            mC(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_DESC"
+
+    // $ANTLR start "KEYWORD_LIMIT"
+    public final void mKEYWORD_LIMIT() throws RecognitionException {
+        try {
+            int _type = KEYWORD_LIMIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1373:14: ( L I M I T )
+            // FunSQL.g:1373:16: L I M I T
+            {
+            mL(); 
+            mI(); 
+            mM(); 
+            mI(); 
+            mT(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_LIMIT"
+
+    // $ANTLR start "KEYWORD_IN"
+    public final void mKEYWORD_IN() throws RecognitionException {
+        try {
+            int _type = KEYWORD_IN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1374:11: ( I N )
+            // FunSQL.g:1374:13: I N
+            {
+            mI(); 
+            mN(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_IN"
+
+    // $ANTLR start "KEYWORD_OUT"
+    public final void mKEYWORD_OUT() throws RecognitionException {
+        try {
+            int _type = KEYWORD_OUT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1375:12: ( O U T )
+            // FunSQL.g:1375:14: O U T
+            {
+            mO(); 
+            mU(); 
+            mT(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_OUT"
+
+    // $ANTLR start "KEYWORD_AND"
+    public final void mKEYWORD_AND() throws RecognitionException {
+        try {
+            int _type = KEYWORD_AND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1376:12: ( A N D )
+            // FunSQL.g:1376:14: A N D
+            {
+            mA(); 
+            mN(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_AND"
+
+    // $ANTLR start "KEYWORD_OR"
+    public final void mKEYWORD_OR() throws RecognitionException {
+        try {
+            int _type = KEYWORD_OR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1377:11: ( O R )
+            // FunSQL.g:1377:13: O R
+            {
+            mO(); 
+            mR(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_OR"
+
+    // $ANTLR start "KEYWORD_NOT"
+    public final void mKEYWORD_NOT() throws RecognitionException {
+        try {
+            int _type = KEYWORD_NOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1378:12: ( N O T )
+            // FunSQL.g:1378:14: N O T
+            {
+            mN(); 
+            mO(); 
+            mT(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_NOT"
+
+    // $ANTLR start "KEYWORD_AS"
+    public final void mKEYWORD_AS() throws RecognitionException {
+        try {
+            int _type = KEYWORD_AS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1379:11: ( A S )
+            // FunSQL.g:1379:13: A S
+            {
+            mA(); 
+            mS(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_AS"
+
+    // $ANTLR start "KEYWORD_LIKE"
+    public final void mKEYWORD_LIKE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_LIKE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1380:13: ( L I K E )
+            // FunSQL.g:1380:15: L I K E
+            {
+            mL(); 
+            mI(); 
+            mK(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_LIKE"
+
+    // $ANTLR start "KEYWORD_SUM"
+    public final void mKEYWORD_SUM() throws RecognitionException {
+        try {
+            // FunSQL.g:1381:21: ( S U M )
+            // FunSQL.g:1381:23: S U M
+            {
+            mS(); 
+            mU(); 
+            mM(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_SUM"
+
+    // $ANTLR start "KEYWORD_MIN"
+    public final void mKEYWORD_MIN() throws RecognitionException {
+        try {
+            // FunSQL.g:1382:21: ( M I N )
+            // FunSQL.g:1382:23: M I N
+            {
+            mM(); 
+            mI(); 
+            mN(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_MIN"
+
+    // $ANTLR start "KEYWORD_MAX"
+    public final void mKEYWORD_MAX() throws RecognitionException {
+        try {
+            // FunSQL.g:1383:21: ( M A X )
+            // FunSQL.g:1383:23: M A X
+            {
+            mM(); 
+            mA(); 
+            mX(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_MAX"
+
+    // $ANTLR start "KEYWORD_AVG"
+    public final void mKEYWORD_AVG() throws RecognitionException {
+        try {
+            // FunSQL.g:1384:21: ( A V G )
+            // FunSQL.g:1384:23: A V G
+            {
+            mA(); 
+            mV(); 
+            mG(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_AVG"
+
+    // $ANTLR start "KEYWORD_COUNT"
+    public final void mKEYWORD_COUNT() throws RecognitionException {
+        try {
+            // FunSQL.g:1385:23: ( C O U N T )
+            // FunSQL.g:1385:25: C O U N T
+            {
+            mC(); 
+            mO(); 
+            mU(); 
+            mN(); 
+            mT(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_COUNT"
+
+    // $ANTLR start "KEYWORD_DISTINCT"
+    public final void mKEYWORD_DISTINCT() throws RecognitionException {
+        try {
+            int _type = KEYWORD_DISTINCT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1386:17: ( D I S T I N C T )
+            // FunSQL.g:1386:19: D I S T I N C T
+            {
+            mD(); 
+            mI(); 
+            mS(); 
+            mT(); 
+            mI(); 
+            mN(); 
+            mC(); 
+            mT(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_DISTINCT"
+
+    // $ANTLR start "KEYWORD_CONNECTION"
+    public final void mKEYWORD_CONNECTION() throws RecognitionException {
+        try {
+            int _type = KEYWORD_CONNECTION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1388:19: ( C O N N E C T I O N )
+            // FunSQL.g:1388:21: C O N N E C T I O N
+            {
+            mC(); 
+            mO(); 
+            mN(); 
+            mN(); 
+            mE(); 
+            mC(); 
+            mT(); 
+            mI(); 
+            mO(); 
+            mN(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_CONNECTION"
+
+    // $ANTLR start "KEYWORD_PARTITIONED"
+    public final void mKEYWORD_PARTITIONED() throws RecognitionException {
+        try {
+            int _type = KEYWORD_PARTITIONED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1389:20: ( P A R T I O N E D )
+            // FunSQL.g:1389:22: P A R T I O N E D
+            {
+            mP(); 
+            mA(); 
+            mR(); 
+            mT(); 
+            mI(); 
+            mO(); 
+            mN(); 
+            mE(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_PARTITIONED"
+
+    // $ANTLR start "KEYWORD_REPLICATED"
+    public final void mKEYWORD_REPLICATED() throws RecognitionException {
+        try {
+            int _type = KEYWORD_REPLICATED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1390:19: ( R E P L I C A T E D )
+            // FunSQL.g:1390:21: R E P L I C A T E D
+            {
+            mR(); 
+            mE(); 
+            mP(); 
+            mL(); 
+            mI(); 
+            mC(); 
+            mA(); 
+            mT(); 
+            mE(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_REPLICATED"
+
+    // $ANTLR start "KEYWORD_SCHEMA"
+    public final void mKEYWORD_SCHEMA() throws RecognitionException {
+        try {
+            int _type = KEYWORD_SCHEMA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1391:15: ( S C H E M A )
+            // FunSQL.g:1391:17: S C H E M A
+            {
+            mS(); 
+            mC(); 
+            mH(); 
+            mE(); 
+            mM(); 
+            mA(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_SCHEMA"
+
+    // $ANTLR start "KEYWORD_TABLE"
+    public final void mKEYWORD_TABLE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_TABLE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1392:14: ( T A B L E )
+            // FunSQL.g:1392:16: T A B L E
+            {
+            mT(); 
+            mA(); 
+            mB(); 
+            mL(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_TABLE"
+
+    // $ANTLR start "KEYWORD_FUNCTION"
+    public final void mKEYWORD_FUNCTION() throws RecognitionException {
+        try {
+            int _type = KEYWORD_FUNCTION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1393:17: ( F U N C T I O N )
+            // FunSQL.g:1393:19: F U N C T I O N
+            {
+            mF(); 
+            mU(); 
+            mN(); 
+            mC(); 
+            mT(); 
+            mI(); 
+            mO(); 
+            mN(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_FUNCTION"
+
+    // $ANTLR start "KEYWORD_BEGIN"
+    public final void mKEYWORD_BEGIN() throws RecognitionException {
+        try {
+            int _type = KEYWORD_BEGIN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1394:14: ( B E G I N )
+            // FunSQL.g:1394:16: B E G I N
+            {
+            mB(); 
+            mE(); 
+            mG(); 
+            mI(); 
+            mN(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_BEGIN"
+
+    // $ANTLR start "KEYWORD_END"
+    public final void mKEYWORD_END() throws RecognitionException {
+        try {
+            int _type = KEYWORD_END;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1395:12: ( E N D )
+            // FunSQL.g:1395:14: E N D
+            {
+            mE(); 
+            mN(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_END"
+
+    // $ANTLR start "KEYWORD_VAR"
+    public final void mKEYWORD_VAR() throws RecognitionException {
+        try {
+            int _type = KEYWORD_VAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1396:12: ( V A R )
+            // FunSQL.g:1396:14: V A R
+            {
+            mV(); 
+            mA(); 
+            mR(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_VAR"
+
+    // $ANTLR start "KEYWORD_URL"
+    public final void mKEYWORD_URL() throws RecognitionException {
+        try {
+            int _type = KEYWORD_URL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1398:12: ( U R L )
+            // FunSQL.g:1398:14: U R L
+            {
+            mU(); 
+            mR(); 
+            mL(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_URL"
+
+    // $ANTLR start "KEYWORD_USER"
+    public final void mKEYWORD_USER() throws RecognitionException {
+        try {
+            int _type = KEYWORD_USER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1399:13: ( U S E R )
+            // FunSQL.g:1399:15: U S E R
+            {
+            mU(); 
+            mS(); 
+            mE(); 
+            mR(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_USER"
+
+    // $ANTLR start "KEYWORD_PASSWD"
+    public final void mKEYWORD_PASSWD() throws RecognitionException {
+        try {
+            int _type = KEYWORD_PASSWD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1400:15: ( P A S S W O R D )
+            // FunSQL.g:1400:17: P A S S W O R D
+            {
+            mP(); 
+            mA(); 
+            mS(); 
+            mS(); 
+            mW(); 
+            mO(); 
+            mR(); 
+            mD(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_PASSWD"
+
+    // $ANTLR start "KEYWORD_STORE"
+    public final void mKEYWORD_STORE() throws RecognitionException {
+        try {
+            int _type = KEYWORD_STORE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1401:14: ( S T O R E )
+            // FunSQL.g:1401:16: S T O R E
+            {
+            mS(); 
+            mT(); 
+            mO(); 
+            mR(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "KEYWORD_STORE"
+
+    // $ANTLR start "TYPE_VARCHAR"
+    public final void mTYPE_VARCHAR() throws RecognitionException {
+        try {
+            int _type = TYPE_VARCHAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1403:13: ( V A R C H A R )
+            // FunSQL.g:1403:15: V A R C H A R
+            {
+            mV(); 
+            mA(); 
+            mR(); 
+            mC(); 
+            mH(); 
+            mA(); 
+            mR(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TYPE_VARCHAR"
+
+    // $ANTLR start "TYPE_INTEGER"
+    public final void mTYPE_INTEGER() throws RecognitionException {
+        try {
+            int _type = TYPE_INTEGER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1404:13: ( ( I N T | I N T E G E R ) )
+            // FunSQL.g:1404:15: ( I N T | I N T E G E R )
+            {
+            // FunSQL.g:1404:15: ( I N T | I N T E G E R )
+            int alt2=2;
+            int LA2_0 = input.LA(1);
+
+            if ( (LA2_0=='I'||LA2_0=='i') ) {
+                int LA2_1 = input.LA(2);
+
+                if ( (LA2_1=='N'||LA2_1=='n') ) {
+                    int LA2_2 = input.LA(3);
+
+                    if ( (LA2_2=='T'||LA2_2=='t') ) {
+                        int LA2_3 = input.LA(4);
+
+                        if ( (LA2_3=='E'||LA2_3=='e') ) {
+                            alt2=2;
+                        }
+                        else {
+                            alt2=1;}
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 2, 2, input);
+
+                        throw nvae;
+                    }
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 2, 1, input);
+
+                    throw nvae;
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 2, 0, input);
+
+                throw nvae;
+            }
+            switch (alt2) {
+                case 1 :
+                    // FunSQL.g:1404:16: I N T
+                    {
+                    mI(); 
+                    mN(); 
+                    mT(); 
+
+                    }
+                    break;
+                case 2 :
+                    // FunSQL.g:1404:24: I N T E G E R
+                    {
+                    mI(); 
+                    mN(); 
+                    mT(); 
+                    mE(); 
+                    mG(); 
+                    mE(); 
+                    mR(); 
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TYPE_INTEGER"
+
+    // $ANTLR start "TYPE_DECIMAL"
+    public final void mTYPE_DECIMAL() throws RecognitionException {
+        try {
+            int _type = TYPE_DECIMAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1405:13: ( D E C I M A L )
+            // FunSQL.g:1405:15: D E C I M A L
+            {
+            mD(); 
+            mE(); 
+            mC(); 
+            mI(); 
+            mM(); 
+            mA(); 
+            mL(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TYPE_DECIMAL"
+
+    // $ANTLR start "TYPE_DATE"
+    public final void mTYPE_DATE() throws RecognitionException {
+        try {
+            int _type = TYPE_DATE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1406:10: ( D A T E )
+            // FunSQL.g:1406:12: D A T E
+            {
+            mD(); 
+            mA(); 
+            mT(); 
+            mE(); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TYPE_DATE"
+
+    // $ANTLR start "LITERAL_STRING"
+    public final void mLITERAL_STRING() throws RecognitionException {
+        try {
+            int _type = LITERAL_STRING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1409:5: ( ( QUOTED_STRING ) )
+            // FunSQL.g:1410:5: ( QUOTED_STRING )
+            {
+            // FunSQL.g:1410:5: ( QUOTED_STRING )
+            // FunSQL.g:1410:6: QUOTED_STRING
+            {
+            mQUOTED_STRING(); 
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LITERAL_STRING"
+
+    // $ANTLR start "LITERAL_DECIMAL"
+    public final void mLITERAL_DECIMAL() throws RecognitionException {
+        try {
+            int _type = LITERAL_DECIMAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1414:5: ( ( DIGIT )+ DOT ( DIGIT )* )
+            // FunSQL.g:1415:5: ( DIGIT )+ DOT ( DIGIT )*
+            {
+            // FunSQL.g:1415:5: ( DIGIT )+
+            int cnt3=0;
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( ((LA3_0>='0' && LA3_0<='9')) ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // FunSQL.g:1415:6: DIGIT
+            	    {
+            	    mDIGIT(); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt3 >= 1 ) break loop3;
+                        EarlyExitException eee =
+                            new EarlyExitException(3, input);
+                        throw eee;
+                }
+                cnt3++;
+            } while (true);
+
+            mDOT(); 
+            // FunSQL.g:1415:18: ( DIGIT )*
+            loop4:
+            do {
+                int alt4=2;
+                int LA4_0 = input.LA(1);
+
+                if ( ((LA4_0>='0' && LA4_0<='9')) ) {
+                    alt4=1;
+                }
+
+
+                switch (alt4) {
+            	case 1 :
+            	    // FunSQL.g:1415:18: DIGIT
+            	    {
+            	    mDIGIT(); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop4;
+                }
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LITERAL_DECIMAL"
+
+    // $ANTLR start "LITERAL_INTEGER"
+    public final void mLITERAL_INTEGER() throws RecognitionException {
+        try {
+            int _type = LITERAL_INTEGER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1419:5: ( ( DIGIT )+ )
+            // FunSQL.g:1420:5: ( DIGIT )+
+            {
+            // FunSQL.g:1420:5: ( DIGIT )+
+            int cnt5=0;
+            loop5:
+            do {
+                int alt5=2;
+                int LA5_0 = input.LA(1);
+
+                if ( ((LA5_0>='0' && LA5_0<='9')) ) {
+                    alt5=1;
+                }
+
+
+                switch (alt5) {
+            	case 1 :
+            	    // FunSQL.g:1420:6: DIGIT
+            	    {
+            	    mDIGIT(); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt5 >= 1 ) break loop5;
+                        EarlyExitException eee =
+                            new EarlyExitException(5, input);
+                        throw eee;
+                }
+                cnt5++;
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LITERAL_INTEGER"
+
+    // $ANTLR start "IDENTIFIER"
+    public final void mIDENTIFIER() throws RecognitionException {
+        try {
+            int _type = IDENTIFIER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1424:5: ( ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* ) )
+            // FunSQL.g:1425:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
+            {
+            // FunSQL.g:1425:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
+            // FunSQL.g:1425:7: CHAR ( CHAR | DIGIT | '_' | '$' | '#' )*
+            {
+            mCHAR(); 
+            // FunSQL.g:1425:12: ( CHAR | DIGIT | '_' | '$' | '#' )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( ((LA6_0>='#' && LA6_0<='$')||(LA6_0>='0' && LA6_0<='9')||(LA6_0>='A' && LA6_0<='Z')||LA6_0=='_'||(LA6_0>='a' && LA6_0<='z')) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // FunSQL.g:
+            	    {
+            	    if ( (input.LA(1)>='#' && input.LA(1)<='$')||(input.LA(1)>='0' && input.LA(1)<='9')||(input.LA(1)>='A' && input.LA(1)<='Z')||input.LA(1)=='_'||(input.LA(1)>='a' && input.LA(1)<='z') ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IDENTIFIER"
+
+    // $ANTLR start "IGNORE_CHAR"
+    public final void mIGNORE_CHAR() throws RecognitionException {
+        try {
+            int _type = IGNORE_CHAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // FunSQL.g:1429:12: ( ( WS | CONTROL_CHAR ) )
+            // FunSQL.g:1429:14: ( WS | CONTROL_CHAR )
+            {
+            // FunSQL.g:1429:14: ( WS | CONTROL_CHAR )
+            int alt7=2;
+            int LA7_0 = input.LA(1);
+
+            if ( (LA7_0==' ') ) {
+                alt7=1;
+            }
+            else if ( ((LA7_0>='\t' && LA7_0<='\r')) ) {
+                alt7=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 7, 0, input);
+
+                throw nvae;
+            }
+            switch (alt7) {
+                case 1 :
+                    // FunSQL.g:1429:15: WS
+                    {
+                    mWS(); 
+
+                    }
+                    break;
+                case 2 :
+                    // FunSQL.g:1429:18: CONTROL_CHAR
+                    {
+                    mCONTROL_CHAR(); 
+
+                    }
+                    break;
+
+            }
+
+            _channel=HIDDEN;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IGNORE_CHAR"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            // FunSQL.g:1431:12: ( ( ' ' ) )
+            // FunSQL.g:1431:14: ( ' ' )
+            {
+            // FunSQL.g:1431:14: ( ' ' )
+            // FunSQL.g:1431:15: ' '
+            {
+            match(' '); 
+
+            }
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "WS"
+
+    // $ANTLR start "CONTROL_CHAR"
+    public final void mCONTROL_CHAR() throws RecognitionException {
+        try {
+            // FunSQL.g:1432:22: ( ( '\\r' | '\\t' | '\\u000B' | '\\f' | '\\n' ) )
+            // FunSQL.g:1432:24: ( '\\r' | '\\t' | '\\u000B' | '\\f' | '\\n' )
+            {
+            if ( (input.LA(1)>='\t' && input.LA(1)<='\r') ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CONTROL_CHAR"
+
+    // $ANTLR start "QUOTED_STRING"
+    public final void mQUOTED_STRING() throws RecognitionException {
+        try {
+            // FunSQL.g:1433:23: ( QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE )
+            // FunSQL.g:1433:25: QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE
+            {
+            mQUOTE_SINGLE(); 
+            // FunSQL.g:1433:38: (~ QUOTE_SINGLE )*
+            loop8:
+            do {
+                int alt8=2;
+                int LA8_0 = input.LA(1);
+
+                if ( ((LA8_0>='\u0000' && LA8_0<='&')||(LA8_0>='(' && LA8_0<='\uFFFF')) ) {
+                    alt8=1;
+                }
+
+
+                switch (alt8) {
+            	case 1 :
+            	    // FunSQL.g:1433:39: ~ QUOTE_SINGLE
+            	    {
+            	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='$')||(input.LA(1)>='&' && input.LA(1)<='\uFFFF') ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop8;
+                }
+            } while (true);
+
+            mQUOTE_SINGLE(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "QUOTED_STRING"
+
+    // $ANTLR start "DIGIT"
+    public final void mDIGIT() throws RecognitionException {
+        try {
+            // FunSQL.g:1434:17: ( '0' .. '9' )
+            // FunSQL.g:1434:19: '0' .. '9'
+            {
+            matchRange('0','9'); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DIGIT"
+
+    // $ANTLR start "CHAR"
+    public final void mCHAR() throws RecognitionException {
+        try {
+            // FunSQL.g:1435:15: ( ( 'A' .. 'Z' | 'a' .. 'z' ) )
+            // FunSQL.g:1435:17: ( 'A' .. 'Z' | 'a' .. 'z' )
+            {
+            if ( (input.LA(1)>='A' && input.LA(1)<='Z')||(input.LA(1)>='a' && input.LA(1)<='z') ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CHAR"
+
+    // $ANTLR start "A"
+    public final void mA() throws RecognitionException {
+        try {
+            // FunSQL.g:1437:11: ( ( 'a' | 'A' ) )
+            // FunSQL.g:1437:12: ( 'a' | 'A' )
+            {
+            if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "A"
+
+    // $ANTLR start "B"
+    public final void mB() throws RecognitionException {
+        try {
+            // FunSQL.g:1438:11: ( ( 'b' | 'B' ) )
+            // FunSQL.g:1438:12: ( 'b' | 'B' )
+            {
+            if ( input.LA(1)=='B'||input.LA(1)=='b' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "B"
+
+    // $ANTLR start "C"
+    public final void mC() throws RecognitionException {
+        try {
+            // FunSQL.g:1439:11: ( ( 'c' | 'C' ) )
+            // FunSQL.g:1439:12: ( 'c' | 'C' )
+            {
+            if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "C"
+
+    // $ANTLR start "D"
+    public final void mD() throws RecognitionException {
+        try {
+            // FunSQL.g:1440:11: ( ( 'd' | 'D' ) )
+            // FunSQL.g:1440:12: ( 'd' | 'D' )
+            {
+            if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "D"
+
+    // $ANTLR start "E"
+    public final void mE() throws RecognitionException {
+        try {
+            // FunSQL.g:1441:11: ( ( 'e' | 'E' ) )
+            // FunSQL.g:1441:12: ( 'e' | 'E' )
+            {
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "E"
+
+    // $ANTLR start "F"
+    public final void mF() throws RecognitionException {
+        try {
+            // FunSQL.g:1442:11: ( ( 'f' | 'F' ) )
+            // FunSQL.g:1442:12: ( 'f' | 'F' )
+            {
+            if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "F"
+
+    // $ANTLR start "G"
+    public final void mG() throws RecognitionException {
+        try {
+            // FunSQL.g:1443:11: ( ( 'g' | 'G' ) )
+            // FunSQL.g:1443:12: ( 'g' | 'G' )
+            {
+            if ( input.LA(1)=='G'||input.LA(1)=='g' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "G"
+
+    // $ANTLR start "H"
+    public final void mH() throws RecognitionException {
+        try {
+            // FunSQL.g:1444:11: ( ( 'h' | 'H' ) )
+            // FunSQL.g:1444:12: ( 'h' | 'H' )
+            {
+            if ( input.LA(1)=='H'||input.LA(1)=='h' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "H"
+
+    // $ANTLR start "I"
+    public final void mI() throws RecognitionException {
+        try {
+            // FunSQL.g:1445:11: ( ( 'i' | 'I' ) )
+            // FunSQL.g:1445:12: ( 'i' | 'I' )
+            {
+            if ( input.LA(1)=='I'||input.LA(1)=='i' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "I"
+
+    // $ANTLR start "J"
+    public final void mJ() throws RecognitionException {
+        try {
+            // FunSQL.g:1446:11: ( ( 'j' | 'J' ) )
+            // FunSQL.g:1446:12: ( 'j' | 'J' )
+            {
+            if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "J"
+
+    // $ANTLR start "K"
+    public final void mK() throws RecognitionException {
+        try {
+            // FunSQL.g:1447:11: ( ( 'k' | 'K' ) )
+            // FunSQL.g:1447:12: ( 'k' | 'K' )
+            {
+            if ( input.LA(1)=='K'||input.LA(1)=='k' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "K"
+
+    // $ANTLR start "L"
+    public final void mL() throws RecognitionException {
+        try {
+            // FunSQL.g:1448:11: ( ( 'l' | 'L' ) )
+            // FunSQL.g:1448:12: ( 'l' | 'L' )
+            {
+            if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "L"
+
+    // $ANTLR start "M"
+    public final void mM() throws RecognitionException {
+        try {
+            // FunSQL.g:1449:11: ( ( 'm' | 'M' ) )
+            // FunSQL.g:1449:12: ( 'm' | 'M' )
+            {
+            if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "M"
+
+    // $ANTLR start "N"
+    public final void mN() throws RecognitionException {
+        try {
+            // FunSQL.g:1450:11: ( ( 'n' | 'N' ) )
+            // FunSQL.g:1450:12: ( 'n' | 'N' )
+            {
+            if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "N"
+
+    // $ANTLR start "O"
+    public final void mO() throws RecognitionException {
+        try {
+            // FunSQL.g:1451:11: ( ( 'o' | 'O' ) )
+            // FunSQL.g:1451:12: ( 'o' | 'O' )
+            {
+            if ( input.LA(1)=='O'||input.LA(1)=='o' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "O"
+
+    // $ANTLR start "P"
+    public final void mP() throws RecognitionException {
+        try {
+            // FunSQL.g:1452:11: ( ( 'p' | 'P' ) )
+            // FunSQL.g:1452:12: ( 'p' | 'P' )
+            {
+            if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "P"
+
+    // $ANTLR start "Q"
+    public final void mQ() throws RecognitionException {
+        try {
+            // FunSQL.g:1453:11: ( ( 'q' | 'Q' ) )
+            // FunSQL.g:1453:12: ( 'q' | 'Q' )
+            {
+            if ( input.LA(1)=='Q'||input.LA(1)=='q' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "Q"
+
+    // $ANTLR start "R"
+    public final void mR() throws RecognitionException {
+        try {
+            // FunSQL.g:1454:11: ( ( 'r' | 'R' ) )
+            // FunSQL.g:1454:12: ( 'r' | 'R' )
+            {
+            if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "R"
+
+    // $ANTLR start "S"
+    public final void mS() throws RecognitionException {
+        try {
+            // FunSQL.g:1455:11: ( ( 's' | 'S' ) )
+            // FunSQL.g:1455:12: ( 's' | 'S' )
+            {
+            if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "S"
+
+    // $ANTLR start "T"
+    public final void mT() throws RecognitionException {
+        try {
+            // FunSQL.g:1456:11: ( ( 't' | 'T' ) )
+            // FunSQL.g:1456:12: ( 't' | 'T' )
+            {
+            if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "T"
+
+    // $ANTLR start "U"
+    public final void mU() throws RecognitionException {
+        try {
+            // FunSQL.g:1457:11: ( ( 'u' | 'U' ) )
+            // FunSQL.g:1457:12: ( 'u' | 'U' )
+            {
+            if ( input.LA(1)=='U'||input.LA(1)=='u' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "U"
+
+    // $ANTLR start "V"
+    public final void mV() throws RecognitionException {
+        try {
+            // FunSQL.g:1458:11: ( ( 'v' | 'V' ) )
+            // FunSQL.g:1458:12: ( 'v' | 'V' )
+            {
+            if ( input.LA(1)=='V'||input.LA(1)=='v' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "V"
+
+    // $ANTLR start "W"
+    public final void mW() throws RecognitionException {
+        try {
+            // FunSQL.g:1459:11: ( ( 'w' | 'W' ) )
+            // FunSQL.g:1459:12: ( 'w' | 'W' )
+            {
+            if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "W"
+
+    // $ANTLR start "X"
+    public final void mX() throws RecognitionException {
+        try {
+            // FunSQL.g:1460:11: ( ( 'x' | 'X' ) )
+            // FunSQL.g:1460:12: ( 'x' | 'X' )
+            {
+            if ( input.LA(1)=='X'||input.LA(1)=='x' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "X"
+
+    // $ANTLR start "Y"
+    public final void mY() throws RecognitionException {
+        try {
+            // FunSQL.g:1461:11: ( ( 'y' | 'Y' ) )
+            // FunSQL.g:1461:12: ( 'y' | 'Y' )
+            {
+            if ( input.LA(1)=='Y'||input.LA(1)=='y' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "Y"
+
+    // $ANTLR start "Z"
+    public final void mZ() throws RecognitionException {
+        try {
+            // FunSQL.g:1462:11: ( ( 'z' | 'Z' ) )
+            // FunSQL.g:1462:12: ( 'z' | 'Z' )
+            {
+            if ( input.LA(1)=='Z'||input.LA(1)=='z' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "Z"
+
+    public void mTokens() throws RecognitionException {
+        // FunSQL.g:1:8: ( EQUAL1 | EQUAL2 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_THAN | GREATER_EQUAL1 | GREATER_EQUAL2 | SHIFT_LEFT | SHIFT_RIGHT | AMPERSAND | HAT | PIPE | DOUBLE_PIPE | DIV | MULT | PLUS | MINUS | TILDE | BACKSLASH | MOD | SEMI | DOT | COMMA | LPAREN | RPAREN | QUESTION | AT | DOLLAR | QUOTE_DOUBLE | QUOTE_TRIPLE | QUOTE_SINGLE | APOSTROPHE | LBRACKET | RBRACKET | UNDERSCORE | COLON | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_ANALYZE | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_ORDER | KEYWORD_ASC | KEYWORD_DESC | KEYWORD_LIMIT | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR )
+        int alt9=90;
+        alt9 = dfa9.predict(input);
+        switch (alt9) {
+            case 1 :
+                // FunSQL.g:1:10: EQUAL1
+                {
+                mEQUAL1(); 
+
+                }
+                break;
+            case 2 :
+                // FunSQL.g:1:17: EQUAL2
+                {
+                mEQUAL2(); 
+
+                }
+                break;
+            case 3 :
+                // FunSQL.g:1:24: NOT_EQUAL1
+                {
+                mNOT_EQUAL1(); 
+
+                }
+                break;
+            case 4 :
+                // FunSQL.g:1:35: NOT_EQUAL2
+                {
+                mNOT_EQUAL2(); 
+
+                }
+                break;
+            case 5 :
+                // FunSQL.g:1:46: LESS_THAN
+                {
+                mLESS_THAN(); 
+
+                }
+                break;
+            case 6 :
+                // FunSQL.g:1:56: LESS_EQUAL1
+                {
+                mLESS_EQUAL1(); 
+
+                }
+                break;
+            case 7 :
+                // FunSQL.g:1:68: LESS_EQUAL2
+                {
+                mLESS_EQUAL2(); 
+
+                }
+                break;
+            case 8 :
+                // FunSQL.g:1:80: GREATER_THAN
+                {
+                mGREATER_THAN(); 
+
+                }
+                break;
+            case 9 :
+                // FunSQL.g:1:93: GREATER_EQUAL1
+                {
+                mGREATER_EQUAL1(); 
+
+                }
+                break;
+            case 10 :
+                // FunSQL.g:1:108: GREATER_EQUAL2
+                {
+                mGREATER_EQUAL2(); 
+
+                }
+                break;
+            case 11 :
+                // FunSQL.g:1:123: SHIFT_LEFT
+                {
+                mSHIFT_LEFT(); 
+
+                }
+                break;
+            case 12 :
+                // FunSQL.g:1:134: SHIFT_RIGHT
+                {
+                mSHIFT_RIGHT(); 
+
+                }
+                break;
+            case 13 :
+                // FunSQL.g:1:146: AMPERSAND
+                {
+                mAMPERSAND(); 
+
+                }
+                break;
+            case 14 :
+                // FunSQL.g:1:156: HAT
+                {
+                mHAT(); 
+
+                }
+                break;
+            case 15 :
+                // FunSQL.g:1:160: PIPE
+                {
+                mPIPE(); 
+
+                }
+                break;
+            case 16 :
+                // FunSQL.g:1:165: DOUBLE_PIPE
+                {
+                mDOUBLE_PIPE(); 
+
+                }
+                break;
+            case 17 :
+                // FunSQL.g:1:177: DIV
+                {
+                mDIV(); 
+
+                }
+                break;
+            case 18 :
+                // FunSQL.g:1:181: MULT
+                {
+                mMULT(); 
+
+                }
+                break;
+            case 19 :
+                // FunSQL.g:1:186: PLUS
+                {
+                mPLUS(); 
+
+                }
+                break;
+            case 20 :
+                // FunSQL.g:1:191: MINUS
+                {
+                mMINUS(); 
+
+                }
+                break;
+            case 21 :
+                // FunSQL.g:1:197: TILDE
+                {
+                mTILDE(); 
+
+                }
+                break;
+            case 22 :
+                // FunSQL.g:1:203: BACKSLASH
+                {
+                mBACKSLASH(); 
+
+                }
+                break;
+            case 23 :
+                // FunSQL.g:1:213: MOD
+                {
+                mMOD(); 
+
+                }
+                break;
+            case 24 :
+                // FunSQL.g:1:217: SEMI
+                {
+                mSEMI(); 
+
+                }
+                break;
+            case 25 :
+                // FunSQL.g:1:222: DOT
+                {
+                mDOT(); 
+
+                }
+                break;
+            case 26 :
+                // FunSQL.g:1:226: COMMA
+                {
+                mCOMMA(); 
+
+                }
+                break;
+            case 27 :
+                // FunSQL.g:1:232: LPAREN
+                {
+                mLPAREN(); 
+
+                }
+                break;
+            case 28 :
+                // FunSQL.g:1:239: RPAREN
+                {
+                mRPAREN(); 
+
+                }
+                break;
+            case 29 :
+                // FunSQL.g:1:246: QUESTION
+                {
+                mQUESTION(); 
+
+                }
+                break;
+            case 30 :
+                // FunSQL.g:1:255: AT
+                {
+                mAT(); 
+
+                }
+                break;
+            case 31 :
+                // FunSQL.g:1:258: DOLLAR
+                {
+                mDOLLAR(); 
+
+                }
+                break;
+            case 32 :
+                // FunSQL.g:1:265: QUOTE_DOUBLE
+                {
+                mQUOTE_DOUBLE(); 
+
+                }
+                break;
+            case 33 :
+                // FunSQL.g:1:278: QUOTE_TRIPLE
+                {
+                mQUOTE_TRIPLE(); 
+
+                }
+                break;
+            case 34 :
+                // FunSQL.g:1:291: QUOTE_SINGLE
+                {
+                mQUOTE_SINGLE(); 
+
+                }
+                break;
+            case 35 :
+                // FunSQL.g:1:304: APOSTROPHE
+                {
+                mAPOSTROPHE(); 
+
+                }
+                break;
+            case 36 :
+                // FunSQL.g:1:315: LBRACKET
+                {
+                mLBRACKET(); 
+
+                }
+                break;
+            case 37 :
+                // FunSQL.g:1:324: RBRACKET
+                {
+                mRBRACKET(); 
+
+                }
+                break;
+            case 38 :
+                // FunSQL.g:1:333: UNDERSCORE
+                {
+                mUNDERSCORE(); 
+
+                }
+                break;
+            case 39 :
+                // FunSQL.g:1:344: COLON
+                {
+                mCOLON(); 
+
+                }
+                break;
+            case 40 :
+                // FunSQL.g:1:350: FUNCTION_AGGREGATION
+                {
+                mFUNCTION_AGGREGATION(); 
+
+                }
+                break;
+            case 41 :
+                // FunSQL.g:1:371: KEYWORD_PARTITION
+                {
+                mKEYWORD_PARTITION(); 
+
+                }
+                break;
+            case 42 :
+                // FunSQL.g:1:389: KEYWORD_REFERENCES
+                {
+                mKEYWORD_REFERENCES(); 
+
+                }
+                break;
+            case 43 :
+                // FunSQL.g:1:408: KEYWORD_INTO
+                {
+                mKEYWORD_INTO(); 
+
+                }
+                break;
+            case 44 :
+                // FunSQL.g:1:421: KEYWORD_INFILE
+                {
+                mKEYWORD_INFILE(); 
+
+                }
+                break;
+            case 45 :
+                // FunSQL.g:1:436: KEYWORD_DATA
+                {
+                mKEYWORD_DATA(); 
+
+                }
+                break;
+            case 46 :
+                // FunSQL.g:1:449: KEYWORD_LOAD
+                {
+                mKEYWORD_LOAD(); 
+
+                }
+                break;
+            case 47 :
+                // FunSQL.g:1:462: KEYWORD_ANALYZE
+                {
+                mKEYWORD_ANALYZE(); 
+
+                }
+                break;
+            case 48 :
+                // FunSQL.g:1:478: KEYWORD_CALL
+                {
+                mKEYWORD_CALL(); 
+
+                }
+                break;
+            case 49 :
+                // FunSQL.g:1:491: KEYWORD_CREATE
+                {
+                mKEYWORD_CREATE(); 
+
+                }
+                break;
+            case 50 :
+                // FunSQL.g:1:506: KEYWORD_DROP
+                {
+                mKEYWORD_DROP(); 
+
+                }
+                break;
+            case 51 :
+                // FunSQL.g:1:519: KEYWORD_SELECT
+                {
+                mKEYWORD_SELECT(); 
+
+                }
+                break;
+            case 52 :
+                // FunSQL.g:1:534: KEYWORD_FROM
+                {
+                mKEYWORD_FROM(); 
+
+                }
+                break;
+            case 53 :
+                // FunSQL.g:1:547: KEYWORD_WHERE
+                {
+                mKEYWORD_WHERE(); 
+
+                }
+                break;
+            case 54 :
+                // FunSQL.g:1:561: KEYWORD_HAVING
+                {
+                mKEYWORD_HAVING(); 
+
+                }
+                break;
+            case 55 :
+                // FunSQL.g:1:576: KEYWORD_GROUP
+                {
+                mKEYWORD_GROUP(); 
+
+                }
+                break;
+            case 56 :
+                // FunSQL.g:1:590: KEYWORD_BY
+                {
+                mKEYWORD_BY(); 
+
+                }
+                break;
+            case 57 :
+                // FunSQL.g:1:601: KEYWORD_ORDER
+                {
+                mKEYWORD_ORDER(); 
+
+                }
+                break;
+            case 58 :
+                // FunSQL.g:1:615: KEYWORD_ASC
+                {
+                mKEYWORD_ASC(); 
+
+                }
+                break;
+            case 59 :
+                // FunSQL.g:1:627: KEYWORD_DESC
+                {
+                mKEYWORD_DESC(); 
+
+                }
+                break;
+            case 60 :
+                // FunSQL.g:1:640: KEYWORD_LIMIT
+                {
+                mKEYWORD_LIMIT(); 
+
+                }
+                break;
+            case 61 :
+                // FunSQL.g:1:654: KEYWORD_IN
+                {
+                mKEYWORD_IN(); 
+
+                }
+                break;
+            case 62 :
+                // FunSQL.g:1:665: KEYWORD_OUT
+                {
+                mKEYWORD_OUT(); 
+
+                }
+                break;
+            case 63 :
+                // FunSQL.g:1:677: KEYWORD_AND
+                {
+                mKEYWORD_AND(); 
+
+                }
+                break;
+            case 64 :
+                // FunSQL.g:1:689: KEYWORD_OR
+                {
+                mKEYWORD_OR(); 
+
+                }
+                break;
+            case 65 :
+                // FunSQL.g:1:700: KEYWORD_NOT
+                {
+                mKEYWORD_NOT(); 
+
+                }
+                break;
+            case 66 :
+                // FunSQL.g:1:712: KEYWORD_AS
+                {
+                mKEYWORD_AS(); 
+
+                }
+                break;
+            case 67 :
+                // FunSQL.g:1:723: KEYWORD_LIKE
+                {
+                mKEYWORD_LIKE(); 
+
+                }
+                break;
+            case 68 :
+                // FunSQL.g:1:736: KEYWORD_DISTINCT
+                {
+                mKEYWORD_DISTINCT(); 
+
+                }
+                break;
+            case 69 :
+                // FunSQL.g:1:753: KEYWORD_CONNECTION
+                {
+                mKEYWORD_CONNECTION(); 
+
+                }
+                break;
+            case 70 :
+                // FunSQL.g:1:772: KEYWORD_PARTITIONED
+                {
+                mKEYWORD_PARTITIONED(); 
+
+                }
+                break;
+            case 71 :
+                // FunSQL.g:1:792: KEYWORD_REPLICATED
+                {
+                mKEYWORD_REPLICATED(); 
+
+                }
+                break;
+            case 72 :
+                // FunSQL.g:1:811: KEYWORD_SCHEMA
+                {
+                mKEYWORD_SCHEMA(); 
+
+                }
+                break;
+            case 73 :
+                // FunSQL.g:1:826: KEYWORD_TABLE
+                {
+                mKEYWORD_TABLE(); 
+
+                }
+                break;
+            case 74 :
+                // FunSQL.g:1:840: KEYWORD_FUNCTION
+                {
+                mKEYWORD_FUNCTION(); 
+
+                }
+                break;
+            case 75 :
+                // FunSQL.g:1:857: KEYWORD_BEGIN
+                {
+                mKEYWORD_BEGIN(); 
+
+                }
+                break;
+            case 76 :
+                // FunSQL.g:1:871: KEYWORD_END
+                {
+                mKEYWORD_END(); 
+
+                }
+                break;
+            case 77 :
+                // FunSQL.g:1:883: KEYWORD_VAR
+                {
+                mKEYWORD_VAR(); 
+
+                }
+                break;
+            case 78 :
+                // FunSQL.g:1:895: KEYWORD_URL
+                {
+                mKEYWORD_URL(); 
+
+                }
+                break;
+            case 79 :
+                // FunSQL.g:1:907: KEYWORD_USER
+                {
+                mKEYWORD_USER(); 
+
+                }
+                break;
+            case 80 :
+                // FunSQL.g:1:920: KEYWORD_PASSWD
+                {
+                mKEYWORD_PASSWD(); 
+
+                }
+                break;
+            case 81 :
+                // FunSQL.g:1:935: KEYWORD_STORE
+                {
+                mKEYWORD_STORE(); 
+
+                }
+                break;
+            case 82 :
+                // FunSQL.g:1:949: TYPE_VARCHAR
+                {
+                mTYPE_VARCHAR(); 
+
+                }
+                break;
+            case 83 :
+                // FunSQL.g:1:962: TYPE_INTEGER
+                {
+                mTYPE_INTEGER(); 
+
+                }
+                break;
+            case 84 :
+                // FunSQL.g:1:975: TYPE_DECIMAL
+                {
+                mTYPE_DECIMAL(); 
+
+                }
+                break;
+            case 85 :
+                // FunSQL.g:1:988: TYPE_DATE
+                {
+                mTYPE_DATE(); 
+
+                }
+                break;
+            case 86 :
+                // FunSQL.g:1:998: LITERAL_STRING
+                {
+                mLITERAL_STRING(); 
+
+                }
+                break;
+            case 87 :
+                // FunSQL.g:1:1013: LITERAL_DECIMAL
+                {
+                mLITERAL_DECIMAL(); 
+
+                }
+                break;
+            case 88 :
+                // FunSQL.g:1:1029: LITERAL_INTEGER
+                {
+                mLITERAL_INTEGER(); 
+
+                }
+                break;
+            case 89 :
+                // FunSQL.g:1:1045: IDENTIFIER
+                {
+                mIDENTIFIER(); 
+
+                }
+                break;
+            case 90 :
+                // FunSQL.g:1:1056: IGNORE_CHAR
+                {
+                mIGNORE_CHAR(); 
+
+                }
+                break;
+
+        }
+
+    }
+
+
+    protected DFA9 dfa9 = new DFA9(this);
+    static final String DFA9_eotS =
+        "\1\uffff\1\66\1\uffff\1\75\1\100\2\uffff\1\102\20\uffff\1\104\5"+
+        "\uffff\24\63\1\152\20\uffff\1\105\2\uffff\10\63\1\166\5\63\1\u0080"+
+        "\13\63\1\u0090\1\63\1\u0092\7\63\3\uffff\1\u009b\3\63\3\u009b\1"+
+        "\63\1\u00a0\1\uffff\1\u00a1\10\63\1\uffff\1\u00aa\16\63\1\uffff"+
+        "\1\63\1\uffff\1\63\1\u00be\1\u00bf\1\63\1\u00c1\1\u00c2\1\u00c4"+
+        "\1\63\1\uffff\4\63\2\uffff\2\63\1\u00cc\5\63\1\uffff\1\u00d2\2\63"+
+        "\1\u00d5\1\u00d6\1\u00d7\1\u00d8\2\63\1\u00db\1\63\1\u00dd\1\u00de"+
+        "\6\63\2\uffff\1\63\2\uffff\1\63\1\uffff\1\u00e7\2\63\1\u00ea\1\63"+
+        "\1\u009b\1\63\1\uffff\5\63\1\uffff\2\63\4\uffff\2\63\1\uffff\1\u00f7"+
+        "\2\uffff\1\63\1\u00f9\1\63\1\u00fb\1\u00fc\1\u00fd\1\u00fe\1\63"+
+        "\1\uffff\1\u0100\1\u0101\1\uffff\2\63\1\u0104\6\63\1\u010b\2\63"+
+        "\1\uffff\1\63\1\uffff\1\u010f\4\uffff\1\63\2\uffff\1\u0111\1\63"+
+        "\1\uffff\5\63\1\u00aa\1\uffff\1\u0118\2\63\1\uffff\1\u011b\1\uffff"+
+        "\3\63\1\u011f\2\63\1\uffff\1\u0122\1\u0123\1\uffff\1\63\1\u0125"+
+        "\1\u0126\1\uffff\2\63\2\uffff\1\u0129\2\uffff\1\u012a\1\u012b\3"+
+        "\uffff";
+    static final String DFA9_eofS =
+        "\u012c\uffff";
+    static final String DFA9_minS =
+        "\1\11\1\75\2\74\1\75\2\uffff\1\174\20\uffff\1\0\5\uffff\1\103\1"+
+        "\101\1\116\2\101\1\105\1\116\1\101\1\111\1\122\1\110\1\101\1\122"+
+        "\1\105\1\122\1\117\1\101\1\116\1\101\1\122\1\56\20\uffff\1\47\2"+
+        "\uffff\1\115\1\114\1\110\1\117\1\116\1\130\1\107\1\101\1\43\1\116"+
+        "\1\114\1\105\1\122\1\106\1\43\1\124\1\117\1\103\1\123\1\101\1\113"+
+        "\1\117\1\116\1\105\1\126\1\117\1\43\1\107\1\43\2\124\1\102\1\104"+
+        "\1\122\1\114\1\105\3\uffff\1\43\2\105\1\122\3\43\1\114\1\43\1\uffff"+
+        "\1\43\2\116\1\114\1\101\1\124\1\123\1\105\1\114\1\uffff\1\43\1\111"+
+        "\1\101\1\120\1\103\1\111\1\124\1\104\1\111\1\105\1\115\1\103\1\122"+
+        "\1\111\1\125\1\uffff\1\111\1\uffff\1\105\2\43\1\114\3\43\1\122\1"+
+        "\uffff\1\103\1\115\1\105\1\131\2\uffff\1\124\1\105\1\43\1\124\1"+
+        "\111\1\127\1\122\1\111\1\uffff\1\43\1\107\1\114\4\43\1\115\1\111"+
+        "\1\43\1\124\2\43\1\124\1\105\1\116\1\120\1\116\1\122\2\uffff\1\105"+
+        "\2\uffff\1\110\1\uffff\1\43\1\124\1\101\1\43\1\132\1\43\1\103\1"+
+        "\uffff\1\105\2\117\1\105\1\103\1\uffff\2\105\4\uffff\1\101\1\116"+
+        "\1\uffff\1\43\2\uffff\1\111\1\43\1\107\4\43\1\101\1\uffff\2\43\1"+
+        "\uffff\1\105\1\124\1\43\1\111\1\116\1\122\1\116\1\101\1\122\1\43"+
+        "\1\114\1\103\1\uffff\1\117\1\uffff\1\43\4\uffff\1\122\2\uffff\1"+
+        "\43\1\111\1\uffff\1\117\1\105\1\104\1\103\1\124\1\43\1\uffff\1\43"+
+        "\1\124\1\116\1\uffff\1\43\1\uffff\1\117\1\116\1\104\1\43\2\105\1"+
+        "\uffff\2\43\1\uffff\1\116\2\43\1\uffff\1\123\1\104\2\uffff\1\43"+
+        "\2\uffff\2\43\3\uffff";
+    static final String DFA9_maxS =
+        "\1\176\1\75\3\76\2\uffff\1\174\20\uffff\1\uffff\5\uffff\1\165\1"+
+        "\151\1\166\1\162\1\141\1\145\1\156\1\162\1\157\1\165\1\150\1\141"+
+        "\1\162\1\171\1\165\1\157\1\141\1\156\1\141\1\163\1\71\20\uffff\1"+
+        "\47\2\uffff\1\155\1\154\1\150\1\157\1\156\1\170\1\147\1\144\1\172"+
+        "\1\165\1\154\1\145\1\163\1\160\1\172\1\164\1\157\2\163\1\141\1\155"+
+        "\1\157\1\156\1\145\1\166\1\157\1\172\1\147\1\172\2\164\1\142\1\144"+
+        "\1\162\1\154\1\145\3\uffff\1\172\2\145\1\162\3\172\1\154\1\172\1"+
+        "\uffff\1\172\2\156\1\154\1\141\1\164\1\163\1\145\1\154\1\uffff\1"+
+        "\172\1\151\1\145\1\160\1\143\1\151\1\164\1\144\1\151\1\145\1\155"+
+        "\1\143\1\162\1\151\1\165\1\uffff\1\151\1\uffff\1\145\2\172\1\154"+
+        "\3\172\1\162\1\uffff\1\143\1\155\1\145\1\171\2\uffff\1\164\1\145"+
+        "\1\172\1\164\1\151\1\167\1\162\1\151\1\uffff\1\172\1\147\1\154\4"+
+        "\172\1\155\1\151\1\172\1\164\2\172\1\164\1\145\1\156\1\160\1\156"+
+        "\1\162\2\uffff\1\145\2\uffff\1\150\1\uffff\1\172\1\164\1\141\3\172"+
+        "\1\143\1\uffff\1\145\1\164\1\157\1\145\1\143\1\uffff\2\145\4\uffff"+
+        "\1\141\1\156\1\uffff\1\172\2\uffff\1\151\1\172\1\147\4\172\1\141"+
+        "\1\uffff\2\172\1\uffff\1\145\1\164\1\172\1\151\1\156\1\162\1\156"+
+        "\1\141\1\162\1\172\1\154\1\143\1\uffff\1\157\1\uffff\1\172\4\uffff"+
+        "\1\162\2\uffff\1\172\1\151\1\uffff\1\157\1\145\1\144\1\143\1\164"+
+        "\1\172\1\uffff\1\172\1\164\1\156\1\uffff\1\172\1\uffff\1\157\1\156"+
+        "\1\144\1\172\2\145\1\uffff\2\172\1\uffff\1\156\2\172\1\uffff\1\163"+
+        "\1\144\2\uffff\1\172\2\uffff\2\172\3\uffff";
+    static final String DFA9_acceptS =
+        "\5\uffff\1\15\1\16\1\uffff\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1"+
+        "\30\1\31\1\32\1\33\1\34\1\35\1\36\1\37\1\40\1\uffff\1\43\1\44\1"+
+        "\45\1\46\1\47\25\uffff\1\131\1\132\1\2\1\1\1\3\1\7\1\12\1\4\1\6"+
+        "\1\13\1\5\1\11\1\14\1\10\1\20\1\17\1\uffff\1\42\1\126\44\uffff\1"+
+        "\130\1\127\1\41\11\uffff\1\102\11\uffff\1\75\17\uffff\1\70\1\uffff"+
+        "\1\100\10\uffff\1\50\4\uffff\1\77\1\72\10\uffff\1\123\23\uffff\1"+
+        "\76\1\101\1\uffff\1\114\1\115\1\uffff\1\116\7\uffff\1\60\5\uffff"+
+        "\1\53\2\uffff\1\55\1\125\1\62\1\73\2\uffff\1\56\1\uffff\1\103\1"+
+        "\64\10\uffff\1\117\2\uffff\1\121\14\uffff\1\74\1\uffff\1\65\1\uffff"+
+        "\1\67\1\113\1\71\1\111\1\uffff\1\63\1\110\2\uffff\1\61\6\uffff\1"+
+        "\54\3\uffff\1\66\1\uffff\1\57\6\uffff\1\124\2\uffff\1\122\3\uffff"+
+        "\1\120\2\uffff\1\104\1\112\1\uffff\1\51\1\106\2\uffff\1\105\1\52"+
+        "\1\107";
+    static final String DFA9_specialS =
+        "\30\uffff\1\0\u0113\uffff}>";
+    static final String[] DFA9_transitionS = {
+            "\5\64\22\uffff\1\64\1\2\1\27\1\uffff\1\26\1\16\1\5\1\30\1\22"+
+            "\1\23\1\11\1\12\1\21\1\13\1\20\1\10\12\62\1\35\1\17\1\3\1\1"+
+            "\1\4\1\24\1\25\1\40\1\53\1\41\1\45\1\57\1\47\1\52\1\51\1\44"+
+            "\2\63\1\46\1\37\1\55\1\54\1\42\1\63\1\43\1\36\1\56\1\61\1\60"+
+            "\1\50\3\63\1\32\1\15\1\33\1\6\1\34\1\31\1\40\1\53\1\41\1\45"+
+            "\1\57\1\47\1\52\1\51\1\44\2\63\1\46\1\37\1\55\1\54\1\42\1\63"+
+            "\1\43\1\36\1\56\1\61\1\60\1\50\3\63\1\uffff\1\7\1\uffff\1\14",
+            "\1\65",
+            "\1\71\1\67\1\70",
+            "\1\74\1\73\1\72",
+            "\1\76\1\77",
+            "",
+            "",
+            "\1\101",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\47\105\1\103\uffd8\105",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\110\1\uffff\1\107\16\uffff\1\111\1\106\15\uffff\1\110\1"+
+            "\uffff\1\107\16\uffff\1\111\1\106",
+            "\1\113\7\uffff\1\112\27\uffff\1\113\7\uffff\1\112",
+            "\1\115\4\uffff\1\116\2\uffff\1\114\27\uffff\1\115\4\uffff\1"+
+            "\116\2\uffff\1\114",
+            "\1\120\15\uffff\1\117\2\uffff\1\121\16\uffff\1\120\15\uffff"+
+            "\1\117\2\uffff\1\121",
+            "\1\122\37\uffff\1\122",
+            "\1\123\37\uffff\1\123",
+            "\1\124\37\uffff\1\124",
+            "\1\125\3\uffff\1\127\3\uffff\1\130\10\uffff\1\126\16\uffff"+
+            "\1\125\3\uffff\1\127\3\uffff\1\130\10\uffff\1\126",
+            "\1\132\5\uffff\1\131\31\uffff\1\132\5\uffff\1\131",
+            "\1\133\2\uffff\1\134\34\uffff\1\133\2\uffff\1\134",
+            "\1\135\37\uffff\1\135",
+            "\1\136\37\uffff\1\136",
+            "\1\137\37\uffff\1\137",
+            "\1\141\23\uffff\1\140\13\uffff\1\141\23\uffff\1\140",
+            "\1\142\2\uffff\1\143\34\uffff\1\142\2\uffff\1\143",
+            "\1\144\37\uffff\1\144",
+            "\1\145\37\uffff\1\145",
+            "\1\146\37\uffff\1\146",
+            "\1\147\37\uffff\1\147",
+            "\1\150\1\151\36\uffff\1\150\1\151",
+            "\1\153\1\uffff\12\62",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\154",
+            "",
+            "",
+            "\1\155\37\uffff\1\155",
+            "\1\156\37\uffff\1\156",
+            "\1\157\37\uffff\1\157",
+            "\1\160\37\uffff\1\160",
+            "\1\161\37\uffff\1\161",
+            "\1\162\37\uffff\1\162",
+            "\1\163\37\uffff\1\163",
+            "\1\164\2\uffff\1\165\34\uffff\1\164\2\uffff\1\165",
+            "\2\63\13\uffff\12\63\7\uffff\2\63\1\167\27\63\4\uffff\1\63"+
+            "\1\uffff\2\63\1\167\27\63",
+            "\1\171\6\uffff\1\170\30\uffff\1\171\6\uffff\1\170",
+            "\1\172\37\uffff\1\172",
+            "\1\173\37\uffff\1\173",
+            "\1\174\1\175\36\uffff\1\174\1\175",
+            "\1\176\11\uffff\1\177\25\uffff\1\176\11\uffff\1\177",
+            "\2\63\13\uffff\12\63\7\uffff\5\63\1\u0082\15\63\1\u0081\6\63"+
+            "\4\uffff\1\63\1\uffff\5\63\1\u0082\15\63\1\u0081\6\63",
+            "\1\u0083\37\uffff\1\u0083",
+            "\1\u0084\37\uffff\1\u0084",
+            "\1\u0086\17\uffff\1\u0085\17\uffff\1\u0086\17\uffff\1\u0085",
+            "\1\u0087\37\uffff\1\u0087",
+            "\1\u0088\37\uffff\1\u0088",
+            "\1\u008a\1\uffff\1\u0089\35\uffff\1\u008a\1\uffff\1\u0089",
+            "\1\u008b\37\uffff\1\u008b",
+            "\1\u008c\37\uffff\1\u008c",
+            "\1\u008d\37\uffff\1\u008d",
+            "\1\u008e\37\uffff\1\u008e",
+            "\1\u008f\37\uffff\1\u008f",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u0091\37\uffff\1\u0091",
+            "\2\63\13\uffff\12\63\7\uffff\3\63\1\u0093\26\63\4\uffff\1\63"+
+            "\1\uffff\3\63\1\u0093\26\63",
+            "\1\u0094\37\uffff\1\u0094",
+            "\1\u0095\37\uffff\1\u0095",
+            "\1\u0096\37\uffff\1\u0096",
+            "\1\u0097\37\uffff\1\u0097",
+            "\1\u0098\37\uffff\1\u0098",
+            "\1\u0099\37\uffff\1\u0099",
+            "\1\u009a\37\uffff\1\u009a",
+            "",
+            "",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u009c\37\uffff\1\u009c",
+            "\1\u009d\37\uffff\1\u009d",
+            "\1\u009e\37\uffff\1\u009e",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u009f\37\uffff\1\u009f",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00a2\37\uffff\1\u00a2",
+            "\1\u00a3\37\uffff\1\u00a3",
+            "\1\u00a4\37\uffff\1\u00a4",
+            "\1\u00a5\37\uffff\1\u00a5",
+            "\1\u00a6\37\uffff\1\u00a6",
+            "\1\u00a7\37\uffff\1\u00a7",
+            "\1\u00a8\37\uffff\1\u00a8",
+            "\1\u00a9\37\uffff\1\u00a9",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\4\63\1\u00ac\11\63\1\u00ab\13"+
+            "\63\4\uffff\1\63\1\uffff\4\63\1\u00ac\11\63\1\u00ab\13\63",
+            "\1\u00ad\37\uffff\1\u00ad",
+            "\1\u00ae\3\uffff\1\u00af\33\uffff\1\u00ae\3\uffff\1\u00af",
+            "\1\u00b0\37\uffff\1\u00b0",
+            "\1\u00b1\37\uffff\1\u00b1",
+            "\1\u00b2\37\uffff\1\u00b2",
+            "\1\u00b3\37\uffff\1\u00b3",
+            "\1\u00b4\37\uffff\1\u00b4",
+            "\1\u00b5\37\uffff\1\u00b5",
+            "\1\u00b6\37\uffff\1\u00b6",
+            "\1\u00b7\37\uffff\1\u00b7",
+            "\1\u00b8\37\uffff\1\u00b8",
+            "\1\u00b9\37\uffff\1\u00b9",
+            "\1\u00ba\37\uffff\1\u00ba",
+            "\1\u00bb\37\uffff\1\u00bb",
+            "",
+            "\1\u00bc\37\uffff\1\u00bc",
+            "",
+            "\1\u00bd\37\uffff\1\u00bd",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00c0\37\uffff\1\u00c0",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\2\63\1\u00c3\27\63\4\uffff\1\63"+
+            "\1\uffff\2\63\1\u00c3\27\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00c5\37\uffff\1\u00c5",
+            "",
+            "\1\u00c6\37\uffff\1\u00c6",
+            "\1\u00c7\37\uffff\1\u00c7",
+            "\1\u00c8\37\uffff\1\u00c8",
+            "\1\u00c9\37\uffff\1\u00c9",
+            "",
+            "",
+            "\1\u00ca\37\uffff\1\u00ca",
+            "\1\u00cb\37\uffff\1\u00cb",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00cd\37\uffff\1\u00cd",
+            "\1\u00ce\37\uffff\1\u00ce",
+            "\1\u00cf\37\uffff\1\u00cf",
+            "\1\u00d0\37\uffff\1\u00d0",
+            "\1\u00d1\37\uffff\1\u00d1",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00d3\37\uffff\1\u00d3",
+            "\1\u00d4\37\uffff\1\u00d4",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00d9\37\uffff\1\u00d9",
+            "\1\u00da\37\uffff\1\u00da",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00dc\37\uffff\1\u00dc",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00df\37\uffff\1\u00df",
+            "\1\u00e0\37\uffff\1\u00e0",
+            "\1\u00e1\37\uffff\1\u00e1",
+            "\1\u00e2\37\uffff\1\u00e2",
+            "\1\u00e3\37\uffff\1\u00e3",
+            "\1\u00e4\37\uffff\1\u00e4",
+            "",
+            "",
+            "\1\u00e5\37\uffff\1\u00e5",
+            "",
+            "",
+            "\1\u00e6\37\uffff\1\u00e6",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00e8\37\uffff\1\u00e8",
+            "\1\u00e9\37\uffff\1\u00e9",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00eb\37\uffff\1\u00eb",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00ec\37\uffff\1\u00ec",
+            "",
+            "\1\u00ed\37\uffff\1\u00ed",
+            "\1\u00ef\4\uffff\1\u00ee\32\uffff\1\u00ef\4\uffff\1\u00ee",
+            "\1\u00f0\37\uffff\1\u00f0",
+            "\1\u00f1\37\uffff\1\u00f1",
+            "\1\u00f2\37\uffff\1\u00f2",
+            "",
+            "\1\u00f3\37\uffff\1\u00f3",
+            "\1\u00f4\37\uffff\1\u00f4",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00f5\37\uffff\1\u00f5",
+            "\1\u00f6\37\uffff\1\u00f6",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "",
+            "\1\u00f8\37\uffff\1\u00f8",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00fa\37\uffff\1\u00fa",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u00ff\37\uffff\1\u00ff",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\1\u0102\37\uffff\1\u0102",
+            "\1\u0103\37\uffff\1\u0103",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u0105\37\uffff\1\u0105",
+            "\1\u0106\37\uffff\1\u0106",
+            "\1\u0107\37\uffff\1\u0107",
+            "\1\u0108\37\uffff\1\u0108",
+            "\1\u0109\37\uffff\1\u0109",
+            "\1\u010a\37\uffff\1\u010a",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u010c\37\uffff\1\u010c",
+            "\1\u010d\37\uffff\1\u010d",
+            "",
+            "\1\u010e\37\uffff\1\u010e",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "",
+            "",
+            "",
+            "\1\u0110\37\uffff\1\u0110",
+            "",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u0112\37\uffff\1\u0112",
+            "",
+            "\1\u0113\37\uffff\1\u0113",
+            "\1\u0114\37\uffff\1\u0114",
+            "\1\u0115\37\uffff\1\u0115",
+            "\1\u0116\37\uffff\1\u0116",
+            "\1\u0117\37\uffff\1\u0117",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u0119\37\uffff\1\u0119",
+            "\1\u011a\37\uffff\1\u011a",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\1\u011c\37\uffff\1\u011c",
+            "\1\u011d\37\uffff\1\u011d",
+            "\1\u011e\37\uffff\1\u011e",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\1\u0120\37\uffff\1\u0120",
+            "\1\u0121\37\uffff\1\u0121",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\1\u0124\37\uffff\1\u0124",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "\1\u0127\37\uffff\1\u0127",
+            "\1\u0128\37\uffff\1\u0128",
+            "",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32"+
+            "\63",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA9_eot = DFA.unpackEncodedString(DFA9_eotS);
+    static final short[] DFA9_eof = DFA.unpackEncodedString(DFA9_eofS);
+    static final char[] DFA9_min = DFA.unpackEncodedStringToUnsignedChars(DFA9_minS);
+    static final char[] DFA9_max = DFA.unpackEncodedStringToUnsignedChars(DFA9_maxS);
+    static final short[] DFA9_accept = DFA.unpackEncodedString(DFA9_acceptS);
+    static final short[] DFA9_special = DFA.unpackEncodedString(DFA9_specialS);
+    static final short[][] DFA9_transition;
+
+    static {
+        int numStates = DFA9_transitionS.length;
+        DFA9_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA9_transition[i] = DFA.unpackEncodedString(DFA9_transitionS[i]);
+        }
+    }
+
+    class DFA9 extends DFA {
+
+        public DFA9(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 9;
+            this.eot = DFA9_eot;
+            this.eof = DFA9_eof;
+            this.min = DFA9_min;
+            this.max = DFA9_max;
+            this.accept = DFA9_accept;
+            this.special = DFA9_special;
+            this.transition = DFA9_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( EQUAL1 | EQUAL2 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_THAN | GREATER_EQUAL1 | GREATER_EQUAL2 | SHIFT_LEFT | SHIFT_RIGHT | AMPERSAND | HAT | PIPE | DOUBLE_PIPE | DIV | MULT | PLUS | MINUS | TILDE | BACKSLASH | MOD | SEMI | DOT | COMMA | LPAREN | RPAREN | QUESTION | AT | DOLLAR | QUOTE_DOUBLE | QUOTE_TRIPLE | QUOTE_SINGLE | APOSTROPHE | LBRACKET | RBRACKET | UNDERSCORE | COLON | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_ANALYZE | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_ORDER | KEYWORD_ASC | KEYWORD_DESC | KEYWORD_LIMIT | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR );";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            IntStream input = _input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA9_24 = input.LA(1);
+
+                        s = -1;
+                        if ( (LA9_24=='\'') ) {s = 67;}
+
+                        else if ( ((LA9_24>='\u0000' && LA9_24<='&')||(LA9_24>='(' && LA9_24<='\uFFFF')) ) {s = 69;}
+
+                        else s = 68;
+
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 9, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+    }
+ 
 
-			mI(); 
-
-			mO(); 
-
-			mN(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_FUNCTION"
-
-	// $ANTLR start "KEYWORD_BEGIN"
-	public final void mKEYWORD_BEGIN() throws RecognitionException {
-		try {
-			int _type = KEYWORD_BEGIN;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:14: ( B E G I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:16: B E G I N
-			{
-			mB(); 
-
-			mE(); 
-
-			mG(); 
-
-			mI(); 
-
-			mN(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_BEGIN"
-
-	// $ANTLR start "KEYWORD_END"
-	public final void mKEYWORD_END() throws RecognitionException {
-		try {
-			int _type = KEYWORD_END;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:12: ( E N D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:14: E N D
-			{
-			mE(); 
-
-			mN(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_END"
-
-	// $ANTLR start "KEYWORD_VAR"
-	public final void mKEYWORD_VAR() throws RecognitionException {
-		try {
-			int _type = KEYWORD_VAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:12: ( V A R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:14: V A R
-			{
-			mV(); 
-
-			mA(); 
-
-			mR(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_VAR"
-
-	// $ANTLR start "KEYWORD_URL"
-	public final void mKEYWORD_URL() throws RecognitionException {
-		try {
-			int _type = KEYWORD_URL;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:12: ( U R L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:14: U R L
-			{
-			mU(); 
-
-			mR(); 
-
-			mL(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_URL"
-
-	// $ANTLR start "KEYWORD_USER"
-	public final void mKEYWORD_USER() throws RecognitionException {
-		try {
-			int _type = KEYWORD_USER;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:13: ( U S E R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:15: U S E R
-			{
-			mU(); 
-
-			mS(); 
-
-			mE(); 
-
-			mR(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_USER"
-
-	// $ANTLR start "KEYWORD_PASSWD"
-	public final void mKEYWORD_PASSWD() throws RecognitionException {
-		try {
-			int _type = KEYWORD_PASSWD;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:15: ( P A S S W O R D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:17: P A S S W O R D
-			{
-			mP(); 
-
-			mA(); 
-
-			mS(); 
-
-			mS(); 
-
-			mW(); 
-
-			mO(); 
-
-			mR(); 
-
-			mD(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_PASSWD"
-
-	// $ANTLR start "KEYWORD_STORE"
-	public final void mKEYWORD_STORE() throws RecognitionException {
-		try {
-			int _type = KEYWORD_STORE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:14: ( S T O R E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:16: S T O R E
-			{
-			mS(); 
-
-			mT(); 
-
-			mO(); 
-
-			mR(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "KEYWORD_STORE"
-
-	// $ANTLR start "TYPE_VARCHAR"
-	public final void mTYPE_VARCHAR() throws RecognitionException {
-		try {
-			int _type = TYPE_VARCHAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:13: ( V A R C H A R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:15: V A R C H A R
-			{
-			mV(); 
-
-			mA(); 
-
-			mR(); 
-
-			mC(); 
-
-			mH(); 
-
-			mA(); 
-
-			mR(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "TYPE_VARCHAR"
-
-	// $ANTLR start "TYPE_INTEGER"
-	public final void mTYPE_INTEGER() throws RecognitionException {
-		try {
-			int _type = TYPE_INTEGER;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:13: ( ( I N T | I N T E G E R ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:15: ( I N T | I N T E G E R )
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:15: ( I N T | I N T E G E R )
-			int alt2=2;
-			int LA2_0 = input.LA(1);
-			if ( (LA2_0=='I'||LA2_0=='i') ) {
-				int LA2_1 = input.LA(2);
-				if ( (LA2_1=='N'||LA2_1=='n') ) {
-					int LA2_2 = input.LA(3);
-					if ( (LA2_2=='T'||LA2_2=='t') ) {
-						int LA2_3 = input.LA(4);
-						if ( (LA2_3=='E'||LA2_3=='e') ) {
-							alt2=2;
-						}
-
-						else {
-							alt2=1;
-						}
-
-					}
-
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
-							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 2, 2, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
-					}
-
-				}
-
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 2, 1, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
-
-			}
-
-			else {
-				NoViableAltException nvae =
-					new NoViableAltException("", 2, 0, input);
-				throw nvae;
-			}
-
-			switch (alt2) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:16: I N T
-					{
-					mI(); 
-
-					mN(); 
-
-					mT(); 
-
-					}
-					break;
-				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:24: I N T E G E R
-					{
-					mI(); 
-
-					mN(); 
-
-					mT(); 
-
-					mE(); 
-
-					mG(); 
-
-					mE(); 
-
-					mR(); 
-
-					}
-					break;
-
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "TYPE_INTEGER"
-
-	// $ANTLR start "TYPE_DECIMAL"
-	public final void mTYPE_DECIMAL() throws RecognitionException {
-		try {
-			int _type = TYPE_DECIMAL;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:13: ( D E C I M A L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:15: D E C I M A L
-			{
-			mD(); 
-
-			mE(); 
-
-			mC(); 
-
-			mI(); 
-
-			mM(); 
-
-			mA(); 
-
-			mL(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "TYPE_DECIMAL"
-
-	// $ANTLR start "TYPE_DATE"
-	public final void mTYPE_DATE() throws RecognitionException {
-		try {
-			int _type = TYPE_DATE;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:10: ( D A T E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:12: D A T E
-			{
-			mD(); 
-
-			mA(); 
-
-			mT(); 
-
-			mE(); 
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "TYPE_DATE"
-
-	// $ANTLR start "LITERAL_STRING"
-	public final void mLITERAL_STRING() throws RecognitionException {
-		try {
-			int _type = LITERAL_STRING;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1316:5: ( ( QUOTED_STRING ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:5: ( QUOTED_STRING )
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:5: ( QUOTED_STRING )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:6: QUOTED_STRING
-			{
-			mQUOTED_STRING(); 
-
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LITERAL_STRING"
-
-	// $ANTLR start "LITERAL_DECIMAL"
-	public final void mLITERAL_DECIMAL() throws RecognitionException {
-		try {
-			int _type = LITERAL_DECIMAL;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1321:5: ( ( DIGIT )+ DOT ( DIGIT )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:5: ( DIGIT )+ DOT ( DIGIT )*
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:5: ( DIGIT )+
-			int cnt3=0;
-			loop3:
-			while (true) {
-				int alt3=2;
-				int LA3_0 = input.LA(1);
-				if ( ((LA3_0 >= '0' && LA3_0 <= '9')) ) {
-					alt3=1;
-				}
-
-				switch (alt3) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-					{
-					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
-						input.consume();
-					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						recover(mse);
-						throw mse;
-					}
-					}
-					break;
-
-				default :
-					if ( cnt3 >= 1 ) break loop3;
-					EarlyExitException eee = new EarlyExitException(3, input);
-					throw eee;
-				}
-				cnt3++;
-			}
-
-			mDOT(); 
-
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:18: ( DIGIT )*
-			loop4:
-			while (true) {
-				int alt4=2;
-				int LA4_0 = input.LA(1);
-				if ( ((LA4_0 >= '0' && LA4_0 <= '9')) ) {
-					alt4=1;
-				}
-
-				switch (alt4) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-					{
-					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
-						input.consume();
-					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						recover(mse);
-						throw mse;
-					}
-					}
-					break;
-
-				default :
-					break loop4;
-				}
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LITERAL_DECIMAL"
-
-	// $ANTLR start "LITERAL_INTEGER"
-	public final void mLITERAL_INTEGER() throws RecognitionException {
-		try {
-			int _type = LITERAL_INTEGER;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1326:5: ( ( DIGIT )+ )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:5: ( DIGIT )+
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:5: ( DIGIT )+
-			int cnt5=0;
-			loop5:
-			while (true) {
-				int alt5=2;
-				int LA5_0 = input.LA(1);
-				if ( ((LA5_0 >= '0' && LA5_0 <= '9')) ) {
-					alt5=1;
-				}
-
-				switch (alt5) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-					{
-					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
-						input.consume();
-					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						recover(mse);
-						throw mse;
-					}
-					}
-					break;
-
-				default :
-					if ( cnt5 >= 1 ) break loop5;
-					EarlyExitException eee = new EarlyExitException(5, input);
-					throw eee;
-				}
-				cnt5++;
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LITERAL_INTEGER"
-
-	// $ANTLR start "IDENTIFIER"
-	public final void mIDENTIFIER() throws RecognitionException {
-		try {
-			int _type = IDENTIFIER;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1331:5: ( ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
-			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:7: CHAR ( CHAR | DIGIT | '_' | '$' | '#' )*
-			{
-			mCHAR(); 
-
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:12: ( CHAR | DIGIT | '_' | '$' | '#' )*
-			loop6:
-			while (true) {
-				int alt6=2;
-				int LA6_0 = input.LA(1);
-				if ( ((LA6_0 >= '#' && LA6_0 <= '$')||(LA6_0 >= '0' && LA6_0 <= '9')||(LA6_0 >= 'A' && LA6_0 <= 'Z')||LA6_0=='_'||(LA6_0 >= 'a' && LA6_0 <= 'z')) ) {
-					alt6=1;
-				}
-
-				switch (alt6) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-					{
-					if ( (input.LA(1) >= '#' && input.LA(1) <= '$')||(input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
-						input.consume();
-					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						recover(mse);
-						throw mse;
-					}
-					}
-					break;
-
-				default :
-					break loop6;
-				}
-			}
-
-			}
-
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "IDENTIFIER"
-
-	// $ANTLR start "IGNORE_CHAR"
-	public final void mIGNORE_CHAR() throws RecognitionException {
-		try {
-			int _type = IGNORE_CHAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1336:12: ( ( WS | CONTROL_CHAR ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1336:14: ( WS | CONTROL_CHAR )
-			{
-			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\r')||input.LA(1)==' ' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			_channel=HIDDEN;
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "IGNORE_CHAR"
-
-	// $ANTLR start "WS"
-	public final void mWS() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:12: ( ( ' ' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:14: ( ' ' )
-			{
-			if ( input.LA(1)==' ' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "WS"
-
-	// $ANTLR start "CONTROL_CHAR"
-	public final void mCONTROL_CHAR() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1339:22: ( ( '\\r' | '\\t' | '\\u000B' | '\\f' | '\\n' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\r') ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "CONTROL_CHAR"
-
-	// $ANTLR start "QUOTED_STRING"
-	public final void mQUOTED_STRING() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:23: ( QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:25: QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE
-			{
-			mQUOTE_SINGLE(); 
-
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:38: (~ QUOTE_SINGLE )*
-			loop7:
-			while (true) {
-				int alt7=2;
-				int LA7_0 = input.LA(1);
-				if ( ((LA7_0 >= '\u0000' && LA7_0 <= '&')||(LA7_0 >= '(' && LA7_0 <= '\uFFFF')) ) {
-					alt7=1;
-				}
-
-				switch (alt7) {
-				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-					{
-					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '\uFFFF') ) {
-						input.consume();
-					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						recover(mse);
-						throw mse;
-					}
-					}
-					break;
-
-				default :
-					break loop7;
-				}
-			}
-
-			mQUOTE_SINGLE(); 
-
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "QUOTED_STRING"
-
-	// $ANTLR start "DIGIT"
-	public final void mDIGIT() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1341:17: ( '0' .. '9' )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "DIGIT"
-
-	// $ANTLR start "CHAR"
-	public final void mCHAR() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1342:15: ( ( 'A' .. 'Z' | 'a' .. 'z' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "CHAR"
-
-	// $ANTLR start "A"
-	public final void mA() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1344:11: ( ( 'a' | 'A' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "A"
-
-	// $ANTLR start "B"
-	public final void mB() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1345:11: ( ( 'b' | 'B' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='B'||input.LA(1)=='b' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "B"
-
-	// $ANTLR start "C"
-	public final void mC() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1346:11: ( ( 'c' | 'C' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "C"
-
-	// $ANTLR start "D"
-	public final void mD() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1347:11: ( ( 'd' | 'D' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "D"
-
-	// $ANTLR start "E"
-	public final void mE() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1348:11: ( ( 'e' | 'E' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "E"
-
-	// $ANTLR start "F"
-	public final void mF() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1349:11: ( ( 'f' | 'F' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "F"
-
-	// $ANTLR start "G"
-	public final void mG() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1350:11: ( ( 'g' | 'G' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='G'||input.LA(1)=='g' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "G"
-
-	// $ANTLR start "H"
-	public final void mH() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1351:11: ( ( 'h' | 'H' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='H'||input.LA(1)=='h' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "H"
-
-	// $ANTLR start "I"
-	public final void mI() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1352:11: ( ( 'i' | 'I' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='I'||input.LA(1)=='i' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "I"
-
-	// $ANTLR start "J"
-	public final void mJ() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:11: ( ( 'j' | 'J' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "J"
-
-	// $ANTLR start "K"
-	public final void mK() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1354:11: ( ( 'k' | 'K' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='K'||input.LA(1)=='k' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "K"
-
-	// $ANTLR start "L"
-	public final void mL() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1355:11: ( ( 'l' | 'L' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "L"
-
-	// $ANTLR start "M"
-	public final void mM() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1356:11: ( ( 'm' | 'M' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "M"
-
-	// $ANTLR start "N"
-	public final void mN() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1357:11: ( ( 'n' | 'N' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "N"
-
-	// $ANTLR start "O"
-	public final void mO() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1358:11: ( ( 'o' | 'O' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='O'||input.LA(1)=='o' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "O"
-
-	// $ANTLR start "P"
-	public final void mP() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1359:11: ( ( 'p' | 'P' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "P"
-
-	// $ANTLR start "Q"
-	public final void mQ() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1360:11: ( ( 'q' | 'Q' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='Q'||input.LA(1)=='q' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "Q"
-
-	// $ANTLR start "R"
-	public final void mR() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1361:11: ( ( 'r' | 'R' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "R"
-
-	// $ANTLR start "S"
-	public final void mS() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1362:11: ( ( 's' | 'S' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "S"
-
-	// $ANTLR start "T"
-	public final void mT() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1363:11: ( ( 't' | 'T' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "T"
-
-	// $ANTLR start "U"
-	public final void mU() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1364:11: ( ( 'u' | 'U' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='U'||input.LA(1)=='u' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "U"
-
-	// $ANTLR start "V"
-	public final void mV() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1365:11: ( ( 'v' | 'V' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='V'||input.LA(1)=='v' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "V"
-
-	// $ANTLR start "W"
-	public final void mW() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1366:11: ( ( 'w' | 'W' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "W"
-
-	// $ANTLR start "X"
-	public final void mX() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1367:11: ( ( 'x' | 'X' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='X'||input.LA(1)=='x' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "X"
-
-	// $ANTLR start "Y"
-	public final void mY() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1368:11: ( ( 'y' | 'Y' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='Y'||input.LA(1)=='y' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "Y"
-
-	// $ANTLR start "Z"
-	public final void mZ() throws RecognitionException {
-		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1369:11: ( ( 'z' | 'Z' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
-			{
-			if ( input.LA(1)=='Z'||input.LA(1)=='z' ) {
-				input.consume();
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				recover(mse);
-				throw mse;
-			}
-			}
-
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "Z"
-
-	@Override
-	public void mTokens() throws RecognitionException {
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:8: ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR )
-		int alt8=85;
-		alt8 = dfa8.predict(input);
-		switch (alt8) {
-			case 1 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:10: AMPERSAND
-				{
-				mAMPERSAND(); 
-
-				}
-				break;
-			case 2 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:20: APOSTROPHE
-				{
-				mAPOSTROPHE(); 
-
-				}
-				break;
-			case 3 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:31: AT
-				{
-				mAT(); 
-
-				}
-				break;
-			case 4 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:34: BACKSLASH
-				{
-				mBACKSLASH(); 
-
-				}
-				break;
-			case 5 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:44: COLON
-				{
-				mCOLON(); 
-
-				}
-				break;
-			case 6 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:50: COMMA
-				{
-				mCOMMA(); 
-
-				}
-				break;
-			case 7 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:56: DIV
-				{
-				mDIV(); 
-
-				}
-				break;
-			case 8 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:60: DOLLAR
-				{
-				mDOLLAR(); 
-
-				}
-				break;
-			case 9 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:67: DOT
-				{
-				mDOT(); 
-
-				}
-				break;
-			case 10 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:71: DOUBLE_PIPE
-				{
-				mDOUBLE_PIPE(); 
-
-				}
-				break;
-			case 11 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:83: EQUAL1
-				{
-				mEQUAL1(); 
-
-				}
-				break;
-			case 12 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:90: EQUAL2
-				{
-				mEQUAL2(); 
-
-				}
-				break;
-			case 13 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:97: GREATER_EQUAL1
-				{
-				mGREATER_EQUAL1(); 
-
-				}
-				break;
-			case 14 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:112: GREATER_EQUAL2
-				{
-				mGREATER_EQUAL2(); 
-
-				}
-				break;
-			case 15 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:127: GREATER_THAN
-				{
-				mGREATER_THAN(); 
-
-				}
-				break;
-			case 16 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:140: HAT
-				{
-				mHAT(); 
-
-				}
-				break;
-			case 17 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:144: LBRACKET
-				{
-				mLBRACKET(); 
-
-				}
-				break;
-			case 18 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:153: LESS_EQUAL1
-				{
-				mLESS_EQUAL1(); 
-
-				}
-				break;
-			case 19 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:165: LESS_EQUAL2
-				{
-				mLESS_EQUAL2(); 
-
-				}
-				break;
-			case 20 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:177: LESS_THAN
-				{
-				mLESS_THAN(); 
-
-				}
-				break;
-			case 21 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:187: LPAREN
-				{
-				mLPAREN(); 
-
-				}
-				break;
-			case 22 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:194: MINUS
-				{
-				mMINUS(); 
-
-				}
-				break;
-			case 23 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:200: MOD
-				{
-				mMOD(); 
-
-				}
-				break;
-			case 24 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:204: MULT
-				{
-				mMULT(); 
-
-				}
-				break;
-			case 25 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:209: NOT_EQUAL1
-				{
-				mNOT_EQUAL1(); 
-
-				}
-				break;
-			case 26 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:220: NOT_EQUAL2
-				{
-				mNOT_EQUAL2(); 
-
-				}
-				break;
-			case 27 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:231: PIPE
-				{
-				mPIPE(); 
-
-				}
-				break;
-			case 28 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:236: PLUS
-				{
-				mPLUS(); 
-
-				}
-				break;
-			case 29 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:241: QUESTION
-				{
-				mQUESTION(); 
-
-				}
-				break;
-			case 30 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:250: QUOTE_DOUBLE
-				{
-				mQUOTE_DOUBLE(); 
-
-				}
-				break;
-			case 31 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:263: QUOTE_SINGLE
-				{
-				mQUOTE_SINGLE(); 
-
-				}
-				break;
-			case 32 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:276: QUOTE_TRIPLE
-				{
-				mQUOTE_TRIPLE(); 
-
-				}
-				break;
-			case 33 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:289: RBRACKET
-				{
-				mRBRACKET(); 
-
-				}
-				break;
-			case 34 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:298: RPAREN
-				{
-				mRPAREN(); 
-
-				}
-				break;
-			case 35 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:305: SEMI
-				{
-				mSEMI(); 
-
-				}
-				break;
-			case 36 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:310: SHIFT_LEFT
-				{
-				mSHIFT_LEFT(); 
-
-				}
-				break;
-			case 37 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:321: SHIFT_RIGHT
-				{
-				mSHIFT_RIGHT(); 
-
-				}
-				break;
-			case 38 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:333: TILDE
-				{
-				mTILDE(); 
-
-				}
-				break;
-			case 39 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:339: UNDERSCORE
-				{
-				mUNDERSCORE(); 
-
-				}
-				break;
-			case 40 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:350: FUNCTION_AGGREGATION
-				{
-				mFUNCTION_AGGREGATION(); 
-
-				}
-				break;
-			case 41 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:371: KEYWORD_PARTITION
-				{
-				mKEYWORD_PARTITION(); 
-
-				}
-				break;
-			case 42 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:389: KEYWORD_REFERENCES
-				{
-				mKEYWORD_REFERENCES(); 
-
-				}
-				break;
-			case 43 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:408: KEYWORD_INTO
-				{
-				mKEYWORD_INTO(); 
-
-				}
-				break;
-			case 44 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:421: KEYWORD_INFILE
-				{
-				mKEYWORD_INFILE(); 
-
-				}
-				break;
-			case 45 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:436: KEYWORD_DATA
-				{
-				mKEYWORD_DATA(); 
-
-				}
-				break;
-			case 46 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:449: KEYWORD_LOAD
-				{
-				mKEYWORD_LOAD(); 
-
-				}
-				break;
-			case 47 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:462: KEYWORD_CALL
-				{
-				mKEYWORD_CALL(); 
-
-				}
-				break;
-			case 48 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:475: KEYWORD_CREATE
-				{
-				mKEYWORD_CREATE(); 
-
-				}
-				break;
-			case 49 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:490: KEYWORD_DROP
-				{
-				mKEYWORD_DROP(); 
-
-				}
-				break;
-			case 50 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:503: KEYWORD_SELECT
-				{
-				mKEYWORD_SELECT(); 
-
-				}
-				break;
-			case 51 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:518: KEYWORD_FROM
-				{
-				mKEYWORD_FROM(); 
-
-				}
-				break;
-			case 52 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:531: KEYWORD_WHERE
-				{
-				mKEYWORD_WHERE(); 
-
-				}
-				break;
-			case 53 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:545: KEYWORD_HAVING
-				{
-				mKEYWORD_HAVING(); 
-
-				}
-				break;
-			case 54 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:560: KEYWORD_GROUP
-				{
-				mKEYWORD_GROUP(); 
-
-				}
-				break;
-			case 55 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:574: KEYWORD_BY
-				{
-				mKEYWORD_BY(); 
-
-				}
-				break;
-			case 56 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:585: KEYWORD_IN
-				{
-				mKEYWORD_IN(); 
-
-				}
-				break;
-			case 57 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:596: KEYWORD_OUT
-				{
-				mKEYWORD_OUT(); 
-
-				}
-				break;
-			case 58 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:608: KEYWORD_AND
-				{
-				mKEYWORD_AND(); 
-
-				}
-				break;
-			case 59 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:620: KEYWORD_OR
-				{
-				mKEYWORD_OR(); 
-
-				}
-				break;
-			case 60 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:631: KEYWORD_NOT
-				{
-				mKEYWORD_NOT(); 
-
-				}
-				break;
-			case 61 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:643: KEYWORD_AS
-				{
-				mKEYWORD_AS(); 
-
-				}
-				break;
-			case 62 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:654: KEYWORD_LIKE
-				{
-				mKEYWORD_LIKE(); 
-
-				}
-				break;
-			case 63 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:667: KEYWORD_DISTINCT
-				{
-				mKEYWORD_DISTINCT(); 
-
-				}
-				break;
-			case 64 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:684: KEYWORD_CONNECTION
-				{
-				mKEYWORD_CONNECTION(); 
-
-				}
-				break;
-			case 65 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:703: KEYWORD_PARTITIONED
-				{
-				mKEYWORD_PARTITIONED(); 
-
-				}
-				break;
-			case 66 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:723: KEYWORD_REPLICATED
-				{
-				mKEYWORD_REPLICATED(); 
-
-				}
-				break;
-			case 67 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:742: KEYWORD_SCHEMA
-				{
-				mKEYWORD_SCHEMA(); 
-
-				}
-				break;
-			case 68 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:757: KEYWORD_TABLE
-				{
-				mKEYWORD_TABLE(); 
-
-				}
-				break;
-			case 69 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:771: KEYWORD_FUNCTION
-				{
-				mKEYWORD_FUNCTION(); 
-
-				}
-				break;
-			case 70 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:788: KEYWORD_BEGIN
-				{
-				mKEYWORD_BEGIN(); 
-
-				}
-				break;
-			case 71 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:802: KEYWORD_END
-				{
-				mKEYWORD_END(); 
-
-				}
-				break;
-			case 72 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:814: KEYWORD_VAR
-				{
-				mKEYWORD_VAR(); 
-
-				}
-				break;
-			case 73 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:826: KEYWORD_URL
-				{
-				mKEYWORD_URL(); 
-
-				}
-				break;
-			case 74 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:838: KEYWORD_USER
-				{
-				mKEYWORD_USER(); 
-
-				}
-				break;
-			case 75 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:851: KEYWORD_PASSWD
-				{
-				mKEYWORD_PASSWD(); 
-
-				}
-				break;
-			case 76 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:866: KEYWORD_STORE
-				{
-				mKEYWORD_STORE(); 
-
-				}
-				break;
-			case 77 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:880: TYPE_VARCHAR
-				{
-				mTYPE_VARCHAR(); 
-
-				}
-				break;
-			case 78 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:893: TYPE_INTEGER
-				{
-				mTYPE_INTEGER(); 
-
-				}
-				break;
-			case 79 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:906: TYPE_DECIMAL
-				{
-				mTYPE_DECIMAL(); 
-
-				}
-				break;
-			case 80 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:919: TYPE_DATE
-				{
-				mTYPE_DATE(); 
-
-				}
-				break;
-			case 81 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:929: LITERAL_STRING
-				{
-				mLITERAL_STRING(); 
-
-				}
-				break;
-			case 82 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:944: LITERAL_DECIMAL
-				{
-				mLITERAL_DECIMAL(); 
-
-				}
-				break;
-			case 83 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:960: LITERAL_INTEGER
-				{
-				mLITERAL_INTEGER(); 
-
-				}
-				break;
-			case 84 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:976: IDENTIFIER
-				{
-				mIDENTIFIER(); 
-
-				}
-				break;
-			case 85 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:987: IGNORE_CHAR
-				{
-				mIGNORE_CHAR(); 
-
-				}
-				break;
-
-		}
-	}
-
-
-	protected DFA8 dfa8 = new DFA8(this);
-	static final String DFA8_eotS =
-		"\12\uffff\1\66\1\70\1\73\3\uffff\1\102\7\uffff\1\104\5\uffff\24\63\1\153"+
-		"\20\uffff\1\105\2\uffff\10\63\1\165\5\63\1\176\13\63\1\u008c\2\63\1\u008f"+
-		"\6\63\3\uffff\1\u0096\3\63\3\u0096\1\u009a\1\uffff\10\63\1\uffff\1\u00a3"+
-		"\14\63\1\uffff\1\63\1\u00b4\1\uffff\1\u00b5\1\63\1\u00b7\1\u00b8\1\u00ba"+
-		"\1\63\1\uffff\3\63\1\uffff\2\63\1\u00c1\5\63\1\uffff\1\u00c7\2\63\1\u00ca"+
-		"\1\u00cb\1\u00cc\2\63\1\u00cf\1\u00d0\1\u00d1\5\63\2\uffff\1\63\2\uffff"+
-		"\1\63\1\uffff\1\u00d9\2\63\1\u00dc\1\u0096\1\63\1\uffff\5\63\1\uffff\2"+
-		"\63\3\uffff\2\63\3\uffff\1\63\1\u00e9\1\63\1\u00eb\1\u00ec\1\u00ed\1\63"+
-		"\1\uffff\1\u00ef\1\u00f0\1\uffff\1\63\1\u00f2\6\63\1\u00f9\3\63\1\uffff"+
-		"\1\u00fd\3\uffff\1\63\2\uffff\1\63\1\uffff\5\63\1\u00a3\1\uffff\1\63\1"+
-		"\u0106\1\63\1\uffff\1\u0108\3\63\1\u010c\2\63\1\u010f\1\uffff\1\u0110"+
-		"\1\uffff\1\63\1\u0112\1\u0113\1\uffff\2\63\2\uffff\1\u0116\2\uffff\1\u0117"+
-		"\1\u0118\3\uffff";
-	static final String DFA8_eofS =
-		"\u0119\uffff";
-	static final String DFA8_minS =
-		"\1\11\11\uffff\1\174\2\75\1\74\2\uffff\1\74\7\uffff\1\0\5\uffff\1\103"+
-		"\1\101\1\116\2\101\1\105\1\116\1\101\1\111\1\122\1\110\1\101\1\122\1\105"+
-		"\1\122\1\117\1\101\1\116\1\101\1\122\1\56\20\uffff\1\47\2\uffff\1\115"+
-		"\1\114\1\110\1\117\1\116\1\130\1\107\1\104\1\43\1\116\1\114\1\105\1\122"+
-		"\1\106\1\43\1\124\1\117\1\123\1\103\1\101\1\113\1\117\1\116\1\105\1\126"+
-		"\1\117\1\43\1\107\1\124\1\43\1\124\1\102\1\104\1\122\1\114\1\105\3\uffff"+
-		"\1\43\2\105\1\122\4\43\1\uffff\2\116\1\114\1\101\1\124\1\123\1\105\1\114"+
-		"\1\uffff\1\43\1\111\1\101\1\120\1\124\1\111\1\104\1\105\1\115\1\103\1"+
-		"\122\1\111\1\125\1\uffff\1\111\1\43\1\uffff\1\43\1\114\3\43\1\122\1\uffff"+
-		"\1\103\1\115\1\105\1\uffff\1\124\1\105\1\43\1\124\1\111\1\127\1\122\1"+
-		"\111\1\uffff\1\43\1\107\1\114\3\43\1\111\1\115\3\43\1\124\1\105\1\116"+
-		"\1\120\1\116\2\uffff\1\105\2\uffff\1\110\1\uffff\1\43\1\124\1\101\2\43"+
-		"\1\103\1\uffff\1\105\2\117\1\105\1\103\1\uffff\2\105\3\uffff\1\116\1\101"+
-		"\3\uffff\1\111\1\43\1\107\3\43\1\101\1\uffff\2\43\1\uffff\1\124\1\43\1"+
-		"\111\1\116\1\122\1\116\1\101\1\122\1\43\1\103\1\114\1\117\1\uffff\1\43"+
-		"\3\uffff\1\122\2\uffff\1\111\1\uffff\1\117\1\105\1\104\1\103\1\124\1\43"+
-		"\1\uffff\1\124\1\43\1\116\1\uffff\1\43\1\117\1\116\1\104\1\43\2\105\1"+
-		"\43\1\uffff\1\43\1\uffff\1\116\2\43\1\uffff\1\123\1\104\2\uffff\1\43\2"+
-		"\uffff\2\43\3\uffff";
-	static final String DFA8_maxS =
-		"\1\176\11\uffff\1\174\1\75\2\76\2\uffff\1\76\7\uffff\1\uffff\5\uffff\1"+
-		"\165\1\151\1\166\1\162\1\141\1\145\1\156\1\162\1\157\1\165\1\150\1\141"+
-		"\1\162\1\171\1\165\1\157\1\141\1\156\1\141\1\163\1\71\20\uffff\1\47\2"+
-		"\uffff\1\155\1\154\1\150\1\157\1\156\1\170\1\147\1\144\1\172\1\165\1\154"+
-		"\1\145\1\163\1\160\1\172\1\164\1\157\1\163\1\143\1\141\1\153\1\157\1\156"+
-		"\1\145\1\166\1\157\1\172\1\147\1\164\1\172\1\164\1\142\1\144\1\162\1\154"+
-		"\1\145\3\uffff\1\172\2\145\1\162\4\172\1\uffff\2\156\1\154\1\141\1\164"+
-		"\1\163\1\145\1\154\1\uffff\1\172\1\151\1\145\1\160\1\164\1\151\1\144\1"+
-		"\145\1\155\1\143\1\162\1\151\1\165\1\uffff\1\151\1\172\1\uffff\1\172\1"+
-		"\154\3\172\1\162\1\uffff\1\143\1\155\1\145\1\uffff\1\164\1\145\1\172\1"+
-		"\164\1\151\1\167\1\162\1\151\1\uffff\1\172\1\147\1\154\3\172\1\151\1\155"+
-		"\3\172\1\164\1\145\1\156\1\160\1\156\2\uffff\1\145\2\uffff\1\150\1\uffff"+
-		"\1\172\1\164\1\141\2\172\1\143\1\uffff\1\145\1\164\1\157\1\145\1\143\1"+
-		"\uffff\2\145\3\uffff\1\156\1\141\3\uffff\1\151\1\172\1\147\3\172\1\141"+
-		"\1\uffff\2\172\1\uffff\1\164\1\172\1\151\1\156\1\162\1\156\1\141\1\162"+
-		"\1\172\1\143\1\154\1\157\1\uffff\1\172\3\uffff\1\162\2\uffff\1\151\1\uffff"+
-		"\1\157\1\145\1\144\1\143\1\164\1\172\1\uffff\1\164\1\172\1\156\1\uffff"+
-		"\1\172\1\157\1\156\1\144\1\172\2\145\1\172\1\uffff\1\172\1\uffff\1\156"+
-		"\2\172\1\uffff\1\163\1\144\2\uffff\1\172\2\uffff\2\172\3\uffff";
-	static final String DFA8_acceptS =
-		"\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11\4\uffff\1\20\1\21\1\uffff"+
-		"\1\25\1\26\1\27\1\30\1\34\1\35\1\36\1\uffff\1\41\1\42\1\43\1\46\1\47\25"+
-		"\uffff\1\124\1\125\1\12\1\33\1\14\1\13\1\15\1\45\1\17\1\16\1\23\1\31\1"+
-		"\22\1\32\1\44\1\24\1\uffff\1\37\1\121\44\uffff\1\122\1\123\1\40\10\uffff"+
-		"\1\75\10\uffff\1\70\15\uffff\1\67\2\uffff\1\73\6\uffff\1\50\3\uffff\1"+
-		"\72\10\uffff\1\116\20\uffff\1\71\1\74\1\uffff\1\107\1\110\1\uffff\1\111"+
-		"\6\uffff\1\57\5\uffff\1\53\2\uffff\1\55\1\120\1\61\2\uffff\1\56\1\76\1"+
-		"\63\7\uffff\1\112\2\uffff\1\114\14\uffff\1\64\1\uffff\1\66\1\106\1\104"+
-		"\1\uffff\1\62\1\103\1\uffff\1\60\6\uffff\1\54\3\uffff\1\65\10\uffff\1"+
-		"\117\1\uffff\1\115\3\uffff\1\113\2\uffff\1\77\1\105\1\uffff\1\51\1\101"+
-		"\2\uffff\1\100\1\52\1\102";
-	static final String DFA8_specialS =
-		"\30\uffff\1\0\u0100\uffff}>";
-	static final String[] DFA8_transitionS = {
-			"\5\64\22\uffff\1\64\1\15\1\27\1\uffff\1\10\1\23\1\1\1\30\1\21\1\32\1"+
-			"\24\1\25\1\6\1\22\1\11\1\7\12\62\1\5\1\33\1\20\1\13\1\14\1\26\1\3\1\40"+
-			"\1\53\1\41\1\45\1\57\1\47\1\52\1\51\1\44\2\63\1\46\1\37\1\55\1\54\1\42"+
-			"\1\63\1\43\1\36\1\56\1\61\1\60\1\50\3\63\1\17\1\4\1\31\1\16\1\35\1\2"+
-			"\1\40\1\53\1\41\1\45\1\57\1\47\1\52\1\51\1\44\2\63\1\46\1\37\1\55\1\54"+
-			"\1\42\1\63\1\43\1\36\1\56\1\61\1\60\1\50\3\63\1\uffff\1\12\1\uffff\1"+
-			"\34",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"\1\65",
-			"\1\67",
-			"\1\71\1\72",
-			"\1\74\1\76\1\75",
-			"",
-			"",
-			"\1\101\1\77\1\100",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"\47\105\1\103\uffd8\105",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"\1\110\1\uffff\1\107\16\uffff\1\111\1\106\15\uffff\1\110\1\uffff\1\107"+
-			"\16\uffff\1\111\1\106",
-			"\1\113\7\uffff\1\112\27\uffff\1\113\7\uffff\1\112",
-			"\1\115\4\uffff\1\116\2\uffff\1\114\27\uffff\1\115\4\uffff\1\116\2\uffff"+
-			"\1\114",
-			"\1\120\15\uffff\1\117\2\uffff\1\121\16\uffff\1\120\15\uffff\1\117\2"+
-			"\uffff\1\121",
-			"\1\122\37\uffff\1\122",
-			"\1\123\37\uffff\1\123",
-			"\1\124\37\uffff\1\124",
-			"\1\125\3\uffff\1\130\3\uffff\1\127\10\uffff\1\126\16\uffff\1\125\3\uffff"+
-			"\1\130\3\uffff\1\127\10\uffff\1\126",
-			"\1\132\5\uffff\1\131\31\uffff\1\132\5\uffff\1\131",
-			"\1\133\2\uffff\1\134\34\uffff\1\133\2\uffff\1\134",
-			"\1\135\37\uffff\1\135",
-			"\1\136\37\uffff\1\136",
-			"\1\137\37\uffff\1\137",
-			"\1\141\23\uffff\1\140\13\uffff\1\141\23\uffff\1\140",
-			"\1\143\2\uffff\1\142\34\uffff\1\143\2\uffff\1\142",
-			"\1\144\37\uffff\1\144",
-			"\1\145\37\uffff\1\145",
-			"\1\146\37\uffff\1\146",
-			"\1\147\37\uffff\1\147",
-			"\1\150\1\151\36\uffff\1\150\1\151",
-			"\1\152\1\uffff\12\62",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"",
-			"\1\154",
-			"",
-			"",
-			"\1\155\37\uffff\1\155",
-			"\1\156\37\uffff\1\156",
-			"\1\157\37\uffff\1\157",
-			"\1\160\37\uffff\1\160",
-			"\1\161\37\uffff\1\161",
-			"\1\162\37\uffff\1\162",
-			"\1\163\37\uffff\1\163",
-			"\1\164\37\uffff\1\164",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\167\6\uffff\1\166\30\uffff\1\167\6\uffff\1\166",
-			"\1\170\37\uffff\1\170",
-			"\1\171\37\uffff\1\171",
-			"\1\172\1\173\36\uffff\1\172\1\173",
-			"\1\174\11\uffff\1\175\25\uffff\1\174\11\uffff\1\175",
-			"\2\63\13\uffff\12\63\7\uffff\5\63\1\u0080\15\63\1\177\6\63\4\uffff\1"+
-			"\63\1\uffff\5\63\1\u0080\15\63\1\177\6\63",
-			"\1\u0081\37\uffff\1\u0081",
-			"\1\u0082\37\uffff\1\u0082",
-			"\1\u0083\37\uffff\1\u0083",
-			"\1\u0084\37\uffff\1\u0084",
-			"\1\u0085\37\uffff\1\u0085",
-			"\1\u0086\37\uffff\1\u0086",
-			"\1\u0087\37\uffff\1\u0087",
-			"\1\u0088\37\uffff\1\u0088",
-			"\1\u0089\37\uffff\1\u0089",
-			"\1\u008a\37\uffff\1\u008a",
-			"\1\u008b\37\uffff\1\u008b",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u008d\37\uffff\1\u008d",
-			"\1\u008e\37\uffff\1\u008e",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0090\37\uffff\1\u0090",
-			"\1\u0091\37\uffff\1\u0091",
-			"\1\u0092\37\uffff\1\u0092",
-			"\1\u0093\37\uffff\1\u0093",
-			"\1\u0094\37\uffff\1\u0094",
-			"\1\u0095\37\uffff\1\u0095",
-			"",
-			"",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0097\37\uffff\1\u0097",
-			"\1\u0098\37\uffff\1\u0098",
-			"\1\u0099\37\uffff\1\u0099",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\1\u009b\37\uffff\1\u009b",
-			"\1\u009c\37\uffff\1\u009c",
-			"\1\u009d\37\uffff\1\u009d",
-			"\1\u009e\37\uffff\1\u009e",
-			"\1\u009f\37\uffff\1\u009f",
-			"\1\u00a0\37\uffff\1\u00a0",
-			"\1\u00a1\37\uffff\1\u00a1",
-			"\1\u00a2\37\uffff\1\u00a2",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\4\63\1\u00a5\11\63\1\u00a4\13\63\4\uffff"+
-			"\1\63\1\uffff\4\63\1\u00a5\11\63\1\u00a4\13\63",
-			"\1\u00a6\37\uffff\1\u00a6",
-			"\1\u00a7\3\uffff\1\u00a8\33\uffff\1\u00a7\3\uffff\1\u00a8",
-			"\1\u00a9\37\uffff\1\u00a9",
-			"\1\u00aa\37\uffff\1\u00aa",
-			"\1\u00ab\37\uffff\1\u00ab",
-			"\1\u00ac\37\uffff\1\u00ac",
-			"\1\u00ad\37\uffff\1\u00ad",
-			"\1\u00ae\37\uffff\1\u00ae",
-			"\1\u00af\37\uffff\1\u00af",
-			"\1\u00b0\37\uffff\1\u00b0",
-			"\1\u00b1\37\uffff\1\u00b1",
-			"\1\u00b2\37\uffff\1\u00b2",
-			"",
-			"\1\u00b3\37\uffff\1\u00b3",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00b6\37\uffff\1\u00b6",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\2\63\1\u00b9\27\63\4\uffff\1\63\1\uffff"+
-			"\2\63\1\u00b9\27\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00bb\37\uffff\1\u00bb",
-			"",
-			"\1\u00bc\37\uffff\1\u00bc",
-			"\1\u00bd\37\uffff\1\u00bd",
-			"\1\u00be\37\uffff\1\u00be",
-			"",
-			"\1\u00bf\37\uffff\1\u00bf",
-			"\1\u00c0\37\uffff\1\u00c0",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00c2\37\uffff\1\u00c2",
-			"\1\u00c3\37\uffff\1\u00c3",
-			"\1\u00c4\37\uffff\1\u00c4",
-			"\1\u00c5\37\uffff\1\u00c5",
-			"\1\u00c6\37\uffff\1\u00c6",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00c8\37\uffff\1\u00c8",
-			"\1\u00c9\37\uffff\1\u00c9",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00cd\37\uffff\1\u00cd",
-			"\1\u00ce\37\uffff\1\u00ce",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00d2\37\uffff\1\u00d2",
-			"\1\u00d3\37\uffff\1\u00d3",
-			"\1\u00d4\37\uffff\1\u00d4",
-			"\1\u00d5\37\uffff\1\u00d5",
-			"\1\u00d6\37\uffff\1\u00d6",
-			"",
-			"",
-			"\1\u00d7\37\uffff\1\u00d7",
-			"",
-			"",
-			"\1\u00d8\37\uffff\1\u00d8",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00da\37\uffff\1\u00da",
-			"\1\u00db\37\uffff\1\u00db",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00dd\37\uffff\1\u00dd",
-			"",
-			"\1\u00de\37\uffff\1\u00de",
-			"\1\u00e0\4\uffff\1\u00df\32\uffff\1\u00e0\4\uffff\1\u00df",
-			"\1\u00e1\37\uffff\1\u00e1",
-			"\1\u00e2\37\uffff\1\u00e2",
-			"\1\u00e3\37\uffff\1\u00e3",
-			"",
-			"\1\u00e4\37\uffff\1\u00e4",
-			"\1\u00e5\37\uffff\1\u00e5",
-			"",
-			"",
-			"",
-			"\1\u00e6\37\uffff\1\u00e6",
-			"\1\u00e7\37\uffff\1\u00e7",
-			"",
-			"",
-			"",
-			"\1\u00e8\37\uffff\1\u00e8",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00ea\37\uffff\1\u00ea",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00ee\37\uffff\1\u00ee",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\1\u00f1\37\uffff\1\u00f1",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00f3\37\uffff\1\u00f3",
-			"\1\u00f4\37\uffff\1\u00f4",
-			"\1\u00f5\37\uffff\1\u00f5",
-			"\1\u00f6\37\uffff\1\u00f6",
-			"\1\u00f7\37\uffff\1\u00f7",
-			"\1\u00f8\37\uffff\1\u00f8",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00fa\37\uffff\1\u00fa",
-			"\1\u00fb\37\uffff\1\u00fb",
-			"\1\u00fc\37\uffff\1\u00fc",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
-			"",
-			"\1\u00fe\37\uffff\1\u00fe",
-			"",
-			"",
-			"\1\u00ff\37\uffff\1\u00ff",
-			"",
-			"\1\u0100\37\uffff\1\u0100",
-			"\1\u0101\37\uffff\1\u0101",
-			"\1\u0102\37\uffff\1\u0102",
-			"\1\u0103\37\uffff\1\u0103",
-			"\1\u0104\37\uffff\1\u0104",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\1\u0105\37\uffff\1\u0105",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0107\37\uffff\1\u0107",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0109\37\uffff\1\u0109",
-			"\1\u010a\37\uffff\1\u010a",
-			"\1\u010b\37\uffff\1\u010b",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u010d\37\uffff\1\u010d",
-			"\1\u010e\37\uffff\1\u010e",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\1\u0111\37\uffff\1\u0111",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\1\u0114\37\uffff\1\u0114",
-			"\1\u0115\37\uffff\1\u0115",
-			"",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
-			""
-	};
-
-	static final short[] DFA8_eot = DFA.unpackEncodedString(DFA8_eotS);
-	static final short[] DFA8_eof = DFA.unpackEncodedString(DFA8_eofS);
-	static final char[] DFA8_min = DFA.unpackEncodedStringToUnsignedChars(DFA8_minS);
-	static final char[] DFA8_max = DFA.unpackEncodedStringToUnsignedChars(DFA8_maxS);
-	static final short[] DFA8_accept = DFA.unpackEncodedString(DFA8_acceptS);
-	static final short[] DFA8_special = DFA.unpackEncodedString(DFA8_specialS);
-	static final short[][] DFA8_transition;
-
-	static {
-		int numStates = DFA8_transitionS.length;
-		DFA8_transition = new short[numStates][];
-		for (int i=0; i<numStates; i++) {
-			DFA8_transition[i] = DFA.unpackEncodedString(DFA8_transitionS[i]);
-		}
-	}
-
-	protected class DFA8 extends DFA {
-
-		public DFA8(BaseRecognizer recognizer) {
-			this.recognizer = recognizer;
-			this.decisionNumber = 8;
-			this.eot = DFA8_eot;
-			this.eof = DFA8_eof;
-			this.min = DFA8_min;
-			this.max = DFA8_max;
-			this.accept = DFA8_accept;
-			this.special = DFA8_special;
-			this.transition = DFA8_transition;
-		}
-		@Override
-		public String getDescription() {
-			return "1:1: Tokens : ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR );";
-		}
-		@Override
-		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
-			IntStream input = _input;
-			int _s = s;
-			switch ( s ) {
-					case 0 : 
-						int LA8_24 = input.LA(1);
-						s = -1;
-						if ( (LA8_24=='\'') ) {s = 67;}
-						else if ( ((LA8_24 >= '\u0000' && LA8_24 <= '&')||(LA8_24 >= '(' && LA8_24 <= '\uFFFF')) ) {s = 69;}
-						else s = 68;
-						if ( s>=0 ) return s;
-						break;
-			}
-			NoViableAltException nvae =
-				new NoViableAltException(getDescription(), 8, _s, input);
-			error(nvae);
-			throw nvae;
-		}
-	}
-
-}
+}
\ No newline at end of file
@@ -38,6 +38,10 @@ public class AggregationExpression extends AbstractExpression {
 		this.distinct = true;
 	}
 	
+	public boolean isDistinct(){
+		return this.distinct;
+	}
+	
 	public EnumAggregation getAggregation() {
 		return agg;
 	}
@@ -0,0 +1,87 @@
+package org.xdb.funsql.compile.operator;
+
+import java.io.Serializable;
+
+import org.xdb.utils.Identifier;
+
+/**
+ * Describes a Bloom filter (semi-join reduction) which is applied to the
+ * result of an operator before it is transferred to its consumer: the build
+ * operator hashes its join keys into a set of bits, the filtered operator
+ * only keeps tuples whose join key hashes into this set.
+ *
+ * Join keys are referenced by their position in the results.
+ */
+public class BloomFilterDesc implements Serializable {
+	private static final long serialVersionUID = -2371265913472118537L;
+
+	private Identifier buildOpId;
+	private int buildAttIdx;
+	private int probeAttIdx;
+	private int bits;
+	private double estimatedRate;
+	private double estimatedInputRows;
+
+	// constructors
+	public BloomFilterDesc(Identifier buildOpId, int buildAttIdx,
+			int probeAttIdx, int bits) {
+		this.buildOpId = buildOpId;
+		this.buildAttIdx = buildAttIdx;
+		this.probeAttIdx = probeAttIdx;
+		this.bits = bits;
+	}
+
+	public BloomFilterDesc(BloomFilterDesc toCopy) {
+		this.buildOpId = toCopy.buildOpId.clone();
+		this.buildAttIdx = toCopy.buildAttIdx;
+		this.probeAttIdx = toCopy.probeAttIdx;
+		this.bits = toCopy.bits;
+		this.estimatedRate = toCopy.estimatedRate;
+		this.estimatedInputRows = toCopy.estimatedInputRows;
+	}
+
+	// getters and setters
+	public Identifier getBuildOpId() {
+		return this.buildOpId;
+	}
+
+	public int getBuildAttIdx() {
+		return this.buildAttIdx;
+	}
+
+	public int getProbeAttIdx() {
+		return this.probeAttIdx;
+	}
+
+	public int getBits() {
+		return this.bits;
+	}
+
+	public double getEstimatedRate() {
+		return this.estimatedRate;
+	}
+
+	public void setEstimatedRate(double estimatedRate) {
+		this.estimatedRate = estimatedRate;
+	}
+
+	public double getEstimatedInputRows() {
+		return this.estimatedInputRows;
+	}
+
+	public void setEstimatedInputRows(double estimatedInputRows) {
+		this.estimatedInputRows = estimatedInputRows;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer value = new StringBuffer();
+		value.append("build: ");
+		value.append(this.buildOpId);
+		value.append(", bits: ");
+		value.append(this.bits);
+		value.append(", rate: ");
+		value.append(String.format("%.2f%%", this.estimatedRate * 100));
+		return value.toString();
+	}
+}
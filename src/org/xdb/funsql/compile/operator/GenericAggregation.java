@@ -9,9 +9,12 @@ import java.util.Vector;
 import org.xdb.Config;
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.AggregationExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
 import org.xdb.funsql.compile.tokens.AbstractToken;
 import org.xdb.funsql.compile.tokens.TokenAttribute;
 import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.funsql.compile.tokens.TokenStar;
 import org.xdb.utils.SetUtils;
 import org.xdb.utils.StringTemplate;
 import org.xdb.utils.Identifier;
@@ -27,12 +30,19 @@ public class GenericAggregation extends AbstractUnaryOperator {
 	private Vector<AbstractExpression> aggExprs;
 	private Vector<TokenIdentifier> aliases;
 
+	// pre-aggregation which may pass tuples through at runtime
+	private boolean bypassable = false;
+
 	private final StringTemplate sqlTemplate = new StringTemplate(
 			"SELECT <RESULT> FROM <<OP1>> AS <OP1>" + " GROUP BY <GROUP_ATTRS>");
 	
 	private final StringTemplate sqlTemplateWOGroupBy = new StringTemplate(
 			"SELECT <RESULT> FROM <<OP1>> AS <OP1>");
 
+	private final StringTemplate sqlBypassCheckTemplate = new StringTemplate(
+			"SELECT COUNT(DISTINCT <GROUP_ATTRS>) / COUNT(*) FROM "
+					+ "(SELECT <RESULT> FROM <<OP1>> AS <OP1> LIMIT <ROWS>) AS <OP1>");
+
 	// constructors
 	public GenericAggregation(AbstractCompileOperator child) {
 		super(child);
@@ -62,6 +72,7 @@ public class GenericAggregation extends AbstractUnaryOperator {
 		for (TokenIdentifier ti : toCopy.aliases) {
 			this.aliases.add(ti);
 		}
+		this.bypassable = toCopy.bypassable;
 		
 		this.type = EnumOperator.GENERIC_AGGREGATION;
 	}
@@ -119,6 +130,19 @@ public class GenericAggregation extends AbstractUnaryOperator {
 		return this.aggExprs;
 	}
 
+	public boolean isBypassable() {
+		return this.bypassable;
+	}
+
+	public void setBypassable(boolean bypassable) {
+		this.bypassable = bypassable;
+	}
+
+	public void removeAggregationExpression(int i) {
+		this.aggExprs.remove(i);
+		this.aliases.remove(i);
+	}
+
 	//methods
 	public void replaceExpression(Map<AbstractExpression, AbstractExpression> replaceExpr){
 		Vector<AbstractExpression> newAggExprs = new Vector<AbstractExpression>(this.aggExprs.size());
@@ -172,6 +196,96 @@ public class GenericAggregation extends AbstractUnaryOperator {
 		}
 	}
 
+	/**
+	 * Checks if each aggregation can be computed from single tuples, i.e.,
+	 * the aggregation can be bypassed if it is re-aggregated by its consumer
+	 * 
+	 * @return
+	 */
+	public boolean canBypass() {
+		if (this.groupExprs.isEmpty())
+			return false;
+
+		for (AbstractExpression expr : this.aggExprs) {
+			if (!(expr instanceof AggregationExpression))
+				return false;
+
+			AggregationExpression aggExpr = (AggregationExpression) expr;
+			if (aggExpr.isDistinct())
+				return false;
+
+			switch (aggExpr.getAggregation()) {
+			case SUM:
+			case MIN:
+			case MAX:
+			case CNT:
+				break;
+			default:
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns SQL statement which passes each tuple through: aggregations are
+	 * replaced by their value for a single tuple
+	 * 
+	 * @return
+	 */
+	public String toBypassSqlString() {
+		final Map<String, String> vars = new HashMap<String, String>();
+		vars.put("OP1", getChild().getOperatorId().toString());
+
+		final List<String> aliasVec = resultAttributesToSQL();
+		final Vector<String> exprVec = new Vector<String>(aliasVec.size());
+		for (AbstractExpression exp : aggExprs) {
+			AggregationExpression aggExpr = (AggregationExpression) exp;
+			AbstractExpression valueExpr = aggExpr.getExpression();
+			if (!aggExpr.getAggregation().isCnt()) {
+				exprVec.add(valueExpr.toSqlString());
+			} else if (valueExpr instanceof SimpleExpression
+					&& ((SimpleExpression) valueExpr).getOper() instanceof TokenStar) {
+				exprVec.add("1");
+			} else {
+				exprVec.add(AbstractToken.LBRACE + valueExpr.toSqlString()
+						+ " IS NOT NULL" + AbstractToken.RBRACE);
+			}
+		}
+		for (AbstractExpression exp : groupExprs) {
+			exprVec.add(exp.toSqlString());
+		}
+
+		vars.put("RESULT", SetUtils.buildAliasString(exprVec, aliasVec));
+		return this.sqlTemplateWOGroupBy.toString(vars);
+	}
+
+	/**
+	 * Returns SQL query which computes the number of groups per tuple for a
+	 * sample of the input
+	 * 
+	 * @param sampleRows
+	 * @return
+	 */
+	public String toBypassCheckSqlString(int sampleRows) {
+		final Map<String, String> vars = new HashMap<String, String>();
+		vars.put("OP1", getChild().getOperatorId().toString());
+		vars.put("ROWS", String.valueOf(sampleRows));
+
+		final List<String> aliasVec = resultAttributesToSQL();
+		final List<String> grpAliases = aliasVec.subList(aggExprs.size(),
+				aliasVec.size());
+		final Vector<String> groupExprVec = new Vector<String>(
+				groupExprs.size());
+		for (AbstractExpression exp : groupExprs) {
+			groupExprVec.add(exp.toSqlString());
+		}
+
+		vars.put("RESULT", SetUtils.buildAliasString(groupExprVec, grpAliases));
+		vars.put("GROUP_ATTRS", SetUtils.buildString(grpAliases));
+		return this.sqlBypassCheckTemplate.toString(vars);
+	}
+
 	@Override
 	public Error traceOperator(Graph g, Map<Identifier, GraphNode> nodes) {
 		Error err = super.traceOperator(g, nodes);
@@ -24,6 +24,7 @@ public class GenericProjection extends AbstractUnaryOperator {
 
 	private Vector<AbstractExpression> expressions;
 	private Vector<TokenIdentifier> aliases;
+	private OrderDesc orderDesc;
 
 	final StringTemplate sqlTemplate = new StringTemplate(
 			"SELECT <RESULTS> FROM <<OP1>> AS <OP1>");
@@ -54,6 +55,9 @@ public class GenericProjection extends AbstractUnaryOperator {
 		}
 		this.aliases = alias;
 
+		if (toCopy.orderDesc != null)
+			this.orderDesc = new OrderDesc(toCopy.orderDesc);
+
 		type = EnumOperator.GENERIC_PROJECTION;
 	}
 
@@ -82,6 +86,37 @@ public class GenericProjection extends AbstractUnaryOperator {
 		return aliases;
 	}
 
+	/**
+	 * Removes expression i from projection unless it is used as sort key
+	 * 
+	 * @param i
+	 * @return false if expression is a sort key and was not removed
+	 */
+	public boolean removeExpression(int i) {
+		if (this.orderDesc != null && !this.orderDesc.removePosition(i))
+			return false;
+
+		this.expressions.remove(i);
+		this.aliases.remove(i);
+		return true;
+	}
+
+	public boolean isSortKey(int i) {
+		return this.orderDesc != null && this.orderDesc.isSortKey(i);
+	}
+
+	public OrderDesc getOrderDesc() {
+		return orderDesc;
+	}
+
+	public void setOrderDesc(OrderDesc orderDesc) {
+		this.orderDesc = orderDesc;
+	}
+
+	public boolean hasLimit() {
+		return this.orderDesc != null && this.orderDesc.hasLimit();
+	}
+
 	// methods
 	@Override
 	public String toSqlString() {
@@ -95,6 +130,8 @@ public class GenericProjection extends AbstractUnaryOperator {
 		vars.put("RESULTS",
 				SetUtils.buildAliasString(expressionVec, resultAttributesToSQL()));
 		vars.put("OP1", getChild().getOperatorId().toString());
+		if (this.orderDesc != null)
+			return sqlTemplate.toString(vars) + this.orderDesc.toSqlString();
 		return sqlTemplate.toString(vars);
 	}
 
@@ -112,6 +149,11 @@ public class GenericProjection extends AbstractUnaryOperator {
 			footer.append(AbstractToken.NEWLINE);
 			footer.append("Aliases: ");
 			footer.append(this.aliases.toString());
+			if (this.orderDesc != null) {
+				footer.append(AbstractToken.NEWLINE);
+				footer.append("Order: ");
+				footer.append(this.orderDesc.toString());
+			}
 			if (node.getInfo().getFooter() != null) {
 				footer.append(AbstractToken.NEWLINE);
 				footer.append(node.getInfo().getFooter());
@@ -161,6 +203,9 @@ public class GenericProjection extends AbstractUnaryOperator {
 			alias.add(ti);
 		}
 		gp.aliases = alias;
+
+		if (this.orderDesc != null)
+			gp.orderDesc = new OrderDesc(this.orderDesc);
 		return gp;
 	}
 }
@@ -0,0 +1,122 @@
+package org.xdb.funsql.compile.operator;
+
+import java.io.Serializable;
+import java.util.Vector;
+
+import org.xdb.funsql.compile.tokens.AbstractToken;
+
+/**
+ * Describes the ORDER BY and LIMIT clause of an operator.
+ *
+ * Sort keys are referenced by their position in the result of the operator
+ * and thus do not depend on renaming of attributes during code generation.
+ */
+public class OrderDesc implements Serializable {
+	private static final long serialVersionUID = 4829012372251386740L;
+
+	private static final String ORDER_BY = "ORDER BY";
+	private static final String DESC = "DESC";
+	private static final String LIMIT = "LIMIT";
+
+	private Vector<Integer> positions = new Vector<Integer>();
+	private Vector<Boolean> descending = new Vector<Boolean>();
+	private int limit = -1;
+
+	// constructors
+	public OrderDesc() {
+	}
+
+	public OrderDesc(OrderDesc toCopy) {
+		this.positions.addAll(toCopy.positions);
+		this.descending.addAll(toCopy.descending);
+		this.limit = toCopy.limit;
+	}
+
+	// getters and setters
+	public void addOrderPosition(int position, boolean desc) {
+		this.positions.add(position);
+		this.descending.add(desc);
+	}
+
+	public Vector<Integer> getPositions() {
+		return this.positions;
+	}
+
+	public boolean isDescending(int i) {
+		return this.descending.get(i);
+	}
+
+	public boolean isOrdered() {
+		return this.positions.size() > 0;
+	}
+
+	public boolean hasLimit() {
+		return this.limit >= 0;
+	}
+
+	public int getLimit() {
+		return this.limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	public boolean isSortKey(int i) {
+		return this.positions.contains(i);
+	}
+
+	/**
+	 * Removes result position i and shifts all sort keys behind it. A
+	 * position which is used as sort key can not be removed.
+	 *
+	 * @param i
+	 * @return false if position i is a sort key
+	 */
+	public boolean removePosition(int i) {
+		if (this.isSortKey(i))
+			return false;
+
+		for (int j = 0; j < this.positions.size(); ++j) {
+			int pos = this.positions.get(j);
+			if (pos > i)
+				this.positions.set(j, pos - 1);
+		}
+		return true;
+	}
+
+	// methods
+	/**
+	 * Generates ORDER BY and LIMIT clause which can be appended to a SELECT
+	 * statement (sort keys are given by their 1-based position)
+	 *
+	 * @return
+	 */
+	public String toSqlString() {
+		StringBuffer sql = new StringBuffer();
+		if (this.isOrdered()) {
+			sql.append(AbstractToken.BLANK);
+			sql.append(ORDER_BY);
+			for (int i = 0; i < this.positions.size(); ++i) {
+				sql.append(i == 0 ? AbstractToken.BLANK : ", ");
+				sql.append(this.positions.get(i) + 1);
+				if (this.descending.get(i)) {
+					sql.append(AbstractToken.BLANK);
+					sql.append(DESC);
+				}
+			}
+		}
+		if (this.hasLimit()) {
+			sql.append(AbstractToken.BLANK);
+			sql.append(LIMIT);
+			sql.append(AbstractToken.BLANK);
+			sql.append(this.limit);
+		}
+		return sql.toString();
+	}
+
+	@Override
+	public String toString() {
+		return this.toSqlString().trim();
+	}
+}
@@ -1,8 +1,11 @@
 package org.xdb.funsql.compile.operator;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
@@ -37,6 +40,9 @@ public class ResultDesc implements Serializable, Cloneable {
 		PKS.add("R_REGIONKEY");
 	}
 
+	// average width of string values in bytes
+	private static final int STRING_WIDTH = 32;
+
 	// attribute
 	private Vector<TokenAttribute> attributes;// attributes
 	private Vector<EnumSimpleType> types; // types
@@ -44,7 +50,12 @@ public class ResultDesc implements Serializable, Cloneable {
 	private boolean materialize = false;
 	private boolean repartition = false;
 	private PartitionDesc rePartDesc = null; // only set for repartitioning
+	private PartitionDesc joinPartDesc = null; // only set for join inputs which may switch strategy at run time
+	private boolean joinKeyPartitioned = false; // other join input is partitioned by join key
+	private BloomFilterDesc bloomFilter = null; // only set for filtered results
 	protected int partitionCnt = 1;
+	private BitSet activePartitions = null; // null: all partitions are active
+	private double estimatedRows = -1; // estimated rows of all partitions
 
 	// constructors
 	public ResultDesc() {
@@ -71,9 +82,17 @@ public class ResultDesc implements Serializable, Cloneable {
 		this.materialize(rDesc.materialize);
 		this.repartition = rDesc.repartition;
 		this.partitionCnt = rDesc.partitionCnt;
+		this.estimatedRows = rDesc.estimatedRows;
+		if (rDesc.activePartitions != null)
+			this.activePartitions = (BitSet) rDesc.activePartitions.clone();
 
 		if (this.repartition)
 			this.rePartDesc = new PartitionDesc(rDesc.rePartDesc);
+		if (rDesc.joinPartDesc != null)
+			this.joinPartDesc = new PartitionDesc(rDesc.joinPartDesc);
+		this.joinKeyPartitioned = rDesc.joinKeyPartitioned;
+		if (rDesc.bloomFilter != null)
+			this.bloomFilter = new BloomFilterDesc(rDesc.bloomFilter);
 	}
 
 	public ResultDesc(int size) {
@@ -153,11 +172,147 @@ public class ResultDesc implements Serializable, Cloneable {
 		return this.partitionCnt;
 	}
 
+	/**
+	 * Sets re-partitioning by join key for an input of an equi join which
+	 * may be switched between re-partitioning and broadcasting at run time
+	 * 
+	 * @param joinPartDesc
+	 * @param joinKeyPartitioned
+	 *            true if other input of join is partitioned by join key
+	 */
+	public void setJoinPartitionDesc(PartitionDesc joinPartDesc,
+			boolean joinKeyPartitioned) {
+		this.joinPartDesc = joinPartDesc;
+		this.joinKeyPartitioned = joinKeyPartitioned;
+	}
+
+	public PartitionDesc getJoinPartitionDesc() {
+		return this.joinPartDesc;
+	}
+
+	public boolean isJoinKeyPartitioned() {
+		return this.joinKeyPartitioned;
+	}
+
+	public void setBloomFilter(BloomFilterDesc bloomFilter) {
+		this.bloomFilter = bloomFilter;
+	}
+
+	public BloomFilterDesc getBloomFilter() {
+		return this.bloomFilter;
+	}
+
 	public void setPartitionCount(int cnt) {
 		this.partitionCnt = cnt;
 	}
 
+	/**
+	 * Restricts result to given partitions (e.g., after static partition
+	 * pruning); null activates all partitions
+	 * 
+	 * @param partitions
+	 */
+	public void setActivePartitions(BitSet partitions) {
+		this.activePartitions = partitions;
+	}
+
+	public boolean isPruned() {
+		return this.activePartitions != null;
+	}
+
+	public boolean isPartitionActive(int partNum) {
+		return this.activePartitions == null
+				|| this.activePartitions.get(partNum);
+	}
+
+	public int getActivePartitionCount() {
+		if (this.activePartitions == null)
+			return this.partitionCnt;
+		return this.activePartitions.cardinality();
+	}
+
+	public List<Integer> getActivePartitions() {
+		List<Integer> partitions = new ArrayList<Integer>();
+		for (int i = 0; i < this.partitionCnt; ++i) {
+			if (this.isPartitionActive(i))
+				partitions.add(i);
+		}
+		return partitions;
+	}
+
+	public void setEstimatedRows(double rows) {
+		this.estimatedRows = rows;
+	}
+
+	public double getEstimatedRows() {
+		return this.estimatedRows;
+	}
+
+	public boolean hasEstimate() {
+		return this.estimatedRows >= 0;
+	}
+
+	public double getEstimatedRowsPerPartition() {
+		return this.estimatedRows / Math.max(1, this.getActivePartitionCount());
+	}
+
+	public double getEstimatedBytes() {
+		return this.estimatedRows * this.getRowWidth();
+	}
+
+	public double getEstimatedBytesPerPartition() {
+		return this.getEstimatedRowsPerPartition() * this.getRowWidth();
+	}
+
 	// methods
+	/**
+	 * Returns estimated width of a result row in bytes
+	 * 
+	 * @return
+	 */
+	public int getRowWidth() {
+		int width = 0;
+		for (EnumSimpleType type : this.types) {
+			switch (type) {
+			case SQL_INTEGER:
+				width += 4;
+				break;
+			case SQL_DECIMAL:
+				width += 8;
+				break;
+			case SQL_DATE:
+				width += 3;
+				break;
+			case SQL_CHAR:
+			case SQL_VARCHAR:
+				width += STRING_WIDTH;
+				break;
+			default:
+				break;
+			}
+		}
+		return width;
+	}
+
+	/**
+	 * Removes all attributes (and their types) whose names are not contained
+	 * in the given set
+	 * 
+	 * @param names
+	 * @return true if attributes were removed
+	 */
+	public boolean retainAttributes(Set<String> names) {
+		boolean removed = false;
+		for (int i = this.attributes.size() - 1; i >= 0; --i) {
+			if (!names.contains(this.attributes.get(i).getName().getValue())) {
+				this.attributes.remove(i);
+				this.types.remove(i);
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
 	public Map<AbstractToken, EnumSimpleType> createAttribute2TypeMap() {
 		Map<AbstractToken, EnumSimpleType> exprTypes = new HashMap<AbstractToken, EnumSimpleType>();
 		for (int i = 0; i < this.attributes.size(); ++i) {
@@ -236,12 +391,32 @@ public class ResultDesc implements Serializable, Cloneable {
 		if (Config.TRACE_COMPILE_PLAN_HEADER_RESULT_PARTITIONING) {
 			value.append("Partitions: ");
 			value.append(this.partitionCnt);
+			if (this.activePartitions != null) {
+				value.append(" (active: ");
+				value.append(this.activePartitions);
+				value.append(")");
+			}
 			if (this.repartition && this.rePartDesc != null) {
 				value.append(AbstractToken.NEWLINE);
 				value.append("Re-Partitioning: ");
 				value.append(this.rePartDesc);
 				value.append(AbstractToken.NEWLINE);
 			}
+			if (this.bloomFilter != null) {
+				value.append(AbstractToken.NEWLINE);
+				value.append("Bloom filter: ");
+				value.append(this.bloomFilter);
+			}
+		}
+
+		if (Config.TRACE_COMPILE_PLAN_HEADER_RESULT_ESTIMATES
+				&& this.hasEstimate()) {
+			value.append(AbstractToken.NEWLINE);
+			value.append("Estimated rows: ");
+			value.append(Math.round(this.estimatedRows));
+			value.append(AbstractToken.NEWLINE);
+			value.append("Estimated bytes: ");
+			value.append(Math.round(this.getEstimatedBytes()));
 		}
 		return value.toString();
 	}
@@ -275,6 +450,9 @@ public class ResultDesc implements Serializable, Cloneable {
 		if (this.repartition) {
 			this.rePartDesc.renameAttributes(renamedAttributes);
 		}
+		if (this.joinPartDesc != null) {
+			this.joinPartDesc.renameAttributes(renamedAttributes);
+		}
 		return renamed;
 	}
 }
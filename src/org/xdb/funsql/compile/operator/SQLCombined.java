@@ -61,6 +61,9 @@ public class SQLCombined extends AbstractJoinOperator {
 	// group by clause
 	private Vector<AbstractExpression> groupExpressions = new Vector<AbstractExpression>();
 
+	// order by and limit clause
+	private OrderDesc orderDesc;
+
 	// constructor
 	public SQLCombined(CompilePlan cplan, SQLJoin toCopy) {
 		super(toCopy);
@@ -100,6 +103,7 @@ public class SQLCombined extends AbstractJoinOperator {
 		
 		this.havingPred = sqlU.getHavingPred();
 		this.groupExpressions.addAll(sqlU.getGroupExpressions());
+		this.orderDesc = sqlU.getOrderDesc();
 
 		// rename expressions
 		this.renameExpression(this.selectExpressions);
@@ -245,6 +249,9 @@ public class SQLCombined extends AbstractJoinOperator {
 		templateString = templateString + getHavingClause();
 		// append group by
 		templateString = templateString + getGroupByClause();
+		// append order by and limit
+		if (this.orderDesc != null)
+			templateString = templateString + this.orderDesc.toSqlString();
 
 		StringTemplate sqlTemplate = new StringTemplate(templateString);
 
@@ -62,6 +62,9 @@ public class SQLUnary extends AbstractUnaryOperator {
 	// group by clause
 	private Vector<AbstractExpression> groupExpressions = new Vector<AbstractExpression>();
 
+	// order by and limit clause
+	private OrderDesc orderDesc;
+
 	// other info
 	private Map<TokenIdentifier, AbstractExpression> replaceExprMap = new HashMap<TokenIdentifier, AbstractExpression>();
 	private int countOps = 0;
@@ -119,6 +122,10 @@ public class SQLUnary extends AbstractUnaryOperator {
 		this.groupExpressions = groupExpressions;
 	}
 
+	public OrderDesc getOrderDesc() {
+		return orderDesc;
+	}
+
 	public Map<TokenIdentifier, AbstractExpression> getReplaceExprMap() {
 		return replaceExprMap;
 	}
@@ -193,6 +200,9 @@ public class SQLUnary extends AbstractUnaryOperator {
 
 		// exchange replace map
 		this.replaceExprMap = newReplaceMap;
+
+		// add order info
+		this.orderDesc = op.getOrderDesc();
 		
 		return true;
 	}
@@ -358,6 +368,10 @@ public class SQLUnary extends AbstractUnaryOperator {
 		// group-by clause
 
 		sqlStmt.append(getGroupByClause());
+
+		// order-by and limit clause
+		if (this.orderDesc != null)
+			sqlStmt.append(this.orderDesc.toSqlString());
 		return sqlStmt.toString();
 	}
 
@@ -2,21 +2,36 @@ package org.xdb.funsql.compile.operator;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.ComplexExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.EnumPredicateType;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
 import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.funsql.compile.tokens.AbstractTokenOperand;
 import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+import org.xdb.funsql.compile.tokens.TokenParameter;
 import org.xdb.metadata.Attribute;
 import org.xdb.metadata.Connection;
 import org.xdb.metadata.EnumPartitionType;
 import org.xdb.metadata.Partition;
 import org.xdb.metadata.PartitionAttribute;
 import org.xdb.metadata.Table;
+import org.xdb.tools.partitioner.Utils;
 import org.xdb.utils.Identifier;
 import org.xdb.utils.StringTemplate;
 
@@ -28,6 +43,9 @@ public class TableOperator extends AbstractCompileOperator {
 	//public static final String TABLE_PREFIX = "_";
 	public static final String PART_PREFIX = "_P";
 	
+	// maximal number of key combinations hashed for partition pruning
+	private static final int MAX_PRUNING_KEYS = 1024;
+	
 	private final StringTemplate sqlTemplate = new StringTemplate("<<OP1>>");
 	
 	// attributes
@@ -103,6 +121,10 @@ public class TableOperator extends AbstractCompileOperator {
 		return this.table.getName()+PART_PREFIX+partNum;
 	}
 	
+	public Table getTable() {
+		return this.table;
+	}
+
 	public void setTable(Table table) {
 		this.table = table;
 	}
@@ -140,6 +162,153 @@ public class TableOperator extends AbstractCompileOperator {
 	
 	
 	// methods
+	/**
+	 * Returns the partitions of a hash partitioned table which can contain
+	 * tuples satisfying all given conjuncts. Returns null if not every
+	 * partition attribute is restricted to integer literals by an equality
+	 * predicate or a disjunction of equality predicates (i.e., an IN list),
+	 * or if a concatenated key does not fit into a long (the partitioner can
+	 * not hash such keys either). The partitions are calculated with the hash
+	 * function of the data partitioner which was used to load the table.
+	 * 
+	 * @param conjuncts
+	 * @return
+	 */
+	public BitSet getMatchingPartitions(Collection<AbstractPredicate> conjuncts) {
+		if (!this.isPartitioned()
+				|| this.getPartitionType() != EnumPartitionType.HASH)
+			return null;
+
+		// collect possible values of each partition attribute
+		List<Set<Integer>> partValues = new ArrayList<Set<Integer>>();
+		int keyCnt = 1;
+		for (PartitionAttribute partAtt : this.getPartitionAttributes()) {
+			String attName = ResultDesc.createResultAtt(this.getTableAlias(),
+					partAtt.getName());
+			Set<Integer> values = null;
+			for (AbstractPredicate conjunct : conjuncts) {
+				Set<Integer> conjValues = getEqualValues(conjunct, attName);
+				if (conjValues == null)
+					continue;
+				else if (values == null)
+					values = conjValues;
+				else
+					values.retainAll(conjValues);
+			}
+
+			if (values == null)
+				return null;
+
+			keyCnt *= Math.max(1, values.size());
+			if (keyCnt > MAX_PRUNING_KEYS)
+				return null;
+			partValues.add(values);
+		}
+
+		BitSet partitions = new BitSet(this.getPartitionCount());
+		try {
+			this.addMatchingPartitions(partitions, partValues,
+					new String[partValues.size()], 0);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return partitions;
+	}
+
+	private void addMatchingPartitions(BitSet partitions,
+			List<Set<Integer>> partValues, String[] key, int i) {
+		if (i == key.length) {
+			int hash = Utils.calculateHash(key);
+			partitions.set(Utils.calculatePartition(hash,
+					this.getPartitionCount()));
+			return;
+		}
+
+		for (Integer value : partValues.get(i)) {
+			key[i] = value.toString();
+			this.addMatchingPartitions(partitions, partValues, key, i + 1);
+		}
+	}
+
+	/**
+	 * Returns the values allowed for the given attribute by an equality
+	 * predicate (or a disjunction of equality predicates) or null if the
+	 * predicate does not restrict the attribute to non-negative integer
+	 * literals
+	 * 
+	 * @param pred
+	 * @param attName
+	 * @return
+	 */
+	private static Set<Integer> getEqualValues(AbstractPredicate pred,
+			String attName) {
+		if (pred.isNegated())
+			return null;
+
+		if (pred instanceof ComplexPredicate) {
+			ComplexPredicate cPred = (ComplexPredicate) pred;
+
+			// single predicate wrapped by the parser
+			if (cPred.getPredicates2().isEmpty())
+				return getEqualValues(cPred.getPredicate1(), attName);
+			if (cPred.getType() != EnumPredicateType.OR_PREDICATE)
+				return null;
+
+			Set<Integer> values = getEqualValues(cPred.getPredicate1(), attName);
+			if (values == null)
+				return null;
+			for (AbstractPredicate pred2 : cPred.getPredicates2()) {
+				Set<Integer> values2 = getEqualValues(pred2, attName);
+				if (values2 == null)
+					return null;
+				values.addAll(values2);
+			}
+			return values;
+		} else if (pred instanceof SimplePredicate) {
+			SimplePredicate sPred = (SimplePredicate) pred;
+			if (sPred.getComp() != EnumCompOperator.SQL_EQUAL)
+				return null;
+
+			Integer value = null;
+			if (isAttribute(sPred.getExpr1(), attName))
+				value = getIntegerLiteral(sPred.getExpr2());
+			else if (isAttribute(sPred.getExpr2(), attName))
+				value = getIntegerLiteral(sPred.getExpr1());
+
+			// the partitioner hashes the concatenated digits of keys
+			if (value == null || value < 0)
+				return null;
+			Set<Integer> values = new HashSet<Integer>();
+			values.add(value);
+			return values;
+		}
+		return null;
+	}
+
+	private static boolean isAttribute(AbstractExpression expr, String attName) {
+		return expr != null && expr.isAttribute()
+				&& expr.getAttribute().getName().getValue().equals(attName);
+	}
+
+	private static Integer getIntegerLiteral(AbstractExpression expr) {
+		// single operand wrapped by the parser
+		while (expr instanceof ComplexExpression && !expr.isNegated()
+				&& ((ComplexExpression) expr).getExprs2().isEmpty()) {
+			expr = ((ComplexExpression) expr).getExpr1();
+		}
+		if (!(expr instanceof SimpleExpression) || expr.isNegated())
+			return null;
+
+		SimpleExpression sExpr = (SimpleExpression) expr;
+		AbstractTokenOperand oper = sExpr.getOper();
+		// parameters are only considered if they are bound
+		if (oper instanceof TokenParameter)
+			oper = ((TokenParameter) oper).getValue();
+		if (!(oper instanceof TokenIntegerLiteral))
+			return null;
+		return ((TokenIntegerLiteral) oper).getValue();
+	}
+
 	/**
 	 * Replace table by sub-plan
 	 * 
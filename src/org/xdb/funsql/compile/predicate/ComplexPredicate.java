@@ -126,7 +126,9 @@ public class ComplexPredicate extends AbstractPredicate {
 	@Override
 	public List<AbstractPredicate> splitAnd() {
 		List<AbstractPredicate> predicates = new ArrayList<AbstractPredicate>();
-		if (this.type == EnumPredicateType.OR_PREDICATE) {
+		if (this.isNegated) {
+			predicates.add(this);
+		} else if (this.type == EnumPredicateType.OR_PREDICATE) {
 			if (this.preds2.size() == 0) {
 				return this.pred1.splitAnd();
 			}
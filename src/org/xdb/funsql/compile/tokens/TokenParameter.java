@@ -0,0 +1,83 @@
+package org.xdb.funsql.compile.tokens;
+
+import java.util.regex.Pattern;
+
+import org.xdb.funsql.types.EnumLiteralType;
+import org.xdb.funsql.types.EnumSimpleType;
+
+/**
+ * Parameter marker (?) of a prepared statement. Markers are numbered in order
+ * of appearance and rendered as template variable (e.g., <PARAM1>) into the
+ * generated SQL which is instantiated with the literal when the operators
+ * are deployed. A bound literal is only used by the compiler (e.g., for
+ * partition pruning).
+ */
+public class TokenParameter extends TokenLiteral {
+	private static final long serialVersionUID = -3017846209745413519L;
+
+	private static final String KEY_PREFIX = "PARAM";
+	private static final String START_TAG = "<";
+	private static final String END_TAG = ">";
+
+	// template variable of a parameter (group 1: key)
+	public static final Pattern KEY_PATTERN = Pattern.compile(START_TAG + "("
+			+ KEY_PREFIX + "[0-9]+)" + END_TAG);
+
+	private int index;
+	private TokenLiteral value;
+
+	public TokenParameter(int index) {
+		this.index = index;
+		this.type = EnumLiteralType.SQL_NO_LITERAL;
+	}
+
+	public int getIndex() {
+		return this.index;
+	}
+
+	public TokenLiteral getValue() {
+		return this.value;
+	}
+
+	public boolean isBound() {
+		return this.value != null;
+	}
+
+	public void bind(TokenLiteral value) {
+		this.value = value;
+	}
+
+	@Override
+	public EnumSimpleType getDataType() {
+		if (this.value != null)
+			return this.value.getDataType();
+		return EnumSimpleType.SQL_NOTYPE;
+	}
+
+	/**
+	 * Returns name of template variable for parameter with given index
+	 *
+	 * @param index
+	 * @return
+	 */
+	public static String createKey(int index) {
+		return KEY_PREFIX + (index + 1);
+	}
+
+	@Override
+	public String toString() {
+		return this.toSqlString();
+	}
+
+	@Override
+	public String toSqlString() {
+		return START_TAG + createKey(this.index) + END_TAG;
+	}
+
+	@Override
+	public AbstractTokenOperand clone() {
+		TokenParameter param = new TokenParameter(this.index);
+		param.value = this.value;
+		return param;
+	}
+}
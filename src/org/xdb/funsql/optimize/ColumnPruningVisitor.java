@@ -0,0 +1,355 @@
+package org.xdb.funsql.optimize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.AbstractBottomUpTreeVisitor;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.FunctionCall;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.utils.Identifier;
+
+/**
+ * Optimizer rule which removes attributes from operator results that are not
+ * used by any consumer: first the attributes required by the parents of each
+ * operator are collected top-down (see collectRequiredAttributes), then the
+ * results are pruned bottom-up when the visitor is applied to the plan.
+ *
+ * Selections and joins return all attributes of their inputs (the generated
+ * SQL matches attributes by position). Therefore attributes only used by a
+ * selection or join are pruned above them. Operators which are not supported
+ * (function calls and combined SQL operators) keep all attributes of their
+ * inputs.
+ */
+public class ColumnPruningVisitor extends AbstractBottomUpTreeVisitor {
+	private CompilePlan plan;
+
+	// attributes required by parents of an operator (by attribute name)
+	private Map<Identifier, Set<String>> requiredAtts = new HashMap<Identifier, Set<String>>();
+
+	// operators whose result must not be pruned
+	private Set<Identifier> keepAllAtts = new HashSet<Identifier>();
+
+	// attribute names of child mapped to result attribute names of renames
+	private Map<Identifier, Map<String, String>> renameMaps = new HashMap<Identifier, Map<String, String>>();
+
+	private boolean modifiedPlan = false;
+
+	// constructors
+	public ColumnPruningVisitor(CompilePlan plan) {
+		super();
+		this.plan = plan;
+	}
+
+	// getter and setter
+	/**
+	 * Returns true if plan was modified by optimization rule
+	 *
+	 * @return
+	 */
+	public boolean modifiedPlan() {
+		return this.modifiedPlan;
+	}
+
+	// methods
+	/**
+	 * Collects attributes required from each operator visiting parents before
+	 * their children
+	 *
+	 * @return
+	 */
+	public Error collectRequiredAttributes() {
+		Error err = new Error();
+
+		// results of roots are returned to client
+		for (Identifier rootId : this.plan.getRootIds()) {
+			this.keepAllAtts.add(rootId);
+		}
+
+		List<AbstractCompileOperator> ops = new ArrayList<AbstractCompileOperator>();
+		Set<Identifier> visited = new HashSet<Identifier>();
+		for (AbstractCompileOperator root : this.plan.getRootOps()) {
+			this.addPostOrder(root, ops, visited);
+		}
+
+		for (int i = ops.size() - 1; i >= 0; --i) {
+			this.collectRequiredAttributes(ops.get(i));
+		}
+		return err;
+	}
+
+	private void addPostOrder(AbstractCompileOperator op,
+			List<AbstractCompileOperator> ops, Set<Identifier> visited) {
+		if (!visited.add(op.getOperatorId()))
+			return;
+
+		for (AbstractCompileOperator child : op.getChildren()) {
+			this.addPostOrder(child, ops, visited);
+		}
+		ops.add(op);
+	}
+
+	private void collectRequiredAttributes(AbstractCompileOperator op) {
+		// attributes of own result which are used
+		Set<String> usedAtts = new HashSet<String>();
+		if (isSupported(op)) {
+			for (TokenAttribute att : op.getResult().getAttributes()) {
+				String name = att.getName().getValue();
+				if (this.keepAllAtts.contains(op.getOperatorId())
+						|| this.getRequired(op).contains(name))
+					usedAtts.add(name);
+			}
+		}
+
+		switch (op.getType()) {
+		case TABLE:
+			break;
+		case GENERIC_SELECTION:
+			GenericSelection gs = (GenericSelection) op;
+			usedAtts.addAll(getNames(gs.getPredicate().getAttributes()));
+			this.require(gs.getChild(), usedAtts);
+			break;
+		case EQUI_JOIN:
+			EquiJoin ej = (EquiJoin) op;
+			usedAtts.add(ej.getLeftTokenAttribute().getName().getValue());
+			usedAtts.add(ej.getRightTokenAttribute().getName().getValue());
+
+			// split attributes among inputs
+			Set<String> leftAtts = getNames(ej.getLeftChild().getResult()
+					.getAttributes());
+			leftAtts.retainAll(usedAtts);
+			usedAtts.removeAll(leftAtts);
+			this.require(ej.getLeftChild(), leftAtts);
+			this.require(ej.getRightChild(), usedAtts);
+			break;
+		case GENERIC_PROJECTION:
+			GenericProjection gp = (GenericProjection) op;
+			Set<String> projAtts = new HashSet<String>();
+			for (int i = 0; i < gp.getExpressions().size(); ++i) {
+				// sort keys are kept to not change order and limit
+				if (usedAtts.contains(gp.getAlias(i).getValue()) || i == 0
+						|| gp.isSortKey(i))
+					projAtts.addAll(getNames(gp.getExpression(i)
+							.getAttributes()));
+			}
+			this.require(gp.getChild(), projAtts);
+			break;
+		case GENERIC_AGGREGATION:
+			GenericAggregation ga = (GenericAggregation) op;
+			Set<String> aggAtts = new HashSet<String>();
+			Vector<TokenIdentifier> aggAliases = ga.getAggregationAliases();
+			int i = 0;
+			for (AbstractExpression aggExpr : ga.getAggregationExpressions()) {
+				if (usedAtts.contains(aggAliases.get(i).getValue()) || i == 0)
+					aggAtts.addAll(getNames(aggExpr.getAttributes()));
+				i++;
+			}
+			for (AbstractExpression groupExpr : ga.getGroupExpressions()) {
+				aggAtts.addAll(getNames(groupExpr.getAttributes()));
+			}
+			this.require(ga.getChild(), aggAtts);
+			break;
+		case RENAME:
+			Rename ro = (Rename) op;
+			Map<String, String> renameMap = new HashMap<String, String>();
+			Set<String> childAtts = new HashSet<String>();
+			ResultDesc childDesc = ro.getChild().getResult();
+			for (int j = 0; j < ro.getResult().size() && j < childDesc.size(); ++j) {
+				String childName = childDesc.getAttribute(j).getName()
+						.getValue();
+				String name = ro.getResult().getAttribute(j).getName()
+						.getValue();
+				renameMap.put(childName, name);
+				if (usedAtts.contains(name))
+					childAtts.add(childName);
+			}
+			this.renameMaps.put(ro.getOperatorId(), renameMap);
+			this.require(ro.getChild(), childAtts);
+			break;
+		default:
+			// keep inputs of unsupported operators
+			for (AbstractCompileOperator child : op.getChildren()) {
+				this.keepAllAtts.add(child.getOperatorId());
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Adds attributes to required attributes of operator: if an attribute
+	 * is not produced by operator all attributes are kept
+	 *
+	 * @param op
+	 * @param atts
+	 */
+	private void require(AbstractCompileOperator op, Set<String> atts) {
+		if (!isSupported(op)) {
+			this.keepAllAtts.add(op.getOperatorId());
+			return;
+		}
+
+		if (!getNames(op.getResult().getAttributes()).containsAll(atts))
+			this.keepAllAtts.add(op.getOperatorId());
+		this.getRequired(op).addAll(atts);
+	}
+
+	private static boolean isSupported(AbstractCompileOperator op) {
+		switch (op.getType()) {
+		case TABLE:
+		case GENERIC_SELECTION:
+		case EQUI_JOIN:
+		case GENERIC_PROJECTION:
+		case GENERIC_AGGREGATION:
+		case RENAME:
+			return op.hasResult();
+		default:
+			return false;
+		}
+	}
+
+	private Set<String> getRequired(AbstractCompileOperator op) {
+		Set<String> atts = this.requiredAtts.get(op.getOperatorId());
+		if (atts == null) {
+			atts = new HashSet<String>();
+			this.requiredAtts.put(op.getOperatorId(), atts);
+		}
+		return atts;
+	}
+
+	private static Set<String> getNames(Collection<TokenAttribute> atts) {
+		Set<String> names = new HashSet<String>();
+		for (TokenAttribute att : atts) {
+			names.add(att.getName().getValue());
+		}
+		return names;
+	}
+
+	private boolean prune(AbstractCompileOperator op, Set<String> atts) {
+		if (op.getResult().retainAttributes(atts)) {
+			this.modifiedPlan = true;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		if (this.keepAllAtts.contains(to.getOperatorId()))
+			return new Error();
+
+		// at least one attribute is read from table
+		Set<String> atts = new HashSet<String>(this.getRequired(to));
+		atts.retainAll(getNames(to.getResult().getAttributes()));
+		if (atts.isEmpty())
+			atts.add(to.getResult().getAttribute(0).getName().getValue());
+
+		this.prune(to, atts);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		this.prune(gs, getNames(gs.getChild().getResult().getAttributes()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		Set<String> atts = getNames(ej.getLeftChild().getResult()
+				.getAttributes());
+		atts.addAll(getNames(ej.getRightChild().getResult().getAttributes()));
+		this.prune(ej, atts);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		if (this.keepAllAtts.contains(gp.getOperatorId()))
+			return new Error();
+
+		Set<String> required = this.getRequired(gp);
+		Set<String> atts = new HashSet<String>();
+		for (int i = gp.getExpressions().size() - 1; i >= 0; --i) {
+			String alias = gp.getAlias(i).getValue();
+			if (required.contains(alias) || i == 0 || !gp.removeExpression(i))
+				atts.add(alias);
+		}
+		this.prune(gp, atts);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		if (this.keepAllAtts.contains(ga.getOperatorId()))
+			return new Error();
+
+		// group attributes are kept to not change groups
+		Set<String> required = this.getRequired(ga);
+		Set<String> atts = getNames(ga.getResult().getAttributes());
+		Vector<TokenIdentifier> aggAliases = ga.getAggregationAliases();
+		for (int i = aggAliases.size() - 1; i > 0; --i) {
+			String alias = aggAliases.get(i).getValue();
+			if (!required.contains(alias)) {
+				ga.removeAggregationExpression(i);
+				atts.remove(alias);
+			}
+		}
+		this.prune(ga, atts);
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		Map<String, String> renameMap = this.renameMaps.get(ro.getOperatorId());
+		if (renameMap == null)
+			return new Error();
+
+		Set<String> atts = new HashSet<String>();
+		for (TokenAttribute childAtt : ro.getChild().getResult()
+				.getAttributes()) {
+			atts.add(renameMap.get(childAtt.getName().getValue()));
+		}
+		this.prune(ro, atts);
+		return new Error();
+	}
+
+	@Override
+	public Error visitFunctionCall(FunctionCall fc) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin ej) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		return new Error();
+	}
+}
@@ -0,0 +1,354 @@
+package org.xdb.funsql.optimize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.AbstractBottomUpTreeVisitor;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.FunctionCall;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.EnumPredicateType;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
+import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.utils.Identifier;
+
+/**
+ * Optimizer rule which eliminates common sub-plans (e.g., the same filtered
+ * join used by two variables of a function): operators are hash-consed
+ * bottom-up, i.e., each operator gets the number of its signature which
+ * consists of its type, result, predicates and the numbers of its children.
+ * The parents of an operator whose signature was seen before are connected
+ * to the first operator with that signature and the duplicated sub-plan is
+ * removed from the plan (see removeDuplicates).
+ *
+ * A shared operator has more than one parent and is thus materialized once
+ * for all consumers (see MaterializationAnnotationVisitor). Table operators
+ * are not shared since reading a table twice is cheaper than materializing
+ * it. Roots, function calls and combined SQL operators are never shared.
+ */
+public class CommonSubPlanVisitor extends AbstractBottomUpTreeVisitor {
+	private static final String NUMBER_PREFIX = "#";
+
+	private CompilePlan plan;
+
+	// numbers of signatures
+	private Map<String, Integer> signatures = new HashMap<String, Integer>();
+
+	// signature number of each visited operator
+	private Map<Identifier, Integer> opNumbers = new HashMap<Identifier, Integer>();
+
+	// first operator found for each signature number
+	private Map<Integer, AbstractCompileOperator> sharedOps = new HashMap<Integer, AbstractCompileOperator>();
+
+	// operators of duplicated sub-plans
+	private List<AbstractCompileOperator> duplicateOps = new ArrayList<AbstractCompileOperator>();
+
+	// constructors
+	public CommonSubPlanVisitor(CompilePlan plan) {
+		super();
+		this.plan = plan;
+	}
+
+	// getter and setter
+	/**
+	 * Returns true if plan was modified by optimization rule
+	 *
+	 * @return
+	 */
+	public boolean modifiedPlan() {
+		return !this.duplicateOps.isEmpty();
+	}
+
+	/**
+	 * Returns number of operators removed from plan
+	 *
+	 * @return
+	 */
+	public int getDuplicateOps() {
+		return this.duplicateOps.size();
+	}
+
+	// methods
+	/**
+	 * Removes operators of duplicated sub-plans from plan (must be called
+	 * after the visitor was applied to all roots)
+	 *
+	 * @return
+	 */
+	public Error removeDuplicates() {
+		for (AbstractCompileOperator op : this.duplicateOps) {
+			this.plan.removeOperator(op.getOperatorId());
+		}
+		return new Error();
+	}
+
+	/**
+	 * Numbers operator by its signature and replaces it by the first operator
+	 * with the same signature
+	 *
+	 * @param op
+	 * @param content
+	 *            description of what the operator computes (see mask)
+	 */
+	private void share(AbstractCompileOperator op, String content) {
+		String signature = this.createSignature(op, content);
+		Integer number = this.signatures.get(signature);
+		if (number == null) {
+			number = this.signatures.size();
+			this.signatures.put(signature, number);
+		}
+		this.opNumbers.put(op.getOperatorId(), number);
+
+		if (op.isTable()
+				|| this.plan.getRootIds().contains(op.getOperatorId()))
+			return;
+
+		AbstractCompileOperator sharedOp = this.sharedOps.get(number);
+		if (sharedOp == null) {
+			this.sharedOps.put(number, op);
+			return;
+		}
+
+		// a parent can not consume the same result twice
+		for (AbstractCompileOperator parent : op.getParents()) {
+			if (parent.findChild(sharedOp) >= 0)
+				return;
+		}
+
+		String opId = op.getOperatorId().toString();
+		String sharedId = sharedOp.getOperatorId().toString();
+		for (AbstractCompileOperator parent : op.getParents()) {
+			parent.setChild(parent.findChild(op), sharedOp);
+			parent.renameTableOfAttributes(opId, sharedId);
+			sharedOp.addParent(parent);
+		}
+		op.clearParents();
+		this.removeSubPlan(op);
+	}
+
+	/**
+	 * Removes operator and all operators below which are not consumed by any
+	 * other operator
+	 *
+	 * @param op
+	 */
+	private void removeSubPlan(AbstractCompileOperator op) {
+		this.duplicateOps.add(op);
+		for (AbstractCompileOperator child : op.getChildren()) {
+			child.removeParent(op);
+			if (child.getParents().isEmpty()
+					&& !this.plan.getRootIds().contains(child.getOperatorId()))
+				this.removeSubPlan(child);
+		}
+	}
+
+	/**
+	 * Creates signature of operator
+	 *
+	 * @param op
+	 * @param content
+	 * @return
+	 */
+	private String createSignature(AbstractCompileOperator op, String content) {
+		StringBuffer signature = new StringBuffer();
+		signature.append(op.getType());
+		signature.append(AbstractToken.LBRACE);
+		for (AbstractCompileOperator child : op.getChildren()) {
+			signature.append(this.getNumber(child));
+			signature.append(AbstractToken.COMMA);
+		}
+		signature.append(AbstractToken.RBRACE);
+
+		for (int i = 0; i < op.getResult().getNumAttributes(); ++i) {
+			signature.append(op.getResult().getAttribute(i).getName()
+					.getValue());
+			signature.append(AbstractToken.BLANK);
+			signature.append(op.getResult().getType(i));
+			signature.append(AbstractToken.COMMA);
+		}
+		signature.append(content);
+		return signature.toString();
+	}
+
+	/**
+	 * Returns signature number of operator (operator id if it was not
+	 * numbered)
+	 *
+	 * @param op
+	 * @return
+	 */
+	private String getNumber(AbstractCompileOperator op) {
+		Integer number = this.opNumbers.get(op.getOperatorId());
+		if (number == null)
+			return op.getOperatorId().toString();
+		return NUMBER_PREFIX + number;
+	}
+
+	/**
+	 * Replaces ids of operator and its children in value (e.g., in attributes
+	 * of the children) by their signature numbers
+	 *
+	 * @param op
+	 * @param value
+	 * @return
+	 */
+	private String mask(AbstractCompileOperator op, String value) {
+		Map<String, String> ids = new HashMap<String, String>();
+		ids.put(op.getOperatorId().toString(), NUMBER_PREFIX);
+		for (AbstractCompileOperator child : op.getChildren()) {
+			ids.put(child.getOperatorId().toString(), this.getNumber(child));
+		}
+
+		StringBuffer idPattern = new StringBuffer();
+		for (String id : ids.keySet()) {
+			if (idPattern.length() > 0)
+				idPattern.append("|");
+			idPattern.append(Pattern.quote(id));
+		}
+
+		Matcher matcher = Pattern.compile(
+				"(?<!\\w)(" + idPattern.toString() + ")(?!\\w)").matcher(
+				value);
+		StringBuffer maskedValue = new StringBuffer();
+		while (matcher.find()) {
+			matcher.appendReplacement(maskedValue,
+					Matcher.quoteReplacement(ids.get(matcher.group(1))));
+		}
+		matcher.appendTail(maskedValue);
+		return maskedValue.toString();
+	}
+
+	/**
+	 * Creates a string for predicate of operator which is equal for
+	 * predicates that only differ in the order of their conjuncts, disjuncts
+	 * or the sides of an equality
+	 *
+	 * @param op
+	 * @param pred
+	 * @return
+	 */
+	private String canonicalize(AbstractCompileOperator op,
+			AbstractPredicate pred) {
+		if (pred.isNegated())
+			return this.mask(op, pred.toSqlString());
+
+		if (pred instanceof SimplePredicate) {
+			SimplePredicate sp = (SimplePredicate) pred;
+			if (sp.getComp() != EnumCompOperator.SQL_EQUAL)
+				return this.mask(op, pred.toSqlString());
+
+			List<String> exprs = new ArrayList<String>(2);
+			exprs.add(this.mask(op, sp.getExpr1().toSqlString()));
+			exprs.add(this.mask(op, sp.getExpr2().toSqlString()));
+			Collections.sort(exprs);
+			return AbstractToken.LBRACE + exprs.get(0) + AbstractToken.BLANK
+					+ sp.getComp() + AbstractToken.BLANK + exprs.get(1)
+					+ AbstractToken.RBRACE;
+		}
+
+		ComplexPredicate cp = (ComplexPredicate) pred;
+		if (cp.getType() != EnumPredicateType.AND_PREDICATE
+				&& cp.getType() != EnumPredicateType.OR_PREDICATE)
+			return this.mask(op, pred.toSqlString());
+
+		Vector<AbstractPredicate> preds2 = cp.getPredicates2();
+		List<String> preds = new ArrayList<String>(preds2.size() + 1);
+		preds.add(this.canonicalize(op, cp.getPredicate1()));
+		for (int i = 0; i < preds2.size(); ++i) {
+			if (cp.getOperator(i) != cp.getOperator(0))
+				return this.mask(op, pred.toSqlString());
+			preds.add(this.canonicalize(op, preds2.get(i)));
+		}
+		if (preds2.isEmpty())
+			return preds.get(0);
+
+		Collections.sort(preds);
+		StringBuffer value = new StringBuffer();
+		value.append(AbstractToken.LBRACE);
+		for (int i = 0; i < preds.size(); ++i) {
+			if (i > 0) {
+				value.append(AbstractToken.BLANK);
+				value.append(cp.getOperator(0));
+				value.append(AbstractToken.BLANK);
+			}
+			value.append(preds.get(i));
+		}
+		value.append(AbstractToken.RBRACE);
+		return value.toString();
+	}
+
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		this.share(to, to.getTable().hashKey());
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		this.share(gs, this.canonicalize(gs, gs.getPredicate()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		this.share(ej, this.mask(ej, ej.toSqlString()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		this.share(gp, this.mask(gp, gp.toSqlString()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		this.share(ga, this.mask(ga, ga.toSqlString()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		this.share(ro, this.mask(ro, ro.toSqlString()));
+		return new Error();
+	}
+
+	@Override
+	public Error visitFunctionCall(FunctionCall fc) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin ej) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		return new Error();
+	}
+}
@@ -0,0 +1,581 @@
+package org.xdb.funsql.optimize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.analyze.operator.EstimateResultVisitor;
+import org.xdb.funsql.compile.operator.PartitionDesc;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.EnumPartitionType;
+import org.xdb.metadata.PartitionAttribute;
+import org.xdb.metadata.Table;
+
+/**
+ * Cost-based join enumeration for the tables of a from clause: enumerates all
+ * pairs of connected sub-graphs and their connected complements of the join
+ * graph (DPccp) and therefore also considers bushy plans. Costs are the sum of
+ * estimated intermediate cardinalities plus the rows which must be moved
+ * because the inputs of a join are not co-partitioned. Join graphs with more
+ * than COMPILE_JOIN_DP_LIMIT tables are ordered greedily.
+ */
+public class JoinEnumerator {
+
+	/**
+	 * Join plan for a set of tables
+	 */
+	public static class JoinPlan {
+		// tables in plan (bit set)
+		private final long tables;
+
+		// table alias for leaves
+		private TokenIdentifier tableAlias;
+
+		// inputs and predicate for joins
+		private JoinPlan left;
+		private JoinPlan right;
+		private AbstractPredicate joinPred;
+		private TokenAttribute leftAtt;
+		private TokenAttribute rightAtt;
+
+		// estimates
+		private double rows;
+		private double cost;
+		private int partCount = 1;
+		private Set<PartitionDesc> partDescs = new HashSet<PartitionDesc>();
+
+		private JoinPlan(long tables) {
+			this.tables = tables;
+		}
+
+		public boolean isLeaf() {
+			return this.tableAlias != null;
+		}
+
+		public TokenIdentifier getTableAlias() {
+			return this.tableAlias;
+		}
+
+		public JoinPlan getLeft() {
+			return this.left;
+		}
+
+		public JoinPlan getRight() {
+			return this.right;
+		}
+
+		public AbstractPredicate getJoinPredicate() {
+			return this.joinPred;
+		}
+
+		public TokenAttribute getLeftAttribute() {
+			return this.leftAtt;
+		}
+
+		public TokenAttribute getRightAttribute() {
+			return this.rightAtt;
+		}
+
+		public double getRows() {
+			return this.rows;
+		}
+
+		public double getCost() {
+			return this.cost;
+		}
+
+		@Override
+		public String toString() {
+			if (this.isLeaf())
+				return this.tableAlias.toString();
+			return "(" + this.left + " JOIN " + this.right + ")";
+		}
+	}
+
+	// input
+	private final List<TokenIdentifier> tableAliases;
+	private final Map<String, Table> tableSymbols;
+	private final List<AbstractPredicate> wherePreds;
+
+	// join graph: equi-join predicates and neighbors per table
+	private final List<AbstractPredicate> joinPreds = new ArrayList<AbstractPredicate>();
+	private long[] neighbors;
+
+	// estimated rows of tables before and after local predicates
+	private double[] baseRows;
+
+	// best plan per set of tables
+	private final Map<Long, JoinPlan> bestPlans = new HashMap<Long, JoinPlan>();
+
+	// result
+	private JoinPlan bestPlan;
+	private int enumeratedPairs = 0;
+	private boolean greedy = false;
+	private double syntacticOrderCost = -1;
+
+	// estimates cardinalities from catalog statistics
+	private final EstimateResultVisitor estimator = new EstimateResultVisitor();
+
+	// logger
+	private final Logger logger;
+
+	// constructors
+	public JoinEnumerator(List<TokenIdentifier> tableAliases,
+			Map<String, Table> tableSymbols, List<AbstractPredicate> wherePreds) {
+		this.tableAliases = tableAliases;
+		this.tableSymbols = tableSymbols;
+		this.wherePreds = wherePreds;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPILE_SERVER);
+	}
+
+	// getters and setters
+	public JoinPlan getBestPlan() {
+		return this.bestPlan;
+	}
+
+	public int getEnumeratedPairs() {
+		return this.enumeratedPairs;
+	}
+
+	public boolean isGreedy() {
+		return this.greedy;
+	}
+
+	/**
+	 * Returns cost of joining the tables in the order of the from clause (-1
+	 * if tables can not be joined in that order)
+	 *
+	 * @return
+	 */
+	public double getSyntacticOrderCost() {
+		return this.syntacticOrderCost;
+	}
+
+	/**
+	 * Returns where predicates which are not used as join predicates by the
+	 * best plan
+	 *
+	 * @return
+	 */
+	public List<AbstractPredicate> getRemainingPredicates() {
+		List<AbstractPredicate> remaining = new ArrayList<AbstractPredicate>(
+				this.wherePreds);
+		this.removeJoinPredicates(this.bestPlan, remaining);
+		return remaining;
+	}
+
+	// methods
+	/**
+	 * Finds cheapest join plan for all tables
+	 *
+	 * @return
+	 */
+	public Error enumerate() {
+		int n = this.tableAliases.size();
+		if (n > 63) {
+			return FunSQLCompiler
+					.createGenericCompileErr("Too many tables in from clause!");
+		}
+
+		this.buildJoinGraph();
+		for (int i = 0; i < n; ++i) {
+			JoinPlan leaf = this.createLeaf(i);
+			this.bestPlans.put(leaf.tables, leaf);
+		}
+
+		long allTables = (1L << n) - 1;
+		if (n <= Config.COMPILE_JOIN_DP_LIMIT) {
+			this.enumerateDP();
+			this.bestPlan = this.bestPlans.get(allTables);
+		} else {
+			this.greedy = true;
+			this.bestPlan = this.enumerateGreedy();
+		}
+
+		if (this.bestPlan == null || this.bestPlan.tables != allTables) {
+			return FunSQLCompiler
+					.createGenericCompileErr("Cartesian product not in SQL statement supported!");
+		}
+
+		this.syntacticOrderCost = this.costSyntacticOrder();
+		this.logger.log(Level.INFO, "Join order " + this.bestPlan
+				+ ": estimated rows=" + this.bestPlan.rows + ", cost="
+				+ this.bestPlan.cost + ", syntactic order cost="
+				+ this.syntacticOrderCost + ", pairs="
+				+ this.enumeratedPairs + (this.greedy ? " (greedy)" : ""));
+		return new Error();
+	}
+
+	/**
+	 * Extracts equi-join predicates and neighbors of each table
+	 */
+	private void buildJoinGraph() {
+		int n = this.tableAliases.size();
+		this.neighbors = new long[n];
+		this.baseRows = new double[n];
+
+		for (AbstractPredicate wherePred : this.wherePreds) {
+			if (!wherePred.isEquiJoinPredicate())
+				continue;
+
+			TokenAttribute[] joinAtts = wherePred.getAttributes().toArray(
+					new TokenAttribute[2]);
+			int t1 = this.getTableIdx(joinAtts[0]);
+			int t2 = this.getTableIdx(joinAtts[1]);
+			if (t1 < 0 || t2 < 0 || t1 == t2)
+				continue;
+
+			this.joinPreds.add(wherePred);
+			this.neighbors[t1] |= (1L << t2);
+			this.neighbors[t2] |= (1L << t1);
+		}
+	}
+
+	/**
+	 * Creates plan which scans one table and estimates its cardinality after
+	 * applying local predicates
+	 *
+	 * @param tableIdx
+	 * @return
+	 */
+	private JoinPlan createLeaf(int tableIdx) {
+		TokenIdentifier tableAlias = this.tableAliases.get(tableIdx);
+		Table table = this.tableSymbols.get(tableAlias.hashKey());
+
+		JoinPlan leaf = new JoinPlan(1L << tableIdx);
+		leaf.tableAlias = tableAlias;
+		this.baseRows[tableIdx] = EstimateResultVisitor
+				.estimateTableRows(table);
+		this.estimator.addSourceAttributes(tableAlias.getValue(), table);
+
+		// apply local predicates
+		double selectivity = 1.0;
+		for (AbstractPredicate wherePred : this.wherePreds) {
+			if (this.getTables(wherePred) == leaf.tables)
+				selectivity *= this.estimator.estimateSelectivity(wherePred,
+						this.baseRows[tableIdx]);
+		}
+		leaf.rows = Math.max(1.0, this.baseRows[tableIdx] * selectivity);
+		leaf.cost = 0.0;
+
+		// partitioning of table
+		PartitionDesc partDesc = new PartitionDesc();
+		if (table.isPartioned()) {
+			leaf.partCount = (int) table.getPartitionCount();
+			partDesc.setPartCount(leaf.partCount);
+			partDesc.setTableName(table.getName());
+			partDesc.setPartitionType(table.getPartitionType());
+			if (table.getPartitionType().isReference())
+				partDesc.setRefTableName(table.getRefTable().getName());
+			for (PartitionAttribute partAtt : table.getPartitionAttributes()) {
+				partDesc.addPartAttributes(new TokenAttribute(tableAlias
+						.toString(), partAtt.getName()));
+			}
+		}
+		leaf.partDescs.add(partDesc);
+		return leaf;
+	}
+
+	/**
+	 * Enumerates connected sub-graphs and their connected complements
+	 * (DPccp): every pair is enumerated exactly once and sub-plans are
+	 * enumerated before the plans which contain them (subsets of neighbors
+	 * are therefore enumerated in ascending order)
+	 */
+	private void enumerateDP() {
+		int n = this.tableAliases.size();
+		for (int i = n - 1; i >= 0; --i) {
+			long start = 1L << i;
+			this.emitCsg(start);
+			this.enumerateCsgRec(start, lowerOrEqual(i));
+		}
+	}
+
+	private void enumerateCsgRec(long s1, long excluded) {
+		long nbrs = this.getNeighbors(s1) & ~excluded;
+		if (nbrs == 0)
+			return;
+
+		for (long sub = -nbrs & nbrs; sub != 0; sub = (sub - nbrs) & nbrs) {
+			this.emitCsg(s1 | sub);
+		}
+		for (long sub = -nbrs & nbrs; sub != 0; sub = (sub - nbrs) & nbrs) {
+			this.enumerateCsgRec(s1 | sub, excluded | nbrs);
+		}
+	}
+
+	private void emitCsg(long s1) {
+		long excluded = s1 | lowerOrEqual(Long.numberOfTrailingZeros(s1));
+		long nbrs = this.getNeighbors(s1) & ~excluded;
+
+		for (int i = 63 - Long.numberOfLeadingZeros(nbrs); i >= 0; --i) {
+			long s2 = 1L << i;
+			if ((nbrs & s2) == 0)
+				continue;
+
+			this.emitCsgCmp(s1, s2);
+			this.enumerateCmpRec(s1, s2, excluded | (lowerOrEqual(i) & nbrs));
+		}
+	}
+
+	private void enumerateCmpRec(long s1, long s2, long excluded) {
+		long nbrs = this.getNeighbors(s2) & ~excluded;
+		if (nbrs == 0)
+			return;
+
+		for (long sub = -nbrs & nbrs; sub != 0; sub = (sub - nbrs) & nbrs) {
+			this.emitCsgCmp(s1, s2 | sub);
+		}
+		for (long sub = -nbrs & nbrs; sub != 0; sub = (sub - nbrs) & nbrs) {
+			this.enumerateCmpRec(s1, s2 | sub, excluded | nbrs);
+		}
+	}
+
+	/**
+	 * Builds joins of both sides in both orders and keeps cheapest plan
+	 *
+	 * @param s1
+	 * @param s2
+	 */
+	private void emitCsgCmp(long s1, long s2) {
+		JoinPlan p1 = this.bestPlans.get(s1);
+		JoinPlan p2 = this.bestPlans.get(s2);
+		if (p1 == null || p2 == null)
+			return;
+
+		this.enumeratedPairs++;
+		JoinPlan best = this.bestPlans.get(s1 | s2);
+		for (JoinPlan candidate : new JoinPlan[] { this.createJoin(p1, p2),
+				this.createJoin(p2, p1) }) {
+			if (candidate != null
+					&& (best == null || candidate.cost < best.cost))
+				best = candidate;
+		}
+		if (best != null)
+			this.bestPlans.put(s1 | s2, best);
+	}
+
+	/**
+	 * Orders joins greedily: joins the pair of connected plans with the
+	 * cheapest join until one plan is left
+	 *
+	 * @return
+	 */
+	private JoinPlan enumerateGreedy() {
+		List<JoinPlan> plans = new ArrayList<JoinPlan>(this.bestPlans.values());
+
+		while (plans.size() > 1) {
+			JoinPlan bestJoin = null;
+			for (JoinPlan p1 : plans) {
+				for (JoinPlan p2 : plans) {
+					if (p1 == p2)
+						continue;
+
+					this.enumeratedPairs++;
+					JoinPlan join = this.createJoin(p1, p2);
+					if (join != null
+							&& (bestJoin == null || join.cost < bestJoin.cost))
+						bestJoin = join;
+				}
+			}
+
+			if (bestJoin == null)
+				return null;
+
+			plans.remove(bestJoin.left);
+			plans.remove(bestJoin.right);
+			plans.add(bestJoin);
+		}
+		return plans.get(0);
+	}
+
+	/**
+	 * Costs left-deep plan in order of from clause (for comparison)
+	 *
+	 * @return cost or -1 if tables can not be joined in that order
+	 */
+	private double costSyntacticOrder() {
+		JoinPlan plan = this.bestPlans.get(1L);
+		for (int i = 1; i < this.tableAliases.size() && plan != null; ++i) {
+			plan = this.createJoin(plan, this.bestPlans.get(1L << i));
+		}
+		return plan == null ? -1 : plan.cost;
+	}
+
+	/**
+	 * Creates join of two plans using the join predicate which results in
+	 * the cheapest plan (null if plans are not connected)
+	 *
+	 * @param left
+	 * @param right
+	 * @return
+	 */
+	private JoinPlan createJoin(JoinPlan left, JoinPlan right) {
+		JoinPlan bestJoin = null;
+		for (AbstractPredicate joinPred : this.joinPreds) {
+			TokenAttribute[] joinAtts = joinPred.getAttributes().toArray(
+					new TokenAttribute[2]);
+			long t1 = 1L << this.getTableIdx(joinAtts[0]);
+			long t2 = 1L << this.getTableIdx(joinAtts[1]);
+
+			TokenAttribute leftAtt, rightAtt;
+			if ((left.tables & t1) != 0 && (right.tables & t2) != 0) {
+				leftAtt = joinAtts[0];
+				rightAtt = joinAtts[1];
+			} else if ((left.tables & t2) != 0 && (right.tables & t1) != 0) {
+				leftAtt = joinAtts[1];
+				rightAtt = joinAtts[0];
+			} else {
+				continue;
+			}
+
+			JoinPlan join = this.createJoin(left, right, joinPred, leftAtt,
+					rightAtt);
+			if (bestJoin == null || join.cost < bestJoin.cost)
+				bestJoin = join;
+		}
+		return bestJoin;
+	}
+
+	/**
+	 * Estimates join result and costs: the partitioning follows the
+	 * parallelizer which re-partitions the left input if both inputs are not
+	 * co-partitioned (or broadcasts the right input if it is small)
+	 *
+	 * @param left
+	 * @param right
+	 * @param joinPred
+	 * @param leftAtt
+	 * @param rightAtt
+	 * @return
+	 */
+	private JoinPlan createJoin(JoinPlan left, JoinPlan right,
+			AbstractPredicate joinPred, TokenAttribute leftAtt,
+			TokenAttribute rightAtt) {
+		JoinPlan join = new JoinPlan(left.tables | right.tables);
+		join.left = left;
+		join.right = right;
+		join.joinPred = joinPred;
+		join.leftAtt = leftAtt;
+		join.rightAtt = rightAtt;
+
+		// selectivity is 1 / distinct values of larger key domain (join
+		// attributes without statistics are assumed to be keys)
+		double keyRows = Math.max(
+				this.estimator.estimateDistinct(leftAtt, left.rows),
+				this.estimator.estimateDistinct(rightAtt, right.rows));
+		join.rows = Math.max(1.0, left.rows * right.rows / keyRows);
+
+		// rows moved between nodes
+		double transferRows = 0.0;
+		boolean coPartitioned = (isJoinCompatible(left.partDescs, leftAtt) || isJoinCompatible(
+				right.partDescs, rightAtt))
+				&& isJoinCompatible(left.partDescs, right.partDescs);
+		if (right.partCount > 1 && !coPartitioned
+				&& Config.COMPILE_BROADCAST_JOIN && left.partCount > 1
+				&& right.rows * left.partCount < left.rows) {
+			// broadcast right input to all partitions of left input
+			transferRows = right.rows * left.partCount;
+			join.partDescs.addAll(left.partDescs);
+			join.partCount = left.partCount;
+		} else if (right.partCount > 1 && !coPartitioned) {
+			transferRows = left.rows;
+			PartitionDesc rePartDesc = new PartitionDesc(
+					EnumPartitionType.getMaterializeType(), right.partCount);
+			rePartDesc.addPartAttributes(new TokenAttribute(leftAtt));
+			join.partDescs.add(rePartDesc);
+			join.partDescs.addAll(right.partDescs);
+			join.partCount = right.partCount;
+		} else {
+			// un-partitioned input is read by all partitions of other input
+			if (left.partCount == 1 && right.partCount > 1)
+				transferRows = left.rows * (right.partCount - 1);
+			else if (right.partCount == 1 && left.partCount > 1)
+				transferRows = right.rows * (left.partCount - 1);
+			join.partDescs.addAll(left.partDescs);
+			join.partDescs.addAll(right.partDescs);
+			join.partCount = Math.max(left.partCount, right.partCount);
+		}
+
+		join.cost = left.cost + right.cost + join.rows + transferRows
+				* Config.COMPILE_JOIN_TRANSFER_COST;
+		return join;
+	}
+
+	private static boolean isJoinCompatible(Set<PartitionDesc> partDescs,
+			TokenAttribute joinAtt) {
+		for (PartitionDesc partDesc : partDescs) {
+			if (partDesc.isJoinCompatible(joinAtt))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isJoinCompatible(Set<PartitionDesc> lPartDescs,
+			Set<PartitionDesc> rPartDescs) {
+		for (PartitionDesc lPartDesc : lPartDescs) {
+			for (PartitionDesc rPartDesc : rPartDescs) {
+				if (lPartDesc.isJoinCompatible(rPartDesc))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private void removeJoinPredicates(JoinPlan plan,
+			List<AbstractPredicate> preds) {
+		if (plan == null || plan.isLeaf())
+			return;
+
+		preds.remove(plan.joinPred);
+		this.removeJoinPredicates(plan.left, preds);
+		this.removeJoinPredicates(plan.right, preds);
+	}
+
+	private long getNeighbors(long tables) {
+		long nbrs = 0;
+		for (int i = 0; i < this.tableAliases.size(); ++i) {
+			if ((tables & (1L << i)) != 0)
+				nbrs |= this.neighbors[i];
+		}
+		return nbrs & ~tables;
+	}
+
+	/**
+	 * Returns tables referenced by a predicate (bit set)
+	 *
+	 * @param pred
+	 * @return
+	 */
+	private long getTables(AbstractPredicate pred) {
+		long tables = 0;
+		for (TokenAttribute att : pred.getAttributes()) {
+			int tableIdx = this.getTableIdx(att);
+			if (tableIdx >= 0)
+				tables |= (1L << tableIdx);
+		}
+		return tables;
+	}
+
+	private int getTableIdx(TokenAttribute att) {
+		if (att.getTable() == null)
+			return -1;
+		return this.tableAliases.indexOf(att.getTable().getName());
+	}
+
+	private static long lowerOrEqual(int idx) {
+		return idx >= 63 ? -1L : (1L << (idx + 1)) - 1;
+	}
+}
@@ -1,11 +1,22 @@
 package org.xdb.funsql.optimize;
 
 import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.xdb.Config;
 import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.EstimateResultVisitor;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
 import org.xdb.error.Error;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.utils.Identifier;
 
 /**
  * Optimizer which rewrites a graph-based plan
@@ -18,10 +29,14 @@ public class Optimizer {
 	// compile plan
 	private CompilePlan compilePlan;
 
+	// logger
+	private final Logger logger;
+
 	// constructors
 	public Optimizer(CompilePlan compilePlan) {
 		super();
 		this.compilePlan = compilePlan;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPILE_SERVER);
 	}
 
 	/**
@@ -38,6 +53,13 @@ public class Optimizer {
 					.getCanonicalName() + "_COMPILED");
 		}
 
+		// rewrite: simplify predicates and propagate constants
+		if (optimizeRule.get(3)) {
+			err = rewritePredicates(optimizeRule.get(0));
+			if (err.isError())
+				return err;
+		}
+
 		// rewrite: push down selection
 		if (optimizeRule.get(0)) {
 			err = pushSelections();
@@ -52,6 +74,25 @@ public class Optimizer {
 				return err;
 		}
 
+		// rewrite: share common sub-plans
+		if (optimizeRule.get(4)) {
+			err = shareSubPlans();
+			if (err.isError())
+				return err;
+		}
+
+		// rewrite: prune unused attributes
+		if (optimizeRule.get(2)) {
+			err = pruneColumns();
+			if (err.isError())
+				return err;
+		}
+
+		// re-estimate result sizes of rewritten plan
+		err = this.compilePlan.applyVisitor(new EstimateResultVisitor());
+		if (err.isError())
+			return err;
+
 		// tracing
 		if (Config.TRACE_OPTIMIZED_PLAN) {
 			this.compilePlan.tracePlan(compilePlan.getClass()
@@ -67,6 +108,38 @@ public class Optimizer {
 	 * @return
 	 */
 	private Error pushSelections() {
+		if (!Config.OPTIMIZER_INCREMENTAL_REWRITE)
+			return this.pushSelectionsFromRoots();
+
+		Error err = new Error();
+		SelectionPushDownVisitor pushDownVisitor = new SelectionPushDownVisitor(compilePlan);
+
+		// each push down only moves the given selection: all other
+		// selections keep their order and thus need to be visited only once
+		LinkedList<GenericSelection> worklist = this.collectSelections();
+		while (!worklist.isEmpty()) {
+			GenericSelection gs = worklist.removeFirst();
+			if (!this.compilePlan.isInPlan(gs.getOperatorId())
+					|| pushDownVisitor.isFinished(gs))
+				continue;
+
+			err = pushDownVisitor.pushDownSelection(gs);
+			if (err.isError())
+				return err;
+		}
+
+		this.logger.log(Level.INFO, "Selection push down: examined "
+				+ pushDownVisitor.getExaminedOps() + " operators");
+		return err;
+	}
+
+	/**
+	 * Pushes down selections in plan by searching the plan from the roots
+	 * until no selection is left to be pushed down
+	 * 
+	 * @return
+	 */
+	private Error pushSelectionsFromRoots() {
 		Error err = new Error();
 
 		SelectionPushDownVisitor pushDownVisitor = new SelectionPushDownVisitor(compilePlan);
@@ -84,9 +157,138 @@ public class Optimizer {
 			}
 		}
 
+		this.logger.log(Level.INFO, "Selection push down: examined "
+				+ pushDownVisitor.getExaminedOps() + " operators");
+		return err;
+	}
+
+	/**
+	 * Collects all selections in the order in which they are found by a
+	 * depth-first search from the roots
+	 * 
+	 * @return
+	 */
+	private LinkedList<GenericSelection> collectSelections() {
+		LinkedList<GenericSelection> selections = new LinkedList<GenericSelection>();
+		Set<Identifier> visited = new HashSet<Identifier>();
+		LinkedList<AbstractCompileOperator> stack = new LinkedList<AbstractCompileOperator>();
+		stack.addAll(this.compilePlan.getRootOps());
+		while (!stack.isEmpty()) {
+			AbstractCompileOperator op = stack.removeFirst();
+			if (!visited.add(op.getOperatorId()))
+				continue;
+
+			if (op.getType().equals(EnumOperator.GENERIC_SELECTION))
+				selections.add((GenericSelection) op);
+			stack.addAll(0, op.getChildren());
+		}
+		return selections;
+	}
+
+	/**
+	 * Simplifies predicates and expressions and adds selections derived from
+	 * equivalence classes of join and selection predicates
+	 * 
+	 * @param splitSelections
+	 *            split conjunctive selections for push down
+	 * @return
+	 */
+	private Error rewritePredicates(boolean splitSelections) {
+		Error err = new Error();
+
+		PredicateRewriteVisitor rewriteVisitor = new PredicateRewriteVisitor(compilePlan);
+		err = this.compilePlan.applyVisitor(rewriteVisitor);
+		if (err.isError())
+			return err;
+
+		err = rewriteVisitor.removeTrueSelections();
+		if (err.isError())
+			return err;
+
+		if (splitSelections) {
+			err = rewriteVisitor.splitSelections();
+			if (err.isError())
+				return err;
+		}
+
+		err = rewriteVisitor.propagateConstants();
+		if (err.isError())
+			return err;
+
+		if (rewriteVisitor.modifiedPlan()) {
+			this.logger.log(Level.INFO, "Predicate rewrite: simplified "
+					+ "predicates and added derived selections");
+		}
 		return err;
 	}
 
+	/**
+	 * Replaces structurally equal sub-plans by one shared sub-plan
+	 * 
+	 * @return
+	 */
+	private Error shareSubPlans() {
+		Error err = new Error();
+
+		CommonSubPlanVisitor shareVisitor = new CommonSubPlanVisitor(compilePlan);
+		err = this.compilePlan.applyVisitor(shareVisitor);
+		if (err.isError())
+			return err;
+
+		err = shareVisitor.removeDuplicates();
+		if (err.isError())
+			return err;
+
+		if (shareVisitor.modifiedPlan()) {
+			this.logger.log(Level.INFO, "Common sub-plans: removed "
+					+ shareVisitor.getDuplicateOps() + " duplicate operators");
+		}
+		return err;
+	}
+
+	/**
+	 * Removes attributes from intermediate results which are not used by any
+	 * consumer
+	 * 
+	 * @return
+	 */
+	private Error pruneColumns() {
+		Error err = new Error();
+		double bytesBefore = this.estimateIntermediateBytes();
+
+		ColumnPruningVisitor pruneVisitor = new ColumnPruningVisitor(compilePlan);
+		err = pruneVisitor.collectRequiredAttributes();
+		if (err.isError())
+			return err;
+
+		err = this.compilePlan.applyVisitor(pruneVisitor);
+		if (err.isError())
+			return err;
+
+		if (pruneVisitor.modifiedPlan()) {
+			this.logger.log(Level.INFO, "Column pruning: estimated bytes of "
+					+ "intermediate results reduced from "
+					+ Math.round(bytesBefore) + " to "
+					+ Math.round(this.estimateIntermediateBytes()));
+		}
+		return err;
+	}
+
+	/**
+	 * Sums up estimated sizes of all non-root results in plan
+	 * 
+	 * @return
+	 */
+	private double estimateIntermediateBytes() {
+		double bytes = 0.0;
+		for (AbstractCompileOperator op : this.compilePlan.getOperators()) {
+			if (!this.compilePlan.getRootIds().contains(op.getOperatorId())
+					&& op.hasResult() && op.getResult().hasEstimate())
+				bytes += op.getResult().getEstimatedBytes();
+		}
+		return bytes;
+	}
+
 	/**
 	 * Combines selection operators in plan
 	 * 
@@ -0,0 +1,636 @@
+package org.xdb.funsql.optimize;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.AbstractBottomUpTreeVisitor;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.ComplexExpression;
+import org.xdb.funsql.compile.expression.EnumExprType;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.EnumPredicateType;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
+import org.xdb.funsql.compile.tokens.AbstractTokenOperand;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenDecimalLiteral;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+
+/**
+ * Optimizer rule which rewrites predicates and expressions before selections
+ * are pushed down:
+ *
+ * (1) Simplification (when the visitor is applied to the plan): expressions
+ * of selections and projections are folded, i.e., single-operand expressions
+ * created by the parser are unwrapped and arithmetic over numeric literals is
+ * evaluated. Comparisons of literals are evaluated, always true conjuncts and
+ * duplicate conjuncts are removed. Selections which are always true are
+ * removed from the plan.
+ *
+ * Conjunctive selections can be split into one selection per conjunct
+ * (see splitSelections) such that each conjunct is pushed down separately.
+ *
+ * (2) Transitivity (see propagateConstants): equalities of joins and
+ * selections which filter the same tuples (i.e., a chain of selections and
+ * joins with a single consumer) form equivalence classes of attributes. If a
+ * class contains an attribute which is equal to a constant, a selection
+ * att = constant is added for all other attributes of the class. These
+ * selections are added above the chain and are pushed down afterwards by the
+ * SelectionPushDownVisitor. Derived equalities of two attributes are not
+ * added since they are already enforced by the joins.
+ */
+public class PredicateRewriteVisitor extends AbstractBottomUpTreeVisitor {
+	private CompilePlan plan;
+
+	// selections which are always true
+	private List<GenericSelection> trueSelections = new ArrayList<GenericSelection>();
+
+	private boolean modifiedPlan = false;
+
+	// constructors
+	public PredicateRewriteVisitor(CompilePlan plan) {
+		super();
+		this.plan = plan;
+	}
+
+	// getter and setter
+	/**
+	 * Returns true if plan was modified by optimization rule
+	 *
+	 * @return
+	 */
+	public boolean modifiedPlan() {
+		return this.modifiedPlan;
+	}
+
+	// methods
+	/**
+	 * Removes selections which were simplified to an always true predicate.
+	 * Must be called after the visitor was applied to the plan.
+	 *
+	 * @return
+	 */
+	public Error removeTrueSelections() {
+		Error err = new Error();
+		for (GenericSelection gs : this.trueSelections) {
+			if (gs.getParents().size() == 0)
+				continue;
+
+			gs.cut();
+			this.plan.removeOperator(gs.getOperatorId());
+			this.modifiedPlan = true;
+		}
+		this.trueSelections.clear();
+		return err;
+	}
+
+	/**
+	 * Splits conjunctive selections into one selection per conjunct such that
+	 * each conjunct can be pushed down separately
+	 *
+	 * @return
+	 */
+	public Error splitSelections() {
+		Error err = new Error();
+		List<AbstractCompileOperator> ops = new ArrayList<AbstractCompileOperator>(
+				this.plan.getOperators());
+		for (AbstractCompileOperator op : ops) {
+			if (op.getType() != EnumOperator.GENERIC_SELECTION
+					|| op.getParents().size() != 1)
+				continue;
+
+			GenericSelection gs = (GenericSelection) op;
+			List<AbstractPredicate> conjuncts = gs.getPredicate().splitAnd();
+			if (conjuncts.size() <= 1)
+				continue;
+
+			gs.setPredicate(conjuncts.get(0));
+			for (int i = 1; i < conjuncts.size(); ++i) {
+				AbstractPredicate conjunct = conjuncts.get(i);
+				TokenAttribute.renameTable(conjunct.getAttributes(), gs
+						.getOperatorId().toString());
+				this.addSelection(gs, conjunct);
+			}
+		}
+		return err;
+	}
+
+	/**
+	 * Adds selections att = constant derived from the equivalence classes of
+	 * join and selection predicates
+	 *
+	 * @return
+	 */
+	public Error propagateConstants() {
+		Error err = new Error();
+		List<AbstractCompileOperator> ops = new ArrayList<AbstractCompileOperator>(
+				this.plan.getOperators());
+		for (AbstractCompileOperator op : ops) {
+			if (isBlockTop(op))
+				this.propagateConstants(op);
+		}
+		return err;
+	}
+
+	private void propagateConstants(AbstractCompileOperator top) {
+		// derived selections are added between top and its consumer
+		if (top.getParents().size() != 1)
+			return;
+
+		Map<String, String> classes = new HashMap<String, String>();
+		Map<String, SimpleExpression> constants = new LinkedHashMap<String, SimpleExpression>();
+		this.collectEqualities(top, classes, constants);
+		if (constants.isEmpty())
+			return;
+
+		// constant of each equivalence class
+		Map<String, SimpleExpression> classConstants = new HashMap<String, SimpleExpression>();
+		for (Map.Entry<String, SimpleExpression> entry : constants.entrySet()) {
+			String root = find(classes, entry.getKey());
+			if (!classConstants.containsKey(root))
+				classConstants.put(root, entry.getValue());
+		}
+
+		// derive constant predicates for attributes of result of top
+		Map<String, Integer> attCounts = new HashMap<String, Integer>();
+		for (TokenAttribute att : top.getResult().getAttributes()) {
+			String name = att.getName().getValue();
+			Integer count = attCounts.get(name);
+			attCounts.put(name, count == null ? 1 : count + 1);
+		}
+
+		for (String name : classes.keySet()) {
+			SimpleExpression constant = classConstants.get(find(classes, name));
+			if (constant == null || constants.containsKey(name)
+					|| !Integer.valueOf(1).equals(attCounts.get(name)))
+				continue;
+
+			SimplePredicate pred = new SimplePredicate();
+			pred.setExpr1(new SimpleExpression(new TokenAttribute(top
+					.getOperatorId().toString(), name)));
+			pred.setComp(EnumCompOperator.SQL_EQUAL);
+			pred.setExpr2(new SimpleExpression(constant.getOper()));
+			this.addSelection(top, pred);
+		}
+	}
+
+	/**
+	 * Adds a new selection between operator and its (only) consumer
+	 *
+	 * @param op
+	 * @param pred
+	 */
+	private void addSelection(AbstractCompileOperator op, AbstractPredicate pred) {
+		AbstractCompileOperator parent = op.getParents().get(0);
+		int childIdx = parent.getChildren().indexOf(op);
+
+		GenericSelection gs = new GenericSelection(op);
+		gs.setResult(op.getResult().clone());
+		gs.setPredicate(pred);
+		this.plan.addOperator(gs, false);
+		gs.cut();
+		gs.paste(parent, childIdx);
+		this.modifiedPlan = true;
+	}
+
+	/**
+	 * Collects equalities of all selections and joins which filter the tuples
+	 * of the given top operator
+	 *
+	 * @param op
+	 * @param classes
+	 * @param constants
+	 */
+	private void collectEqualities(AbstractCompileOperator op,
+			Map<String, String> classes, Map<String, SimpleExpression> constants) {
+		if (op.getType() == EnumOperator.EQUI_JOIN) {
+			EquiJoin ej = (EquiJoin) op;
+			union(classes, ej.getLeftTokenAttribute().getName().getValue(), ej
+					.getRightTokenAttribute().getName().getValue());
+		} else if (op.getType() == EnumOperator.GENERIC_SELECTION) {
+			GenericSelection gs = (GenericSelection) op;
+			for (AbstractPredicate conjunct : gs.getPredicate().splitAnd()) {
+				this.collectEquality(conjunct, classes, constants);
+			}
+		} else {
+			return;
+		}
+
+		for (AbstractCompileOperator child : op.getChildren()) {
+			if (child.getParents().size() == 1)
+				this.collectEqualities(child, classes, constants);
+		}
+	}
+
+	private void collectEquality(AbstractPredicate conjunct,
+			Map<String, String> classes, Map<String, SimpleExpression> constants) {
+		if (!(conjunct instanceof SimplePredicate) || conjunct.isNegated())
+			return;
+
+		SimplePredicate pred = (SimplePredicate) conjunct;
+		if (pred.getComp() != EnumCompOperator.SQL_EQUAL)
+			return;
+
+		AbstractExpression expr1 = pred.getExpr1();
+		AbstractExpression expr2 = pred.getExpr2();
+		if (isPlainAttribute(expr1) && isPlainAttribute(expr2)) {
+			union(classes, expr1.getAttribute().getName().getValue(), expr2
+					.getAttribute().getName().getValue());
+		} else if (isPlainAttribute(expr1) && isPlainLiteral(expr2)) {
+			this.addConstant(expr1, (SimpleExpression) expr2, classes,
+					constants);
+		} else if (isPlainLiteral(expr1) && isPlainAttribute(expr2)) {
+			this.addConstant(expr2, (SimpleExpression) expr1, classes,
+					constants);
+		}
+	}
+
+	private void addConstant(AbstractExpression att, SimpleExpression literal,
+			Map<String, String> classes, Map<String, SimpleExpression> constants) {
+		String name = att.getAttribute().getName().getValue();
+		find(classes, name);
+		if (!constants.containsKey(name))
+			constants.put(name, literal);
+	}
+
+	/**
+	 * Checks if operator is the top operator of a chain of selections and
+	 * joins
+	 *
+	 * @param op
+	 * @return
+	 */
+	private static boolean isBlockTop(AbstractCompileOperator op) {
+		if (!isBlockOperator(op))
+			return false;
+		return op.getParents().size() != 1
+				|| !isBlockOperator(op.getParents().get(0));
+	}
+
+	private static boolean isBlockOperator(AbstractCompileOperator op) {
+		return op.getType() == EnumOperator.GENERIC_SELECTION
+				|| op.getType() == EnumOperator.EQUI_JOIN;
+	}
+
+	private static String find(Map<String, String> classes, String name) {
+		String parent = classes.get(name);
+		if (parent == null) {
+			classes.put(name, name);
+			return name;
+		}
+		if (parent.equals(name))
+			return name;
+
+		String root = find(classes, parent);
+		classes.put(name, root);
+		return root;
+	}
+
+	private static void union(Map<String, String> classes, String name1,
+			String name2) {
+		String root1 = find(classes, name1);
+		String root2 = find(classes, name2);
+		if (!root1.equals(root2))
+			classes.put(root2, root1);
+	}
+
+	private static boolean isPlainAttribute(AbstractExpression expr) {
+		return expr instanceof SimpleExpression && !expr.isNegated()
+				&& expr.isAttribute();
+	}
+
+	private static boolean isPlainLiteral(AbstractExpression expr) {
+		return expr instanceof SimpleExpression && !expr.isNegated()
+				&& ((SimpleExpression) expr).isLiteral();
+	}
+
+	/**
+	 * Returns simplified copy of predicate
+	 *
+	 * @param pred
+	 * @return
+	 */
+	public static AbstractPredicate simplify(AbstractPredicate pred) {
+		if (pred instanceof SimplePredicate) {
+			SimplePredicate sPred = (SimplePredicate) pred;
+			SimplePredicate newPred = new SimplePredicate();
+			newPred.setExpr1(fold(sPred.getExpr1()));
+			newPred.setComp(sPred.getComp());
+			if (sPred.getExpr2() != null)
+				newPred.setExpr2(fold(sPred.getExpr2()));
+			if (sPred.isNegated())
+				newPred.negate();
+			return newPred;
+		} else if (!(pred instanceof ComplexPredicate)) {
+			return pred;
+		}
+
+		ComplexPredicate cPred = (ComplexPredicate) pred;
+		List<AbstractPredicate> preds = new ArrayList<AbstractPredicate>();
+		preds.add(cPred.getPredicate1());
+		preds.addAll(cPred.getPredicates2());
+
+		// NOT or single predicate: unwrap
+		if (cPred.getType() == EnumPredicateType.NOT_PREDICATE
+				|| preds.size() == 1) {
+			AbstractPredicate newPred = simplify(cPred.getPredicate1());
+			if (cPred.isNegated())
+				newPred.negate();
+			return newPred;
+		}
+
+		boolean isAnd = cPred.getType() == EnumPredicateType.AND_PREDICATE;
+		List<AbstractPredicate> newPreds = new ArrayList<AbstractPredicate>();
+		for (AbstractPredicate child : preds) {
+			AbstractPredicate newChild = simplify(child);
+
+			// flatten nested conjunctions and disjunctions
+			if (newChild.getType() == cPred.getType() && !newChild.isNegated()) {
+				ComplexPredicate cChild = (ComplexPredicate) newChild;
+				newPreds.add(cChild.getPredicate1());
+				newPreds.addAll(cChild.getPredicates2());
+			} else {
+				newPreds.add(newChild);
+			}
+		}
+
+		// remove neutral and duplicate predicates
+		List<AbstractPredicate> keptPreds = new ArrayList<AbstractPredicate>();
+		Set<String> keptSql = new HashSet<String>();
+		for (AbstractPredicate newPred : newPreds) {
+			Boolean value = evaluate(newPred);
+			if (value != null && value.booleanValue() != isAnd) {
+				// predicate decides result (FALSE for AND, TRUE for OR)
+				keptPreds.clear();
+				keptPreds.add(newPred);
+				break;
+			} else if (value != null) {
+				continue;
+			} else if (keptSql.add(newPred.toSqlString())) {
+				keptPreds.add(newPred);
+			}
+		}
+
+		// all predicates neutral: keep one
+		if (keptPreds.isEmpty())
+			keptPreds.add(newPreds.get(0));
+
+		AbstractPredicate newPred;
+		if (keptPreds.size() == 1) {
+			newPred = keptPreds.get(0);
+		} else {
+			ComplexPredicate newCPred = new ComplexPredicate(cPred.getType());
+			newCPred.setPredicate1(keptPreds.get(0));
+			for (int i = 1; i < keptPreds.size(); ++i) {
+				if (isAnd)
+					newCPred.addAnd();
+				else
+					newCPred.addOr();
+				newCPred.addPredicate2(keptPreds.get(i));
+			}
+			newPred = newCPred;
+		}
+		if (cPred.isNegated())
+			newPred.negate();
+		return newPred;
+	}
+
+	/**
+	 * Evaluates a (simplified) predicate if it only compares numeric literals.
+	 * Returns null if predicate is not constant.
+	 *
+	 * @param pred
+	 * @return
+	 */
+	public static Boolean evaluate(AbstractPredicate pred) {
+		if (!(pred instanceof SimplePredicate))
+			return null;
+
+		SimplePredicate sPred = (SimplePredicate) pred;
+		BigDecimal value1 = getNumber(sPred.getExpr1());
+		BigDecimal value2 = getNumber(sPred.getExpr2());
+		if (value1 == null || value2 == null)
+			return null;
+
+		int cmp = value1.compareTo(value2);
+		boolean result;
+		switch (sPred.getComp()) {
+		case SQL_EQUAL:
+			result = cmp == 0;
+			break;
+		case SQL_NOT_EQUAL:
+			result = cmp != 0;
+			break;
+		case SQL_LESS_THAN:
+			result = cmp < 0;
+			break;
+		case SQL_LESS_EQUAL:
+			result = cmp <= 0;
+			break;
+		case SQL_GREATER_THAN:
+			result = cmp > 0;
+			break;
+		case SQL_GREATER_EQUAL:
+			result = cmp >= 0;
+			break;
+		default:
+			return null;
+		}
+		return result != sPred.isNegated();
+	}
+
+	/**
+	 * Returns folded copy of expression: single-operand expressions are
+	 * unwrapped and arithmetic over numeric literals is evaluated (except
+	 * divisions whose result type depends on the database)
+	 *
+	 * @param expr
+	 * @return
+	 */
+	public static AbstractExpression fold(AbstractExpression expr) {
+		if (!(expr instanceof ComplexExpression))
+			return expr;
+
+		ComplexExpression cExpr = (ComplexExpression) expr;
+		AbstractExpression expr1 = fold(cExpr.getExpr1());
+		Vector<AbstractExpression> exprs2 = new Vector<AbstractExpression>();
+		for (AbstractExpression expr2 : cExpr.getExprs2()) {
+			exprs2.add(fold(expr2));
+		}
+
+		// single operand: unwrap
+		if (exprs2.isEmpty()) {
+			if (!cExpr.isNegated())
+				return expr1;
+
+			BigDecimal value = getNumber(expr1);
+			if (value != null) {
+				AbstractExpression literal = createLiteral(value.negate(),
+						isDecimal(expr1));
+				if (literal != null)
+					return literal;
+			}
+
+			ComplexExpression newExpr = new ComplexExpression(
+					EnumExprType.SIGNED_EXPRESSION);
+			newExpr.setExpr1(expr1);
+			newExpr.negate();
+			return newExpr;
+		}
+
+		// evaluate arithmetic over literals
+		BigDecimal value = getNumber(expr1);
+		boolean isDecimal = isDecimal(expr1);
+		for (int i = 0; i < exprs2.size() && value != null; ++i) {
+			BigDecimal value2 = getNumber(exprs2.get(i));
+			isDecimal |= isDecimal(exprs2.get(i));
+			if (value2 == null) {
+				value = null;
+				break;
+			}
+
+			switch (cExpr.getOp(i)) {
+			case SQL_PLUS:
+				value = value.add(value2);
+				break;
+			case SQL_MINUS:
+				value = value.subtract(value2);
+				break;
+			case SQL_MULT:
+				value = value.multiply(value2);
+				break;
+			default:
+				value = null;
+				break;
+			}
+		}
+
+		if (value != null) {
+			if (cExpr.isNegated())
+				value = value.negate();
+
+			AbstractExpression literal = createLiteral(value, isDecimal);
+			if (literal != null)
+				return literal;
+		}
+
+		ComplexExpression newExpr = new ComplexExpression(cExpr.getType());
+		newExpr.setExpr1(expr1);
+		for (int i = 0; i < exprs2.size(); ++i) {
+			newExpr.addOp(cExpr.getOp(i));
+			newExpr.addExpr2(exprs2.get(i));
+		}
+		if (cExpr.isNegated())
+			newExpr.negate();
+		return newExpr;
+	}
+
+	private static BigDecimal getNumber(AbstractExpression expr) {
+		if (!isPlainLiteral(expr))
+			return null;
+
+		AbstractTokenOperand oper = ((SimpleExpression) expr).getOper();
+		if (oper instanceof TokenIntegerLiteral)
+			return new BigDecimal(((TokenIntegerLiteral) oper).getValue());
+		else if (oper instanceof TokenDecimalLiteral)
+			return ((TokenDecimalLiteral) oper).getValue();
+		return null;
+	}
+
+	private static boolean isDecimal(AbstractExpression expr) {
+		return isPlainLiteral(expr)
+				&& ((SimpleExpression) expr).getOper() instanceof TokenDecimalLiteral;
+	}
+
+	private static AbstractExpression createLiteral(BigDecimal value,
+			boolean isDecimal) {
+		if (isDecimal)
+			return new SimpleExpression(new TokenDecimalLiteral(value));
+
+		// integer overflow: keep expression
+		try {
+			return new SimpleExpression(new TokenIntegerLiteral(
+					value.intValueExact()));
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		AbstractPredicate pred = simplify(gs.getPredicate());
+		if (!pred.toSqlString().equals(gs.getPredicate().toSqlString()))
+			this.modifiedPlan = true;
+		gs.setPredicate(pred);
+
+		if (Boolean.TRUE.equals(evaluate(pred)))
+			this.trueSelections.add(gs);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		Vector<AbstractExpression> exprs = gp.getExpressions();
+		for (int i = 0; i < exprs.size(); ++i) {
+			exprs.set(i, fold(exprs.get(i)));
+		}
+		return new Error();
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		return new Error();
+	}
+}
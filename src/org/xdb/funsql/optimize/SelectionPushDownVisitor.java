@@ -50,6 +50,7 @@ public class SelectionPushDownVisitor extends AbstractTreeVisitor {
 	private int nextChildIdx = 0;
 	private boolean doWaitNextVisit = true;
 	private CompilePlan plan;
+	private int examinedOps = 0;
 
 	// constructors
 	public SelectionPushDownVisitor(CompilePlan plan) {
@@ -72,6 +73,25 @@ public class SelectionPushDownVisitor extends AbstractTreeVisitor {
 		return this.modifiedPlan;
 	}
 
+	/**
+	 * Returns number of operator visits since visitor was created
+	 * 
+	 * @return
+	 */
+	public int getExaminedOps() {
+		return this.examinedOps;
+	}
+
+	/**
+	 * Returns true if selection was already pushed down
+	 * 
+	 * @param gs
+	 * @return
+	 */
+	public boolean isFinished(GenericSelection gs) {
+		return this.finishedSelections.contains(gs.getOperatorId());
+	}
+
 	// methods
 	@Override
 	public void reset(AbstractCompileOperator root) {
@@ -85,9 +105,24 @@ public class SelectionPushDownVisitor extends AbstractTreeVisitor {
 		this.visitedOps.clear();
 	}
 
+	/**
+	 * Pushes down given selection starting at its position in the plan
+	 * instead of searching the plan from the root
+	 * 
+	 * @param gs
+	 * @return
+	 */
+	public Error pushDownSelection(GenericSelection gs) {
+		this.reset(gs);
+		if (gs.getParents().size() > 0)
+			this.lastOp = gs.getParents().get(0);
+		return this.visit();
+	}
+
 	@Override
 	public Error visit(AbstractCompileOperator absOp) {
 		Error err = new Error();
+		this.examinedOps++;
 		
 		// visit this operator
 		err = super.visit(absOp);
@@ -150,7 +185,11 @@ public class SelectionPushDownVisitor extends AbstractTreeVisitor {
 	@Override
 	public Error visitGenericProjection(GenericProjection gp) {
 		Error err = new Error();
-		this.pushDown(gp);
+		// selections must not be pushed below a limit
+		if (gp.hasLimit())
+			this.paste();
+		else
+			this.pushDown(gp);
 		return err;
 	}
 
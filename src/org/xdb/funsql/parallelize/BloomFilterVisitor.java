@@ -0,0 +1,199 @@
+package org.xdb.funsql.parallelize;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.analyze.operator.AbstractBottomUpTreeVisitor;
+import org.xdb.funsql.compile.analyze.operator.EstimateResultVisitor;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.BloomFilterDesc;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.utils.Identifier;
+
+/**
+ * Semi-join reduction of equi-joins: the larger (probe) input of a join is
+ * filtered with a Bloom filter over the join keys of the smaller (build)
+ * input before it is transferred to the join. The filter is the set of
+ * hash values of the build keys: it is created by the build operators,
+ * read by all partitions of the probe operator and applied before the probe
+ * result is materialized (i.e., before repartitioning).
+ *
+ * A filter is only added if the estimated fraction of passing tuples is
+ * below COMPILE_BLOOM_FILTER_MAX_RATE and the estimated transfer saved is
+ * larger than the transfer of the filter. Both inputs must be materialized
+ * intermediate results and the probe input must not have other consumers.
+ *
+ * Must be applied after the estimates of the parallelized plan have been
+ * computed by the given EstimateResultVisitor.
+ */
+public class BloomFilterVisitor extends AbstractBottomUpTreeVisitor {
+	// width of a hash value in bytes
+	private static final int HASH_WIDTH = 4;
+
+	// estimator which was applied to the plan
+	private EstimateResultVisitor estimator;
+
+	// operators which already build a filter
+	private Set<Identifier> buildOpIds = new HashSet<Identifier>();
+
+	// constructors
+	public BloomFilterVisitor(EstimateResultVisitor estimator) {
+		super();
+		this.estimator = estimator;
+	}
+
+	// methods
+	/**
+	 * Adds a Bloom filter to probe operator if beneficial
+	 *
+	 * @param probe
+	 * @param probeAtt
+	 * @param build
+	 * @param buildAtt
+	 */
+	private void addBloomFilter(AbstractCompileOperator probe,
+			TokenAttribute probeAtt, AbstractCompileOperator build,
+			TokenAttribute buildAtt) {
+		ResultDesc probeResult = probe.getResult();
+		ResultDesc buildResult = build.getResult();
+
+		// filters are applied to and built from intermediate results
+		if (probe.isTable() || build.isTable() || !probeResult.materialize()
+				|| !buildResult.materialize())
+			return;
+
+		if (probe.getParents().size() != 1
+				|| probeResult.getBloomFilter() != null
+				|| this.buildOpIds.contains(build.getOperatorId()))
+			return;
+
+		// build operator must not depend on probe operator (and vice versa)
+		if (isDescendant(probe, build) || isDescendant(build, probe))
+			return;
+
+		// hash values of keys are only equal for same types
+		int probeIdx = indexOf(probeResult, probeAtt);
+		int buildIdx = indexOf(buildResult, buildAtt);
+		if (probeIdx < 0 || buildIdx < 0
+				|| probeResult.getType(probeIdx) != buildResult
+						.getType(buildIdx))
+			return;
+
+		// estimate fraction of probe tuples passing the filter
+		int bits = Config.COMPILE_BLOOM_FILTER_BITS;
+		double probeDistinct = this.estimator.estimateDistinct(probeAtt,
+				probeResult.getEstimatedRows());
+		double buildDistinct = this.estimator.estimateDistinct(buildAtt,
+				buildResult.getEstimatedRows());
+		double falsePositives = 1.0 - Math.exp(-buildDistinct / bits);
+		double rate = Math.min(1.0, buildDistinct / Math.max(1.0, probeDistinct)
+				+ falsePositives);
+		if (rate > Config.COMPILE_BLOOM_FILTER_MAX_RATE)
+			return;
+
+		// each partition of probe operator reads complete filter
+		double filterBytes = Math.min(buildDistinct, bits) * HASH_WIDTH
+				* probeResult.getActivePartitionCount();
+		double savedBytes = probeResult.getEstimatedBytes() * (1.0 - rate);
+		if (savedBytes <= filterBytes)
+			return;
+
+		BloomFilterDesc bloomFilter = new BloomFilterDesc(
+				build.getOperatorId(), buildIdx, probeIdx, bits);
+		bloomFilter.setEstimatedRate(rate);
+		bloomFilter.setEstimatedInputRows(probeResult.getEstimatedRows());
+		probeResult.setBloomFilter(bloomFilter);
+		probeResult.setEstimatedRows(probeResult.getEstimatedRows() * rate);
+		this.buildOpIds.add(build.getOperatorId());
+	}
+
+	private static int indexOf(ResultDesc result, TokenAttribute att) {
+		String name = att.getName().getValue();
+		for (int i = 0; i < result.size(); ++i) {
+			if (result.getAttribute(i).getName().getValue().equals(name))
+				return i;
+		}
+		return -1;
+	}
+
+	private static boolean isDescendant(AbstractCompileOperator op,
+			AbstractCompileOperator ancestor) {
+		for (AbstractCompileOperator child : ancestor.getChildren()) {
+			if (child.getOperatorId().equals(op.getOperatorId())
+					|| isDescendant(op, child))
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		ResultDesc leftResult = ej.getLeftChild().getResult();
+		ResultDesc rightResult = ej.getRightChild().getResult();
+		if (!leftResult.hasEstimate() || !rightResult.hasEstimate())
+			return new Error();
+
+		// filter larger input with keys of smaller input
+		if (leftResult.getEstimatedBytes() >= rightResult.getEstimatedBytes()) {
+			this.addBloomFilter(ej.getLeftChild(), ej.getLeftTokenAttribute(),
+					ej.getRightChild(), ej.getRightTokenAttribute());
+		} else {
+			this.addBloomFilter(ej.getRightChild(),
+					ej.getRightTokenAttribute(), ej.getLeftChild(),
+					ej.getLeftTokenAttribute());
+		}
+		return new Error();
+	}
+
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin absOp) {
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		return new Error();
+	}
+}
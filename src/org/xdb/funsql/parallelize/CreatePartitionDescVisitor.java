@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.xdb.Config;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.CompilePlan;
@@ -24,6 +25,7 @@ import org.xdb.funsql.compile.operator.EquiJoin;
 import org.xdb.funsql.compile.operator.GenericAggregation;
 import org.xdb.funsql.compile.operator.GenericProjection;
 import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.OrderDesc;
 import org.xdb.funsql.compile.operator.PartitionDesc;
 import org.xdb.funsql.compile.operator.Rename;
 import org.xdb.funsql.compile.operator.ResultDesc;
@@ -95,7 +97,11 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		boolean doRepartition = !this.isPartDescGroupByCompatible(childPartDescs,
 				groupExprs) && (preAggPartCnt > 1);
 
-		if (doRepartition) {
+		// re-partition input directly if pre-aggregation does not reduce it
+		if (doRepartition && !this.isPreAggregationBeneficial(ga, preAggPartCnt)
+				&& this.canRepartitionInput(ga)) {
+			this.repartitionInput(ga, preAggPartCnt);
+		} else if (doRepartition) {
 			int postAggPartCnt = preAggPartCnt;
 			
 			// create pre-aggregation operator
@@ -111,7 +117,8 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 			
 			// Create pre-aggregation operator
 			GenericAggregation preAgg = this.createPreAggregation(ga,
-								replaceExpr);			
+								replaceExpr);
+			preAgg.setBypassable(preAgg.canBypass());
 			if(ga.getGroupExpressions().size()==0){
 				//re-part to 1 part if no group-by expressions exist
 				preAggRePartDesc.setPartCount(1);
@@ -170,10 +177,10 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		Set<PartitionDesc> leftPartDescs = this.getPartDescs(leftId);
 		Set<PartitionDesc> rightPartDescs = this.getPartDescs(rightId);
 		Set<PartitionDesc> joinPartDescs = new HashSet<PartitionDesc>();
-		PartitionDesc rightPartDesc = rightPartDescs.iterator().next();
-		int rightPartCnt = rightPartDesc.getPartitionCount();
-		PartitionDesc leftPartDesc = leftPartDescs.iterator().next();
-		int leftPartCnt = leftPartDesc.getPartitionCount();
+		// partition counts of inputs (inputs may be joins with several
+		// partitioning descriptions)
+		int rightPartCnt = ej.getRightChild().getResult().getPartitionCount();
+		int leftPartCnt = ej.getLeftChild().getResult().getPartitionCount();
 		int partCnt = (rightPartCnt>leftPartCnt?rightPartCnt:leftPartCnt);
 		
 		// check if one input must be re-partitioned
@@ -188,8 +195,36 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 			doRepartition = false;
 		}
 
+		// broadcast small input instead of re-partitioning
+		AbstractCompileOperator broadcastOp = null;
+		if (doRepartition && Config.COMPILE_BROADCAST_JOIN)
+			broadcastOp = this.chooseBroadcastInput(ej, rightPartDescs);
+
+		if (broadcastOp != null) {
+			// replicate all partitions of small input to every partition of
+			// other input: intermediate results are re-partitioned into 1
+			// partition, tables are read from all partitions (inputs with
+			// 1 partition are read by all partitions anyway)
+			ResultDesc broadcastResult = broadcastOp.getResult();
+			if (broadcastResult.getPartitionCount() > 1) {
+				if (!broadcastOp.isTable())
+					broadcastResult.materialize(true);
+				broadcastResult.repartition(true);
+				broadcastResult.setPartitionDesc(new PartitionDesc(
+						EnumPartitionType.getMaterializeType(), 1));
+			}
+
+			// join keeps partitioning of other input
+			if (broadcastOp == ej.getLeftChild()) {
+				joinPartDescs.addAll(rightPartDescs);
+				partCnt = rightPartCnt;
+			} else {
+				joinPartDescs.addAll(leftPartDescs);
+				partCnt = leftPartCnt;
+			}
+		}
 		// do re-partition if both inputs are not compatible
-		if (doRepartition) {
+		else if (doRepartition) {
 			// re-partition left input
 			ResultDesc leftResult = ej.getLeftChild().getResult();
 			leftResult.materialize(true);
@@ -215,6 +250,23 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 			joinPartDescs.addAll(rightPartDescs);
 		}
 
+		// materialized left input which is only read by this join can be
+		// switched between re-partitioning and broadcasting at run time
+		AbstractCompileOperator leftOp = ej.getLeftChild();
+		if (doRepartition && broadcastOp != ej.getRightChild()
+				&& leftOp.getResult().materialize()
+				&& leftOp.getResult().repartition()
+				&& leftOp.getParents().size() == 1) {
+			PartitionDesc joinPartDesc = new PartitionDesc(
+					EnumPartitionType.getMaterializeType(), rightPartCnt);
+			joinPartDesc.addPartAttributes(new TokenAttribute(ej
+					.getLeftTokenAttribute()));
+			leftOp.getResult().setJoinPartitionDesc(
+					joinPartDesc,
+					this.isPartDescJoinCompatible(rightPartDescs,
+							ej.getRightTokenAttribute()));
+		}
+
 		// add partition specification to operator
 		this.storePartDescs(ej.getOperatorId(), joinPartDescs);
 		
@@ -252,13 +304,20 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		if (this.containsPartDescs(gp.getOperatorId()))
 			return err;
 
+		// ordered or limited result over multiple partitions: compute top-N
+		// per partition and merge partitions for final order and limit
+		int childPartCnt = gp.getChild().getResult().getPartitionCount();
+		if (gp.getOrderDesc() != null && childPartCnt > 1) {
+			this.mergePartitions(gp, childPartCnt);
+			return err;
+		}
+
 		// use partitioning description of input for selection operator
 		Set<PartitionDesc> partDescs = this.getPartDescs(gp.getChild()
 				.getOperatorId());
 		this.storePartDescs(gp.getOperatorId(), partDescs);
 
 		// set partition count of operator
-		int childPartCnt = gp.getChild().getResult().getPartitionCount();
 		gp.getResult().setPartitionCount(childPartCnt);
 
 		return err;
@@ -343,6 +402,64 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		return e;
 	}
 
+	/**
+	 * Returns input of join which is broadcast if replicating it to all
+	 * partitions of other input moves less data than re-partitioning the
+	 * inputs (null if inputs should be re-partitioned)
+	 * 
+	 * @param ej
+	 * @param rightPartDescs
+	 * @return
+	 */
+	private AbstractCompileOperator chooseBroadcastInput(EquiJoin ej,
+			Set<PartitionDesc> rightPartDescs) {
+		ResultDesc leftResult = ej.getLeftChild().getResult();
+		ResultDesc rightResult = ej.getRightChild().getResult();
+		if (!leftResult.hasEstimate() || !rightResult.hasEstimate())
+			return null;
+
+		// re-partitioning moves left input once (and right input if it is
+		// not partitioned by join key)
+		double leftBytes = leftResult.getEstimatedBytes();
+		double rightBytes = rightResult.getEstimatedBytes();
+		double minCost = leftBytes;
+		if (!this.isPartDescJoinCompatible(rightPartDescs,
+				ej.getRightTokenAttribute()))
+			minCost += rightBytes;
+		AbstractCompileOperator broadcastOp = null;
+
+		// broadcast moves small input to all partitions of other input
+		if (isBroadcastCheaper(rightBytes, leftResult.getPartitionCount(),
+				minCost)) {
+			minCost = rightBytes * leftResult.getPartitionCount();
+			broadcastOp = ej.getRightChild();
+		}
+		if (isBroadcastCheaper(leftBytes, rightResult.getPartitionCount(),
+				minCost)) {
+			broadcastOp = ej.getLeftChild();
+		}
+		return broadcastOp;
+	}
+
+	/**
+	 * Checks if broadcasting an input to all partitions of the other input
+	 * moves less data than re-partitioning (also used by the query tracker
+	 * to re-plan joins with measured sizes)
+	 * 
+	 * @param bytes
+	 *            size of broadcast input
+	 * @param partCnt
+	 *            number of partitions which read broadcast input
+	 * @param rePartitionCost
+	 *            bytes moved by re-partitioning
+	 * @return
+	 */
+	public static boolean isBroadcastCheaper(double bytes, int partCnt,
+			double rePartitionCost) {
+		return bytes <= Config.COMPILE_BROADCAST_MAX_SIZE && partCnt > 1
+				&& bytes * partCnt < rePartitionCost;
+	}
+
 	/**
 	 * Stores a single partitioning description for operator
 	 * 
@@ -457,6 +574,130 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 				.toString();
 	}
 
+	/**
+	 * Checks if pre-aggregation reduces the input of an aggregation: the
+	 * estimated groups in one partition (tuples of a group are spread over all
+	 * partitions) are compared to the estimated tuples of a partition
+	 * 
+	 * @param ga
+	 * @param partCnt
+	 * @return
+	 */
+	private boolean isPreAggregationBeneficial(GenericAggregation ga,
+			int partCnt) {
+		ResultDesc childResult = ga.getChild().getResult();
+		if (ga.getGroupExpressions().isEmpty() || !childResult.hasEstimate()
+				|| !ga.getResult().hasEstimate())
+			return true;
+
+		double rowsPerPart = Math.max(1.0, childResult.getEstimatedRows()
+				/ partCnt);
+		double groups = Math.max(1.0, ga.getResult().getEstimatedRows());
+		double groupsPerPart = groups * (1.0 - Math.exp(-rowsPerPart / groups));
+		return groupsPerPart / rowsPerPart <= Config.COMPILE_PRE_AGGREGATION_MAX_RATIO;
+	}
+
+	/**
+	 * Checks if input of aggregation can be re-partitioned by its first
+	 * group-by attribute
+	 * 
+	 * @param ga
+	 * @return
+	 */
+	private boolean canRepartitionInput(GenericAggregation ga) {
+		if (ga.getChild().getParents().size() != 1)
+			return false;
+
+		AbstractExpression groupExpr = ga.getGroupExpressions().iterator()
+				.next();
+		if (!groupExpr.isAttribute())
+			return false;
+
+		EnumSimpleType groupType = ga.getChild().getResult()
+				.createAttribute2TypeMap().get(groupExpr.getAttribute());
+		return groupType != null && groupType.isNumeric();
+	}
+
+	/**
+	 * Re-partitions input of aggregation by its first group-by attribute
+	 * (instead of adding a pre-aggregation)
+	 * 
+	 * @param ga
+	 * @param partCnt
+	 */
+	private void repartitionInput(GenericAggregation ga, int partCnt) {
+		EnumPartitionType rePartType = EnumPartitionType.getMaterializeType();
+		AbstractExpression groupExpr = ga.getGroupExpressions().iterator()
+				.next();
+
+		ResultDesc childResult = ga.getChild().getResult();
+		childResult.materialize(true);
+		childResult.repartition(true);
+		PartitionDesc rePartDesc = new PartitionDesc(rePartType, partCnt);
+		rePartDesc.addPartAttributes(new TokenAttribute(groupExpr
+				.getAttribute()));
+		childResult.setPartitionDesc(rePartDesc);
+
+		PartitionDesc aggPartDesc = new PartitionDesc(rePartType, partCnt);
+		aggPartDesc.addPartAttributes(new TokenAttribute(ga.getGroupAliases()
+				.get(0)));
+		this.storePartDesc(ga.getOperatorId(), aggPartDesc);
+		ga.getResult().setPartitionCount(partCnt);
+	}
+
+	/**
+	 * Adds a projection below the given projection which is executed on each
+	 * partition and computes the top-N tuples if a limit is given. Its results
+	 * are merged into one partition on which the given projection computes
+	 * the final order and limit.
+	 * 
+	 * @param gp
+	 * @param partCnt
+	 */
+	private void mergePartitions(GenericProjection gp, int partCnt) {
+		AbstractCompileOperator child = gp.getChild();
+		child.removeParent(gp);
+		GenericProjection preProj = new GenericProjection(child);
+		for (int i = 0; i < gp.getExpressions().size(); ++i) {
+			preProj.addExpression(gp.getExpression(i).clone());
+			preProj.addAlias(gp.getAlias(i));
+		}
+
+		// ordering partitions only pays off if limit reduces them
+		if (gp.hasLimit())
+			preProj.setOrderDesc(new OrderDesc(gp.getOrderDesc()));
+		this.cPlan.addOperator(preProj, false);
+
+		// create result of preProj
+		Map<AbstractToken, EnumSimpleType> types = child.getResult()
+				.createAttribute2TypeMap();
+		CheckOperatorVisitor checkVis = new CheckOperatorVisitor(null, types);
+		checkVis.visitGenericProjection(preProj);
+		CreateResultVisitor resultVis = new CreateResultVisitor(null, types);
+		resultVis.visitGenericProjection(preProj);
+		preProj.getResult().materialize(true);
+		preProj.getResult().repartition(true);
+
+		// re-part to 1 part
+		PartitionDesc mergePartDesc = new PartitionDesc(
+				EnumPartitionType.getMaterializeType(), 1);
+		preProj.getResult().setPartitionDesc(mergePartDesc);
+		preProj.getResult().setPartitionCount(partCnt);
+		this.storePartDesc(preProj.getOperatorId(), mergePartDesc);
+
+		// final projection only reads results of preProj
+		gp.setChild(preProj);
+		preProj.setParent(gp);
+		for (int i = 0; i < gp.getExpressions().size(); ++i) {
+			TokenAttribute att = new TokenAttribute(preProj.getResult()
+					.getAttribute(i).getName());
+			att.setTable(preProj.getOperatorId().toString());
+			gp.getExpressions().set(i, new SimpleExpression(att));
+		}
+		this.storePartDesc(gp.getOperatorId(), mergePartDesc);
+		gp.getResult().setPartitionCount(1);
+	}
+
 	private GenericAggregation createPreAggregation(GenericAggregation agg,
 			Map<AbstractExpression, AbstractExpression> replaceExprs) {
 		agg.getChild().clearParents();
@@ -484,8 +725,12 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 				preAgg.addAlias(internalAlias);
 
 				// fill replace expression
+				// partial counts are summed up
 				AggregationExpression replaceAggExpr = new AggregationExpression();
-				replaceAggExpr.setAggregation(aggExprClone.getAggregation());
+				if (aggExprClone.getAggregation().isCnt())
+					replaceAggExpr.setAggregation(EnumAggregation.SUM);
+				else
+					replaceAggExpr.setAggregation(aggExprClone.getAggregation());
 				replaceAggExpr.setExpression(new SimpleExpression(
 						new TokenAttribute(internalAlias)));
 
@@ -3,6 +3,7 @@ package org.xdb.funsql.parallelize;
 import org.xdb.Config;
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.EstimateResultVisitor;
 import org.xdb.funsql.compile.analyze.operator.MaterializationAnnotationVisitor;
 
 /**
@@ -36,6 +37,26 @@ public class Parallelizer {
 		err = compilePlan.applyVisitor(repartVisitor);
 		if (err.isError())
 			return err;
+
+		// restrict partitions of tables to partitions matching predicates
+		if (Config.COMPILE_PARTITION_PRUNING) {
+			err = compilePlan.applyVisitor(new PartitionPruningVisitor());
+			if (err.isError())
+				return err;
+		}
+
+		// estimate result sizes per partition
+		EstimateResultVisitor estimator = new EstimateResultVisitor();
+		err = compilePlan.applyVisitor(estimator);
+		if (err.isError())
+			return err;
+
+		// add Bloom filters to reduce inputs of joins
+		if (Config.COMPILE_BLOOM_FILTER) {
+			err = compilePlan.applyVisitor(new BloomFilterVisitor(estimator));
+			if (err.isError())
+				return err;
+		}
 		
 		// tracing
 		if (Config.TRACE_PARALLEL_PLAN) {
@@ -0,0 +1,171 @@
+package org.xdb.funsql.parallelize;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.analyze.operator.AbstractBottomUpTreeVisitor;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.SQLCombined;
+import org.xdb.funsql.compile.operator.SQLJoin;
+import org.xdb.funsql.compile.operator.SQLUnary;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+
+/**
+ * Static partition pruning: restricts the partitions of hash partitioned
+ * tables to those which can satisfy the equality predicates of the
+ * selections above the table (see TableOperator.getMatchingPartitions).
+ *
+ * The active partitions are propagated to all operators which read their
+ * inputs partition-wise (i.e., inputs which are not repartitioned and have
+ * the same number of partitions). The code generator only creates tracker
+ * operators for active partitions.
+ *
+ * Must be applied after the CreatePartitionDescVisitor.
+ */
+public class PartitionPruningVisitor extends AbstractBottomUpTreeVisitor {
+
+	// constructors
+	public PartitionPruningVisitor() {
+		super();
+	}
+
+	// methods
+	/**
+	 * Collects conjuncts of all selections which filter the tuples of a table:
+	 * selections and inner joins above the table are followed as long as
+	 * operators have only one consumer
+	 *
+	 * @param to
+	 * @return
+	 */
+	private List<AbstractPredicate> getTablePredicates(TableOperator to) {
+		List<AbstractPredicate> conjuncts = new ArrayList<AbstractPredicate>();
+		AbstractCompileOperator op = to;
+		while (op.getParents().size() == 1) {
+			AbstractCompileOperator parent = op.getParents().get(0);
+			if (parent.getType() == EnumOperator.GENERIC_SELECTION) {
+				// splitAnd does not return disjunctions (i.e., IN lists)
+				AbstractPredicate pred = ((GenericSelection) parent)
+						.getPredicate();
+				List<AbstractPredicate> predConjuncts = pred.splitAnd();
+				if (predConjuncts.isEmpty())
+					conjuncts.add(pred);
+				else
+					conjuncts.addAll(predConjuncts);
+			} else if (parent.getType() != EnumOperator.EQUI_JOIN) {
+				break;
+			}
+			op = parent;
+		}
+		return conjuncts;
+	}
+
+	/**
+	 * Restricts partitions of operator to active partitions of its inputs
+	 * which are read partition-wise
+	 *
+	 * @param op
+	 */
+	private void propagatePartitions(AbstractCompileOperator op) {
+		ResultDesc result = op.getResult();
+		BitSet active = null;
+		for (AbstractCompileOperator child : op.getChildren()) {
+			ResultDesc childResult = child.getResult();
+			if (childResult.repartition() || !childResult.isPruned()
+					|| childResult.getPartitionCount() != result
+							.getPartitionCount())
+				continue;
+
+			BitSet childActive = new BitSet();
+			for (Integer partNum : childResult.getActivePartitions()) {
+				childActive.set(partNum);
+			}
+			if (active == null)
+				active = childActive;
+			else
+				active.and(childActive);
+		}
+
+		if (active != null)
+			result.setActivePartitions(keepOnePartition(active));
+	}
+
+	/**
+	 * Keeps at least one partition such that an (empty) result is created if
+	 * no partition can contain matching tuples
+	 *
+	 * @param active
+	 * @return
+	 */
+	private static BitSet keepOnePartition(BitSet active) {
+		if (active.isEmpty())
+			active.set(0);
+		return active;
+	}
+
+	@Override
+	public Error visitTableOperator(TableOperator to) {
+		BitSet active = to.getMatchingPartitions(this.getTablePredicates(to));
+		if (active != null && active.cardinality() < to.getPartitionCount())
+			to.getResult().setActivePartitions(keepOnePartition(active));
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericSelection(GenericSelection gs) {
+		this.propagatePartitions(gs);
+		return new Error();
+	}
+
+	@Override
+	public Error visitEquiJoin(EquiJoin ej) {
+		this.propagatePartitions(ej);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericProjection(GenericProjection gp) {
+		this.propagatePartitions(gp);
+		return new Error();
+	}
+
+	@Override
+	public Error visitGenericAggregation(GenericAggregation ga) {
+		this.propagatePartitions(ga);
+		return new Error();
+	}
+
+	@Override
+	public Error visitRename(Rename ro) {
+		this.propagatePartitions(ro);
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLUnary(SQLUnary absOp) {
+		this.propagatePartitions(absOp);
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLJoin(SQLJoin absOp) {
+		this.propagatePartitions(absOp);
+		return new Error();
+	}
+
+	@Override
+	public Error visitSQLCombined(SQLCombined absOp) {
+		this.propagatePartitions(absOp);
+		return new Error();
+	}
+}
@@ -18,6 +18,7 @@ public abstract class AbstractServerStmt {
 	protected String stmtString;
 	protected boolean doSemanticAnalysis = true;
     protected QueryStats queryStats; 
+    protected String clientId;
     
 	// getter and setters
 	public void doSemanticAnalysis(boolean doSemanticAnalysis) {
@@ -47,6 +48,10 @@ public abstract class AbstractServerStmt {
 	public QueryStats getQueryStats(){
 		return this.queryStats;
 	}
+	
+	public void setClientId(String clientId){
+		this.clientId = clientId;
+	}
 
 	// methods
 
@@ -65,6 +70,7 @@ public abstract class AbstractServerStmt {
 		case DROP_TABLE:
 		case CREATE_FUNCTION:
 		case DROP_FUNCTION:
+		case ANALYZE:
 			return true;
 		default:
 			return false;
@@ -0,0 +1,457 @@
+package org.xdb.funsql.statement;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.funsql.compile.tokens.TokenTable;
+import org.xdb.funsql.types.EnumSimpleType;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.Attribute;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Connection;
+import org.xdb.metadata.EnumDatabaseObject;
+import org.xdb.metadata.Partition;
+import org.xdb.metadata.PartitionAttribute;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+
+/**
+ * Collects statistics of a table: row counts and for each attribute the
+ * distinct count, null fraction, min/max value and an equi-depth histogram.
+ * Partitions are analyzed in parallel (one query per partition connection);
+ * the statistics of the whole table are merged from the partition results.
+ */
+public class AnalyzeStmt extends AbstractServerStmt {
+	private TokenTable tTable;
+	private Table table;
+	private List<Attribute> attributes;
+
+	private final Logger logger;
+
+	/**
+	 * Statistics of one partition as collected from its connection
+	 */
+	private static class PartitionResult {
+		private final long partitionOid;
+		private long rowCount;
+		private long sampleCount;
+		private long[] distinctCounts;
+		private long[] nullCounts;
+		private String[] minValues;
+		private String[] maxValues;
+		private List<List<String>> samples = new ArrayList<List<String>>();
+
+		private PartitionResult(long partitionOid, int attCount) {
+			this.partitionOid = partitionOid;
+			this.distinctCounts = new long[attCount];
+			this.nullCounts = new long[attCount];
+			this.minValues = new String[attCount];
+			this.maxValues = new String[attCount];
+			for (int i = 0; i < attCount; ++i) {
+				this.samples.add(new ArrayList<String>());
+			}
+		}
+
+		/**
+		 * Number of rows represented by one sampled row
+		 */
+		private double getSampleWeight() {
+			if (this.sampleCount == 0)
+				return 0.0;
+			return (double) this.rowCount / this.sampleCount;
+		}
+	}
+
+	/**
+	 * Analyzes one partition on its connection
+	 */
+	private class PartitionAnalyzer implements Callable<PartitionResult> {
+		private final long partitionOid;
+		private final String tableName;
+		private final Connection connection;
+
+		private PartitionAnalyzer(long partitionOid, String tableName,
+				Connection connection) {
+			this.partitionOid = partitionOid;
+			this.tableName = tableName;
+			this.connection = connection;
+		}
+
+		@Override
+		public PartitionResult call() throws Exception {
+			int attCount = AnalyzeStmt.this.attributes.size();
+			PartitionResult result = new PartitionResult(this.partitionOid,
+					attCount);
+
+			Class.forName(Config.COMPUTE_DRIVER_CLASS);
+			java.sql.Connection conn = DriverManager.getConnection(
+					this.connection.getUrl(), this.connection.getUser(),
+					this.connection.getPasswd());
+			try {
+				// 1. aggregates
+				Statement stmt = conn.createStatement();
+				ResultSet rs = stmt.executeQuery(this.aggregateSql());
+				if (rs.next()) {
+					result.rowCount = rs.getLong(1);
+					for (int i = 0; i < attCount; ++i) {
+						int col = 2 + i * 4;
+						result.distinctCounts[i] = rs.getLong(col);
+						result.nullCounts[i] = result.rowCount
+								- rs.getLong(col + 1);
+						result.minValues[i] = rs.getString(col + 2);
+						result.maxValues[i] = rs.getString(col + 3);
+					}
+				}
+				rs.close();
+
+				// 2. sample for histograms
+				if (result.rowCount > 0) {
+					rs = stmt.executeQuery(this.sampleSql(result.rowCount));
+					while (rs.next()) {
+						result.sampleCount++;
+						for (int i = 0; i < attCount; ++i) {
+							String value = rs.getString(i + 1);
+							if (value != null)
+								result.samples.get(i).add(value);
+						}
+					}
+					rs.close();
+				}
+				stmt.close();
+			} finally {
+				conn.close();
+			}
+			return result;
+		}
+
+		private String aggregateSql() {
+			StringBuffer sql = new StringBuffer();
+			sql.append(AbstractToken.SELECT);
+			sql.append(" COUNT(*)");
+			for (Attribute att : AnalyzeStmt.this.attributes) {
+				String attName = AbstractToken.toSqlIdentifier(att.getName());
+				sql.append(", COUNT(DISTINCT " + attName + ")");
+				sql.append(", COUNT(" + attName + ")");
+				sql.append(", MIN(" + attName + ")");
+				sql.append(", MAX(" + attName + ")");
+			}
+			sql.append(AbstractToken.BLANK);
+			sql.append(AbstractToken.FROM);
+			sql.append(AbstractToken.BLANK);
+			sql.append(AbstractToken.toSqlIdentifier(this.tableName));
+			return sql.toString();
+		}
+
+		private String sampleSql(long rowCount) {
+			StringBuffer sql = new StringBuffer();
+			sql.append(AbstractToken.SELECT);
+			sql.append(AbstractToken.BLANK);
+			for (int i = 0; i < AnalyzeStmt.this.attributes.size(); ++i) {
+				if (i > 0)
+					sql.append(AbstractToken.COMMA);
+				sql.append(AbstractToken
+						.toSqlIdentifier(AnalyzeStmt.this.attributes.get(i)
+								.getName()));
+			}
+			sql.append(AbstractToken.BLANK);
+			sql.append(AbstractToken.FROM);
+			sql.append(AbstractToken.BLANK);
+			sql.append(AbstractToken.toSqlIdentifier(this.tableName));
+
+			// sample rows with same probability
+			double fraction = (double) Config.COMPILE_STATISTICS_SAMPLE_SIZE
+					/ rowCount;
+			if (fraction < 1.0) {
+				sql.append(AbstractToken.BLANK);
+				sql.append(AbstractToken.WHERE);
+				sql.append(" RAND() < ");
+				sql.append(fraction);
+			}
+			return sql.toString();
+		}
+	}
+
+	// constructors
+	public AnalyzeStmt() {
+		super();
+		this.statementType = EnumStatement.ANALYZE;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPILE_SERVER);
+	}
+
+	public AnalyzeStmt(String table) {
+		this();
+
+		this.tTable = new TokenTable(table);
+	}
+
+	// getters and setters
+	public void setTable(TokenTable table) {
+		this.tTable = table;
+	}
+
+	public void setSchema(String schema) {
+		this.tTable.setSchema(schema);
+	}
+
+	// methods
+	@Override
+	public Error compile() {
+		// check if table exists
+		String schemaKey = this.tTable.getSchema().hashKey();
+		Schema schema = Catalog.getSchema(schemaKey);
+		if (schema == null) {
+			return Catalog.createObjectNotExistsErr(this.tTable.getSchema()
+					.toString(), EnumDatabaseObject.SCHEMA);
+		}
+		String tableKey = this.tTable.hashKey(schema.getOid());
+		this.table = Catalog.getTable(tableKey);
+		if (this.table == null) {
+			return Catalog.createObjectNotExistsErr(this.tTable.getName()
+					.toString(), EnumDatabaseObject.TABLE);
+		}
+
+		this.attributes = new ArrayList<Attribute>(this.table.getAttributes());
+		return Error.NO_ERROR;
+	}
+
+	@Override
+	public Error execute() {
+		long startTime = System.currentTimeMillis();
+
+		// 1. analyze partitions in parallel
+		List<PartitionAnalyzer> analyzers = this.createAnalyzers();
+		if (analyzers.isEmpty()) {
+			return this.createGenericCompileErr("Table "
+					+ this.table.getName() + " has no connection to analyze");
+		}
+
+		List<PartitionResult> results = new ArrayList<PartitionResult>();
+		ExecutorService executor = Executors.newFixedThreadPool(analyzers
+				.size());
+		try {
+			List<Future<PartitionResult>> futures = executor
+					.invokeAll(analyzers);
+			for (Future<PartitionResult> future : futures) {
+				results.add(future.get());
+			}
+		} catch (Exception e) {
+			return Catalog.createCatalogNotAvailableErr(e, "Table "
+					+ this.table.getName() + " could not be analyzed");
+		} finally {
+			executor.shutdown();
+		}
+
+		// 2. replace existing statistics
+		Error err = Catalog.dropStatistics(this.table);
+		if (err.isError())
+			return err;
+
+		if (this.table.isPartioned()) {
+			for (PartitionResult result : results) {
+				err = this.createStatistics(Collections.singletonList(result),
+						result.partitionOid);
+				if (err.isError())
+					return err;
+			}
+		}
+		err = this.createStatistics(results, TableStatistics.ALL_PARTITIONS);
+		if (err.isError())
+			return err;
+
+		this.logger.log(Level.INFO, "Analyzed table " + this.table.getName()
+				+ " (" + results.size() + " partitions) in "
+				+ (System.currentTimeMillis() - startTime) + " ms: "
+				+ Catalog.getTableStatistics(this.table.getOid()));
+		return err;
+	}
+
+	/**
+	 * Creates one analyzer per partition (or one for an unpartitioned table)
+	 * using the first connection of each partition
+	 *
+	 * @return
+	 */
+	private List<PartitionAnalyzer> createAnalyzers() {
+		List<PartitionAnalyzer> analyzers = new ArrayList<PartitionAnalyzer>();
+		if (this.table.isPartioned()) {
+			List<Partition> partitions = this.table.getPartitions();
+			for (int i = 0; i < partitions.size(); ++i) {
+				Partition part = partitions.get(i);
+				if (part.getConnections().isEmpty())
+					continue;
+				analyzers.add(new PartitionAnalyzer(part.getOid(), this.table
+						.getName() + TableOperator.PART_PREFIX + i, part
+						.getConnections().get(0)));
+			}
+		} else if (!this.table.getConnections().isEmpty()) {
+			analyzers.add(new PartitionAnalyzer(
+					TableStatistics.ALL_PARTITIONS, this.table.getName(),
+					this.table.getConnections().get(0)));
+		}
+		return analyzers;
+	}
+
+	/**
+	 * Merges results of partitions and stores them as statistics of given
+	 * partition
+	 *
+	 * @param results
+	 * @param partitionOid
+	 * @return
+	 */
+	private Error createStatistics(List<PartitionResult> results,
+			long partitionOid) {
+		long rowCount = 0;
+		for (PartitionResult result : results) {
+			rowCount += result.rowCount;
+		}
+
+		Error err = Catalog.createTableStatistics(new TableStatistics(
+				this.table.getOid(), partitionOid, rowCount));
+		if (err.isError())
+			return err;
+
+		// values of partitioning attributes are disjoint across partitions
+		Set<Long> partAttOids = new HashSet<Long>();
+		for (PartitionAttribute partAtt : this.table.getPartitionAttributes()) {
+			partAttOids.add(partAtt.getPart_att_oid());
+		}
+
+		for (int i = 0; i < this.attributes.size(); ++i) {
+			Attribute att = this.attributes.get(i);
+			EnumSimpleType type = att.getDataType();
+			boolean disjoint = partAttOids.contains(att.getOid());
+
+			long distinctCount = 0;
+			long nullCount = 0;
+			String minValue = null;
+			String maxValue = null;
+			List<WeightedValue> sample = new ArrayList<WeightedValue>();
+			for (PartitionResult result : results) {
+				distinctCount = disjoint ? distinctCount
+						+ result.distinctCounts[i] : Math.max(distinctCount,
+						result.distinctCounts[i]);
+				nullCount += result.nullCounts[i];
+				minValue = min(type, minValue, result.minValues[i]);
+				maxValue = max(type, maxValue, result.maxValues[i]);
+
+				double weight = result.getSampleWeight();
+				for (String value : result.samples.get(i)) {
+					sample.add(new WeightedValue(value, weight));
+				}
+			}
+
+			double nullFraction = rowCount == 0 ? 0.0 : (double) nullCount
+					/ rowCount;
+			List<String> histogram = createHistogram(type, sample, minValue,
+					maxValue, Config.COMPILE_STATISTICS_HISTOGRAM_BUCKETS);
+
+			err = Catalog.createAttributeStatistics(new AttributeStatistics(att
+					.getOid(), partitionOid, distinctCount, nullFraction,
+					minValue, maxValue, histogram));
+			if (err.isError())
+				return err;
+		}
+		return err;
+	}
+
+	/**
+	 * Sampled value which represents weight rows
+	 */
+	public static class WeightedValue {
+		private final String value;
+		private final double weight;
+
+		public WeightedValue(String value, double weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * Creates bounds of an equi-depth histogram from a weighted sample: bound
+	 * i is the first sampled value where the accumulated weight reaches i/n
+	 * of the total weight; first and last bound are the exact min/max
+	 *
+	 * @param type
+	 * @param sample
+	 * @param minValue
+	 * @param maxValue
+	 * @param buckets
+	 * @return
+	 */
+	public static List<String> createHistogram(final EnumSimpleType type,
+			List<WeightedValue> sample, String minValue, String maxValue,
+			int buckets) {
+		List<String> bounds = new ArrayList<String>();
+		if (sample.isEmpty() || minValue == null || maxValue == null)
+			return bounds;
+
+		Collections.sort(sample, new Comparator<WeightedValue>() {
+			@Override
+			public int compare(WeightedValue v1, WeightedValue v2) {
+				return AttributeStatistics.compare(type, v1.value, v2.value);
+			}
+		});
+
+		double totalWeight = 0.0;
+		for (WeightedValue value : sample) {
+			totalWeight += value.weight;
+		}
+
+		buckets = Math.max(1, Math.min(buckets, sample.size()));
+		bounds.add(minValue);
+		double weight = 0.0;
+		int bucket = 1;
+		for (WeightedValue value : sample) {
+			weight += value.weight;
+			while (bucket < buckets
+					&& weight >= totalWeight * bucket / buckets) {
+				bounds.add(value.value);
+				bucket++;
+			}
+		}
+		bounds.add(maxValue);
+		return bounds;
+	}
+
+	private static String min(EnumSimpleType type, String value1,
+			String value2) {
+		if (value1 == null)
+			return value2;
+		if (value2 == null)
+			return value1;
+		return AttributeStatistics.compare(type, value1, value2) <= 0 ? value1
+				: value2;
+	}
+
+	private static String max(EnumSimpleType type, String value1,
+			String value2) {
+		if (value1 == null)
+			return value2;
+		if (value2 == null)
+			return value1;
+		return AttributeStatistics.compare(type, value1, value2) >= 0 ? value1
+				: value2;
+	}
+}
@@ -1,12 +1,16 @@
 package org.xdb.funsql.statement;
 
+import java.util.Vector;
+
+import org.xdb.Config;
 import org.xdb.client.MasterTrackerClient;
 import org.xdb.doomdb.DoomDBPlan;
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.CompilePlanCache;
 import org.xdb.funsql.compile.FunSQLCompiler;
-import org.xdb.funsql.compile.analyze.FunctionCache;
 import org.xdb.funsql.compile.tokens.TokenFunction;
+import org.xdb.funsql.compile.tokens.TokenVariable;
 import org.xdb.metadata.Catalog;
 import org.xdb.metadata.EnumDatabaseObject;
 import org.xdb.metadata.Function;
@@ -15,8 +19,9 @@ import org.xdb.utils.Tuple;
 
 public class CallFunctionStmt extends AbstractServerStmt {
 	private TokenFunction tFunction;
-	private FunctionCache cache = FunctionCache.getCache();
+	private CompilePlanCache cache = CompilePlanCache.getCache();
 	private CompilePlan fPlan;
+	private Vector<TokenVariable> inVars;
 
 	// constructors
 	public CallFunctionStmt() {
@@ -39,6 +44,19 @@ public class CallFunctionStmt extends AbstractServerStmt {
 		this.tFunction.setSchema(schema);
 	}
 
+	public CompilePlan getPlan() {
+		return this.fPlan;
+	}
+
+	/**
+	 * Returns input parameters of called function (null if there are none)
+	 * 
+	 * @return
+	 */
+	public Vector<TokenVariable> getInVars() {
+		return this.inVars;
+	}
+
 	@Override
 	public Error compile() {
 		// check if table with same name and schema exists
@@ -51,9 +69,16 @@ public class CallFunctionStmt extends AbstractServerStmt {
 					.toString(), EnumDatabaseObject.FUNCTION);
 		}
 
-		if (this.cache.hasPlan(functionKey)) {
-			this.fPlan = this.cache.getPlan(functionKey);
-		} else {
+		// reuse plan if function was compiled against current catalog
+		String source = function.getSource();
+		this.fPlan = null;
+		if (Config.COMPILE_PLAN_CACHE) {
+			this.fPlan = this.cache.getPlan(source);
+			this.inVars = this.cache.getInVars(source);
+		}
+
+		if (this.fPlan == null) {
+			long catalogVersion = Catalog.getVersion();
 			FunSQLCompiler compiler = new FunSQLCompiler();
 
 			// make sure that we enable the right compiler phases
@@ -66,7 +91,16 @@ public class CallFunctionStmt extends AbstractServerStmt {
 				return compiler.getLastError();
 			}
 			this.fPlan = fStmt.getPlan();
+			this.inVars = null;
+			if (!fStmt.getInParameters().isEmpty())
+				this.inVars = fStmt.getInParameters();
+
+			if (Config.COMPILE_PLAN_CACHE) {
+				this.cache.addPlan(source, catalogVersion, this.fPlan,
+						this.inVars);
+			}
 		}
+		this.fPlan.setFingerprint("CALL " + functionKey, Catalog.getVersion());
 
 		return new Error();
 	}
@@ -74,6 +108,7 @@ public class CallFunctionStmt extends AbstractServerStmt {
 	@Override
 	public Error execute() {
 		MasterTrackerClient client = new MasterTrackerClient();
+		this.fPlan.setClientId(this.clientId);
 		Error err = client.executePlan(this.fPlan);
 		if (err.isError())
 			return err;
@@ -13,7 +13,6 @@ import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.faulttolerance.costmodel.MaterializationOpsSuggester;
 import org.xdb.funsql.compile.CompilePlan;
-import org.xdb.funsql.compile.analyze.FunctionCache;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
 import org.xdb.funsql.compile.operator.FunctionCall;
 import org.xdb.funsql.compile.operator.ResultDesc;
@@ -41,7 +40,6 @@ public class CreateFunctionStmt extends AbstractServerStmt {
 	// function
 	private TokenFunction tFun;
 	private Function function;
-	private FunctionCache fCache = FunctionCache.getCache();
 
 	// output parameters
 	private Vector<TokenVariable> outParameters = new Vector<TokenVariable>();
@@ -62,6 +60,7 @@ public class CreateFunctionStmt extends AbstractServerStmt {
 	private Vector<TokenFunctionCall> tcalls = new Vector<TokenFunctionCall>();
 	private HashMap<TokenFunction, Function> calls = new HashMap<TokenFunction, Function>();
 	private HashMap<String, FunctionCall> callSymbols = new HashMap<String, FunctionCall>();
+	private HashMap<TokenFunction, CallFunctionStmt> callStmts = new HashMap<TokenFunction, CallFunctionStmt>();
 
 	private CompilePlan functionPlan = new CompilePlan();
 
@@ -246,16 +245,17 @@ public class CreateFunctionStmt extends AbstractServerStmt {
 				e = checkCallParameters(tfc);
 				if (e.isError())
 					return e;
-				CompilePlan plan = this.fCache.getPlan(this.calls.get(
-						tfc.getFun()).hashKey());
-				if (plan == null) {
-					CallFunctionStmt stmt = new CallFunctionStmt(tfc.getFun()
-							.getName().toString());
-					stmt.compile();
-					plan = this.fCache.getPlan(this.calls.get(tfc.getFun())
-							.hashKey());
-
+				// get copy of plan of called function
+				CallFunctionStmt stmt = this.callStmts.get(tfc.getFun());
+				if (stmt == null) {
+					stmt = new CallFunctionStmt(tfc.getFun().getName()
+							.toString());
+					e = stmt.compile();
+					if (e.isError())
+						return e;
+					this.callStmts.put(tfc.getFun(), stmt);
 				}
+				CompilePlan plan = stmt.getPlan();
 
 				// add FunctionCall Operator to function call
 				FunctionCall fc = new FunctionCall(tfc.getFun(), tfc
@@ -309,14 +309,13 @@ public class CreateFunctionStmt extends AbstractServerStmt {
 
 		// step 3b
 		for (TokenFunctionCall tfc : this.tcalls) {
-			CompilePlan callPlan = this.fCache.getPlan(this.calls.get(
-					tfc.getFun()).hashKey());// plan of called function
+			CallFunctionStmt stmt = this.callStmts.get(tfc.getFun());
+			CompilePlan callPlan = stmt.getPlan();// plan of called function
 			// replace in parameters of called function with subplans of the
 			// variables in present function
 			if (!tfc.getInVars().isEmpty()) {
 				int i = 0;
-				for (TokenVariable cVar : this.fCache.getInVars(this.calls.get(
-						tfc.getFun()).hashKey())) {// Signatur der Funktion
+				for (TokenVariable cVar : stmt.getInVars()) {// Signatur der Funktion
 					TokenVariable uVar = tfc.getInVars().get(i);// Parameter
 																// beim Aufruf
 					CompilePlan varPlan = this.compilePlans.get(uVar.hashKey());
@@ -334,10 +333,6 @@ public class CreateFunctionStmt extends AbstractServerStmt {
 		if (e.isError())
 			return e;
 
-		this.fCache.addPlan(this.function.hashKey(), this.functionPlan);
-		if (!this.inParameters.isEmpty())
-			this.fCache.addInVars(this.function.hashKey(), this.inParameters); 
-		
 		if(Config.SIMULATION_MODE) {
 			// set the runtime and mat time for each compile op 
 			Collection<AbstractCompileOperator> allOps = this.functionPlan.getOperators(); 
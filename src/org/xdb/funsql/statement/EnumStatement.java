@@ -10,5 +10,6 @@ public enum EnumStatement {
 	CREATE_FUNCTION,
 	DROP_FUNCTION,
 	CALL_FUNCTION,
+	ANALYZE,
 	SELECT
 }
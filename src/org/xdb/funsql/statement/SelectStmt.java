@@ -17,6 +17,7 @@ import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.faulttolerance.costmodel.MaterializationOpsSuggester;
 import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.CompilePlanCache;
 import org.xdb.funsql.compile.FunSQLCompiler;
 import org.xdb.funsql.compile.analyze.Analyzer;
 import org.xdb.funsql.compile.expression.AbstractExpression;
@@ -26,12 +27,16 @@ import org.xdb.funsql.compile.operator.EquiJoin;
 import org.xdb.funsql.compile.operator.GenericAggregation;
 import org.xdb.funsql.compile.operator.GenericProjection;
 import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.OrderDesc;
 import org.xdb.funsql.compile.operator.TableOperator;
 import org.xdb.funsql.compile.predicate.AbstractPredicate;
 import org.xdb.funsql.compile.tokens.TokenAttribute;
 import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
 import org.xdb.funsql.compile.tokens.TokenSchema;
 import org.xdb.funsql.compile.tokens.TokenTable;
+import org.xdb.funsql.optimize.JoinEnumerator;
+import org.xdb.funsql.optimize.JoinEnumerator.JoinPlan;
 import org.xdb.funsql.optimize.Optimizer;
 import org.xdb.funsql.parallelize.Parallelizer;
 import org.xdb.funsql.types.EnumSimpleType;
@@ -61,6 +66,11 @@ public class SelectStmt extends AbstractServerStmt {
 	// having
 	private AbstractPredicate tHavingPredicate;
 
+	// order by and limit
+	private Vector<AbstractExpression> tOrderExpr = new Vector<AbstractExpression>();
+	private Vector<Boolean> tOrderDesc = new Vector<Boolean>();
+	private TokenIntegerLiteral tLimit;
+
 	// compiler variables
 	private Map<String, Schema> schemaSymbols = new HashMap<String, Schema>();
 	private Map<String, Table> tableSymbols = new HashMap<String, Table>();
@@ -75,6 +85,8 @@ public class SelectStmt extends AbstractServerStmt {
 	private Map<AbstractExpression, TokenIdentifier> internalAliases = new HashMap<AbstractExpression, TokenIdentifier>();
 	private Vector<AbstractPredicate> selectionPreds = new Vector<AbstractPredicate>();
 	private AbstractCompileOperator lastOp = null;
+	private OrderDesc orderDesc = null;
+	private JoinEnumerator joinEnumerator = null;
 
 	// Compile plan
 	private CompilePlan plan = new CompilePlan();
@@ -153,10 +165,41 @@ public class SelectStmt extends AbstractServerStmt {
 		this.tHavingPredicate = tPredicate;
 	}
 
+	public void addOrderExpression(AbstractExpression expr) {
+		this.tOrderExpr.add(expr);
+		this.tOrderDesc.add(false);
+	}
+
+	public Collection<AbstractExpression> getOrderExpressions() {
+		return this.tOrderExpr;
+	}
+
+	public void setOrderDescending(int i) {
+		this.tOrderDesc.set(i, true);
+	}
+
+	public void setLimit(TokenIntegerLiteral tLimit) {
+		this.tLimit = tLimit;
+	}
+
+	public void setPlan(CompilePlan plan) {
+		this.plan = plan;
+	}
+
 	public CompilePlan getPlan() {
 		return plan;
 	}
 
+	/**
+	 * Returns join enumerator used to compile statement (null if join order
+	 * was not enumerated)
+	 *
+	 * @return
+	 */
+	public JoinEnumerator getJoinEnumerator() {
+		return this.joinEnumerator;
+	}
+
 	@Override
 	public Error compile() {
 		System.out.println("Compiling: "+this.getStmtString());
@@ -177,14 +220,26 @@ public class SelectStmt extends AbstractServerStmt {
 		if (err.isError())
 			return err;
 
-		// 4. create canonical plan
+		// 4. check order-by expressions and limit
+		err = checkOrderBy();
+		if (err.isError())
+			return err;
+
+		// 5. create canonical plan
 		err = this.canonicalTransalation();
 
-		// 5. analyze plan
+		// 6. analyze plan
 		Analyzer analyzer = new Analyzer(this.plan, this.attTypes);
 		analyzer.analyze();  
-		// 6. set the runtime and mat time for each compile op 
+		// 7. set the runtime and mat time for each compile op 
 		this.plan.setQueryStats(queryStats);
+		
+		// 8. fingerprint plan for reuse of generated tracker plans
+		if (this.getStmtString() != null) {
+			this.plan.setFingerprint(
+					CompilePlanCache.normalize(this.getStmtString()),
+					Catalog.getVersion());
+		}
 		return err;
 	}
 	
@@ -290,6 +345,8 @@ public class SelectStmt extends AbstractServerStmt {
 			}
 			projectOp.addAlias(tAlias);
 		}
+		// order-by and limit clause -> order info of projection
+		projectOp.setOrderDesc(this.orderDesc);
 		plan.addOperator(projectOp, true);
 
 		return err;
@@ -332,6 +389,11 @@ public class SelectStmt extends AbstractServerStmt {
 						.createGenericCompileErr("Cartesian product not in SQL statement supported!");
 			}
 
+			// cost-based join order
+			if (Config.COMPILE_JOIN_ENUMERATION) {
+				return this.createJoinPlan(wherePreds);
+			}
+
 			// remaining where-predicates not in join path
 			List<AbstractPredicate> remainingWherePreds = new ArrayList<AbstractPredicate>(
 					wherePreds);
@@ -438,6 +500,47 @@ public class SelectStmt extends AbstractServerStmt {
 		return err;
 	}
 
+	/**
+	 * Create join plan using cost-based join enumeration
+	 * 
+	 * @param wherePreds
+	 * @return
+	 */
+	private Error createJoinPlan(List<AbstractPredicate> wherePreds) {
+		this.joinEnumerator = new JoinEnumerator(this.tTableAliases,
+				this.tableSymbols, wherePreds);
+		Error err = this.joinEnumerator.enumerate();
+		if (err.isError())
+			return err;
+
+		this.lastOp = this.addJoinPlan(this.joinEnumerator.getBestPlan());
+		this.selectionPreds.addAll(this.joinEnumerator
+				.getRemainingPredicates());
+		return err;
+	}
+
+	/**
+	 * Adds operators for join plan to compile plan
+	 * 
+	 * @param joinPlan
+	 * @return root of join plan
+	 */
+	private AbstractCompileOperator addJoinPlan(JoinPlan joinPlan) {
+		if (joinPlan.isLeaf()) {
+			TableOperator tableOp = new TableOperator(joinPlan.getTableAlias());
+			this.addTableToPlan(tableOp);
+			return tableOp;
+		}
+
+		AbstractCompileOperator leftOp = this.addJoinPlan(joinPlan.getLeft());
+		AbstractCompileOperator rightOp = this
+				.addJoinPlan(joinPlan.getRight());
+		EquiJoin ej = new EquiJoin(leftOp, rightOp,
+				joinPlan.getLeftAttribute(), joinPlan.getRightAttribute());
+		this.plan.addOperator(ej, false);
+		return ej;
+	}
+
 	/**
 	 * Adds table and connection info to plan for table operator
 	 * 
@@ -549,6 +652,61 @@ public class SelectStmt extends AbstractServerStmt {
 		return err;
 	}
 
+	/**
+	 * Resolves order-by expressions to positions in the select clause: an
+	 * order-by expression must either be a select alias or be contained in
+	 * the select clause
+	 * 
+	 * @return
+	 */
+	private Error checkOrderBy() {
+		Error err = new Error();
+		if (this.tOrderExpr.size() == 0 && this.tLimit == null)
+			return err;
+
+		this.orderDesc = new OrderDesc();
+		for (int i = 0; i < this.tOrderExpr.size(); ++i) {
+			AbstractExpression tExpr = this.tOrderExpr.get(i);
+			int pos = -1;
+
+			// attribute w/o table might reference a select alias
+			if (tExpr.isAttribute() && tExpr.getAttribute().getTable() == null) {
+				TokenIdentifier tName = tExpr.getAttribute().getName();
+				for (int j = 0; j < this.tSelAliases.size(); ++j) {
+					TokenIdentifier tAlias = this.tSelAliases.get(j);
+					if (tAlias != null
+							&& tAlias.hashKey().equals(tName.hashKey())) {
+						pos = j;
+						break;
+					}
+				}
+			}
+
+			// otherwise expression must be contained in select clause
+			if (pos < 0) {
+				for (TokenAttribute tAtt : tExpr.getAttributes()) {
+					err = checkAttribute(tAtt);
+					if (err.isError())
+						return err;
+				}
+				pos = this.tSelExpr.indexOf(tExpr);
+			}
+
+			if (pos < 0) {
+				return FunSQLCompiler
+						.createGenericCompileErr("Order-by expression "
+								+ tExpr.toSqlString()
+								+ " not in select clause!");
+			}
+			this.orderDesc.addOrderPosition(pos, this.tOrderDesc.get(i));
+		}
+
+		if (this.tLimit != null)
+			this.orderDesc.setLimit(this.tLimit.getValue());
+
+		return err;
+	}
+
 	/**
 	 * Check if select attributes have unique result names
 	 * 
@@ -775,6 +933,7 @@ public class SelectStmt extends AbstractServerStmt {
 		for (AbstractCompileOperator abstractCompileOperator : ops) {
 			System.out.println(abstractCompileOperator.getRuntime());
 		}
+		this.plan.setClientId(this.clientId);
 		Error err = client.executePlan(this.plan);
 		if (err.isError())
 			return err;
@@ -0,0 +1,291 @@
+package org.xdb.metadata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.funsql.types.EnumSimpleType;
+
+/*
+CREATE TABLE `ATTRIBUTESTATISTICS`(
+		`OID` bigint NOT NULL,
+		`ATTRIBUTE_OID` bigint NOT NULL,
+		`PARTITION_OID` bigint NOT NULL,
+		`DISTINCT_COUNT` bigint NOT NULL,
+		`NULL_FRACTION` double NOT NULL,
+		`MIN_VALUE` character varying(255),
+		`MAX_VALUE` character varying(255),
+		`HISTOGRAM` text
+	);
+*/
+/**
+ * Represents the metadata table AttributeStatistics: value distribution of an
+ * attribute in a table partition or in the whole table (PARTITION_OID =
+ * TableStatistics.ALL_PARTITIONS) as collected by ANALYZE.
+ *
+ * The histogram is equi-depth: it stores n+1 bucket bounds for n buckets which
+ * hold the same number of non-null values each. Bounds are stored separated by
+ * '|' which can not be part of a value since data is loaded with '|' as field
+ * terminator.
+ */
+public class AttributeStatistics extends AbstractDatabaseObject {
+
+	private static final long serialVersionUID = 8140290346553497426L;
+
+	private static final String TABLE_NAME = AbstractToken.toSqlIdentifier("ATTRIBUTESTATISTICS");
+	private static final String[] ATTRIBUTES = {"OID", "ATTRIBUTE_OID", "PARTITION_OID", "DISTINCT_COUNT",
+		"NULL_FRACTION", "MIN_VALUE", "MAX_VALUE", "HISTOGRAM"};
+	private static final String ALL_ATTRIBUTES = AbstractToken.toSqlIdentifierList(ATTRIBUTES);
+	private static final String HISTOGRAM_SEPARATOR = "|";
+	private static long LAST_OID = 0;
+
+	private static AttributeStatistics prototype = new AttributeStatistics();
+
+	private long attributeOid;
+	private long partitionOid;
+	private long distinctCount;
+	private double nullFraction;
+	private String minValue;
+	private String maxValue;
+	private List<String> histogram = new ArrayList<String>();
+
+	// constructors
+	private AttributeStatistics() {
+		super();
+		this.objectType = EnumDatabaseObject.ATTRIBUTESTATISTICS;
+	}
+
+	public AttributeStatistics(long oid, long attributeOid, long partitionOid,
+			long distinctCount, double nullFraction, String minValue,
+			String maxValue, List<String> histogram) {
+		super(oid, null);
+		this.objectType = EnumDatabaseObject.ATTRIBUTESTATISTICS;
+		this.attributeOid = attributeOid;
+		this.partitionOid = partitionOid;
+		this.distinctCount = distinctCount;
+		this.nullFraction = nullFraction;
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		if (histogram != null)
+			this.histogram = histogram;
+	}
+
+	public AttributeStatistics(long attributeOid, long partitionOid,
+			long distinctCount, double nullFraction, String minValue,
+			String maxValue, List<String> histogram) {
+		this(++LAST_OID, attributeOid, partitionOid, distinctCount,
+				nullFraction, minValue, maxValue, histogram);
+	}
+
+	public static void LAST_OID(long LAST_OID) {
+		AttributeStatistics.LAST_OID = LAST_OID;
+	}
+
+	// getters and setters
+	public long getAttributeOid() {
+		return attributeOid;
+	}
+
+	public long getPartitionOid() {
+		return partitionOid;
+	}
+
+	public boolean isTableLevel() {
+		return this.partitionOid == TableStatistics.ALL_PARTITIONS;
+	}
+
+	public long getDistinctCount() {
+		return distinctCount;
+	}
+
+	public double getNullFraction() {
+		return nullFraction;
+	}
+
+	public String getMinValue() {
+		return minValue;
+	}
+
+	public String getMaxValue() {
+		return maxValue;
+	}
+
+	public List<String> getHistogram() {
+		return Collections.unmodifiableList(histogram);
+	}
+
+	public int getBucketCount() {
+		return Math.max(0, this.histogram.size() - 1);
+	}
+
+	@Override
+	public String getTableName() {
+		return TABLE_NAME;
+	}
+
+	@Override
+	public String getAllAttributes() {
+		return ALL_ATTRIBUTES;
+	}
+
+	// methods
+	/**
+	 * Estimates fraction of non-null values which are smaller than the given
+	 * value using the histogram (-1 if no histogram exists)
+	 *
+	 * @param type
+	 * @param value
+	 * @return
+	 */
+	public double estimateLessThanFraction(EnumSimpleType type, String value) {
+		int buckets = this.getBucketCount();
+		if (buckets == 0)
+			return -1;
+
+		if (compare(type, value, this.histogram.get(0)) <= 0)
+			return 0.0;
+		if (compare(type, value, this.histogram.get(buckets)) > 0)
+			return 1.0;
+
+		// value falls into bucket i: assume half of bucket is smaller
+		for (int i = 1; i <= buckets; ++i) {
+			if (compare(type, value, this.histogram.get(i)) <= 0) {
+				return (i - 0.5) / buckets;
+			}
+		}
+		return 1.0;
+	}
+
+	/**
+	 * Compares two values of the given type
+	 *
+	 * @param type
+	 * @param value1
+	 * @param value2
+	 * @return
+	 */
+	public static int compare(EnumSimpleType type, String value1, String value2) {
+		if (type.isNumeric()) {
+			try {
+				return new BigDecimal(value1.trim()).compareTo(new BigDecimal(
+						value2.trim()));
+			} catch (NumberFormatException e) {
+				// fall back to string comparison
+			}
+		}
+		// dates are compared in ISO format
+		return value1.compareTo(value2);
+	}
+
+	public static String hashKey(long attributeOid, long partitionOid) {
+		StringBuffer hashKey = new StringBuffer();
+		hashKey.append(attributeOid);
+		hashKey.append(AbstractToken.DOT);
+		hashKey.append(partitionOid);
+		return hashKey.toString();
+	}
+
+	@Override
+	public String hashKey() {
+		return hashKey(this.attributeOid, this.partitionOid);
+	}
+
+	@Override
+	public Error checkObject() {
+		return Error.NO_ERROR;
+	}
+
+	protected static String sqlDeleteAll() {
+		return prototype.interalSqlDeleteAll();
+	}
+
+	protected static String sqlSelectAll() {
+		return prototype.internalSqlSelectAll();
+	}
+
+	protected static String sqlSelectMaxOid() {
+		return prototype.internalSqlSelectMaxOid();
+	}
+
+	/**
+	 * Parses stored histogram
+	 *
+	 * @param histogram
+	 * @return
+	 */
+	public static List<String> parseHistogram(String histogram) {
+		List<String> bounds = new ArrayList<String>();
+		if (histogram == null || histogram.isEmpty())
+			return bounds;
+
+		for (String bound : histogram.split("\\" + HISTOGRAM_SEPARATOR, -1)) {
+			bounds.add(bound);
+		}
+		return bounds;
+	}
+
+	private static String toSqlValue(String value) {
+		if (value == null)
+			return AbstractToken.NULL;
+		if (value.length() > 255)
+			value = value.substring(0, 255);
+		return AbstractToken.toSqlLiteral(value.replace("'", "''"));
+	}
+
+	@Override
+	public String sqlInsert() {
+		StringBuffer histogramValue = new StringBuffer();
+		for (int i = 0; i < this.histogram.size(); ++i) {
+			if (i > 0)
+				histogramValue.append(HISTOGRAM_SEPARATOR);
+			histogramValue.append(this.histogram.get(i));
+		}
+
+		StringBuffer insertSql = new StringBuffer();
+		insertSql.append(AbstractToken.INSERT);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.INTO);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(METADATA_SCHEMA);
+		insertSql.append(AbstractToken.DOT);
+		insertSql.append(TABLE_NAME);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(ALL_ATTRIBUTES);
+		insertSql.append(AbstractToken.RBRACE);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.VALUES);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(this.oid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.attributeOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.partitionOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.distinctCount);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.nullFraction);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(toSqlValue(this.minValue));
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(toSqlValue(this.maxValue));
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(AbstractToken.toSqlLiteral(histogramValue.toString()
+				.replace("'", "''")));
+		insertSql.append(AbstractToken.RBRACE);
+		return insertSql.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "[attribute=" + this.attributeOid + ", partition="
+				+ this.partitionOid + ", distinct=" + this.distinctCount
+				+ ", nullFraction=" + this.nullFraction + ", min="
+				+ this.minValue + ", max=" + this.maxValue + ", buckets="
+				+ this.getBucketCount() + "]";
+	}
+}
@@ -46,7 +46,16 @@ public class Catalog {
 	private static HashMap<Long, Function> functions = new HashMap<Long, Function>();
 	private static HashMap<String, Function> functionsByName = new HashMap<String, Function>();
 
+	private static HashMap<Long, TableStatistics> tableStatistics = new HashMap<Long, TableStatistics>();
+	private static HashMap<String, TableStatistics> tableStatisticsByKey = new HashMap<String, TableStatistics>();
+
+	private static HashMap<Long, AttributeStatistics> attributeStatistics = new HashMap<Long, AttributeStatistics>();
+	private static HashMap<String, AttributeStatistics> attributeStatisticsByKey = new HashMap<String, AttributeStatistics>();
+
 	private static Logger log = XDBLog.getLogger(EnumXDBComponents.COMPILE_CATALOG);
+	
+	// version of catalog: incremented whenever an object is added or removed
+	private static long version = 0;
 
 	public static synchronized Error delete() {
 		try {
@@ -56,6 +65,16 @@ public class Catalog {
 
 			Error lastError = Error.NO_ERROR;
 
+			lastError = Catalog.executeUpdate(AttributeStatistics.sqlDeleteAll());
+			if (lastError != Error.NO_ERROR) {
+				return lastError;
+			}
+
+			lastError = Catalog.executeUpdate(TableStatistics.sqlDeleteAll());
+			if (lastError != Error.NO_ERROR) {
+				return lastError;
+			}
+
 			lastError = Catalog.executeUpdate(TableToConnection.sqlDeleteAll());
 			if (lastError != Error.NO_ERROR) {
 				return lastError;
@@ -133,6 +152,10 @@ public class Catalog {
 			Catalog.initConnectionToTable();
 			Catalog.initPartitionToConnection();
 			
+			//Statistics
+			Catalog.initTableStatistics();
+			Catalog.initAttributeStatistics();
+			
 			//Functions
 			Catalog.initFunctions();
 
@@ -147,6 +170,7 @@ public class Catalog {
 	}
 
 	public static synchronized Error unload() {
+		Catalog.version++;
 		Catalog.attributes.clear();
 		Catalog.attributesByName.clear();
 		Catalog.connections.clear();
@@ -164,6 +188,10 @@ public class Catalog {
 		Catalog.tableToConnByTableOid.clear();
 		Catalog.partitionToConnByConnOid.clear();
 		Catalog.partitionToConnByPartOid.clear();
+		Catalog.tableStatistics.clear();
+		Catalog.tableStatisticsByKey.clear();
+		Catalog.attributeStatistics.clear();
+		Catalog.attributeStatisticsByKey.clear();
 
 		try {
 			Catalog.conn.close();
@@ -325,6 +353,57 @@ public class Catalog {
 		}
 	}
 
+	private static synchronized void initTableStatistics() throws Exception {
+		Statement stmt = null;
+		ResultSet rs = null;
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(TableStatistics.sqlSelectMaxOid());
+		if (rs.next()) {
+			TableStatistics.LAST_OID(rs.getLong(1));
+		}
+
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(TableStatistics.sqlSelectAll());
+		while (rs.next()) {
+			// add statistics to catalog
+			long oid = rs.getLong(1);
+			long tableOid = rs.getLong(2);
+			long partitionOid = rs.getLong(3);
+			long rowCount = rs.getLong(4);
+			TableStatistics stats = new TableStatistics(oid, tableOid,
+					partitionOid, rowCount);
+			Catalog.addTableStatistics(stats);
+		}
+	}
+
+	private static synchronized void initAttributeStatistics() throws Exception {
+		Statement stmt = null;
+		ResultSet rs = null;
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(AttributeStatistics.sqlSelectMaxOid());
+		if (rs.next()) {
+			AttributeStatistics.LAST_OID(rs.getLong(1));
+		}
+
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(AttributeStatistics.sqlSelectAll());
+		while (rs.next()) {
+			// add statistics to catalog
+			long oid = rs.getLong(1);
+			long attOid = rs.getLong(2);
+			long partitionOid = rs.getLong(3);
+			long distinctCount = rs.getLong(4);
+			double nullFraction = rs.getDouble(5);
+			String minValue = rs.getString(6);
+			String maxValue = rs.getString(7);
+			String histogram = rs.getString(8);
+			AttributeStatistics stats = new AttributeStatistics(oid, attOid,
+					partitionOid, distinctCount, nullFraction, minValue,
+					maxValue, AttributeStatistics.parseHistogram(histogram));
+			Catalog.addAttributeStatistics(stats);
+		}
+	}
+
 	private static synchronized void initConnectionToTable() throws Exception {
 		Statement stmt = null;
 		ResultSet rs = null;
@@ -649,8 +728,12 @@ public class Catalog {
 
 	public static synchronized Error dropTable(Table table) {
 
+		// drop statistics
+		Error lastError = Catalog.dropStatistics(table);
+		if (lastError.isError())
+			return lastError;
+
 		// drop Table to Connections entry
-		Error lastError = Error.NO_ERROR;
 		ArrayList<TableToConnection> taToCosTmp = (ArrayList<TableToConnection>) Catalog.tableToConnByTableOid
 				.get(table.getOid());
 	
@@ -702,6 +785,62 @@ public class Catalog {
 		return lastError;
 	}
 
+	public static synchronized Error createTableStatistics(TableStatistics stats) {
+		if (Catalog.tableStatistics.containsKey(stats.getOid())) {
+			return createObjectAlreadyExistsErr(stats);
+		}
+
+		Error lastError = Catalog.executeUpdate(stats.sqlInsert());
+		if (lastError == Error.NO_ERROR) {
+			Catalog.addTableStatistics(stats);
+		}
+		return lastError;
+	}
+
+	public static synchronized Error createAttributeStatistics(AttributeStatistics stats) {
+		if (Catalog.attributeStatistics.containsKey(stats.getOid())) {
+			return createObjectAlreadyExistsErr(stats);
+		}
+
+		Error lastError = Catalog.executeUpdate(stats.sqlInsert());
+		if (lastError == Error.NO_ERROR) {
+			Catalog.addAttributeStatistics(stats);
+		}
+		return lastError;
+	}
+
+	/**
+	 * Drops all statistics of a table and its attributes and partitions
+	 * @param table
+	 * @return
+	 */
+	public static synchronized Error dropStatistics(Table table) {
+		Error lastError = Error.NO_ERROR;
+		for (AttributeStatistics stats : new ArrayList<AttributeStatistics>(
+				Catalog.attributeStatistics.values())) {
+			Attribute att = Catalog.attributes.get(stats.getAttributeOid());
+			if (att == null || att.getTableOid() != table.getOid())
+				continue;
+
+			lastError = Catalog.executeUpdate(stats.sqlDelete());
+			if (lastError.isError())
+				return lastError;
+			Catalog.removeAttributeStatistics(stats);
+		}
+
+		for (TableStatistics stats : new ArrayList<TableStatistics>(
+				Catalog.tableStatistics.values())) {
+			if (stats.getTableOid() != table.getOid())
+				continue;
+
+			lastError = Catalog.executeUpdate(stats.sqlDelete());
+			if (lastError.isError())
+				return lastError;
+			Catalog.removeTableStatistics(stats);
+		}
+		return lastError;
+	}
+
 	public static synchronized Error createFunction(Function function) {
 		if (Catalog.functions.containsKey(function.getOid())) {
 			return createObjectAlreadyExistsErr(function);
@@ -723,6 +862,7 @@ public class Catalog {
 	}
 
 	public static synchronized void addAttribute(Attribute att) {
+		Catalog.version++;
 		Catalog.attributes.put(att.getOid(), att);
 		StringBuilder completeName = new StringBuilder();
 		completeName.append(att.getTableOid());
@@ -732,6 +872,7 @@ public class Catalog {
 	}
 
 	public static synchronized void removeAttribute(Attribute att) {
+		Catalog.version++;
 		Catalog.attributes.remove(att.getOid());
 		StringBuilder completeName = new StringBuilder();
 		completeName.append(att.getTableOid());
@@ -741,23 +882,28 @@ public class Catalog {
 	}
 	
 	public static synchronized void addPartitionAttributes(PartitionAttribute partAtts) {
+		Catalog.version++;
 		Catalog.partitionAttributues.put(partAtts.getPart_att_oid(), partAtts.getRef_att_oid());
 	}
 	
 	public static synchronized void removePartitionAttributes(PartitionAttribute partAtts) {
+		Catalog.version++;
 		Catalog.partitions.remove(partAtts.getPart_att_oid());
 	}	
 
 	public static synchronized void addPartition(Partition part) {
+		Catalog.version++;
 		Catalog.partitions.put(part.getOid(), part);
 	}
 
 	public static synchronized void removePartition(Partition part) {
+		Catalog.version++;
 		Catalog.partitions.remove(part.getOid());
 	}
 	
 	public static synchronized void addPartitionToConnection(
 			PartitionToConnection paToCo) {
+		Catalog.version++;
 		List<PartitionToConnection> values1 = Catalog.partitionToConnByConnOid
 				.get(paToCo.getConnection_oid());
 		if (values1 == null) {
@@ -778,6 +924,7 @@ public class Catalog {
 	
 	public static synchronized void removePartitionToConnection(
 			PartitionToConnection paToCo) {
+		Catalog.version++;
 		List<PartitionToConnection> values1 = Catalog.partitionToConnByConnOid
 				.get(paToCo.getConnection_oid());
 		values1.remove(paToCo);
@@ -805,6 +952,7 @@ public class Catalog {
 
 	public static synchronized void addTableToConnection(
 			TableToConnection taToCo) {
+		Catalog.version++;
 		List<TableToConnection> values1 = Catalog.tableToConnByConnOid
 				.get(taToCo.getConnection_oid());
 		if (values1 == null) {
@@ -824,6 +972,7 @@ public class Catalog {
 
 	public static synchronized void removeTableToConnection(
 			TableToConnection taToCo) {
+		Catalog.version++;
 		List<TableToConnection> values1 = Catalog.tableToConnByConnOid
 				.get(taToCo.getConnection_oid());
 		values1.remove(taToCo);
@@ -850,45 +999,81 @@ public class Catalog {
 	}
 
 	public static synchronized void addConnection(Connection conn) {
+		Catalog.version++;
 		Catalog.connections.put(conn.getOid(), conn);
 		Catalog.connectionsByName.put(conn.hashKey(), conn);
 	}
 
 	public static synchronized void removeConnection(Connection conn) {
+		Catalog.version++;
 		Catalog.connections.remove(conn.getOid());
 		Catalog.connectionsByName.remove(conn.hashKey());
 	}
 
 	public static synchronized void addSchema(Schema schema) {
+		Catalog.version++;
 		Catalog.schemas.put(schema.getOid(), schema);
 		Catalog.schemasByName.put(schema.hashKey(), schema);
 	}
 
 	public static synchronized void removeSchema(Schema schema) {
+		Catalog.version++;
 		Catalog.schemas.remove(schema.getOid());
 		Catalog.schemasByName.remove(schema.hashKey());
 	}
 
 	public static synchronized void addTable(Table table) {
+		Catalog.version++;
 		Catalog.tables.put(table.getOid(), table);
 		Catalog.tablesByName.put(table.hashKey(), table);
 	}
 
 	public static synchronized void removeTable(Table table) {
+		Catalog.version++;
 		Catalog.tables.remove(table.getOid());
 		Catalog.tablesByName.remove(table.hashKey());
 	}
 
 	public static synchronized void addFunction(Function function) {
+		Catalog.version++;
 		Catalog.functions.put(function.getOid(), function);
 		Catalog.functionsByName.put(function.hashKey(), function);
 	}
 
 	public static synchronized void removeFunction(Function function) {
+		Catalog.version++;
 		Catalog.tables.remove(function.getOid());
 		Catalog.tablesByName.remove(function.hashKey());
 	}
 
+	public static synchronized void addTableStatistics(TableStatistics stats) {
+		Catalog.version++;
+		Catalog.tableStatistics.put(stats.getOid(), stats);
+		Catalog.tableStatisticsByKey.put(stats.hashKey(), stats);
+	}
+
+	public static synchronized void removeTableStatistics(TableStatistics stats) {
+		Catalog.version++;
+		Catalog.tableStatistics.remove(stats.getOid());
+		Catalog.tableStatisticsByKey.remove(stats.hashKey());
+	}
+
+	public static synchronized void addAttributeStatistics(AttributeStatistics stats) {
+		Catalog.version++;
+		Catalog.attributeStatistics.put(stats.getOid(), stats);
+		Catalog.attributeStatisticsByKey.put(stats.hashKey(), stats);
+	}
+
+	public static synchronized void removeAttributeStatistics(AttributeStatistics stats) {
+		Catalog.version++;
+		Catalog.attributeStatistics.remove(stats.getOid());
+		Catalog.attributeStatisticsByKey.remove(stats.hashKey());
+	}
+
+	public static synchronized long getVersion() {
+		return Catalog.version;
+	}
+
 	public static synchronized Attribute getAttribute(long oid) {
 		return Catalog.attributes.get(oid);
 	}
@@ -932,6 +1117,32 @@ public class Catalog {
 	public static synchronized Function getFunction(String key) {
 		return Catalog.functionsByName.get(key);
 	}
+
+	/**
+	 * Returns statistics of whole table (null if table was not analyzed)
+	 * @param tableOid
+	 * @return
+	 */
+	public static synchronized TableStatistics getTableStatistics(long tableOid) {
+		return Catalog.getTableStatistics(tableOid, TableStatistics.ALL_PARTITIONS);
+	}
+
+	public static synchronized TableStatistics getTableStatistics(long tableOid, long partitionOid) {
+		return Catalog.tableStatisticsByKey.get(TableStatistics.hashKey(tableOid, partitionOid));
+	}
+
+	/**
+	 * Returns statistics of attribute in whole table (null if table was not analyzed)
+	 * @param attOid
+	 * @return
+	 */
+	public static synchronized AttributeStatistics getAttributeStatistics(long attOid) {
+		return Catalog.getAttributeStatistics(attOid, TableStatistics.ALL_PARTITIONS);
+	}
+
+	public static synchronized AttributeStatistics getAttributeStatistics(long attOid, long partitionOid) {
+		return Catalog.attributeStatisticsByKey.get(AttributeStatistics.hashKey(attOid, partitionOid));
+	}
 	
 	/**
 	 * This Function need to be splitted into CS, MT, QT but is now implemented here to use the
@@ -9,5 +9,7 @@ public enum EnumDatabaseObject {
 	PARTITION,
 	PARTITIONATTRIBUTES,
 	TABLETOCONNECTION,
-	PARTITIONTOCONNECTION
+	PARTITIONTOCONNECTION,
+	TABLESTATISTICS,
+	ATTRIBUTESTATISTICS
 }
@@ -0,0 +1,152 @@
+package org.xdb.metadata;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.tokens.AbstractToken;
+
+/*
+CREATE TABLE `TABLESTATISTICS`(
+		`OID` bigint NOT NULL,
+		`TABLE_OID` bigint NOT NULL,
+		`PARTITION_OID` bigint NOT NULL,
+		`ROW_COUNT` bigint NOT NULL
+	);
+*/
+/**
+ * Represents the metadata table TableStatistics: row count of a table
+ * partition or of the whole table (PARTITION_OID = ALL_PARTITIONS) as
+ * collected by ANALYZE
+ */
+public class TableStatistics extends AbstractDatabaseObject {
+
+	private static final long serialVersionUID = -3275540381722478164L;
+
+	private static final String TABLE_NAME = AbstractToken.toSqlIdentifier("TABLESTATISTICS");
+	private static final String[] ATTRIBUTES = {"OID", "TABLE_OID", "PARTITION_OID", "ROW_COUNT"};
+	private static final String ALL_ATTRIBUTES = AbstractToken.toSqlIdentifierList(ATTRIBUTES);
+	private static long LAST_OID = 0;
+
+	// partition OID of statistics which cover the whole table
+	public static final long ALL_PARTITIONS = 0;
+
+	private static TableStatistics prototype = new TableStatistics();
+
+	private long tableOid;
+	private long partitionOid;
+	private long rowCount;
+
+	// constructors
+	private TableStatistics() {
+		super();
+		this.objectType = EnumDatabaseObject.TABLESTATISTICS;
+	}
+
+	public TableStatistics(long oid, long tableOid, long partitionOid,
+			long rowCount) {
+		super(oid, null);
+		this.objectType = EnumDatabaseObject.TABLESTATISTICS;
+		this.tableOid = tableOid;
+		this.partitionOid = partitionOid;
+		this.rowCount = rowCount;
+	}
+
+	public TableStatistics(long tableOid, long partitionOid, long rowCount) {
+		this(++LAST_OID, tableOid, partitionOid, rowCount);
+	}
+
+	public static void LAST_OID(long LAST_OID) {
+		TableStatistics.LAST_OID = LAST_OID;
+	}
+
+	// getters and setters
+	public long getTableOid() {
+		return tableOid;
+	}
+
+	public long getPartitionOid() {
+		return partitionOid;
+	}
+
+	public boolean isTableLevel() {
+		return this.partitionOid == ALL_PARTITIONS;
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public String getTableName() {
+		return TABLE_NAME;
+	}
+
+	@Override
+	public String getAllAttributes() {
+		return ALL_ATTRIBUTES;
+	}
+
+	// methods
+	public static String hashKey(long tableOid, long partitionOid) {
+		StringBuffer hashKey = new StringBuffer();
+		hashKey.append(tableOid);
+		hashKey.append(AbstractToken.DOT);
+		hashKey.append(partitionOid);
+		return hashKey.toString();
+	}
+
+	@Override
+	public String hashKey() {
+		return hashKey(this.tableOid, this.partitionOid);
+	}
+
+	@Override
+	public Error checkObject() {
+		return Error.NO_ERROR;
+	}
+
+	protected static String sqlDeleteAll() {
+		return prototype.interalSqlDeleteAll();
+	}
+
+	protected static String sqlSelectAll() {
+		return prototype.internalSqlSelectAll();
+	}
+
+	protected static String sqlSelectMaxOid() {
+		return prototype.internalSqlSelectMaxOid();
+	}
+
+	@Override
+	public String sqlInsert() {
+		StringBuffer insertSql = new StringBuffer();
+		insertSql.append(AbstractToken.INSERT);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.INTO);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(METADATA_SCHEMA);
+		insertSql.append(AbstractToken.DOT);
+		insertSql.append(TABLE_NAME);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(ALL_ATTRIBUTES);
+		insertSql.append(AbstractToken.RBRACE);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.VALUES);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(this.oid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.tableOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.partitionOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.rowCount);
+		insertSql.append(AbstractToken.RBRACE);
+		return insertSql.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "[table=" + this.tableOid + ", partition=" + this.partitionOid
+				+ ", rows=" + this.rowCount + "]";
+	}
+}
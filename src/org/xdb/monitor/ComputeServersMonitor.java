@@ -83,7 +83,7 @@ public class ComputeServersMonitor {
 
 			OperatorDesc opDesc = deployment.get(identifier);
 
-			// do not ping if operator is aborted or finished
+			// do not ping if operator is aborted, finished or not deployed yet
 			switch (opDesc.getOperatorStatus()){
 			case ABORTED:
 				logger.log(Level.INFO, "Aborted Operator " + identifier
@@ -91,6 +91,7 @@ public class ComputeServersMonitor {
 				this.setFailureDetected(true);
 				continue;
 			case FINISHED:
+			case INIT:
 				continue;
 			default:
 				break;	
@@ -19,6 +19,9 @@ public abstract class AbstractHandler extends Thread {
 	protected Socket client;
 	protected Logger logger;
 
+	// response is sent later by sendResponse
+	private boolean deferred = false;
+
 	// constructor
 	public AbstractHandler(final Socket client) {
 		this.client = client;
@@ -37,6 +40,9 @@ public abstract class AbstractHandler extends Thread {
 					client.getOutputStream());
 			final ObjectInputStream in = new ObjectInputStream(client.getInputStream());
 			err = handle(out, in);
+			if (this.deferred)
+				return;
+
 			// send response
 			out.writeObject(err);
 		} catch (final Exception e) {
@@ -52,6 +58,34 @@ public abstract class AbstractHandler extends Thread {
 		close();
 	}
 
+	/**
+	 * Keeps connection to client open after handle returns: the response
+	 * must be sent by sendResponse (e.g., when a submitted plan finished)
+	 */
+	protected void deferResponse() {
+		this.deferred = true;
+	}
+
+	/**
+	 * Sends deferred response to client and closes connection
+	 * 
+	 * @param out
+	 * @param err
+	 */
+	protected void sendResponse(final ObjectOutputStream out, final Error err) {
+		try {
+			out.writeObject(err);
+			out.flush();
+		} catch (final IOException e) {
+			createServerError(e);
+		}
+
+		if (err.isError()) {
+			logger.log(Level.SEVERE, err.toString());
+		}
+		close();
+	}
+
 	private void close() {
 		// close socket
 		try {
@@ -7,6 +7,7 @@ import java.net.Socket;
 import java.util.logging.Level;
 
 import org.xdb.Config;
+import org.xdb.client.statement.ClientPreparedStmt;
 import org.xdb.client.statement.ClientStmt;
 import org.xdb.doomdb.DoomDBPlan;
 import org.xdb.doomdb.QueryWithStats;
@@ -51,8 +52,29 @@ public class CompileServer extends AbstractServer {
 				case CMD_EXECUTE_WO_RESULT:
 					final ClientStmt execStmt = (ClientStmt)in.readObject();
 					logger.log(Level.INFO, "CompileServer: Received client stmt:" + execStmt.getStmt());
+					// identify client by address if it did not name itself
+					if (execStmt.getClientId() == null)
+						execStmt.setClientId(client.getInetAddress().getHostAddress());
 					err = compileNode.compileAndExecuteStmt(execStmt);
 					break;
+				case CMD_PREPARE:
+					final ClientStmt prepStmt = (ClientStmt) in.readObject();
+					logger.log(Level.INFO, "CompileServer: Received client stmt to prepare:" + prepStmt.getStmt());
+					Tuple<Error, Integer> handle = compileNode.prepareStmt(prepStmt);
+					out.writeObject(handle.getObject2());
+					err = handle.getObject1();
+					break;
+				case CMD_EXECUTE_PREPARED:
+					final ClientPreparedStmt prepExecStmt = (ClientPreparedStmt) in.readObject();
+					logger.log(Level.INFO, "CompileServer: Received prepared stmt:" + prepExecStmt.getHandle());
+					if (prepExecStmt.getClientId() == null)
+						prepExecStmt.setClientId(client.getInetAddress().getHostAddress());
+					err = compileNode.executePreparedStmt(prepExecStmt);
+					break;
+				case CMD_CLOSE_PREPARED:
+					final Integer closeHandle = (Integer) in.readObject();
+					err = compileNode.closePreparedStmt(closeHandle);
+					break;
 				case CMD_DOOMDB_COMPILE:
 					final QueryWithStats queryWithStats = (QueryWithStats) in.readObject();  
 					logger.log(Level.INFO, "CompileServer: Received client stmt:" + queryWithStats.getClientStmt().getStmt());
@@ -76,6 +98,9 @@ public class CompileServer extends AbstractServer {
 	public static final int CMD_RESET_CATALOG= 1;
 	public static final int CMD_EXECUTE_WO_RESULT = 2;
 	public static final int CMD_EXECUTE_W_RESULT = 3;
+	public static final int CMD_PREPARE = 4;
+	public static final int CMD_EXECUTE_PREPARED = 5;
+	public static final int CMD_CLOSE_PREPARED = 6;
 
 	public static final int CMD_DOOMDB_COMPILE = 100;
 	
@@ -12,6 +12,7 @@ import org.xdb.error.Error;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
+import org.xdb.tracker.PlanExecution;
 import org.xdb.tracker.QueryTrackerNode;
 import org.xdb.tracker.QueryTrackerNodeDesc;
 import org.xdb.utils.Tuple;
@@ -51,6 +52,24 @@ public class QueryTrackerServer extends AbstractServer {
 			logger = QueryTrackerServer.this.logger;
 		}
 
+		/**
+		 * Answers client when execution is done: handler thread is not
+		 * blocked while the plan is running
+		 * 
+		 * @param out
+		 * @param execution
+		 */
+		private void respondOnCompletion(final ObjectOutputStream out,
+				final PlanExecution execution) {
+			this.deferResponse();
+			execution.onCompletion(new Runnable() {
+				@Override
+				public void run() {
+					Handler.this.sendResponse(out, execution.getError());
+				}
+			});
+		}
+
 		/**
 		 * Handle incoming cmd
 		 * 
@@ -71,8 +90,8 @@ public class QueryTrackerServer extends AbstractServer {
 					break;
 				case CMD_EXECUTE_PLAN:
 					final CompilePlan cplan = (CompilePlan) in.readObject();
-					err = tracker.executePlan(cplan);
-					break;
+					this.respondOnCompletion(out, tracker.submitPlan(cplan));
+					return err;
 				case CMD_OPERATOR_READY:
 					final AbstractExecuteOperator op = (AbstractExecuteOperator) in.readObject();
 					err = tracker.operatorReady(op);
@@ -86,8 +105,12 @@ public class QueryTrackerServer extends AbstractServer {
 				case CMD_DOOMDB_EXECUTE_PLAN:
 					//got new compile plan
 					final DoomDBPlanDesc dplanDesc = (DoomDBPlanDesc) in.readObject();
-					err = tracker.executeDoomDBQTPlan(dplanDesc);
-					break;
+					Tuple<Error, PlanExecution> execution = tracker.submitDoomDBQTPlan(dplanDesc);
+					err = execution.getObject1();
+					if (err.isError())
+						break;
+					this.respondOnCompletion(out, execution.getObject2());
+					return err;
 				case CMD_DOOMDB_FINISHED_PLAN:
 					//got new compile plan
 					final DoomDBPlanDesc dplanDesc2 = (DoomDBPlanDesc) in.readObject();
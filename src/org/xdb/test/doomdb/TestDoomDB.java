@@ -23,6 +23,7 @@ import org.xdb.test.spotgres.NodeTrace;
 public class TestDoomDB extends org.xdb.test.TestCase {
 	private boolean qtMonitorActivated = false;
 	private boolean mtMonitorActivated = false;
+	private boolean outputReplication = false;
 	
 	private DoomDBClient dClient;
 	private MasterTrackerServer mTrackerServer;
@@ -34,6 +35,7 @@ public class TestDoomDB extends org.xdb.test.TestCase {
 		this.mtMonitorActivated = Config.QUERYTRACKER_MONITOR_ACTIVATED;
 		Config.MASTERTRACKER_MONITOR_ACTIVATED = true;
 		Config.QUERYTRACKER_MONITOR_ACTIVATED = true;
+		this.outputReplication = Config.QUERYTRACKER_OUTPUT_REPLICATION;
 
 		// start master tracker if test is executed locally
 		if (Config.TEST_RUN_LOCAL) {
@@ -58,6 +60,7 @@ public class TestDoomDB extends org.xdb.test.TestCase {
 		// set configuration flags back to initial values
 		Config.MASTERTRACKER_MONITOR_ACTIVATED = this.mtMonitorActivated;
 		Config.QUERYTRACKER_MONITOR_ACTIVATED = this.qtMonitorActivated;
+		Config.QUERYTRACKER_OUTPUT_REPLICATION = this.outputReplication;
 	}
 
 	private void runPlan() {
@@ -127,6 +130,10 @@ public class TestDoomDB extends org.xdb.test.TestCase {
 		this.dClient.tracePlan();
 		
 		System.out.println(" Finished!");
+		System.out.println("Runtime: " + this.dClient.getRunTime() + " s, killed nodes: "
+				+ this.dClient.getKilledNodes() + ", recovery time: "
+				+ this.dClient.getRecoveryTime() + " ms, replica failovers: "
+				+ this.dClient.getReplicaFailovers());
 		System.out.println("--------------------");
 	}
 
@@ -143,6 +150,13 @@ public class TestDoomDB extends org.xdb.test.TestCase {
 		this.runPlan();
 	}
 	
+	public void testQ1_SF01_10Parts_Replicated() throws Exception {
+		Config.QUERYTRACKER_OUTPUT_REPLICATION = true;
+		this.dClient.setSchema("TPCH_SF01_10P");
+		this.dClient.setQuery(1);
+		this.runPlan();
+	}
+	
 	public void testQ1_SF10_10Parts() throws Exception {
 		this.dClient.setSchema("TPCH_SF10_10P");
 		this.dClient.setQuery(1);
@@ -233,6 +247,13 @@ public class TestDoomDB extends org.xdb.test.TestCase {
 		this.runPlan();
 	}
 	
+	public void testQ3_SF10_10Parts_Replicated() throws Exception {
+		Config.QUERYTRACKER_OUTPUT_REPLICATION = true;
+		this.dClient.setSchema("TPCH_SF10_10P");
+		this.dClient.setQuery(3);
+		this.runPlan();
+	}
+	
 	public void testQ3_SF50_10Parts() throws Exception {
 		this.dClient.setSchema("TPCH_SF50_10P");
 		this.dClient.setQuery(3);
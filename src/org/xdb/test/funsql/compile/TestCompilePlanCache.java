@@ -0,0 +1,105 @@
+package org.xdb.test.funsql.compile;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.CompilePlanCache;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.metadata.Catalog;
+import org.xdb.test.TestCase;
+
+public class TestCompilePlanCache extends TestCase {
+
+	@Test
+	public void testNormalize() {
+		assertEquals("SELECT A FROM R WHERE B='x  y'",
+				CompilePlanCache.normalize("  SELECT A\n\tFROM  R WHERE B='x  y';"));
+		assertEquals(CompilePlanCache.normalize("SELECT * FROM R"),
+				CompilePlanCache.normalize("SELECT *  FROM R;"));
+	}
+
+	@Test
+	public void testGetPlan() {
+		CompilePlanCache cache = new CompilePlanCache(10);
+		long version = Catalog.getVersion();
+		CompilePlan plan = new CompilePlan();
+		TableOperator table = new TableOperator(new TokenIdentifier("R1"));
+		plan.addOperator(table, false);
+		plan.addOperator(new GenericSelection(table), true);
+
+		// first compilation misses
+		assertNull(cache.getPlan("SELECT * FROM R"));
+		cache.addPlan("SELECT * FROM R", version, plan);
+		assertEquals(1, cache.getMisses());
+
+		// statement with other white spaces gets copy
+		CompilePlan copy = cache.getPlan("SELECT *\nFROM R;");
+		assertNotNull(copy);
+		assertNotSame(plan, copy);
+		assertEquals(1, cache.getHits());
+
+		// each copy is executed with its own plan and operator IDs
+		CompilePlan copy2 = cache.getPlan("SELECT * FROM R");
+		assertFalse(plan.getPlanId().equals(copy.getPlanId()));
+		assertFalse(copy.getPlanId().equals(copy2.getPlanId()));
+		AbstractCompileOperator root = copy.getOperator(
+				copy.getRoots().get(0));
+		assertTrue(root.getOperatorId().toString()
+				.startsWith(copy.getPlanId() + "_"));
+		AbstractCompileOperator child = root.getChildren().get(0);
+		assertTrue(child.getOperatorId().toString()
+				.startsWith(copy.getPlanId() + "_"));
+		assertEquals(child, copy.getOperator(child.getOperatorId()));
+	}
+
+	@Test
+	public void testSettings() {
+		CompilePlanCache cache = new CompilePlanCache(10);
+		long version = Catalog.getVersion();
+		boolean joinEnumeration = Config.COMPILE_JOIN_ENUMERATION;
+		boolean pushSelections = Config.OPTIMIZER_ACTIVE_RULES_SELECT.get(0);
+		try {
+			cache.addPlan("Q1", version, new CompilePlan());
+
+			// plans compiled with other settings are not reused
+			Config.COMPILE_JOIN_ENUMERATION = !joinEnumeration;
+			assertNull(cache.getPlan("Q1"));
+			Config.COMPILE_JOIN_ENUMERATION = joinEnumeration;
+			Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, !pushSelections);
+			assertNull(cache.getPlan("Q1"));
+
+			// plan compiled with same settings is reused
+			Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, pushSelections);
+			assertNotNull(cache.getPlan("Q1"));
+		} finally {
+			Config.COMPILE_JOIN_ENUMERATION = joinEnumeration;
+			Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, pushSelections);
+		}
+	}
+
+	@Test
+	public void testEviction() {
+		CompilePlanCache cache = new CompilePlanCache(1);
+		long version = Catalog.getVersion();
+
+		// least recently used plan is evicted
+		cache.addPlan("Q1", version, new CompilePlan());
+		cache.addPlan("Q2", version, new CompilePlan());
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.getPlan("Q1"));
+		assertNotNull(cache.getPlan("Q2"));
+
+		// plans compiled against older catalog are removed
+		cache.addPlan("Q3", version + 1, new CompilePlan());
+		assertEquals(1, cache.getInvalidations());
+		assertEquals(1, cache.size());
+
+		// plan compiled against older catalog is not added
+		cache.addPlan("Q2", version, new CompilePlan());
+		assertEquals(1, cache.size());
+	}
+}
@@ -0,0 +1,157 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.codegen.CodeGenerator;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.analyze.operator.EstimateResultVisitor;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+
+public class TestEstimateResult extends XDBTestCase {
+	private static final double DELTA = 0.001;
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+
+		this.compiler = new FunSQLCompiler();
+		String createConnSql = "CREATE CONNECTION \"testConnection\" "
+				+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' " + "USER 'xroot' "
+				+ "PASSWORD 'xroot' " + "STORE 'XDB' ";
+		AbstractServerStmt stmt = this.compiler.compile(createConnSql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+
+		String createTableSql = "CREATE TABLE \"R\"( A INT, B VARCHAR, C INT ) "
+				+ "IN CONNECTION \"testConnection\"";
+		stmt = this.compiler.compile(createTableSql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+
+		// 1000 rows, A has 100 distinct values in [0, 100] and 20% nulls
+		Schema schema = Catalog.getSchema(Config.COMPILE_DEFAULT_SCHEMA);
+		Table table = Catalog.getTable(schema.getOid() + ".R");
+		this.assertNoError(Catalog.createTableStatistics(new TableStatistics(
+				table.getOid(), TableStatistics.ALL_PARTITIONS, 1000)));
+		this.assertNoError(Catalog
+				.createAttributeStatistics(new AttributeStatistics(table
+						.getAttribute("A").getOid(),
+						TableStatistics.ALL_PARTITIONS, 100, 0.2, "0", "100",
+						Arrays.asList("0", "25", "50", "75", "100"))));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		super.tearDown();
+	}
+
+	@Test
+	public void testSelectivities() {
+		// equality: (1 - null fraction) / distinct values
+		TestCase.assertEquals(8.0, this.estimateSelection("R1.A=5"), DELTA);
+		TestCase.assertEquals(992.0, this.estimateSelection("R1.A!=5"), DELTA);
+
+		// attribute without statistics uses default selectivity
+		TestCase.assertEquals(1000 * EstimateResultVisitor.EQUAL_SELECTIVITY,
+				this.estimateSelection("R1.C=1"), DELTA);
+
+		// conjunction multiplies selectivities
+		TestCase.assertEquals(1000 * 0.992 * 0.1,
+				this.estimateSelection("R1.A!=5 AND R1.C=1"), DELTA);
+
+		// join: product of inputs divided by distinct join keys
+		SelectStmt stmt = this.compile("SELECT R1.B AS B1 "
+				+ "FROM R AS R1, R AS R2 WHERE R1.A=R2.A");
+		TestCase.assertEquals(1000.0 * 1000.0 / 100,
+				this.getResult(stmt, EnumOperator.EQUI_JOIN)
+						.getEstimatedRows(), DELTA);
+	}
+
+	@Test
+	public void testHistogram() {
+		// 30 falls into second of four buckets: half of it is smaller
+		TestCase.assertEquals(1000 * 0.375 * 0.8,
+				this.estimateSelection("R1.A<30"), DELTA);
+		TestCase.assertEquals(1000 * 0.625 * 0.8,
+				this.estimateSelection("R1.A>30"), DELTA);
+
+		// literal on left side
+		TestCase.assertEquals(1000 * 0.375 * 0.8,
+				this.estimateSelection("30>R1.A"), DELTA);
+
+		// values outside of histogram return at least one row
+		TestCase.assertEquals(1.0, this.estimateSelection("R1.A<0"), DELTA);
+		TestCase.assertEquals(1.0, this.estimateSelection("R1.A>150"), DELTA);
+
+		// attribute without histogram uses default selectivity
+		TestCase.assertEquals(1000 * EstimateResultVisitor.RANGE_SELECTIVITY,
+				this.estimateSelection("R1.C<30"), DELTA);
+	}
+
+	@Test
+	public void testOutputSize() {
+		SelectStmt stmt = this.compile("SELECT R1.A AS A1, R1.B AS B1 "
+				+ "FROM R AS R1 WHERE R1.A=5");
+		ResultDesc result = stmt.getPlan().getRootOps().iterator().next()
+				.getResult();
+		TestCase.assertEquals(8.0, result.getEstimatedRows(), DELTA);
+		long expectedSize = (long) result.getEstimatedBytesPerPartition();
+		TestCase.assertTrue(expectedSize > 0);
+
+		// tracker operator is scheduled with estimated size of its output
+		CodeGenerator codeGen = new CodeGenerator(stmt.getPlan());
+		this.assertNoError(codeGen.generate());
+		TestCase.assertEquals(1, codeGen.getQueryTrackerPlan()
+				.getTrackerOperators().size());
+		for (AbstractTrackerOperator trackerOp : codeGen
+				.getQueryTrackerPlan().getTrackerOperators()) {
+			TestCase.assertEquals(expectedSize, trackerOp.getOutputSize());
+		}
+	}
+
+	private SelectStmt compile(String sql) {
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt;
+	}
+
+	private ResultDesc getResult(SelectStmt stmt, EnumOperator type) {
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			if (op.getType() == type)
+				return op.getResult();
+		}
+		TestCase.fail("No operator of type " + type);
+		return null;
+	}
+
+	private double estimateSelection(String predicate) {
+		SelectStmt stmt = this.compile("SELECT R1.B AS B1 FROM R AS R1 WHERE "
+				+ predicate);
+		return this.getResult(stmt, EnumOperator.GENERIC_SELECTION)
+				.getEstimatedRows();
+	}
+}
@@ -0,0 +1,302 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.CreateFunctionStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.TestCase;
+import org.xdb.test.tpch.TPCHTestCase;
+
+/**
+ * Checks that selection push down from a worklist (see
+ * Config.OPTIMIZER_INCREMENTAL_REWRITE) builds the same plans as re-walking
+ * the plan from its roots
+ */
+public class TestIncrementalRewrite extends TPCHTestCase {
+	private static final Pattern OPERATOR_ID = Pattern
+			.compile("(?<![0-9_])[0-9]+_[0-9]+(?![0-9])");
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+	private boolean incremental;
+	private BitSet selectRules;
+	private BitSet functionRules;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		this.incremental = Config.OPTIMIZER_INCREMENTAL_REWRITE;
+		this.selectRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		this.functionRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_FUNCTION
+				.clone();
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, true);
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(0, true);
+
+		this.compiler = new FunSQLCompiler();
+		this.executeDDL("CREATE CONNECTION \"testConnection\" "
+				+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' " + "USER 'xroot' "
+				+ "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		this.executeDDL("CREATE TABLE \"R\"( A INT, B INT, C INT ) "
+				+ "IN CONNECTION \"testConnection\"");
+		this.executeDDL("CREATE TABLE \"S\"( D INT, E INT, F INT ) "
+				+ "IN CONNECTION \"testConnection\"");
+		this.executeDDL("CREATE TABLE \"T\"( ID INT, BID INT, CID INT, "
+				+ "DID INT, A INT, B VARCHAR, C INT ) "
+				+ "IN CONNECTION \"testConnection\"");
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		Config.OPTIMIZER_INCREMENTAL_REWRITE = this.incremental;
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT = this.selectRules;
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION = this.functionRules;
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private CompilePlan compile(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		if (stmt instanceof SelectStmt)
+			return ((SelectStmt) stmt).getPlan();
+		return ((CreateFunctionStmt) stmt).getPlan();
+	}
+
+	/**
+	 * Returns structure of plan: number of its operators and the operators
+	 * reachable from the roots in depth-first order with their children and
+	 * SQL where operator IDs are replaced by the position of the operator in
+	 * that order
+	 *
+	 * @param plan
+	 * @return
+	 */
+	private String getStructure(CompilePlan plan) {
+		List<AbstractCompileOperator> ops = new ArrayList<AbstractCompileOperator>();
+		for (AbstractCompileOperator root : plan.getRootOps()) {
+			this.collect(root, ops);
+		}
+
+		Map<String, String> positions = new HashMap<String, String>();
+		for (int i = 0; i < ops.size(); ++i) {
+			positions.put(ops.get(i).getOperatorId().toString(), "#" + i);
+		}
+
+		StringBuffer structure = new StringBuffer();
+		structure.append(plan.getOperators().size());
+		structure.append("\n");
+		for (AbstractCompileOperator op : ops) {
+			structure.append(op.getOperatorId());
+			structure.append(" ");
+			structure.append(op.getType());
+			structure.append(" ");
+			for (AbstractCompileOperator child : op.getChildren()) {
+				structure.append(child.getOperatorId());
+				structure.append(" ");
+			}
+			structure.append(op.toSqlString());
+			structure.append("\n");
+		}
+
+		Matcher matcher = OPERATOR_ID.matcher(structure);
+		StringBuffer normalized = new StringBuffer();
+		while (matcher.find()) {
+			String position = positions.get(matcher.group());
+			matcher.appendReplacement(normalized,
+					position != null ? position : matcher.group());
+		}
+		matcher.appendTail(normalized);
+		return normalized.toString();
+	}
+
+	private void collect(AbstractCompileOperator op,
+			List<AbstractCompileOperator> ops) {
+		if (ops.contains(op))
+			return;
+		ops.add(op);
+		for (AbstractCompileOperator child : op.getChildren()) {
+			this.collect(child, ops);
+		}
+	}
+
+	private static int countSelections(CompilePlan plan) {
+		int selections = 0;
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType() == EnumOperator.GENERIC_SELECTION)
+				selections++;
+		}
+		return selections;
+	}
+
+	/**
+	 * Compiles statement with both push downs and checks that plans have
+	 * same structure
+	 *
+	 * @param sql
+	 * @return
+	 */
+	private CompilePlan assertSamePlans(String sql) {
+		Config.OPTIMIZER_INCREMENTAL_REWRITE = false;
+		String rootsPlan = this.getStructure(this.compile(sql));
+		Config.OPTIMIZER_INCREMENTAL_REWRITE = true;
+		CompilePlan plan = this.compile(sql);
+		TestCase.assertEquals(rootsPlan, this.getStructure(plan));
+		return plan;
+	}
+
+	/**
+	 * Creates join chain over given number of tables with a selection on
+	 * each table
+	 *
+	 * @param tables
+	 * @return
+	 */
+	private static String createJoinChain(int tables) {
+		StringBuffer from = new StringBuffer("R AS R0");
+		StringBuffer where = new StringBuffer("R0.C=0");
+		for (int i = 1; i < tables; ++i) {
+			from.append(", R AS R" + i);
+			where.append(" AND R" + (i - 1) + ".B=R" + i + ".A AND R" + i
+					+ ".C=" + i);
+		}
+		return "SELECT R0.A AS A0 FROM " + from + " WHERE " + where;
+	}
+
+	@Test
+	public void testJoinChains() {
+		for (int tables : new int[] { 2, 5, 20 }) {
+			CompilePlan plan = this.assertSamePlans(createJoinChain(tables));
+			TestCase.assertTrue(countSelections(plan) >= tables);
+		}
+
+		// selections of both join inputs and of join result
+		this.assertSamePlans("SELECT A1.ID, B1.A, C1.B, D1.B AS important "
+				+ "FROM T AS A1, T AS B1, T AS C1, T AS D1 "
+				+ "WHERE A1.BID=B1.ID AND A1.CID=C1.ID AND A1.DID=D1.ID "
+				+ "AND D1.B = 9 AND D1.A = 3 AND A1.C > B1.C");
+	}
+
+	@Test
+	public void testTPCH() {
+		this.assertSamePlans("select l_orderkey, "
+				+ "sum(l_extendedprice*(1-l_discount)) as revenue, "
+				+ "o_orderdate, o_shippriority "
+				+ "from customer, orders, lineitem "
+				+ "where c_mktsegment = 'BUILDING' "
+				+ "and c_custkey = o_custkey "
+				+ "and l_orderkey = o_orderkey "
+				+ "and o_orderdate < date '1995-03-15' "
+				+ "and l_shipdate > date '1995-03-15' "
+				+ "group by l_orderkey, o_orderdate, o_shippriority");
+
+		this.assertSamePlans("select n_name, "
+				+ "sum(l_extendedprice * (1-l_discount)) as revenue "
+				+ "from customer, orders, lineitem, supplier, nation, region "
+				+ "where c_custkey = o_custkey "
+				+ "and l_orderkey = o_orderkey "
+				+ "and l_suppkey = s_suppkey "
+				+ "and s_nationkey = c_nationkey "
+				+ "and n_nationkey = s_nationkey "
+				+ "and r_regionkey = n_regionkey "
+				+ "and r_name = 'ASIA' "
+				+ "and o_orderdate > date '1994-01-01' "
+				+ "and o_orderdate < date '1995-01-01' "
+				+ "group by n_name");
+
+		// LIKE of Q2 is replaced by equality which is also pushed down
+		this.assertSamePlans("CREATE FUNCTION q2( OUT o1 TABLE) \n"
+				+ "BEGIN \n"
+				+ "  :t1 = select min(ps_supplycost) as min_supplycost, ps_partkey "
+				+ "    from nation, region, supplier, partsupp "
+				+ "    where r_regionkey = n_regionkey "
+				+ "    and s_nationkey = n_nationkey "
+				+ "    and s_suppkey = ps_suppkey "
+				+ "    and r_name = 'EUROPE' "
+				+ "    group by ps_partkey; \n"
+				+ "  :o1 = select s_acctbal, s_name, n_name, p_partkey, p_mfgr, "
+				+ "    s_address, s_phone, s_comment "
+				+ "    from region, nation, supplier, partsupp as ps, part, "
+				+ "    :t1 as temp1 "
+				+ "    where r_regionkey = n_regionkey "
+				+ "    and n_nationkey = s_nationkey "
+				+ "    and s_suppkey = ps.ps_suppkey "
+				+ "    and ps.ps_partkey = p_partkey "
+				+ "    and ps.ps_partkey=temp1.ps_partkey "
+				+ "    and temp1.min_supplycost = ps.ps_supplycost "
+				+ "    and p_size = 15 "
+				+ "    and p_type = 'LARGE BRASS' "
+				+ "    and r_name = 'EUROPE'; \n"
+				+ "END;");
+
+		this.assertSamePlans("CREATE FUNCTION q15( OUT o1 TABLE) \n"
+				+ "BEGIN \n"
+				+ "  :t1 = select l_suppkey as supply_no, "
+				+ "    sum(l_extendedprice * (1 - l_discount)) as total_revenue "
+				+ "    from lineitem "
+				+ "    where l_shipdate >= date '1996-01-01' and l_shipdate < date '1996-04-01' "
+				+ "    group by l_suppkey; \n"
+				+ "  :t2 = select max(total_revenue) as max_total_revenue "
+				+ "    from :t1; \n"
+				+ "  :o1 = select s_suppkey, s_name, s_address, s_phone, total_revenue "
+				+ "    from supplier, :t1 as t1, :t2 as t2 "
+				+ "    where s_suppkey = supply_no "
+				+ "    and max_total_revenue = total_revenue; \n"
+				+ "END;");
+	}
+
+	@Test
+	public void testFunctions() {
+		// variables with selections are used by several assignments
+		this.assertSamePlans("CREATE FUNCTION f1( OUT o1 TABLE, OUT o2 TABLE) \n"
+				+ "BEGIN \n"
+				+ "VAR v1 = SELECT R1.A AS A1, R2.D AS A2 "
+				+ "FROM R AS R1, S AS R2 WHERE R1.B=R2.E AND R1.C=1; \n"
+				+ "VAR v2 = SELECT V1.A1 AS A, V2.F AS B "
+				+ "FROM :v1 AS V1, S AS V2 WHERE V1.A1=3 AND V2.F=V1.A2; \n"
+				+ ":o1 = SELECT R1.A FROM :v2 as R1; \n"
+				+ ":o2 = SELECT R1.A2 FROM :v1 as R1 WHERE R1.A1=1; \n"
+				+ "END; ");
+
+		// chain of assignments with a selection each
+		StringBuffer large = new StringBuffer();
+		large.append("CREATE FUNCTION large( OUT o1 TABLE) \n");
+		large.append("BEGIN \n");
+		large.append("VAR v0 = SELECT L.L_ORDERKEY AS K, L.L_SUPPKEY AS S "
+				+ "FROM LINEITEM AS L WHERE L.L_QUANTITY < 24; \n");
+		for (int i = 1; i < 30; ++i) {
+			large.append("VAR v" + i + " = SELECT V.K AS K, O.O_CUSTKEY AS S "
+					+ "FROM :v" + (i - 1) + " AS V, ORDERS AS O "
+					+ "WHERE V.K = O.O_ORDERKEY AND O.O_SHIPPRIORITY = " + i
+					+ "; \n");
+		}
+		large.append(":o1 = SELECT V.K FROM :v29 AS V; \n");
+		large.append("END;");
+		this.assertSamePlans(large.toString());
+	}
+}
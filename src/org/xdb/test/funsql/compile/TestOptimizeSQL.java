@@ -1,8 +1,19 @@
 package org.xdb.test.funsql.compile;
 
 import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
 import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.optimize.JoinEnumerator;
+import org.xdb.funsql.optimize.JoinEnumerator.JoinPlan;
 import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.CreateFunctionStmt;
 import org.xdb.funsql.statement.SelectStmt;
 import org.xdb.test.TestCase;
 import org.xdb.test.XDBTestCase;
@@ -12,8 +23,226 @@ public class TestOptimizeSQL extends XDBTestCase {
 		@Test
 		public void testSimpleOptimizer() {
 			FunSQLCompiler compiler = new FunSQLCompiler();
+			this.createTable(compiler);
 
-			// create connection -> no error
+			//execute select
+			SelectStmt selectStmt = (SelectStmt) compiler
+					.compile("SELECT R1.A AS A1, R2.A AS A2 "
+							+ "FROM R AS R1, R AS R2, R AS R3 "
+							+ "WHERE R1.B=R2.B AND R2.B=R3.B AND R1.C=1");
+			this.assertNoError(compiler.getLastError());
+
+			selectStmt.getPlan().tracePlan(this.getClass().getName());
+		}
+
+		@Test
+		public void testJoinEnumeration() {
+			FunSQLCompiler compiler = new FunSQLCompiler();
+			this.createTable(compiler);
+
+			boolean joinEnumeration = Config.COMPILE_JOIN_ENUMERATION;
+			int dpLimit = Config.COMPILE_JOIN_DP_LIMIT;
+			boolean planCache = Config.COMPILE_PLAN_CACHE;
+			String query = "SELECT R1.A AS A1, R4.A AS A4 "
+					+ "FROM R AS R1, R AS R2, R AS R3, R AS R4 "
+					+ "WHERE R1.B=R2.B AND R2.C=R3.C AND R3.A=R4.A AND R4.C=1";
+			try {
+				Config.COMPILE_JOIN_ENUMERATION = true;
+				Config.COMPILE_PLAN_CACHE = false;
+
+				// exhaustive enumeration
+				SelectStmt selectStmt = (SelectStmt) compiler.compile(query);
+				this.assertNoError(compiler.getLastError());
+				assertEquals(3, this.countJoins(selectStmt));
+				this.assertJoinOrder(selectStmt.getJoinEnumerator(), false);
+				selectStmt.getPlan().tracePlan(
+						this.getClass().getName() + "_DP");
+
+				// greedy enumeration
+				Config.COMPILE_JOIN_DP_LIMIT = 2;
+				selectStmt = (SelectStmt) compiler.compile(query);
+				this.assertNoError(compiler.getLastError());
+				assertEquals(3, this.countJoins(selectStmt));
+				this.assertJoinOrder(selectStmt.getJoinEnumerator(), true);
+			} finally {
+				Config.COMPILE_JOIN_ENUMERATION = joinEnumeration;
+				Config.COMPILE_JOIN_DP_LIMIT = dpLimit;
+				Config.COMPILE_PLAN_CACHE = planCache;
+			}
+		}
+
+		@Test
+		public void testCommonSubPlans() {
+			FunSQLCompiler compiler = new FunSQLCompiler();
+			this.createTable(compiler);
+
+			// both variables join and filter R in the same way (conjuncts
+			// in different order)
+			String function = "CREATE FUNCTION f1( OUT o1 TABLE, OUT o2 TABLE) \n"
+					+ "BEGIN \n"
+					+ "VAR v1 = SELECT R1.A AS A, R2.C AS C "
+						+ "FROM R AS R1, R AS R2 "
+						+ "WHERE R1.B=R2.B AND R1.C=1; \n"
+					+ "VAR v2 = SELECT R1.A AS A, R2.C AS C "
+						+ "FROM R AS R1, R AS R2 "
+						+ "WHERE R1.C=1 AND R1.B=R2.B; \n"
+					+ ":o1 = SELECT V1.A FROM :v1 AS V1; \n"
+					+ ":o2 = SELECT V2.C FROM :v2 AS V2; \n"
+					+ "END; ";
+
+			boolean planCache = Config.COMPILE_PLAN_CACHE;
+			boolean simulation = Config.SIMULATION_MODE;
+			boolean shareSubPlans = Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.get(4);
+			try {
+				Config.COMPILE_PLAN_CACHE = false;
+				Config.SIMULATION_MODE = false;
+
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, false);
+				CreateFunctionStmt fStmt = (CreateFunctionStmt) compiler
+						.compile(function);
+				this.assertNoError(compiler.getLastError());
+				int ops = fStmt.getPlan().getOperators().size();
+
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, true);
+				fStmt = (CreateFunctionStmt) compiler.compile(function);
+				this.assertNoError(compiler.getLastError());
+				assertTrue(fStmt.getPlan().getOperators().size() < ops);
+
+				// join is computed once and its result is shared by both
+				// variables
+				int joins = 0;
+				int sharedOps = 0;
+				for (AbstractCompileOperator op : fStmt.getPlan()
+						.getOperators()) {
+					if (op.getType() == EnumOperator.EQUI_JOIN)
+						joins++;
+					if (op.getParents().size() > 1)
+						sharedOps++;
+				}
+				assertEquals(1, joins);
+				assertEquals(1, sharedOps);
+				fStmt.getPlan().tracePlan(this.getClass().getName() + "_CSE");
+			} finally {
+				Config.COMPILE_PLAN_CACHE = planCache;
+				Config.SIMULATION_MODE = simulation;
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, shareSubPlans);
+			}
+		}
+
+		@Test
+		public void testColumnPruning() {
+			FunSQLCompiler compiler = new FunSQLCompiler();
+			this.createTable(compiler);
+
+			// only attribute A of v1 is used
+			String function = "CREATE FUNCTION f2( OUT o1 TABLE) \n"
+					+ "BEGIN \n"
+					+ "VAR v1 = SELECT R1.A AS A, R1.B AS B, R2.C AS C "
+						+ "FROM R AS R1, R AS R2 "
+						+ "WHERE R1.B=R2.B AND R1.C=1; \n"
+					+ ":o1 = SELECT V1.A FROM :v1 AS V1; \n"
+					+ "END; ";
+			String query = "SELECT R1.A AS A1 FROM R AS R1, R AS R2 "
+					+ "WHERE R1.B=R2.B";
+
+			boolean planCache = Config.COMPILE_PLAN_CACHE;
+			boolean simulation = Config.SIMULATION_MODE;
+			boolean pruneFunction = Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.get(2);
+			boolean pruneSelect = Config.OPTIMIZER_ACTIVE_RULES_SELECT.get(2);
+			try {
+				Config.COMPILE_PLAN_CACHE = false;
+				Config.SIMULATION_MODE = false;
+
+				// all attributes are read without pruning
+				Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false);
+				SelectStmt selectStmt = (SelectStmt) compiler.compile(query);
+				this.assertNoError(compiler.getLastError());
+				assertEquals(3, this.getTable(selectStmt.getPlan(), "R2")
+						.getResult().size());
+
+				// join key is the only attribute read from R2
+				Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, true);
+				selectStmt = (SelectStmt) compiler.compile(query);
+				this.assertNoError(compiler.getLastError());
+				ResultDesc r2Result = this.getTable(selectStmt.getPlan(), "R2")
+						.getResult();
+				assertEquals(1, r2Result.size());
+				assertEquals("R2_B", r2Result.getAttribute(0).getName()
+						.getValue());
+
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(2, false);
+				CreateFunctionStmt fStmt = (CreateFunctionStmt) compiler
+						.compile(function);
+				this.assertNoError(compiler.getLastError());
+				assertTrue(this.hasAlias(fStmt.getPlan(), "B"));
+
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(2, true);
+				fStmt = (CreateFunctionStmt) compiler.compile(function);
+				this.assertNoError(compiler.getLastError());
+
+				// unused attribute B of v1 is not computed
+				assertFalse(this.hasAlias(fStmt.getPlan(), "B"));
+
+				// attributes of join and selection predicates are still read
+				ResultDesc r1Result = this.getTable(fStmt.getPlan(), "R1")
+						.getResult();
+				assertTrue(r1Result.getAttributes().toString()
+						.contains("R1_B"));
+				assertTrue(r1Result.getAttributes().toString()
+						.contains("R1_C"));
+				assertFalse(this.getTable(fStmt.getPlan(), "R2").getResult()
+						.getAttributes().toString().contains("R2_A"));
+
+				// result of function is not pruned
+				for (AbstractCompileOperator root : fStmt.getPlan()
+						.getRootOps()) {
+					assertEquals(1, root.getResult().size());
+				}
+			} finally {
+				Config.COMPILE_PLAN_CACHE = planCache;
+				Config.SIMULATION_MODE = simulation;
+				Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(2, pruneFunction);
+				Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, pruneSelect);
+			}
+		}
+
+		/**
+		 * Checks that filtered table R4 is joined first with R3 and that the
+		 * chosen plan is cheaper than the order of the from clause
+		 */
+		private void assertJoinOrder(JoinEnumerator enumerator, boolean greedy) {
+			assertNotNull(enumerator);
+			assertEquals(greedy, enumerator.isGreedy());
+
+			JoinPlan bestPlan = enumerator.getBestPlan();
+			assertEquals("(R1 JOIN (R2 JOIN (R3 JOIN R4)))", bestPlan.toString());
+			assertTrue(bestPlan.getCost() < enumerator.getSyntacticOrderCost());
+		}
+
+		private TableOperator getTable(CompilePlan plan, String alias) {
+			for (AbstractCompileOperator op : plan.getOperators()) {
+				if (op.getType() == EnumOperator.TABLE
+						&& ((TableOperator) op).getTableAlias().equals(alias))
+					return (TableOperator) op;
+			}
+			fail("No table " + alias);
+			return null;
+		}
+
+		private boolean hasAlias(CompilePlan plan, String alias) {
+			for (AbstractCompileOperator op : plan.getOperators()) {
+				if (op.getType() != EnumOperator.GENERIC_PROJECTION)
+					continue;
+				for (TokenIdentifier projAlias : ((GenericProjection) op)
+						.getAliases()) {
+					if (projAlias.getValue().equals(alias))
+						return true;
+				}
+			}
+			return false;
+		}
+
+		private void createTable(FunSQLCompiler compiler) {
 			String dropConnSql = "DROP CONNECTION \"testConnection\"";
 			AbstractServerStmt stmt = compiler.compile(dropConnSql);
 			if (stmt != null)
@@ -22,35 +251,33 @@ public class TestOptimizeSQL extends XDBTestCase {
 			String createConnSql = "CREATE CONNECTION \"testConnection\" "
 					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' " + "USER 'xroot' "
 					+ "PASSWORD 'xroot' " + "STORE 'XDB' ";
-
 			stmt = compiler.compile(createConnSql);
 			this.assertNoError(compiler.getLastError());
 			TestCase.assertNotNull(stmt);
 			this.execute(stmt);
 
-			//create table
 			String dropTableSql = "DROP TABLE \"R\"";
 			stmt = compiler.compile(dropTableSql);
 			if (stmt != null)
 				this.execute(stmt);
-			
+
 			String createTableStmt = "CREATE TABLE \"R\"( " + "  A INT,"
 					+ "  B VARCHAR," + "  C INT"
 					+ ") IN CONNECTION \"testConnection\"";
-
 			stmt = compiler.compile(createTableStmt);
 			this.assertNoError(compiler.getLastError());
 			TestCase.assertNotNull(stmt);
 			this.execute(stmt);
+		}
 
-			//execute select
-			SelectStmt selectStmt = (SelectStmt) compiler
-					.compile("SELECT R1.A AS A1, R2.A AS A2 "
-							+ "FROM R AS R1, R AS R2, R AS R3 "
-							+ "WHERE R1.B=R2.B AND R2.B=R3.B AND R1.C=1");
-			this.assertNoError(compiler.getLastError());
-
-			selectStmt.getPlan().tracePlan(this.getClass().getName());
+		private int countJoins(SelectStmt selectStmt) {
+			int joins = 0;
+			for (AbstractCompileOperator op : selectStmt.getPlan()
+					.getOperators()) {
+				if (op.getType() == EnumOperator.EQUI_JOIN)
+					joins++;
+			}
+			return joins;
 		}
 
 	
@@ -0,0 +1,260 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.OrderDesc;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.CreateFunctionStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+
+public class TestOrderBy extends XDBTestCase {
+	// selection on result of a limited variable which does not read its
+	// sort key
+	private static final String FUNCTION_SQL = "CREATE FUNCTION f1(OUT o1 TABLE) \n"
+			+ "BEGIN \n"
+			+ "VAR t = SELECT S1.A AS A1, S1.B AS B1, S1.C AS C1 "
+			+ "FROM S AS S1 ORDER BY C1 DESC LIMIT 10; \n"
+			+ ":o1 = SELECT T.B1 AS B2 FROM :t AS T WHERE T.B1=5; \n"
+			+ "END; ";
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+	private BitSet functionRules;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		this.functionRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_FUNCTION
+				.clone();
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.clear();
+
+		this.compiler = new FunSQLCompiler();
+		for (int i = 1; i <= 2; ++i) {
+			this.executeDDL("CREATE CONNECTION \"testConnection" + i + "\" "
+					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		}
+
+		// R is partitioned, S is not
+		this.executeDDL("CREATE TABLE \"R\"( A INT, B INT, C INT ) "
+				+ "PARTIONED BY HASH ( A ) ( "
+				+ "P0 IN CONNECTION \"testConnection1\", "
+				+ "P1 IN CONNECTION \"testConnection2\" )");
+		this.executeDDL("CREATE TABLE \"S\"( A INT, B INT, C INT ) "
+				+ "IN CONNECTION \"testConnection1\"");
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.clear();
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.or(this.functionRules);
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private SelectStmt compile(String sql) {
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt;
+	}
+
+	private CompilePlan compileFunction() {
+		CreateFunctionStmt stmt = (CreateFunctionStmt) this.compiler
+				.compile(FUNCTION_SQL);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt.getPlan();
+	}
+
+	/**
+	 * Returns ordered projections of plan: upper projection first
+	 */
+	private List<GenericProjection> getOrderedProjections(CompilePlan plan) {
+		List<GenericProjection> projections = new ArrayList<GenericProjection>();
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType() != EnumOperator.GENERIC_PROJECTION)
+				continue;
+			GenericProjection gp = (GenericProjection) op;
+			if (gp.getOrderDesc() == null)
+				continue;
+			if (gp.getChild().getType() == EnumOperator.GENERIC_PROJECTION)
+				projections.add(0, gp);
+			else
+				projections.add(gp);
+		}
+		return projections;
+	}
+
+	private OrderDesc getOrderDesc(String sql) {
+		List<GenericProjection> projections = this.getOrderedProjections(this
+				.compile(sql).getPlan());
+		TestCase.assertEquals(1, projections.size());
+		return projections.get(0).getOrderDesc();
+	}
+
+	@Test
+	public void testGrammar() {
+		// sort keys are given by alias or select expression
+		OrderDesc orderDesc = this.getOrderDesc("SELECT S1.A AS A1, "
+				+ "S1.B AS B1 FROM S AS S1 ORDER BY B1 DESC, S1.A ASC LIMIT 10");
+		TestCase.assertEquals(2, orderDesc.getPositions().size());
+		TestCase.assertEquals(1, (int) orderDesc.getPositions().get(0));
+		TestCase.assertTrue(orderDesc.isDescending(0));
+		TestCase.assertEquals(0, (int) orderDesc.getPositions().get(1));
+		TestCase.assertFalse(orderDesc.isDescending(1));
+		TestCase.assertEquals(10, orderDesc.getLimit());
+
+		// ascending is default
+		orderDesc = this.getOrderDesc("SELECT S1.A AS A1 FROM S AS S1 "
+				+ "ORDER BY A1");
+		TestCase.assertTrue(orderDesc.isOrdered());
+		TestCase.assertFalse(orderDesc.isDescending(0));
+		TestCase.assertFalse(orderDesc.hasLimit());
+
+		// limit without order
+		orderDesc = this.getOrderDesc("SELECT S1.A AS A1 FROM S AS S1 "
+				+ "LIMIT 5");
+		TestCase.assertFalse(orderDesc.isOrdered());
+		TestCase.assertEquals(5, orderDesc.getLimit());
+
+		// sort key must be part of select clause
+		this.compiler.compile("SELECT S1.A AS A1 FROM S AS S1 ORDER BY S1.B");
+		this.assertError(this.compiler.getLastError());
+	}
+
+	@Test
+	public void testPositionalRendering() {
+		SelectStmt stmt = this.compile("SELECT S1.A AS A1, S1.B AS B1 "
+				+ "FROM S AS S1 ORDER BY B1 DESC, A1 LIMIT 10");
+		GenericProjection gp = this.getOrderedProjections(stmt.getPlan())
+				.get(0);
+		TestCase.assertTrue(gp.toSqlString().endsWith(
+				" ORDER BY 2 DESC, 1 LIMIT 10"));
+
+		// removing a result position shifts sort keys behind it
+		OrderDesc orderDesc = new OrderDesc();
+		orderDesc.addOrderPosition(2, true);
+		orderDesc.setLimit(3);
+		TestCase.assertTrue(orderDesc.removePosition(0));
+		TestCase.assertEquals(" ORDER BY 2 DESC LIMIT 3",
+				orderDesc.toSqlString());
+
+		// sort keys are never removed
+		TestCase.assertFalse(orderDesc.removePosition(1));
+		TestCase.assertEquals("ORDER BY 2 DESC LIMIT 3", orderDesc.toString());
+		TestCase.assertFalse(gp.removeExpression(1));
+		TestCase.assertEquals(2, gp.getExpressions().size());
+	}
+
+	@Test
+	public void testMergePartitions() {
+		// top-N is computed per partition and merged into one partition
+		SelectStmt stmt = this.compile("SELECT R1.A AS A1, R1.B AS B1 "
+				+ "FROM R AS R1 ORDER BY B1 DESC LIMIT 10");
+		List<GenericProjection> projections = this.getOrderedProjections(stmt
+				.getPlan());
+		TestCase.assertEquals(2, projections.size());
+		GenericProjection finalProj = projections.get(0);
+		GenericProjection preProj = projections.get(1);
+		TestCase.assertEquals(preProj, finalProj.getChild());
+		TestCase.assertEquals(finalProj.getOrderDesc().toString(), preProj
+				.getOrderDesc().toString());
+		TestCase.assertEquals(2, preProj.getResult().getPartitionCount());
+		TestCase.assertTrue(preProj.getResult().repartition());
+		TestCase.assertEquals(1, preProj.getResult().getRePartitionDesc()
+				.getPartitionCount());
+		TestCase.assertEquals(1, finalProj.getResult().getPartitionCount());
+
+		// final projection reads attributes of merged partitions
+		String preProjId = preProj.getOperatorId().toString();
+		for (int i = 0; i < finalProj.getExpressions().size(); ++i) {
+			for (TokenAttribute att : finalProj.getExpression(i)
+					.getAttributes()) {
+				TestCase.assertEquals(preProjId, att.getTable().getName()
+						.getValue());
+			}
+		}
+
+		// without limit partitions are only merged
+		stmt = this.compile("SELECT R1.A AS A1 FROM R AS R1 ORDER BY A1");
+		TestCase.assertEquals(1, this.getOrderedProjections(stmt.getPlan())
+				.size());
+		int allProjections = 0;
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			if (op.getType() == EnumOperator.GENERIC_PROJECTION)
+				allProjections++;
+		}
+		TestCase.assertEquals(2, allProjections);
+
+		// single partition is ordered directly
+		stmt = this.compile("SELECT S1.A AS A1 FROM S AS S1 "
+				+ "ORDER BY A1 LIMIT 10");
+		TestCase.assertEquals(1, this.getOrderedProjections(stmt.getPlan())
+				.size());
+	}
+
+	@Test
+	public void testPushDown() {
+		// selection is not pushed below limit
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(0, true);
+		CompilePlan plan = this.compileFunction();
+		List<GenericProjection> projections = this.getOrderedProjections(plan);
+		TestCase.assertEquals(1, projections.size());
+		GenericProjection limitProj = projections.get(0);
+		TestCase.assertEquals(EnumOperator.TABLE, limitProj.getChild()
+				.getType());
+		int selections = 0;
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType() != EnumOperator.GENERIC_SELECTION)
+				continue;
+			selections++;
+
+			// limited projection is below selection
+			AbstractCompileOperator child = ((GenericSelection) op).getChild();
+			while (child != limitProj && !child.isTable()) {
+				child = child.getChildren().get(0);
+			}
+			TestCase.assertEquals(limitProj, child);
+		}
+		TestCase.assertEquals(1, selections);
+	}
+
+	@Test
+	public void testColumnPruning() {
+		// sort key which is not read by consumer is kept
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(2, true);
+		CompilePlan plan = this.compileFunction();
+		List<GenericProjection> projections = this.getOrderedProjections(plan);
+		TestCase.assertEquals(1, projections.size());
+		GenericProjection limitProj = projections.get(0);
+		TestCase.assertEquals(3, limitProj.getExpressions().size());
+		TestCase.assertEquals(3, limitProj.getResult().size());
+		TestCase.assertEquals(3, limitProj.getChild().getResult().size());
+		TestCase.assertTrue(limitProj.toSqlString().endsWith(
+				" ORDER BY 3 DESC LIMIT 10"));
+	}
+}
@@ -0,0 +1,236 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumPredicateType;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.optimize.PredicateRewriteVisitor;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+
+public class TestPredicateRewrite extends XDBTestCase {
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private BitSet selectRules;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.selectRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		Config.COMPILE_PLAN_CACHE = false;
+
+		// only rewrite predicates (push down is enabled by tests)
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.clear();
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, true);
+
+		this.compiler = new FunSQLCompiler();
+		String createConnSql = "CREATE CONNECTION \"testConnection\" "
+				+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' " + "USER 'xroot' "
+				+ "PASSWORD 'xroot' " + "STORE 'XDB' ";
+		AbstractServerStmt stmt = this.compiler.compile(createConnSql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+
+		String createTableSql = "CREATE TABLE \"R\"( A INT, B VARCHAR, C INT ) "
+				+ "IN CONNECTION \"testConnection\"";
+		stmt = this.compiler.compile(createTableSql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.clear();
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.or(this.selectRules);
+		super.tearDown();
+	}
+
+	@Test
+	public void testFolding() {
+		// arithmetic over literals is evaluated
+		TestCase.assertEquals("R1_A = 3)", this.getPredicate("R1.A=1+2"));
+		TestCase.assertEquals("R1_A = 7)", this.getPredicate("R1.A=2*3+1"));
+		TestCase.assertEquals("R1_C = -4)", this.getPredicate("R1.C=-(4)"));
+
+		// divisions, attributes and overflows are kept
+		TestCase.assertTrue(this.getPredicate("R1.A=6/3").contains("6/3"));
+		TestCase.assertTrue(this.getPredicate("R1.A=R1.C+1").contains("+1"));
+		TestCase.assertTrue(this.getPredicate("R1.A=2000000000*2").contains(
+				"2000000000*2"));
+
+		// rule disabled
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		TestCase.assertTrue(this.getPredicate("R1.A=1+2").contains("(1+2)"));
+	}
+
+	@Test
+	public void testTrueSelections() {
+		// always true selections are removed
+		TestCase.assertTrue(this.getSelections(this.compile("1=1")).isEmpty());
+		List<GenericSelection> selections = this.getSelections(this
+				.compile("1<2 AND R1.A=1"));
+		TestCase.assertEquals(1, selections.size());
+		TestCase.assertTrue(selections.get(0).getPredicate().toSqlString()
+				.endsWith("R1_A = 1)"));
+
+		// always false selection is kept
+		selections = this.getSelections(this.compile("2<1"));
+		TestCase.assertEquals(1, selections.size());
+		TestCase.assertEquals(Boolean.FALSE, PredicateRewriteVisitor
+				.evaluate(selections.get(0).getPredicate()));
+
+		// rule disabled
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		TestCase.assertEquals(1, this.getSelections(this.compile("1=1"))
+				.size());
+	}
+
+	@Test
+	public void testEvaluate() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		TestCase.assertEquals(Boolean.TRUE, this.evaluate("1<2"));
+		TestCase.assertEquals(Boolean.TRUE, this.evaluate("2>=1+1"));
+		TestCase.assertEquals(Boolean.FALSE, this.evaluate("2<=1"));
+		TestCase.assertEquals(Boolean.FALSE, this.evaluate("1.5=1"));
+		TestCase.assertNull(this.evaluate("R1.A=1"));
+
+		// simplify returns a copy
+		GenericSelection gs = this.getSelections(this.compile("R1.A=1+2"))
+				.get(0);
+		String sql = gs.getPredicate().toSqlString();
+		PredicateRewriteVisitor.simplify(gs.getPredicate());
+		TestCase.assertEquals(sql, gs.getPredicate().toSqlString());
+	}
+
+	@Test
+	public void testSplitSelections() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		SelectStmt stmt = this.compile("R1.A=R2.A AND R1.C=1 AND R2.C=2",
+				"R AS R1, R AS R2");
+		CompilePlan plan = stmt.getPlan();
+
+		// merge both selections into one conjunctive selection
+		List<GenericSelection> selections = this.getSelections(stmt);
+		TestCase.assertEquals(2, selections.size());
+		GenericSelection lower = selections.get(0);
+		GenericSelection upper = selections.get(1);
+		if (lower.getChild() == upper) {
+			lower = selections.get(1);
+			upper = selections.get(0);
+		}
+		String joinId = lower.getChild().getOperatorId().toString();
+		AbstractPredicate upperPred = upper.getPredicate();
+		TokenAttribute.renameTable(upperPred.getAttributes(), joinId);
+		upper.cut();
+		plan.removeOperator(upper.getOperatorId());
+
+		ComplexPredicate conjunction = new ComplexPredicate(
+				EnumPredicateType.AND_PREDICATE);
+		conjunction.setPredicate1(lower.getPredicate());
+		conjunction.addAnd();
+		conjunction.addPredicate2(upperPred);
+		lower.setPredicate(conjunction);
+		TestCase.assertEquals(1, this.getSelections(stmt).size());
+
+		// one selection per conjunct which reads result of the other
+		PredicateRewriteVisitor rewriteVisitor = new PredicateRewriteVisitor(
+				plan);
+		this.assertNoError(rewriteVisitor.splitSelections());
+		selections = this.getSelections(stmt);
+		TestCase.assertEquals(2, selections.size());
+		for (GenericSelection gs : selections) {
+			TestCase.assertFalse(gs.getPredicate().toSqlString().contains(
+					" AND "));
+			String childId = gs.getChild().getOperatorId().toString();
+			for (TokenAttribute att : gs.getPredicate().getAttributes()) {
+				TestCase.assertEquals(childId, att.getTable().getName()
+						.getValue());
+			}
+		}
+	}
+
+	@Test
+	public void testConstantPropagation() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, true);
+
+		// R1.A=5 and R1.A=R2.A imply R2.A=5 which is pushed down to R2
+		SelectStmt stmt = this.compile("R1.A=R2.A AND R1.A=5",
+				"R AS R1, R AS R2");
+		List<String> tablePreds = new ArrayList<String>();
+		for (GenericSelection gs : this.getSelections(stmt)) {
+			TestCase.assertEquals(EnumOperator.TABLE, gs.getChild().getType());
+			tablePreds.add(gs.getPredicate().toSqlString());
+		}
+		TestCase.assertEquals(2, tablePreds.size());
+		TestCase.assertTrue(tablePreds.toString().contains("R1_A = 5)"));
+		TestCase.assertTrue(tablePreds.toString().contains("R2_A = 5)"));
+
+		// no constant: nothing is derived
+		stmt = this.compile("R1.A=R2.A AND R1.C>5", "R AS R1, R AS R2");
+		TestCase.assertEquals(1, this.getSelections(stmt).size());
+
+		// rule disabled
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		stmt = this.compile("R1.A=R2.A AND R1.A=5", "R AS R1, R AS R2");
+		TestCase.assertEquals(1, this.getSelections(stmt).size());
+	}
+
+	private SelectStmt compile(String predicate) {
+		return this.compile(predicate, "R AS R1");
+	}
+
+	private SelectStmt compile(String predicate, String from) {
+		SelectStmt stmt = (SelectStmt) this.compiler
+				.compile("SELECT R1.B AS B1 FROM " + from + " WHERE "
+						+ predicate);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt;
+	}
+
+	/**
+	 * Returns all selections of plan
+	 */
+	private List<GenericSelection> getSelections(SelectStmt stmt) {
+		List<GenericSelection> selections = new ArrayList<GenericSelection>();
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			if (op.getType() == EnumOperator.GENERIC_SELECTION)
+				selections.add((GenericSelection) op);
+		}
+		return selections;
+	}
+
+	/**
+	 * Returns predicate of only selection without its table prefix
+	 */
+	private String getPredicate(String predicate) {
+		List<GenericSelection> selections = this.getSelections(this
+				.compile(predicate));
+		TestCase.assertEquals(1, selections.size());
+		String sql = selections.get(0).getPredicate().toSqlString();
+		return sql.substring(sql.indexOf('.') + 1);
+	}
+
+	private Boolean evaluate(String predicate) {
+		List<GenericSelection> selections = this.getSelections(this
+				.compile(predicate));
+		TestCase.assertEquals(1, selections.size());
+		return PredicateRewriteVisitor.evaluate(PredicateRewriteVisitor
+				.simplify(selections.get(0).getPredicate()));
+	}
+}
@@ -0,0 +1,251 @@
+package org.xdb.test.funsql.compile;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.client.CompileClient;
+import org.xdb.error.Error;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.PreparedStmt;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenParameter;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.StringTemplate;
+import org.xdb.utils.Tuple;
+
+public class TestPreparedStmt extends XDBTestCase {
+	private static final String SELECT_SQL = "SELECT R1.A AS A1 FROM R AS R1 "
+			+ "WHERE R1.B=? AND R1.C>?";
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+
+		this.compiler = new FunSQLCompiler();
+		this.executeDDL("CREATE CONNECTION \"testConnection\" "
+				+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' " + "USER 'xroot' "
+				+ "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		this.executeDDL("CREATE TABLE \"R\"( A INT, B VARCHAR, C INT ) "
+				+ "IN CONNECTION \"testConnection\"");
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private PreparedStmt prepare(String sql) {
+		Tuple<Error, PreparedStmt> result = PreparedStmt.prepare(sql);
+		this.assertNoError(result.getObject1());
+		return result.getObject2();
+	}
+
+	private CompilePlan bind(PreparedStmt pStmt, Object... params) {
+		Tuple<Error, CompilePlan> result = pStmt.bind(Arrays.asList(params));
+		this.assertNoError(result.getObject1());
+		return result.getObject2();
+	}
+
+	/**
+	 * Returns SQL of execute operator deployed for tracker operator
+	 */
+	private String deploy(MySQLTrackerOperator trackerOp) {
+		AbstractExecuteOperator execOp = trackerOp.genDeployOperator(
+				new OperatorDesc(new Identifier(1), new ComputeNodeDesc(
+						"127.0.0.1", Config.COMPUTE_PORT)),
+				new HashMap<Identifier, OperatorDesc>());
+		return execOp.toString();
+	}
+
+	/**
+	 * Returns predicates of all selections of plan
+	 */
+	private String getPredicates(CompilePlan plan) {
+		StringBuffer predicates = new StringBuffer();
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType() == EnumOperator.GENERIC_SELECTION)
+				predicates.append(((GenericSelection) op).getPredicate()
+						.toSqlString());
+		}
+		return predicates.toString();
+	}
+
+	@Test
+	public void testGrammar() {
+		// markers are numbered in order of appearance
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(SELECT_SQL);
+		this.assertNoError(this.compiler.getLastError());
+		TestCase.assertEquals(2, this.compiler.getParameterCount());
+		String predicates = this.getPredicates(stmt.getPlan());
+		TestCase.assertTrue(predicates.contains("R1_B = <PARAM1>"));
+		TestCase.assertTrue(predicates.contains("R1_C > <PARAM2>"));
+
+		// statements without markers have no parameters
+		this.compiler.compile("SELECT R1.A AS A1 FROM R AS R1 WHERE R1.C>1");
+		this.assertNoError(this.compiler.getLastError());
+		TestCase.assertEquals(0, this.compiler.getParameterCount());
+	}
+
+	@Test
+	public void testRendering() {
+		TokenParameter param = new TokenParameter(0);
+		TestCase.assertEquals("PARAM1", TokenParameter.createKey(0));
+		TestCase.assertEquals("<PARAM1>", param.toSqlString());
+		TestCase.assertFalse(param.isBound());
+
+		// template variable is instantiated with bound value when deployed
+		CompilePlan plan = this.bind(this.prepare(SELECT_SQL), "a$1\\b", 5);
+		MySQLTrackerOperator trackerOp = new MySQLTrackerOperator();
+		trackerOp.addExecuteSQL(new StringTemplate("SELECT * FROM T "
+				+ "WHERE B=<PARAM1> AND C><PARAM2>"));
+		trackerOp.bindParameters(plan.getParameters());
+		TestCase.assertTrue(this.deploy(trackerOp).contains(
+				"SELECT * FROM T WHERE B='a$1\\\\b' AND C>5"));
+	}
+
+	@Test
+	public void testTagsInValues() {
+		// tags in values are neither table names nor other parameters
+		CompilePlan plan = this.bind(this.prepare(SELECT_SQL),
+				"<OUT1><PARAM2>", 5);
+		MySQLTrackerOperator trackerOp = new MySQLTrackerOperator();
+		trackerOp.addOutTable("OUT1", "<OUT1>(A INT)");
+		trackerOp.addExecuteSQL(new StringTemplate("INSERT INTO <OUT1> "
+				+ "SELECT A FROM T WHERE B=<PARAM1> AND C><PARAM2>"));
+		trackerOp.bindParameters(plan.getParameters());
+		String sql = this.deploy(trackerOp);
+		TestCase.assertTrue(sql.contains(
+				"WHERE B='<OUT1><PARAM2>' AND C>5"));
+		TestCase.assertFalse(sql.contains("INSERT INTO <OUT1>"));
+	}
+
+	@Test
+	public void testBind() {
+		PreparedStmt pStmt = this.prepare(SELECT_SQL);
+		TestCase.assertEquals(2, pStmt.getParameterCount());
+
+		// string values are escaped
+		CompilePlan plan = this.bind(pStmt, "O'Brien\\", 5);
+		Map<String, String> params = plan.getParameters();
+		TestCase.assertEquals("'O''Brien\\\\'", params.get("PARAM1"));
+		TestCase.assertEquals("5", params.get("PARAM2"));
+
+		// markers stay template variables in bound plan
+		TestCase.assertTrue(this.getPredicates(plan).contains("<PARAM1>"));
+
+		// dates and numbers
+		params = this.bind(pStmt, java.sql.Date.valueOf("2020-01-02"),
+				Long.valueOf(7)).getParameters();
+		TestCase.assertEquals("DATE '2020-01-02'", params.get("PARAM1"));
+		TestCase.assertEquals("7", params.get("PARAM2"));
+		params = this.bind(pStmt, "x", new BigDecimal("1.5")).getParameters();
+		TestCase.assertEquals("1.5", params.get("PARAM2"));
+
+		// wrong number of values and unsupported types
+		this.assertError(pStmt.bind(Arrays.asList((Object) "x")).getObject1());
+		this.assertError(pStmt.bind(Arrays.asList("x", new Object()))
+				.getObject1());
+
+		// only queries can be prepared
+		this.assertError(PreparedStmt.prepare(
+				"CREATE TABLE \"S\"( A INT ) IN CONNECTION \"testConnection\"")
+				.getObject1());
+	}
+
+	@Test
+	public void testFreshIds() {
+		PreparedStmt pStmt = this.prepare(SELECT_SQL);
+		CompilePlan plan1 = this.bind(pStmt, "x", 1);
+		CompilePlan plan2 = this.bind(pStmt, "x", 1);
+		TestCase.assertFalse(plan1.getPlanId().equals(plan2.getPlanId()));
+
+		// each execution has its own operators
+		Set<Identifier> opIds = new HashSet<Identifier>();
+		for (CompilePlan plan : new CompilePlan[] { plan1, plan2 }) {
+			String prefix = plan.getPlanId().toString() + "_";
+			for (AbstractCompileOperator op : plan.getOperators()) {
+				TestCase.assertTrue(op.getOperatorId().toString()
+						.startsWith(prefix));
+				TestCase.assertTrue(opIds.add(op.getOperatorId()));
+			}
+			for (Identifier rootId : plan.getRoots()) {
+				TestCase.assertTrue(rootId.toString().startsWith(prefix));
+			}
+		}
+
+		// attributes reference renamed operators
+		int selections = 0;
+		for (AbstractCompileOperator op : plan2.getOperators()) {
+			if (op.getType() != EnumOperator.GENERIC_SELECTION)
+				continue;
+			GenericSelection gs = (GenericSelection) op;
+			String childId = gs.getChild().getOperatorId().toString();
+			for (TokenAttribute att : gs.getPredicate().getAttributes()) {
+				TestCase.assertEquals(childId, att.getTable().getName()
+						.getValue());
+			}
+			selections++;
+		}
+		TestCase.assertTrue(selections > 0);
+	}
+
+	@Test
+	public void testCompileServer() {
+		CompileClient client = new CompileClient();
+
+		// handles are unique
+		Tuple<Error, Integer> result = client.prepareStmt(SELECT_SQL);
+		this.assertNoError(result.getObject1());
+		int handle = result.getObject2();
+		result = client.prepareStmt(SELECT_SQL);
+		this.assertNoError(result.getObject1());
+		TestCase.assertTrue(handle != result.getObject2());
+		this.assertError(client.prepareStmt("SELECT R1.X AS X1 FROM R AS R1")
+				.getObject1());
+
+		// values are checked before execution
+		this.assertError(client.executePreparedStmt(handle, "x"));
+
+		// closed and unknown statements can not be executed
+		this.assertNoError(client.closePreparedStmt(handle));
+		this.assertError(client.executePreparedStmt(handle, "x", 1));
+		this.assertError(client.executePreparedStmt(-1, "x", 1));
+
+		// statements with markers must be prepared
+		this.assertError(client.executeStmt(SELECT_SQL));
+	}
+}
@@ -15,6 +15,12 @@ public class TestSuiteSQL extends TestSuite
     suite.addTestSuite( TestOptimizeSQL.class );
     suite.addTestSuite( TestOptimizeLargeSQL.class );
     suite.addTestSuite( TestCreateFunctionSQL.class);
+    suite.addTestSuite( TestCompilePlanCache.class );
+    suite.addTestSuite( TestEstimateResult.class );
+    suite.addTestSuite( TestPredicateRewrite.class );
+    suite.addTestSuite( TestOrderBy.class );
+    suite.addTestSuite( TestPreparedStmt.class );
+    suite.addTestSuite( TestIncrementalRewrite.class );
     return suite;
   }
 }
\ No newline at end of file
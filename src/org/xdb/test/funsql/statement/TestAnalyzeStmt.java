@@ -0,0 +1,86 @@
+package org.xdb.test.funsql.statement;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+
+public class TestAnalyzeStmt extends XDBTestCase {
+
+	@Test
+	public void testSimpleAnalyze() {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+
+		// create connection and table
+		String createConnSql = "CREATE CONNECTION \"testConnection\" "
+				+ "URL '" + Config.COMPUTE_DB_URL + Config.COMPUTE_DB_NAME
+				+ "' " + "USER '" + Config.COMPUTE_DB_USER + "' "
+				+ "PASSWORD '" + Config.COMPUTE_DB_PASSWD + "' "
+				+ "STORE 'XDB' ";
+		AbstractServerStmt stmt = compiler.compile(createConnSql);
+		this.assertNoError(compiler.getLastError());
+		this.execute(stmt);
+
+		String createTableSql = "CREATE TABLE \"R\"( A INT, B VARCHAR ) "
+				+ "IN CONNECTION \"testConnection\"";
+		stmt = compiler.compile(createTableSql);
+		this.assertNoError(compiler.getLastError());
+		this.execute(stmt);
+
+		// create data: A = 1..100, B = null for even A
+		this.executeComputeStmt("DROP TABLE IF EXISTS R");
+		this.executeComputeStmt("CREATE TABLE R (A INT, B VARCHAR(255))");
+		StringBuffer insertSql = new StringBuffer("INSERT INTO R VALUES ");
+		for (int i = 1; i <= 100; ++i) {
+			if (i > 1)
+				insertSql.append(",");
+			insertSql.append("(" + i + ","
+					+ (i % 2 == 0 ? "NULL" : "'b" + (i % 3) + "'") + ")");
+		}
+		this.executeComputeStmt(insertSql.toString());
+
+		// analyze table
+		stmt = compiler.compile("ANALYZE TABLE \"R\"");
+		this.assertNoError(compiler.getLastError());
+		TestCase.assertNotNull(stmt);
+		this.execute(stmt);
+
+		// statistics are persisted
+		assertNoError(Catalog.unload());
+		assertNoError(Catalog.load());
+
+		Schema schema = Catalog.getSchema(Config.COMPILE_DEFAULT_SCHEMA);
+		Table table = Catalog.getTable(schema.getOid() + ".R");
+		TableStatistics tableStats = Catalog.getTableStatistics(table
+				.getOid());
+		TestCase.assertNotNull(tableStats);
+		TestCase.assertEquals(100, tableStats.getRowCount());
+
+		AttributeStatistics attStats = Catalog.getAttributeStatistics(table
+				.getAttribute("A").getOid());
+		TestCase.assertEquals(100, attStats.getDistinctCount());
+		TestCase.assertEquals(0.0, attStats.getNullFraction());
+		TestCase.assertEquals("1", attStats.getMinValue());
+		TestCase.assertEquals("100", attStats.getMaxValue());
+		TestCase.assertEquals(Config.COMPILE_STATISTICS_HISTOGRAM_BUCKETS,
+				attStats.getBucketCount());
+
+		attStats = Catalog.getAttributeStatistics(table.getAttribute("B")
+				.getOid());
+		TestCase.assertEquals(3, attStats.getDistinctCount());
+		TestCase.assertEquals(0.5, attStats.getNullFraction());
+
+		// statistics are dropped with table
+		stmt = compiler.compile("DROP TABLE \"R\"");
+		this.execute(stmt);
+		TestCase.assertNull(Catalog.getTableStatistics(table.getOid()));
+		this.executeComputeStmt("DROP TABLE IF EXISTS R");
+	}
+}
@@ -12,6 +12,7 @@ public class TestSuiteStmt extends TestSuite
     suite.addTestSuite( TestCreateSchemaStmt.class );
     suite.addTestSuite( TestCreateTableStmt.class );
     suite.addTestSuite( TestLoadDataInfileStmt.class );
+    suite.addTestSuite( TestAnalyzeStmt.class );
     return suite;
   }
 }
\ No newline at end of file
@@ -0,0 +1,299 @@
+package org.xdb.test.parallelize;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.codegen.CodeGenerator;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.JoinInputDesc;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.utils.Identifier;
+
+public class TestBroadcastJoin extends XDBTestCase {
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+	private boolean broadcastJoin;
+	private int broadcastMaxSize;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		this.broadcastJoin = Config.COMPILE_BROADCAST_JOIN;
+		this.broadcastMaxSize = Config.COMPILE_BROADCAST_MAX_SIZE;
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+		Config.COMPILE_BROADCAST_JOIN = true;
+
+		this.compiler = new FunSQLCompiler();
+		for (int i = 1; i <= 2; ++i) {
+			this.executeDDL("CREATE CONNECTION \"testConnection" + i + "\" "
+					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		}
+
+		// R is large, S is small: both are not partitioned by join key B
+		for (String table : new String[] { "R", "S" }) {
+			this.executeDDL("CREATE TABLE \"" + table
+					+ "\"( A INT, B INT, C INT ) PARTIONED BY HASH ( A ) ( "
+					+ "P0 IN CONNECTION \"testConnection1\", "
+					+ "P1 IN CONNECTION \"testConnection2\" )");
+		}
+		this.createStatistics("R", 100000);
+		this.createStatistics("S", 100);
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		Config.COMPILE_BROADCAST_JOIN = this.broadcastJoin;
+		Config.COMPILE_BROADCAST_MAX_SIZE = this.broadcastMaxSize;
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private void createStatistics(String tableName, long rows) {
+		Schema schema = Catalog.getSchema(Config.COMPILE_DEFAULT_SCHEMA);
+		Table table = Catalog.getTable(schema.getOid() + "." + tableName);
+		this.assertNoError(Catalog.createTableStatistics(new TableStatistics(
+				table.getOid(), TableStatistics.ALL_PARTITIONS, rows)));
+	}
+
+	private CompilePlan compile(String sql) {
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt.getPlan();
+	}
+
+	/**
+	 * Returns join which reads table with given alias
+	 */
+	private EquiJoin getJoin(CompilePlan plan, String alias) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType() != EnumOperator.EQUI_JOIN)
+				continue;
+			for (AbstractCompileOperator child : op.getChildren()) {
+				if (child.isTable()
+						&& ((TableOperator) child).getTableAlias().equals(
+								alias))
+					return (EquiJoin) op;
+			}
+		}
+		TestCase.fail("No join reads " + alias);
+		return null;
+	}
+
+	private static void assertBroadcast(AbstractCompileOperator op) {
+		ResultDesc result = op.getResult();
+		TestCase.assertTrue(result.repartition());
+		TestCase.assertEquals(1, result.getRePartitionDesc()
+				.getPartitionCount());
+	}
+
+	@Test
+	public void testChooseInput() {
+		// small right input is broadcast to partitions of left input
+		EquiJoin join = this.getJoin(this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1, S AS S1 WHERE R1.B=S1.B"), "R1");
+		assertBroadcast(join.getRightChild());
+		TestCase.assertFalse(join.getRightChild().getResult().materialize());
+		TestCase.assertFalse(join.getLeftChild().getResult().repartition());
+		TestCase.assertEquals(2, join.getResult().getPartitionCount());
+
+		// small left input is broadcast to partitions of right input
+		join = this.getJoin(this.compile("SELECT R1.C AS C1 "
+				+ "FROM S AS S1, R AS R1 WHERE S1.B=R1.B"), "R1");
+		assertBroadcast(join.getLeftChild());
+		TestCase.assertFalse(join.getRightChild().getResult().repartition());
+		TestCase.assertEquals(2, join.getResult().getPartitionCount());
+
+		// large inputs are re-partitioned
+		join = this.getJoin(this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1, R AS R2 WHERE R1.B=R2.B"), "R1");
+		ResultDesc leftResult = join.getLeftChild().getResult();
+		TestCase.assertTrue(leftResult.materialize());
+		TestCase.assertEquals(2, leftResult.getRePartitionDesc()
+				.getPartitionCount());
+		TestCase.assertFalse(join.getRightChild().getResult().repartition());
+
+		// size limit and disabled strategy
+		String sql = "SELECT R1.C AS C1 FROM R AS R1, S AS S1 "
+				+ "WHERE R1.B=S1.B";
+		Config.COMPILE_BROADCAST_MAX_SIZE = 0;
+		join = this.getJoin(this.compile(sql), "R1");
+		TestCase.assertFalse(join.getRightChild().getResult().repartition());
+		TestCase.assertTrue(join.getLeftChild().getResult().repartition());
+		Config.COMPILE_BROADCAST_MAX_SIZE = this.broadcastMaxSize;
+		Config.COMPILE_BROADCAST_JOIN = false;
+		join = this.getJoin(this.compile(sql), "R1");
+		TestCase.assertFalse(join.getRightChild().getResult().repartition());
+		TestCase.assertTrue(join.getLeftChild().getResult().repartition());
+	}
+
+	@Test
+	public void testIntermediateInput() {
+		// small join result is materialized in one partition which is read
+		// by all partitions of join with R
+		CompilePlan plan = this.compile("SELECT R1.C AS C1 "
+				+ "FROM S AS S1, S AS S2, R AS R1 "
+				+ "WHERE S1.A=S2.A AND S1.B=R1.B");
+		EquiJoin join = this.getJoin(plan, "R1");
+		AbstractCompileOperator broadcastOp = join.getLeftChild();
+		TestCase.assertEquals(EnumOperator.EQUI_JOIN, broadcastOp.getType());
+		assertBroadcast(broadcastOp);
+		TestCase.assertTrue(broadcastOp.getResult().materialize());
+		TestCase.assertEquals(2, broadcastOp.getResult().getPartitionCount());
+		TestCase.assertEquals(2, join.getResult().getPartitionCount());
+
+		// each consumer reads output of all producers
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+		Set<Identifier> producers = new HashSet<Identifier>();
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			if (trackerOp.getCompileOperatorId().equals(
+					broadcastOp.getOperatorId()))
+				producers.add(trackerOp.getOperatorId());
+		}
+		TestCase.assertEquals(2, producers.size());
+		int consumers = 0;
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			Set<Identifier> inputs = new HashSet<Identifier>();
+			for (TableDesc tableDesc : trackerOp.getInTablesFederated()) {
+				if (tableDesc.isTemp())
+					inputs.add(tableDesc.getOperatorID());
+			}
+			if (inputs.isEmpty())
+				continue;
+			TestCase.assertEquals(producers, inputs);
+			consumers++;
+		}
+		TestCase.assertEquals(2, consumers);
+	}
+
+	@Test
+	public void testJoinInput() {
+		// broadcast intermediate input may be re-partitioned at run time
+		CompilePlan plan = this.compile("SELECT R1.C AS C1 "
+				+ "FROM S AS S1, S AS S2, R AS R1 "
+				+ "WHERE S1.A=S2.A AND S1.B=R1.B");
+		AbstractCompileOperator inputOp = this.getJoin(plan, "R1")
+				.getLeftChild();
+		ResultDesc inputResult = inputOp.getResult();
+		TestCase.assertEquals(2, inputResult.getJoinPartitionDesc()
+				.getPartitionCount());
+		TestCase.assertFalse(inputResult.isJoinKeyPartitioned());
+		this.assertJoinInput(plan, inputOp.getOperatorId(), true);
+
+		// re-partitioned intermediate input may be broadcast at run time
+		Config.COMPILE_BROADCAST_MAX_SIZE = 0;
+		plan = this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1, R AS R2, R AS R3 "
+				+ "WHERE R1.A=R2.A AND R1.B=R3.B");
+		Config.COMPILE_BROADCAST_MAX_SIZE = this.broadcastMaxSize;
+		inputOp = this.getJoin(plan, "R3").getLeftChild();
+		inputResult = inputOp.getResult();
+		TestCase.assertEquals(EnumOperator.EQUI_JOIN, inputOp.getType());
+		TestCase.assertEquals(2, inputResult.getRePartitionCount());
+		TestCase.assertEquals(2, inputResult.getJoinPartitionDesc()
+				.getPartitionCount());
+		this.assertJoinInput(plan, inputOp.getOperatorId(), false);
+
+		// broadcast of right input is not switched
+		plan = this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1, S AS S1 WHERE R1.B=S1.B");
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			TestCase.assertNull(op.getResult().getJoinPartitionDesc());
+		}
+	}
+
+	/**
+	 * Checks that producers of join input describe both strategies and that
+	 * partitions of join know the part of their partition
+	 */
+	private void assertJoinInput(CompilePlan plan, Identifier inputOpId,
+			boolean broadcast) {
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+		Set<Identifier> producers = new HashSet<Identifier>();
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			if (!trackerOp.getCompileOperatorId().equals(inputOpId))
+				continue;
+			JoinInputDesc joinInput = trackerOp.getJoinInput();
+			TestCase.assertEquals(broadcast, joinInput.isBroadcast());
+			TestCase.assertEquals(2, joinInput.getPartitionCount());
+			producers.add(trackerOp.getOperatorId());
+		}
+		TestCase.assertEquals(2, producers.size());
+
+		Set<String> partTableNames = new HashSet<String>();
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			for (TableDesc tableDesc : trackerOp.getInTablesFederated()) {
+				if (!tableDesc.isTemp()
+						|| !producers.contains(tableDesc.getOperatorID())
+						|| tableDesc.getPartTableName() == null)
+					continue;
+				TestCase.assertTrue(partTableNames.add(tableDesc
+						.getPartTableName()));
+				if (!broadcast)
+					TestCase.assertEquals(tableDesc.getPartTableName(),
+							tableDesc.getTableName());
+			}
+		}
+		TestCase.assertEquals(4, partTableNames.size());
+	}
+
+	@Test
+	public void testBroadcastTable() {
+		// each partition of R reads all partitions of S
+		CompilePlan plan = this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1, S AS S1 WHERE R1.B=S1.B");
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+		Set<String> partitionsOfR = new HashSet<String>();
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			Set<String> partitionsOfS = new HashSet<String>();
+			for (TableDesc tableDesc : trackerOp.getInTablesFederated()) {
+				String tableName = tableDesc.getTableName();
+				if (tableName.startsWith("S"))
+					partitionsOfS.add(tableName);
+				else
+					partitionsOfR.add(tableName);
+			}
+			TestCase.assertEquals(2, partitionsOfS.size());
+			TestCase.assertEquals(3, trackerOp.getInTablesFederated().size());
+		}
+		TestCase.assertEquals(2, partitionsOfR.size());
+		TestCase.assertEquals(2, codeGen.getQueryTrackerPlan()
+				.getTrackerOperators().size());
+	}
+}
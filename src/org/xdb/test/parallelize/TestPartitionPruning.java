@@ -0,0 +1,173 @@
+package org.xdb.test.parallelize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+import org.xdb.tools.partitioner.Utils;
+
+public class TestPartitionPruning extends XDBTestCase {
+	private static final int PARTITIONS = 4;
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean pruning;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.pruning = Config.COMPILE_PARTITION_PRUNING;
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.COMPILE_PARTITION_PRUNING = true;
+
+		this.compiler = new FunSQLCompiler();
+		for (int i = 1; i <= 2; ++i) {
+			this.executeDDL("CREATE CONNECTION \"testConnection" + i + "\" "
+					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		}
+
+		// R is partitioned by one key, S by a composite key
+		this.executeDDL("CREATE TABLE \"R\"( A INT, B INT, C INT ) "
+				+ "PARTIONED BY HASH ( A ) " + this.createPartitions());
+		this.executeDDL("CREATE TABLE \"S\"( A INT, B INT, C INT ) "
+				+ "PARTIONED BY HASH ( A, B ) " + this.createPartitions());
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.COMPILE_PARTITION_PRUNING = this.pruning;
+		super.tearDown();
+	}
+
+	private String createPartitions() {
+		StringBuffer partitions = new StringBuffer("( ");
+		for (int i = 0; i < PARTITIONS; ++i) {
+			if (i > 0)
+				partitions.append(", ");
+			partitions.append("P" + i + " IN CONNECTION \"testConnection"
+					+ (i % 2 + 1) + "\"");
+		}
+		partitions.append(" )");
+		return partitions.toString();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private SelectStmt compile(String sql) {
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt;
+	}
+
+	private ResultDesc getResult(SelectStmt stmt, EnumOperator type) {
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			if (op.getType() == type)
+				return op.getResult();
+		}
+		TestCase.fail("No operator of type " + type);
+		return null;
+	}
+
+	/**
+	 * Returns partition into which the data partitioner loads a line which
+	 * is partitioned by the given columns
+	 */
+	private static int loadPartition(String line, Integer... keys) {
+		return Utils.calculatePartition(Utils.calculateHash(line, keys),
+				PARTITIONS);
+	}
+
+	private ResultDesc pruneTable(String table, String predicate) {
+		SelectStmt stmt = this.compile("SELECT T1.C AS C1 FROM " + table
+				+ " AS T1 WHERE " + predicate);
+		return this.getResult(stmt, EnumOperator.TABLE);
+	}
+
+	@Test
+	public void testMatchingPartitions() {
+		// single key: only partition of loaded value is read
+		ResultDesc result = this.pruneTable("R", "T1.A=5");
+		TestCase.assertTrue(result.isPruned());
+		List<Integer> expected = new ArrayList<Integer>();
+		expected.add(loadPartition("5|1|1", 0));
+		TestCase.assertEquals(expected, result.getActivePartitions());
+
+		// literal on left side and conjunct on other attribute
+		result = this.pruneTable("R", "5=T1.A AND T1.B=7");
+		TestCase.assertEquals(expected, result.getActivePartitions());
+
+		// IN list: partitions of all values
+		result = this.pruneTable("R",
+				"T1.B=1 AND (T1.A=5 OR T1.A=6 OR T1.A=7)");
+		for (String value : new String[] { "6", "7" }) {
+			int partNum = loadPartition(value + "|1|1", 0);
+			if (!expected.contains(partNum))
+				expected.add(partNum);
+		}
+		TestCase.assertTrue(result.isPruned());
+		for (Integer partNum : expected) {
+			TestCase.assertTrue(result.isPartitionActive(partNum));
+		}
+		TestCase.assertEquals(expected.size(), result.getActivePartitionCount());
+
+		// composite key is hashed like in data partitioner
+		result = this.pruneTable("S", "T1.A=12 AND T1.B=34");
+		TestCase.assertTrue(result.isPruned());
+		TestCase.assertEquals(1, result.getActivePartitionCount());
+		TestCase.assertTrue(result.isPartitionActive(loadPartition("12|34|1",
+				0, 1)));
+
+		// no restriction on partition key or only on part of it
+		TestCase.assertFalse(this.pruneTable("R", "T1.B=5").isPruned());
+		TestCase.assertFalse(this.pruneTable("R", "T1.A>5").isPruned());
+		TestCase.assertFalse(this.pruneTable("S", "T1.A=12").isPruned());
+
+		// concatenated key does not fit into a long
+		TestCase.assertFalse(this.pruneTable("S",
+				"T1.A=2000000000 AND T1.B=2000000000").isPruned());
+
+		// pruning disabled
+		Config.COMPILE_PARTITION_PRUNING = false;
+		TestCase.assertFalse(this.pruneTable("R", "T1.A=5").isPruned());
+	}
+
+	@Test
+	public void testPropagation() {
+		// operators above table read only its active partitions
+		SelectStmt stmt = this.compile("SELECT R1.C AS C1 "
+				+ "FROM R AS R1 WHERE R1.A=5");
+		ResultDesc tableResult = this.getResult(stmt, EnumOperator.TABLE);
+		TestCase.assertTrue(tableResult.isPruned());
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			ResultDesc result = op.getResult();
+			TestCase.assertTrue(result.isPruned());
+			TestCase.assertEquals(tableResult.getActivePartitions(),
+					result.getActivePartitions());
+		}
+
+		// partition-wise join reads partitions of restricted inputs only
+		stmt = this.compile("SELECT R1.C AS C1 FROM R AS R1, R AS R2 "
+				+ "WHERE R1.A=R2.A AND R1.A=5 AND R2.A=5");
+		ResultDesc joinResult = this.getResult(stmt, EnumOperator.EQUI_JOIN);
+		TestCase.assertTrue(joinResult.isPruned());
+		List<Integer> expected = new ArrayList<Integer>();
+		expected.add(loadPartition("5|1|1", 0));
+		TestCase.assertEquals(expected, joinResult.getActivePartitions());
+	}
+}
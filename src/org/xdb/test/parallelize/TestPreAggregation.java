@@ -0,0 +1,223 @@
+package org.xdb.test.parallelize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.AggregationExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumAggregation;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+
+public class TestPreAggregation extends XDBTestCase {
+	private static final long ROWS = 100000;
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+	private double maxRatio;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		this.maxRatio = Config.COMPILE_PRE_AGGREGATION_MAX_RATIO;
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+
+		this.compiler = new FunSQLCompiler();
+		for (int i = 1; i <= 2; ++i) {
+			this.executeDDL("CREATE CONNECTION \"testConnection" + i + "\" "
+					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		}
+		this.executeDDL("CREATE TABLE \"R\"( A INT, B INT, C INT, D VARCHAR ) "
+				+ "PARTIONED BY HASH ( A ) ( "
+				+ "P0 IN CONNECTION \"testConnection1\", "
+				+ "P1 IN CONNECTION \"testConnection2\" )");
+
+		// B has few groups, C is (almost) unique
+		Schema schema = Catalog.getSchema(Config.COMPILE_DEFAULT_SCHEMA);
+		Table table = Catalog.getTable(schema.getOid() + ".R");
+		this.assertNoError(Catalog.createTableStatistics(new TableStatistics(
+				table.getOid(), TableStatistics.ALL_PARTITIONS, ROWS)));
+		this.createStatistics(table, "B", 10);
+		this.createStatistics(table, "C", ROWS);
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		Config.COMPILE_PRE_AGGREGATION_MAX_RATIO = this.maxRatio;
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private void createStatistics(Table table, String att, long distinct) {
+		this.assertNoError(Catalog
+				.createAttributeStatistics(new AttributeStatistics(table
+						.getAttribute(att).getOid(),
+						TableStatistics.ALL_PARTITIONS, distinct, 0.0, "0", ""
+								+ distinct, Arrays.asList("0", "" + distinct))));
+	}
+
+	private SelectStmt compile(String sql) {
+		SelectStmt stmt = (SelectStmt) this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt;
+	}
+
+	/**
+	 * Returns aggregations of plan: pre-aggregation (if any) first
+	 */
+	private List<GenericAggregation> getAggregations(SelectStmt stmt) {
+		List<GenericAggregation> aggs = new ArrayList<GenericAggregation>();
+		for (AbstractCompileOperator op : stmt.getPlan().getOperators()) {
+			if (op.getType() != EnumOperator.GENERIC_AGGREGATION)
+				continue;
+			GenericAggregation agg = (GenericAggregation) op;
+			if (agg.getChild().getType() == EnumOperator.GENERIC_AGGREGATION)
+				aggs.add(agg);
+			else
+				aggs.add(0, agg);
+		}
+		return aggs;
+	}
+
+	@Test
+	public void testPreAggregation() {
+		// few groups per partition: input is reduced by pre-aggregation
+		SelectStmt stmt = this.compile("SELECT R1.B AS B1, "
+				+ "COUNT(R1.C) AS CNT, SUM(R1.C) AS S "
+				+ "FROM R AS R1 GROUP BY R1.B");
+		List<GenericAggregation> aggs = this.getAggregations(stmt);
+		TestCase.assertEquals(2, aggs.size());
+		GenericAggregation preAgg = aggs.get(0);
+		GenericAggregation postAgg = aggs.get(1);
+		TestCase.assertEquals(preAgg, postAgg.getChild());
+		TestCase.assertEquals(EnumOperator.TABLE, preAgg.getChild().getType());
+		TestCase.assertTrue(preAgg.getResult().repartition());
+		TestCase.assertFalse(preAgg.getChild().getResult().repartition());
+		TestCase.assertTrue(preAgg.isBypassable());
+		TestCase.assertFalse(postAgg.isBypassable());
+
+		// partial counts are summed up by final aggregation
+		TestCase.assertTrue(preAgg.toSqlString().contains("COUNT("));
+		TestCase.assertFalse(postAgg.toSqlString().contains("COUNT("));
+		for (AbstractExpression expr : postAgg.getAggregationExpressions()) {
+			TestCase.assertEquals(EnumAggregation.SUM,
+					((AggregationExpression) expr).getAggregation());
+		}
+	}
+
+	@Test
+	public void testBypass() {
+		SelectStmt stmt = this.compile("SELECT R1.B AS B1, "
+				+ "COUNT(R1.C) AS CNT, MAX(R1.C) AS M "
+				+ "FROM R AS R1 GROUP BY R1.B");
+		GenericAggregation preAgg = this.getAggregations(stmt).get(0);
+		TestCase.assertTrue(preAgg.canBypass());
+		String childId = preAgg.getChild().getOperatorId().toString();
+		List<String> aliases = new ArrayList<String>();
+		for (int i = 0; i < 3; ++i) {
+			aliases.add(preAgg.getResult().getAttribute(i).getName()
+					.toSqlString());
+		}
+
+		// aggregations are replaced by value of single tuple, no grouping
+		StringBuffer expected = new StringBuffer("SELECT ");
+		int i = 0;
+		for (AbstractExpression expr : preAgg.getAggregationExpressions()) {
+			if (((AggregationExpression) expr).getAggregation().isCnt())
+				expected.append("(" + childId + ".R1_C IS NOT NULL)");
+			else
+				expected.append(childId + ".R1_C");
+			expected.append(" AS " + aliases.get(i++) + ", ");
+		}
+		expected.append(childId + ".R1_B AS " + aliases.get(2) + " FROM <"
+				+ childId + "> AS " + childId);
+		TestCase.assertEquals(expected.toString(), preAgg.toBypassSqlString());
+
+		// check query samples groups of input
+		String checkSQL = preAgg.toBypassCheckSqlString(100);
+		TestCase.assertTrue(checkSQL.contains("COUNT(DISTINCT "
+				+ aliases.get(2) + ")"));
+		TestCase.assertTrue(checkSQL.contains("LIMIT 100"));
+
+		// COUNT(*) which is added for AVG counts each tuple
+		stmt = this.compile("SELECT R1.B AS B1, AVG(R1.C) AS AV "
+				+ "FROM R AS R1 GROUP BY R1.B");
+		preAgg = this.getAggregations(stmt).get(0);
+		TestCase.assertTrue(preAgg.isBypassable());
+		TestCase.assertTrue(preAgg.toBypassSqlString().contains(
+				", 1 AS "));
+
+		// distinct and non-decomposable aggregations are not bypassed
+		AggregationExpression aggExpr = (AggregationExpression) preAgg
+				.getAggregationExpressions().iterator().next();
+		aggExpr.setAggregation(EnumAggregation.AVG);
+		TestCase.assertFalse(preAgg.canBypass());
+		aggExpr.setAggregation(EnumAggregation.SUM);
+		TestCase.assertTrue(preAgg.canBypass());
+		aggExpr.setDistinct();
+		TestCase.assertFalse(preAgg.canBypass());
+
+		// aggregation without groups is not bypassed
+		stmt = this.compile("SELECT SUM(R1.C) AS S FROM R AS R1");
+		List<GenericAggregation> aggs = this.getAggregations(stmt);
+		TestCase.assertEquals(2, aggs.size());
+		TestCase.assertFalse(aggs.get(0).isBypassable());
+	}
+
+	@Test
+	public void testRepartitionInput() {
+		// one group per tuple: input is re-partitioned by group attribute
+		SelectStmt stmt = this.compile("SELECT R1.C AS C1, "
+				+ "COUNT(R1.B) AS CNT FROM R AS R1 GROUP BY R1.C");
+		List<GenericAggregation> aggs = this.getAggregations(stmt);
+		TestCase.assertEquals(1, aggs.size());
+		GenericAggregation agg = aggs.get(0);
+		ResultDesc childResult = agg.getChild().getResult();
+		TestCase.assertEquals(EnumOperator.TABLE, agg.getChild().getType());
+		TestCase.assertTrue(childResult.materialize());
+		TestCase.assertTrue(childResult.repartition());
+		TestCase.assertTrue(childResult.getRePartitionDesc().toString()
+				.contains("(R1_C)"));
+		TestCase.assertEquals(childResult.getPartitionCount(), agg.getResult()
+				.getPartitionCount());
+		TestCase.assertTrue(agg.toSqlString().contains("COUNT("));
+
+		// non-numeric group attribute can not be re-partitioned
+		stmt = this.compile("SELECT R1.D AS D1, COUNT(R1.B) AS CNT "
+				+ "FROM R AS R1 GROUP BY R1.D");
+		TestCase.assertEquals(2, this.getAggregations(stmt).size());
+
+		// threshold decides if few groups reduce input enough
+		Config.COMPILE_PRE_AGGREGATION_MAX_RATIO = 0.0;
+		stmt = this.compile("SELECT R1.B AS B1, COUNT(R1.C) AS CNT "
+				+ "FROM R AS R1 GROUP BY R1.B");
+		TestCase.assertEquals(1, this.getAggregations(stmt).size());
+	}
+}
@@ -0,0 +1,136 @@
+package org.xdb.test.tpch;
+
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.test.XDBTestCase;
+
+/**
+ * Test case which creates the TPC-H schema in the catalog (tables are
+ * replicated in connections to the TPC-H database)
+ */
+public abstract class TPCHTestCase extends XDBTestCase {
+	// TPC-H schema
+	protected static final String[] SCHEMA_DDLS = {
+			"CREATE CONNECTION TPCH1 " +
+			"URL 'jdbc:mysql://127.0.0.1/tpch_s01' " + 
+			"USER 'xroot' " +
+			"PASSWORD 'xroot' " +
+			"STORE 'XDB';", 
+			
+			"CREATE CONNECTION TPCH2 " +
+			"URL 'jdbc:mysql://127.0.0.1/tpch_s01' " + 
+			"USER 'xroot' " +
+			"PASSWORD 'xroot' " +
+			"STORE 'XDB';", 
+			
+			"CREATE CONNECTION TPCH3 " +
+			"URL 'jdbc:mysql://127.0.0.1/tpch_s01' " + 
+			"USER 'xroot' " +
+			"PASSWORD 'xroot' " +
+			"STORE 'XDB';",
+			
+			"CREATE TABLE LINEITEM ( " +
+			"L_ORDERKEY    		INTEGER," +
+			"L_PARTKEY     		INTEGER," +
+			"L_SUPPKEY     		INTEGER," +
+			"L_LINENUMBER  		INTEGER," +
+			"L_QUANTITY    		DECIMAL," +
+			"L_EXTENDEDPRICE  	DECIMAL," +
+			"L_DISCOUNT    		DECIMAL," +
+			"L_TAX         		DECIMAL," +
+			"L_RETURNFLAG  		VARCHAR," +
+			"L_LINESTATUS  		VARCHAR," +
+			"L_SHIPDATE    		DATE," +
+			"L_COMMITDATE  		DATE," +
+			"L_RECEIPTDATE 		DATE," +
+			"L_SHIPINSTRUCT 	VARCHAR," +
+			"L_SHIPMODE     	VARCHAR," +
+			"L_COMMENT      	VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH2, TPCH3;",
+			
+			
+			"CREATE TABLE  CUSTOMER ( " +
+			"C_CUSTKEY     INTEGER, " +
+			"C_NAME        VARCHAR, " +
+			"C_ADDRESS     VARCHAR, " +
+			"C_NATIONKEY   INTEGER, " +
+			"C_PHONE       VARCHAR, " +
+			"C_ACCTBAL     DECIMAL  , " +
+			"C_MKTSEGMENT  VARCHAR, " +
+			"C_COMMENT     VARCHAR" +
+			//") PARTIONED BY HASH ( C_CUSTKEY ) ( " +
+			//" P1 IN CONNECTION TPCH1," +
+			//" P2 IN CONNECTION TPCH2 )",
+			") REPLICATED IN CONNECTION TPCH2;",
+			
+			"CREATE TABLE ORDERS  ( " +
+			"O_ORDERKEY       INTEGER, " +
+			"O_CUSTKEY        INTEGER, " +
+			"O_ORDERSTATUS    VARCHAR, " +
+			"O_TOTALPRICE     DECIMAL, " +
+			"O_ORDERDATE      DATE, " +
+			"O_ORDERPRIORITY  VARCHAR, " +
+			"O_CLERK          VARCHAR,  " +
+			"O_SHIPPRIORITY   INTEGER, " +
+			"O_COMMENT        VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH1;",
+			
+			"CREATE TABLE SUPPLIER ( " +
+			"S_SUPPKEY INTEGER, " +
+			"S_NAME VARCHAR, " +
+			"S_ADDRESS VARCHAR, " +
+			"S_NATIONKEY INTEGER, " +
+			"S_PHONE VARCHAR, " +
+			"S_ACCTBAL DECIMAL, " +
+			"S_COMMENT VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH2, TPCH3;",
+			
+			"CREATE TABLE PART  ( " +
+			"P_PARTKEY     INTEGER," +
+			"P_NAME        VARCHAR, " +
+			"P_MFGR        VARCHAR, " +
+			"P_BRAND       VARCHAR, " +
+			"P_TYPE        VARCHAR, " +
+			"P_SIZE        INTEGER, " +
+			"P_CONTAINER   VARCHAR, " +
+			"P_RETAILPRICE DECIMAL, " +
+			"P_COMMENT     VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH1, TPCH2, TPCH3;",
+			
+			"CREATE TABLE PARTSUPP ( " +
+			"	PS_PARTKEY     INTEGER, " +
+			"	PS_SUPPKEY     INTEGER, " +
+			"	PS_AVAILQTY    INTEGER, " +
+			"	PS_SUPPLYCOST  DECIMAL, " +
+			"	PS_COMMENT     VARCHAR " +
+			") REPLICATED IN CONNECTION TPCH3;",
+			
+			"CREATE TABLE NATION (  " +
+			"N_NATIONKEY INTEGER, " +
+			"N_NAME VARCHAR," +
+			"N_REGIONKEY INTEGER," +
+			"N_COMMENT VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH3;",
+			
+			"CREATE TABLE REGION ( " +
+			"R_REGIONKEY INTEGER," +
+			"R_NAME VARCHAR," +
+			"R_COMMENT VARCHAR" +
+			") REPLICATED IN CONNECTION TPCH3;"
+	};
+
+	@Override
+	public void setUp(){
+		super.setUp();
+		this.createSchema();
+	}
+	
+	private void createSchema(){
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		for(String schemaDDL: SCHEMA_DDLS){
+			AbstractServerStmt stmt = compiler.compile(schemaDDL);
+			this.assertNoError(compiler.getLastError());
+			this.execute(stmt);
+		}
+	}
+}
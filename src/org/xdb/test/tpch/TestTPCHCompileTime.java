@@ -0,0 +1,193 @@
+package org.xdb.test.tpch;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.CreateFunctionStmt;
+import org.xdb.funsql.statement.SelectStmt;
+
+/**
+ * Benchmarks compile time of TPC-H queries and large functions with
+ * selection push down by re-walking the plan from its roots and by the
+ * incremental rewrite (see Config.OPTIMIZER_INCREMENTAL_REWRITE)
+ */
+public class TestTPCHCompileTime extends TPCHTestCase {
+	private static final int RUNS = 20;
+	private static final int LARGE_FUNCTION_ASSIGNMENTS = 30;
+
+	private Map<String, String> stmts = new LinkedHashMap<String, String>();
+
+	public TestTPCHCompileTime() {
+		this.stmts.put("Q1", "select l_returnflag, l_linestatus, "
+				+ "sum(l_quantity) as sum_qty, "
+				+ "sum(l_extendedprice) as sum_base_price, "
+				+ "sum(l_extendedprice * (1 - l_discount)) as sum_disc_price, "
+				+ "avg(l_quantity) as avg_qty, "
+				+ "count(l_orderkey) as count_order "
+				+ "from lineitem "
+				+ "where l_shipdate <= date '1998-12-01' "
+				+ "group by l_returnflag, l_linestatus");
+
+		this.stmts.put("Q3", "select l_orderkey, "
+				+ "sum(l_extendedprice*(1-l_discount)) as revenue, "
+				+ "o_orderdate, o_shippriority "
+				+ "from customer, orders, lineitem "
+				+ "where c_mktsegment = 'BUILDING' "
+				+ "and c_custkey = o_custkey "
+				+ "and l_orderkey = o_orderkey "
+				+ "and o_orderdate < date '1995-03-15' "
+				+ "and l_shipdate > date '1995-03-15' "
+				+ "group by l_orderkey, o_orderdate, o_shippriority");
+
+		this.stmts.put("Q5", "select n_name, "
+				+ "sum(l_extendedprice * (1-l_discount)) as revenue "
+				+ "from customer, orders, lineitem, supplier, nation, region "
+				+ "where c_custkey = o_custkey "
+				+ "and l_orderkey = o_orderkey "
+				+ "and l_suppkey = s_suppkey "
+				+ "and s_nationkey = c_nationkey "
+				+ "and n_nationkey = s_nationkey "
+				+ "and r_regionkey = n_regionkey "
+				+ "and r_name = 'ASIA' "
+				+ "and o_orderdate > date '1994-01-01' "
+				+ "and o_orderdate < date '1995-01-01' "
+				+ "group by n_name");
+
+		this.stmts.put("Q6", "select sum(l_extendedprice * l_discount) as revenue "
+				+ "from lineitem "
+				+ "where l_shipdate >= date '1994-01-01' "
+				+ "and l_shipdate < date '1995-01-01' "
+				+ "and l_discount >= 0.0 "
+				+ "and l_discount < 0.9 "
+				+ "and l_quantity < 24");
+
+		this.stmts.put("Q15", "CREATE FUNCTION q15( OUT o1 TABLE) \n"
+				+ "BEGIN \n"
+				+ "  :t1 = select l_suppkey as supply_no, "
+				+ "    sum(l_extendedprice * (1 - l_discount)) as total_revenue "
+				+ "    from lineitem "
+				+ "    where l_shipdate >= date '1996-01-01' and l_shipdate < date '1996-04-01' "
+				+ "    group by l_suppkey; \n"
+				+ "  :t2 = select max(total_revenue) as max_total_revenue "
+				+ "    from :t1; \n"
+				+ "  :o1 = select s_suppkey, s_name, s_address, s_phone, total_revenue "
+				+ "    from supplier, :t1 as t1, :t2 as t2 "
+				+ "    where s_suppkey = supply_no "
+				+ "    and max_total_revenue = total_revenue; \n"
+				+ "END;");
+
+		this.stmts.put("LARGE", this.createLargeFunction());
+	}
+
+	/**
+	 * Creates function with a chain of assignments which join the previous
+	 * variable with ORDERS
+	 *
+	 * @return
+	 */
+	private String createLargeFunction() {
+		StringBuffer stmt = new StringBuffer();
+		stmt.append("CREATE FUNCTION large( OUT o1 TABLE) \n");
+		stmt.append("BEGIN \n");
+		stmt.append("VAR v0 = SELECT L.L_ORDERKEY AS K, L.L_SUPPKEY AS S "
+				+ "FROM LINEITEM AS L WHERE L.L_QUANTITY < 24; \n");
+		for (int i = 1; i < LARGE_FUNCTION_ASSIGNMENTS; ++i) {
+			stmt.append("VAR v" + i + " = SELECT V.K AS K, O.O_CUSTKEY AS S "
+					+ "FROM :v" + (i - 1) + " AS V, ORDERS AS O "
+					+ "WHERE V.K = O.O_ORDERKEY AND O.O_SHIPPRIORITY = " + i
+					+ "; \n");
+		}
+		stmt.append(":o1 = SELECT V.K FROM :v"
+				+ (LARGE_FUNCTION_ASSIGNMENTS - 1) + " AS V; \n");
+		stmt.append("END;");
+		return stmt.toString();
+	}
+
+	/**
+	 * Compiles statement RUNS times and returns average compile time in ms
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	private double compile(String stmt) {
+		long time = 0;
+		for (int i = 0; i < RUNS; ++i) {
+			FunSQLCompiler compiler = new FunSQLCompiler();
+			long start = System.nanoTime();
+			compiler.compile(stmt);
+			time += System.nanoTime() - start;
+			this.assertNoError(compiler.getLastError());
+		}
+		return time / 1000000.0 / RUNS;
+	}
+
+	/**
+	 * Compiles statement once and returns number of operators of its plan
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	private int countOperators(String stmt) {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		AbstractServerStmt serverStmt = compiler.compile(stmt);
+		this.assertNoError(compiler.getLastError());
+
+		CompilePlan plan;
+		if (serverStmt instanceof SelectStmt)
+			plan = ((SelectStmt) serverStmt).getPlan();
+		else
+			plan = ((CreateFunctionStmt) serverStmt).getPlan();
+		return plan.getOperators().size();
+	}
+
+	@Test
+	public void testCompileTime() {
+		boolean planCache = Config.COMPILE_PLAN_CACHE;
+		boolean simulation = Config.SIMULATION_MODE;
+		boolean incremental = Config.OPTIMIZER_INCREMENTAL_REWRITE;
+		BitSet selectRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		BitSet functionRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_FUNCTION
+				.clone();
+
+		try {
+			// measure compilation, not the plan cache
+			Config.COMPILE_PLAN_CACHE = false;
+			Config.SIMULATION_MODE = false;
+			Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(0, true);
+			Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(0, true);
+
+			System.out.println("Statement\tFrom roots (ms)\tIncremental (ms)");
+			for (Map.Entry<String, String> entry : this.stmts.entrySet()) {
+				String stmt = entry.getValue();
+
+				Config.OPTIMIZER_INCREMENTAL_REWRITE = false;
+				this.compile(stmt);
+				double rootsTime = this.compile(stmt);
+				int rootsOps = this.countOperators(stmt);
+
+				Config.OPTIMIZER_INCREMENTAL_REWRITE = true;
+				this.compile(stmt);
+				double incrementalTime = this.compile(stmt);
+				int incrementalOps = this.countOperators(stmt);
+
+				// both push downs must produce same plan
+				assertEquals(rootsOps, incrementalOps);
+				System.out.println(entry.getKey() + "\t" + rootsTime + "\t"
+						+ incrementalTime);
+			}
+		} finally {
+			Config.COMPILE_PLAN_CACHE = planCache;
+			Config.SIMULATION_MODE = simulation;
+			Config.OPTIMIZER_INCREMENTAL_REWRITE = incremental;
+			Config.OPTIMIZER_ACTIVE_RULES_SELECT = selectRules;
+			Config.OPTIMIZER_ACTIVE_RULES_FUNCTION = functionRules;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package org.xdb.test.tracker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.xdb.client.ComputeClient;
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.tracker.QueryTrackerNode;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+/**
+ * Compute client which simulates compute nodes for tests of query tracker
+ * plans: operators are deployed without executing them and nodes can be
+ * killed
+ */
+public class SimulatedComputeClient extends ComputeClient {
+	private final Set<String> deadNodes = new HashSet<String>();
+	private final List<String> readySignals = new ArrayList<String>();
+
+	/**
+	 * Creates query tracker which uses this client and gets given compute
+	 * nodes from the master tracker
+	 * 
+	 * @param nodes
+	 * @return
+	 * @throws Exception
+	 */
+	public QueryTrackerNode createQueryTracker(final ComputeNodeDesc... nodes)
+			throws Exception {
+		return new QueryTrackerNode("127.0.0.1") {
+			@Override
+			public ComputeClient getComputeClient() {
+				return SimulatedComputeClient.this;
+			}
+
+			@Override
+			public Tuple<Error, Map<String, ComputeNodeDesc>> requestComputeNodes(
+					Set<String> wishList) {
+				Map<String, ComputeNodeDesc> nodeMap = new HashMap<String, ComputeNodeDesc>();
+				for (ComputeNodeDesc node : nodes) {
+					nodeMap.put(node.toString(), node);
+				}
+				return new Tuple<Error, Map<String, ComputeNodeDesc>>(
+						new Error(), nodeMap);
+			}
+		};
+	}
+
+	public void kill(ComputeNodeDesc node) {
+		this.deadNodes.add(node.toString());
+	}
+
+	/**
+	 * Returns signals sent to operators as source->destination
+	 * 
+	 * @return
+	 */
+	public List<String> getReadySignals() {
+		return this.readySignals;
+	}
+
+	private boolean isDead(ComputeNodeDesc node) {
+		return this.deadNodes.contains(node.toString());
+	}
+
+	private Error nodeError(ComputeNodeDesc url) {
+		String[] args = { "Compute node " + url + " is dead" };
+		return new Error(EnumError.CLIENT_ERROR, args);
+	}
+
+	@Override
+	public Tuple<Error, EnumOperatorStatus> openOperator(ComputeNodeDesc url,
+			AbstractExecuteOperator op) {
+		if (this.isDead(url))
+			return new Tuple<Error, EnumOperatorStatus>(this.nodeError(url),
+					EnumOperatorStatus.getRuntimeFailure());
+		return new Tuple<Error, EnumOperatorStatus>(new Error(),
+				EnumOperatorStatus.DEPLOYED);
+	}
+
+	@Override
+	public Error executeOperator(Identifier sourceOpId, OperatorDesc dest) {
+		this.readySignals.add(sourceOpId + "->" + dest.getOperatorID());
+		return new Error();
+	}
+
+	@Override
+	public Error executeOperator(OperatorDesc dest) {
+		return new Error();
+	}
+
+	@Override
+	public Error killOperator(OperatorDesc dest) {
+		return new Error();
+	}
+
+	@Override
+	public Error closeOperator(OperatorDesc dest, AbstractExecuteOperator op) {
+		return new Error();
+	}
+
+	@Override
+	public Error pingComputeServer(ComputeNodeDesc url) {
+		if (this.isDead(url))
+			return this.nodeError(url);
+		return new Error();
+	}
+}
@@ -0,0 +1,352 @@
+package org.xdb.test.tracker;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.JoinInputDesc;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.tracker.scheduler.EnumResourceScheduler;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.StringTemplate;
+
+/**
+ * Sends ready signals with measured output sizes to a plan with lazy
+ * deployment and checks placement and join strategies of pending operators
+ */
+public class TestAdaptivePlanning extends TestCase {
+	private static final ComputeNodeDesc NODE1 = new ComputeNodeDesc(
+			"127.0.0.1", 60001);
+	private static final ComputeNodeDesc NODE2 = new ComputeNodeDesc(
+			"127.0.0.1", 60002);
+	private static final ComputeNodeDesc NODE3 = new ComputeNodeDesc(
+			"127.0.0.1", 60003);
+
+	/**
+	 * Finished execute operator as reported by a compute node
+	 */
+	private static class FinishedOperator extends AbstractExecuteOperator {
+		private static final long serialVersionUID = 1L;
+
+		public FinishedOperator(Identifier execOpId, long outputSize) {
+			super(execOpId);
+			this.outputSize = outputSize;
+			this.setStatus(EnumOperatorStatus.FINISHED);
+		}
+
+		@Override
+		protected Error openOperator() {
+			return new Error();
+		}
+
+		@Override
+		protected Error executeOperator() {
+			return new Error();
+		}
+
+		@Override
+		protected Error closeOperator() {
+			return new Error();
+		}
+	}
+
+	private boolean simulationMode;
+	private boolean lazyDeployment;
+	private boolean broadcastJoin;
+	private EnumResourceScheduler scheduler;
+
+	private QueryTrackerPlan qPlan;
+
+	private MySQLTrackerOperator opA;
+	private MySQLTrackerOperator opB;
+	private MySQLTrackerOperator opC;
+	private MySQLTrackerOperator opD;
+	private MySQLTrackerOperator opJ;
+	private MySQLTrackerOperator opR;
+
+	// join plan: X -> Y -> P0, P1 -> J0, J1 <- O0, O1
+	private MySQLTrackerOperator opX;
+	private MySQLTrackerOperator opY;
+	private List<MySQLTrackerOperator> producers;
+	private List<MySQLTrackerOperator> joins;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.simulationMode = Config.SIMULATION_MODE;
+		this.lazyDeployment = Config.QUERYTRACKER_LAZY_DEPLOYMENT;
+		this.broadcastJoin = Config.COMPILE_BROADCAST_JOIN;
+		this.scheduler = Config.QUERYTRACKER_SCHEDULER;
+
+		Config.SIMULATION_MODE = false;
+		Config.QUERYTRACKER_LAZY_DEPLOYMENT = true;
+		Config.COMPILE_BROADCAST_JOIN = true;
+		Config.QUERYTRACKER_SCHEDULER = EnumResourceScheduler.MAKESPAN_AWARE;
+		this.createPlan();
+
+		// A -> J <- C <- B, J -> R <- D
+		this.opA = this.addOperator(100);
+		this.opB = this.addOperator(1000);
+		this.opD = this.addOperator(10000);
+		this.opC = this.addOperator(1000, this.opB);
+		this.opJ = this.addOperator(500, this.opA, this.opC);
+		this.opR = this.addOperator(500, this.opJ, this.opD);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		Config.SIMULATION_MODE = this.simulationMode;
+		Config.QUERYTRACKER_LAZY_DEPLOYMENT = this.lazyDeployment;
+		Config.COMPILE_BROADCAST_JOIN = this.broadcastJoin;
+		Config.QUERYTRACKER_SCHEDULER = this.scheduler;
+		super.tearDown();
+	}
+
+	private void createPlan() {
+		try {
+			this.qPlan = new QueryTrackerPlan();
+			this.qPlan.assignTracker(new SimulatedComputeClient()
+					.createQueryTracker(NODE1, NODE2, NODE3));
+		} catch (Exception e) {
+			fail(e.toString());
+		}
+	}
+
+	/**
+	 * Creates plan where the output of P0 and P1 is read by the partitions
+	 * J0 and J1 of a join which also read O0 and O1
+	 */
+	private void createJoinPlan(long inputSize, boolean broadcast,
+			boolean keyPartitioned) {
+		this.createPlan();
+		this.opX = this.addOperator(1000);
+		this.opY = this.addOperator(1000, this.opX);
+		List<MySQLTrackerOperator> others = new ArrayList<MySQLTrackerOperator>();
+		this.producers = new ArrayList<MySQLTrackerOperator>();
+		for (int i = 0; i < 2; ++i) {
+			others.add(this.addOperator(1000000));
+			MySQLTrackerOperator producer = this.addOperator(inputSize / 2,
+					this.opY);
+			String partDDL = "PARTITION BY HASH(R_REGIONKEY) PARTITIONS 2";
+			JoinInputDesc joinInput = new JoinInputDesc("R", partDDL,
+					broadcast, keyPartitioned);
+			for (int j = 0; j < 2; ++j) {
+				joinInput.addView("R_P" + i + "_" + j, "<R_P" + i + "_" + j
+						+ "> AS SELECT * FROM <R> PARTITION(P" + j + ")");
+			}
+			producer.setJoinInput(joinInput);
+			producer.addOutTable("R", new StringTemplate(
+					"<R> (R_REGIONKEY INTEGER NOT NULL)"), partDDL);
+			producer.broadcastOutput(broadcast);
+			this.producers.add(producer);
+		}
+
+		this.joins = new ArrayList<MySQLTrackerOperator>();
+		for (int j = 0; j < 2; ++j) {
+			MySQLTrackerOperator join = this.addOperator(1000,
+					this.producers.get(0), this.producers.get(1),
+					others.get(j));
+			for (int i = 0; i < 2; ++i) {
+				TableDesc tableDesc = this.getInput(join, this.producers.get(i));
+				tableDesc.setPartTableName("R_P" + i + "_" + j);
+				join.readJoinInput(this.producers.get(i).getOperatorId(),
+						this.producers.get(i).getJoinInput());
+			}
+			this.joins.add(join);
+		}
+	}
+
+	private TableDesc getInput(MySQLTrackerOperator op,
+			MySQLTrackerOperator source) {
+		for (TableDesc tableDesc : op.getInTablesFederated()) {
+			if (source.getOperatorId().equals(tableDesc.getOperatorID()))
+				return tableDesc;
+		}
+		fail("No input of " + source.getOperatorId());
+		return null;
+	}
+
+	private MySQLTrackerOperator addOperator(long outputSize,
+			MySQLTrackerOperator... sources) {
+		final StringTemplate rDDL = new StringTemplate(
+				"<R> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL)");
+
+		final MySQLTrackerOperator op = new MySQLTrackerOperator();
+		op.addOutTable("R", rDDL);
+		op.setOutputSize(outputSize);
+		this.qPlan.addOperator(op);
+
+		// connect operators
+		final Set<Identifier> opSources = new HashSet<Identifier>();
+		StringBuffer dml = new StringBuffer("INSERT INTO <R> ");
+		for (MySQLTrackerOperator source : sources) {
+			String inTable = "IN" + opSources.size();
+			op.addInTable(inTable, rDDL);
+			op.addInTableFederated(inTable,
+					new TableDesc("R", source.getOperatorId()));
+			final Set<Identifier> sourceConsumers = new HashSet<Identifier>();
+			if (this.qPlan.getConsumers(source.getOperatorId()) != null)
+				sourceConsumers.addAll(this.qPlan.getConsumers(source
+						.getOperatorId()));
+			sourceConsumers.add(op.getOperatorId());
+			this.qPlan.setConsumers(source.getOperatorId(), sourceConsumers);
+			opSources.add(source.getOperatorId());
+			dml.append("<" + inTable + "> ");
+		}
+		this.qPlan.setSources(op.getOperatorId(), opSources);
+		op.addExecuteSQL(new StringTemplate(dml.toString()));
+		return op;
+	}
+
+	/**
+	 * Moves leave operator to given compute node
+	 */
+	private void place(MySQLTrackerOperator op, ComputeNodeDesc node) {
+		Identifier execOpId = this.qPlan.getCurrentDeployment()
+				.get(op.getOperatorId()).getOperatorID();
+		OperatorDesc opDesc = new OperatorDesc(execOpId, node);
+		opDesc.setOperatorStatus(EnumOperatorStatus.DEPLOYED);
+		this.qPlan.getCurrentDeployment().put(op.getOperatorId(), opDesc);
+	}
+
+	private void finish(MySQLTrackerOperator op, long outputSize) {
+		Identifier execOpId = this.qPlan.getCurrentDeployment()
+				.get(op.getOperatorId()).getOperatorID();
+		this.assertNoError(this.qPlan.operatorReady(new FinishedOperator(
+				execOpId, outputSize)));
+	}
+
+	private ComputeNodeDesc getComputeNode(MySQLTrackerOperator op) {
+		return this.qPlan.getCurrentDeployment().get(op.getOperatorId())
+				.getComputeNode();
+	}
+
+	/**
+	 * Deploys plan, runs leaves and lets A produce 1000 times more bytes
+	 * than estimated
+	 */
+	private void execute() {
+		this.assertNoError(this.qPlan.deployPlan());
+		this.place(this.opA, NODE1);
+		this.place(this.opB, NODE2);
+		this.place(this.opD, NODE3);
+		this.assertNoError(this.qPlan.startExecution());
+
+		this.finish(this.opA, 100000);
+		this.finish(this.opB, 1000);
+		this.finish(this.opC, 1000);
+	}
+
+	@Test
+	public void testAdaptPlan() throws Exception {
+		this.qPlan.setAdaptivePlanning(true);
+		this.execute();
+
+		// estimates of pending operators J and R were corrected
+		assertEquals(2, this.qPlan.getReplannedOperators());
+		assertTrue(this.opJ.getOutputSize() > this.opD.getOutputSize());
+
+		// J and R are placed next to the large output of A
+		assertTrue(NODE1.equalsWPort(this.getComputeNode(this.opJ)));
+		assertTrue(NODE1.equalsWPort(this.getComputeNode(this.opR)));
+		assertEquals(EnumOperatorStatus.DEPLOYED, this.qPlan
+				.getCurrentDeployment().get(this.opR.getOperatorId())
+				.getOperatorStatus());
+	}
+
+	/**
+	 * Runs leaves of join plan and lets X produce given number of bytes
+	 */
+	private void executeJoin(long outputSize) {
+		this.assertNoError(this.qPlan.deployPlan());
+		this.place(this.opX, NODE1);
+		this.assertNoError(this.qPlan.startExecution());
+		this.finish(this.opX, outputSize);
+	}
+
+	/**
+	 * Checks that producers are deployed with given strategy and that
+	 * partitions of join read their complete outputs or one part
+	 */
+	private void assertJoinInput(boolean broadcast) {
+		for (int i = 0; i < 2; ++i) {
+			MySQLTrackerOperator producer = this.producers.get(i);
+			assertEquals(broadcast, producer.getJoinInput().isBroadcast());
+			assertEquals(EnumOperatorStatus.DEPLOYED, this.qPlan
+					.getCurrentDeployment().get(producer.getOperatorId())
+					.getOperatorStatus());
+			String openSQL = producer.genDeployOperator(
+					new OperatorDesc(new Identifier(1), NODE1),
+					this.qPlan.getCurrentDeployment()).toString();
+			assertEquals(!broadcast, openSQL.contains("PARTITION BY HASH"));
+			assertEquals(!broadcast, openSQL.contains("PARTITION(P1)"));
+
+			for (int j = 0; j < 2; ++j) {
+				TableDesc tableDesc = this.getInput(this.joins.get(j), producer);
+				assertEquals(broadcast ? "R" : "R_P" + i + "_" + j,
+						tableDesc.getTableName());
+				assertEquals(broadcast ? 1 : 2, tableDesc.getSourceParts());
+			}
+		}
+	}
+
+	@Test
+	public void testBroadcastJoinInput() throws Exception {
+		// output of P is 1000 times smaller than estimated: broadcasting it
+		// is cheaper than re-partitioning both inputs of join
+		this.createJoinPlan(100000000, false, false);
+		this.qPlan.setAdaptivePlanning(true);
+		this.executeJoin(1);
+		assertEquals(1, this.qPlan.getSwitchedJoinInputs());
+		this.assertJoinInput(true);
+
+		// strategy is only switched if broadcast joins are enabled
+		Config.COMPILE_BROADCAST_JOIN = false;
+		this.createJoinPlan(100000000, false, false);
+		this.qPlan.setAdaptivePlanning(true);
+		this.executeJoin(1);
+		assertEquals(0, this.qPlan.getSwitchedJoinInputs());
+		this.assertJoinInput(false);
+	}
+
+	@Test
+	public void testRePartitionJoinInput() throws Exception {
+		// output of P is 1000 times larger than estimated: other input is
+		// partitioned by join key and P is re-partitioned instead
+		this.createJoinPlan(10000, true, true);
+		this.qPlan.setAdaptivePlanning(true);
+		this.executeJoin(1000000);
+		assertEquals(1, this.qPlan.getSwitchedJoinInputs());
+		this.assertJoinInput(false);
+
+		// other input is not partitioned by join key: P stays broadcast
+		this.createJoinPlan(10000, true, false);
+		this.qPlan.setAdaptivePlanning(true);
+		this.executeJoin(1000000);
+		assertEquals(0, this.qPlan.getSwitchedJoinInputs());
+		this.assertJoinInput(true);
+	}
+
+	@Test
+	public void testWithoutAdaptation() throws Exception {
+		this.qPlan.setAdaptivePlanning(false);
+		this.execute();
+
+		// J reads measured size of A but R uses the estimate of J
+		assertEquals(0, this.qPlan.getReplannedOperators());
+		assertEquals(500, this.opJ.getOutputSize());
+		assertTrue(NODE1.equalsWPort(this.getComputeNode(this.opJ)));
+		assertTrue(NODE3.equalsWPort(this.getComputeNode(this.opR)));
+	}
+}
@@ -0,0 +1,112 @@
+package org.xdb.test.tracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.AdmissionControl;
+import org.xdb.utils.Tuple;
+
+public class TestAdmissionControl extends TestCase {
+
+	private CompilePlan createPlan(String clientId) {
+		CompilePlan plan = new CompilePlan();
+		plan.setClientId(clientId);
+		return plan;
+	}
+
+	@Test
+	public void testConcurrencyLimit() throws Exception {
+		AdmissionControl admission = new AdmissionControl(1, 0, 100, "");
+
+		Tuple<Error, AdmissionControl.Ticket> first = admission
+				.admit(this.createPlan("a"));
+		this.assertNoError(first.getObject1());
+		assertEquals(1, admission.getRunningPlans());
+
+		// second plan is not admitted before timeout
+		Tuple<Error, AdmissionControl.Ticket> second = admission
+				.admit(this.createPlan("a"));
+		assertTrue(second.getObject1().isError());
+		assertEquals(1, admission.getRejectedPlans());
+		assertEquals(0, admission.getWaitingPlans());
+
+		// after release next plan is admitted immediately
+		admission.release(first.getObject2());
+		Tuple<Error, AdmissionControl.Ticket> third = admission
+				.admit(this.createPlan("a"));
+		this.assertNoError(third.getObject1());
+		assertEquals(2, admission.getAdmittedPlans());
+	}
+
+	@Test
+	public void testIdleClients() throws Exception {
+		AdmissionControl admission = new AdmissionControl(1, 0, 100, "");
+
+		// client state is kept while plans run
+		for (int i = 0; i < 10; ++i) {
+			Tuple<Error, AdmissionControl.Ticket> result = admission
+					.admit(this.createPlan("client" + i));
+			this.assertNoError(result.getObject1());
+			assertEquals(1, admission.getActiveClients());
+			admission.release(result.getObject2());
+		}
+		assertEquals(0, admission.getActiveClients());
+		assertEquals(0, admission.getRunningPlans("client0"));
+
+		// rejected plan does not leave state of its client behind
+		AdmissionControl.Ticket first = admission
+				.admit(this.createPlan("a")).getObject2();
+		assertTrue(admission.admit(this.createPlan("b")).getObject1()
+				.isError());
+		assertEquals(1, admission.getActiveClients());
+		admission.release(first);
+		assertEquals(0, admission.getActiveClients());
+	}
+
+	@Test
+	public void testWeightedFairSharing() throws Exception {
+		final AdmissionControl admission = new AdmissionControl(1, 0, 0,
+				"a:3,b:1");
+		final List<String> order = Collections
+				.synchronizedList(new ArrayList<String>());
+
+		// block admission until all plans are queued
+		AdmissionControl.Ticket blocker = admission.admit(
+				this.createPlan("a")).getObject2();
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; ++i) {
+			final String clientId = (i % 2 == 0) ? "a" : "b";
+			final CompilePlan plan = this.createPlan(clientId);
+			Thread thread = new Thread() {
+				@Override
+				public void run() {
+					AdmissionControl.Ticket ticket = admission.admit(plan)
+							.getObject2();
+					order.add(clientId);
+					admission.release(ticket);
+				}
+			};
+			threads.add(thread);
+			thread.start();
+			Thread.sleep(50);
+		}
+		assertEquals(8, admission.getWaitingPlans());
+
+		admission.release(blocker);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// client a gets three times the share of client b
+		assertEquals(8, order.size());
+		int aInFirstHalf = Collections.frequency(order.subList(0, 4), "a");
+		assertTrue(aInFirstHalf >= 3);
+		assertEquals(1, admission.getPeakRunningPlans());
+	}
+}
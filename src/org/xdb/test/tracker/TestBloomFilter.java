@@ -0,0 +1,234 @@
+package org.xdb.test.tracker;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.codegen.CodeGenerator;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.BloomFilterDesc;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.CreateFunctionStmt;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.TestCase;
+import org.xdb.test.XDBTestCase;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.utils.StringTemplate;
+
+public class TestBloomFilter extends XDBTestCase {
+	private static final double DELTA = 0.001;
+
+	// v1 and v2 are materialized: v1 is repartitioned for the join on B,
+	// v2 has two consumers once its renames are shared
+	private static final String FUNCTION_SQL = "CREATE FUNCTION f1(OUT o1 TABLE, OUT o2 TABLE) \n"
+			+ "BEGIN \n"
+			+ "VAR v1 = SELECT R1.B AS B1, R1.C AS C1 "
+			+ "FROM R AS R1, R AS R2 WHERE R1.A=R2.A; \n"
+			+ "VAR v2 = SELECT S1.B AS B2, S1.C AS C2 "
+			+ "FROM S AS S1, S AS S2 WHERE S1.A=S2.A; \n"
+			+ ":o1 = SELECT V1.C1 AS C1, V2.C2 AS C2 "
+			+ "FROM :v1 AS V1, :v2 AS V2 WHERE V1.B1=V2.B2; \n"
+			+ ":o2 = SELECT V2.C2 AS C2 FROM :v2 AS V2; \n" + "END; ";
+
+	private FunSQLCompiler compiler;
+	private boolean planCache;
+	private boolean simulation;
+	private boolean bloomFilter;
+	private double bloomFilterMaxRate;
+	private int broadcastMaxSize;
+	private boolean shareSubPlans;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.planCache = Config.COMPILE_PLAN_CACHE;
+		this.simulation = Config.SIMULATION_MODE;
+		this.bloomFilter = Config.COMPILE_BLOOM_FILTER;
+		this.bloomFilterMaxRate = Config.COMPILE_BLOOM_FILTER_MAX_RATE;
+		this.broadcastMaxSize = Config.COMPILE_BROADCAST_MAX_SIZE;
+		this.shareSubPlans = Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.get(4);
+		Config.COMPILE_PLAN_CACHE = false;
+		Config.SIMULATION_MODE = false;
+		Config.COMPILE_BLOOM_FILTER = true;
+		Config.COMPILE_BROADCAST_MAX_SIZE = 0;
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, true);
+
+		this.compiler = new FunSQLCompiler();
+		for (int i = 1; i <= 2; ++i) {
+			this.executeDDL("CREATE CONNECTION \"testConnection" + i + "\" "
+					+ "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB' ");
+		}
+		for (String table : new String[] { "R", "S" }) {
+			this.executeDDL("CREATE TABLE \"" + table
+					+ "\"( A INT, B INT, C INT ) PARTIONED BY HASH ( A ) ( "
+					+ "P0 IN CONNECTION \"testConnection1\", "
+					+ "P1 IN CONNECTION \"testConnection2\" )");
+		}
+
+		// few distinct keys of S match the keys of R
+		this.createStatistics("R", 1000000);
+		this.createStatistics("S", 1000);
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE = this.planCache;
+		Config.SIMULATION_MODE = this.simulation;
+		Config.COMPILE_BLOOM_FILTER = this.bloomFilter;
+		Config.COMPILE_BLOOM_FILTER_MAX_RATE = this.bloomFilterMaxRate;
+		Config.COMPILE_BROADCAST_MAX_SIZE = this.broadcastMaxSize;
+		Config.OPTIMIZER_ACTIVE_RULES_FUNCTION.set(4, this.shareSubPlans);
+		super.tearDown();
+	}
+
+	private void executeDDL(String sql) {
+		AbstractServerStmt stmt = this.compiler.compile(sql);
+		this.assertNoError(this.compiler.getLastError());
+		this.execute(stmt);
+	}
+
+	private void createStatistics(String tableName, long rows) {
+		Schema schema = Catalog.getSchema(Config.COMPILE_DEFAULT_SCHEMA);
+		Table table = Catalog.getTable(schema.getOid() + "." + tableName);
+		this.assertNoError(Catalog.createTableStatistics(new TableStatistics(
+				table.getOid(), TableStatistics.ALL_PARTITIONS, rows)));
+		this.assertNoError(Catalog
+				.createAttributeStatistics(new AttributeStatistics(table
+						.getAttribute("B").getOid(),
+						TableStatistics.ALL_PARTITIONS, rows, 0.0, "0", ""
+								+ rows, Arrays.asList("0", "" + rows))));
+	}
+
+	private CompilePlan compile() {
+		CreateFunctionStmt stmt = (CreateFunctionStmt) this.compiler
+				.compile(FUNCTION_SQL);
+		this.assertNoError(this.compiler.getLastError());
+		return stmt.getPlan();
+	}
+
+	private AbstractCompileOperator getFilteredOp(CompilePlan plan) {
+		AbstractCompileOperator filteredOp = null;
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getResult().getBloomFilter() == null)
+				continue;
+			TestCase.assertNull(filteredOp);
+			filteredOp = op;
+		}
+		return filteredOp;
+	}
+
+	@Test
+	public void testDecision() {
+		// larger input of join is filtered with keys of smaller input
+		CompilePlan plan = this.compile();
+		AbstractCompileOperator probeOp = this.getFilteredOp(plan);
+		TestCase.assertNotNull(probeOp);
+		BloomFilterDesc bloomFilter = probeOp.getResult().getBloomFilter();
+		AbstractCompileOperator buildOp = plan.getOperator(bloomFilter
+				.getBuildOpId());
+		TestCase.assertTrue(probeOp.getResult().materialize());
+		TestCase.assertTrue(buildOp.getResult().materialize());
+		TestCase.assertFalse(buildOp.isTable());
+		TestCase.assertEquals(Config.COMPILE_BLOOM_FILTER_BITS,
+				bloomFilter.getBits());
+
+		AbstractCompileOperator join = probeOp.getParents().get(0);
+		TestCase.assertEquals(EnumOperator.EQUI_JOIN, join.getType());
+		TestCase.assertTrue(join.findChild(buildOp) >= 0);
+
+		// estimate of probe result is reduced by rate of filter
+		double rate = bloomFilter.getEstimatedRate();
+		TestCase.assertTrue(rate > 0);
+		TestCase.assertTrue(rate <= Config.COMPILE_BLOOM_FILTER_MAX_RATE);
+		TestCase.assertEquals(bloomFilter.getEstimatedInputRows() * rate,
+				probeOp.getResult().getEstimatedRows(), DELTA);
+
+		// filter is not added if too many tuples pass it
+		Config.COMPILE_BLOOM_FILTER_MAX_RATE = rate / 2;
+		TestCase.assertNull(this.getFilteredOp(this.compile()));
+
+		// filters are disabled
+		Config.COMPILE_BLOOM_FILTER_MAX_RATE = this.bloomFilterMaxRate;
+		Config.COMPILE_BLOOM_FILTER = false;
+		TestCase.assertNull(this.getFilteredOp(this.compile()));
+	}
+
+	@Test
+	public void testCodeGeneration() {
+		CompilePlan plan = this.compile();
+		AbstractCompileOperator probeOp = this.getFilteredOp(plan);
+		TestCase.assertNotNull(probeOp);
+		ResultDesc probeResult = probeOp.getResult();
+		BloomFilterDesc bloomFilter = probeResult.getBloomFilter();
+		ResultDesc buildResult = plan.getOperator(bloomFilter.getBuildOpId())
+				.getResult();
+		String probeOpId = probeOp.getOperatorId().toString();
+		String buildOpId = bloomFilter.getBuildOpId().toString();
+
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+
+		// build operator hashes keys of its result into filter table
+		String buildDML = "INSERT INTO <" + buildOpId + "_BF_OUT> "
+				+ "(SELECT DISTINCT MOD(CRC32("
+				+ buildResult.getAttribute(bloomFilter.getBuildAttIdx())
+						.getName().toSqlString() + "), "
+				+ bloomFilter.getBits() + ") FROM <" + buildOpId + "_OUT>)";
+
+		// probe operator only keeps tuples whose keys hash into filter
+		String probeDML = "WHERE MOD(CRC32("
+				+ probeResult.getAttribute(bloomFilter.getProbeAttIdx())
+						.getName().toSqlString() + "), "
+				+ bloomFilter.getBits() + ") IN (SELECT BF_HASH FROM <"
+				+ buildOpId + "_BF>))";
+
+		int buildOps = 0;
+		int probeOps = 0;
+		for (AbstractTrackerOperator trackerOp : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			String compileOpId = trackerOp.getCompileOperatorId().toString();
+			StringBuffer executeSQL = new StringBuffer();
+			for (StringTemplate dml : ((MySQLTrackerOperator) trackerOp)
+					.getExecuteSQLs()) {
+				executeSQL.append(dml.toString());
+			}
+
+			if (compileOpId.equals(buildOpId)) {
+				TestCase.assertTrue(executeSQL.toString().endsWith(buildDML));
+				buildOps++;
+			} else if (compileOpId.equals(probeOpId)) {
+				TestCase.assertTrue(executeSQL.toString().endsWith(probeDML));
+				probeOps++;
+
+				// each partition reads filters of all build partitions
+				int filterInputs = 0;
+				for (TableDesc inTable : trackerOp.getInTablesFederated()) {
+					if (inTable.getTableName().equals(buildOpId + "_BF_OUT"))
+						filterInputs++;
+				}
+				TestCase.assertEquals(buildResult.getPartitionCount(),
+						filterInputs);
+				TestCase.assertEquals((long) (bloomFilter
+						.getEstimatedInputRows() / probeResult
+						.getActivePartitionCount()), trackerOp
+						.getFilterInputRows());
+			} else {
+				TestCase.assertFalse(executeSQL.toString().contains("CRC32"));
+				TestCase.assertEquals(-1, trackerOp.getFilterInputRows());
+			}
+		}
+		TestCase.assertEquals(buildResult.getPartitionCount(), buildOps);
+		TestCase.assertEquals(probeResult.getPartitionCount(), probeOps);
+	}
+}
@@ -0,0 +1,193 @@
+package org.xdb.test.tracker;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerNode;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.tracker.scheduler.EnumResourceScheduler;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.StringTemplate;
+
+/**
+ * Injects failures of compute nodes into a deployed plan and checks which
+ * operators are recomputed by the monitor of the query tracker plan
+ */
+public class TestLineageRecovery extends TestCase {
+	private static final ComputeNodeDesc NODE1 = new ComputeNodeDesc(
+			"127.0.0.1", 60001);
+	private static final ComputeNodeDesc NODE2 = new ComputeNodeDesc(
+			"127.0.0.1", 60002);
+	private static final ComputeNodeDesc NODE3 = new ComputeNodeDesc(
+			"127.0.0.1", 60003);
+
+	private boolean monitorActivated;
+	private boolean simulationMode;
+	private boolean lazyDeployment;
+	private EnumResourceScheduler scheduler;
+
+	private SimulatedComputeClient computeClient;
+	private QueryTrackerNode qTracker;
+	private QueryTrackerPlan qPlan;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.monitorActivated = Config.QUERYTRACKER_MONITOR_ACTIVATED;
+		this.simulationMode = Config.SIMULATION_MODE;
+		this.lazyDeployment = Config.QUERYTRACKER_LAZY_DEPLOYMENT;
+		this.scheduler = Config.QUERYTRACKER_SCHEDULER;
+
+		// scheduler which can place operators on all compute nodes
+		Config.QUERYTRACKER_MONITOR_ACTIVATED = true;
+		Config.SIMULATION_MODE = false;
+		Config.QUERYTRACKER_LAZY_DEPLOYMENT = false;
+		Config.QUERYTRACKER_SCHEDULER = EnumResourceScheduler.MAKESPAN_AWARE;
+
+		this.computeClient = new SimulatedComputeClient();
+		try {
+			this.qTracker = this.computeClient.createQueryTracker(NODE1,
+					NODE2, NODE3);
+		} catch (Exception e) {
+			fail(e.toString());
+		}
+		this.qPlan = new QueryTrackerPlan();
+		this.qPlan.assignTracker(this.qTracker);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		Config.QUERYTRACKER_MONITOR_ACTIVATED = this.monitorActivated;
+		Config.SIMULATION_MODE = this.simulationMode;
+		Config.QUERYTRACKER_LAZY_DEPLOYMENT = this.lazyDeployment;
+		Config.QUERYTRACKER_SCHEDULER = this.scheduler;
+		super.tearDown();
+	}
+
+	private MySQLTrackerOperator addOperator(MySQLTrackerOperator... sources) {
+		final StringTemplate rDDL = new StringTemplate(
+				"<R> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL)");
+
+		final MySQLTrackerOperator op = new MySQLTrackerOperator();
+		op.addOutTable("R", rDDL);
+		this.qPlan.addOperator(op);
+
+		// connect operators
+		final Set<Identifier> opSources = new HashSet<Identifier>();
+		StringBuffer dml = new StringBuffer("INSERT INTO <R> ");
+		for (MySQLTrackerOperator source : sources) {
+			String inTable = "IN" + opSources.size();
+			op.addInTable(inTable, rDDL);
+			op.addInTableFederated(inTable,
+					new TableDesc("R", source.getOperatorId()));
+			final Set<Identifier> sourceConsumers = new HashSet<Identifier>();
+			if (this.qPlan.getConsumers(source.getOperatorId()) != null)
+				sourceConsumers.addAll(this.qPlan.getConsumers(source
+						.getOperatorId()));
+			sourceConsumers.add(op.getOperatorId());
+			this.qPlan.setConsumers(source.getOperatorId(), sourceConsumers);
+			opSources.add(source.getOperatorId());
+			dml.append("<" + inTable + "> ");
+		}
+		this.qPlan.setSources(op.getOperatorId(), opSources);
+		op.addExecuteSQL(new StringTemplate(dml.toString()));
+		return op;
+	}
+
+	/**
+	 * Moves operator to given compute node and sets its status
+	 */
+	private OperatorDesc place(MySQLTrackerOperator op, ComputeNodeDesc node,
+			EnumOperatorStatus status) {
+		Identifier execOpId = this.qPlan.getCurrentDeployment()
+				.get(op.getOperatorId()).getOperatorID();
+		OperatorDesc opDesc = new OperatorDesc(execOpId, node);
+		opDesc.setOperatorStatus(status);
+		this.qPlan.getCurrentDeployment().put(op.getOperatorId(), opDesc);
+		return opDesc;
+	}
+
+	@Test
+	public void testRecomputeLostInput() throws Exception {
+		// D -> A -> C <- B
+		MySQLTrackerOperator opD = this.addOperator();
+		MySQLTrackerOperator opA = this.addOperator(opD);
+		MySQLTrackerOperator opB = this.addOperator();
+		MySQLTrackerOperator opC = this.addOperator(opA, opB);
+		this.assertNoError(this.qPlan.deployPlan());
+
+		// C fails on node 1 while reading A (node 1) and B (node 3)
+		OperatorDesc descD = this.place(opD, NODE2, EnumOperatorStatus.FINISHED);
+		OperatorDesc descA = this.place(opA, NODE1, EnumOperatorStatus.FINISHED);
+		OperatorDesc descB = this.place(opB, NODE3, EnumOperatorStatus.FINISHED);
+		this.place(opC, NODE1, EnumOperatorStatus.ABORTED);
+		this.computeClient.kill(NODE1);
+
+		this.qPlan.monitorExecution();
+		assertFalse(this.qPlan.isDone());
+
+		// only lost output of A is recomputed
+		assertEquals(1, this.qPlan.getRecomputedOperators());
+		Map<Identifier, OperatorDesc> deployment = this.qPlan
+				.getCurrentDeployment();
+		assertSame(descD, deployment.get(opD.getOperatorId()));
+		assertSame(descB, deployment.get(opB.getOperatorId()));
+		assertEquals(EnumOperatorStatus.FINISHED, descD.getOperatorStatus());
+		assertEquals(EnumOperatorStatus.FINISHED, descB.getOperatorStatus());
+
+		OperatorDesc newA = deployment.get(opA.getOperatorId());
+		OperatorDesc newC = deployment.get(opC.getOperatorId());
+		assertNotSame(descA, newA);
+		assertEquals(EnumOperatorStatus.DEPLOYED, newA.getOperatorStatus());
+		assertEquals(EnumOperatorStatus.DEPLOYED, newC.getOperatorStatus());
+		assertFalse(NODE1.equalsWPort(newA.getComputeNode()));
+		assertFalse(NODE1.equalsWPort(newC.getComputeNode()));
+
+		// surviving outputs are read by re-deployed consumers
+		List<String> signals = this.computeClient.getReadySignals();
+		assertTrue(signals.contains(descD.getOperatorID() + "->"
+				+ newA.getOperatorID()));
+		assertTrue(signals.contains(descB.getOperatorID() + "->"
+				+ newC.getOperatorID()));
+	}
+
+	@Test
+	public void testKeepUnusedLostOutput() throws Exception {
+		// D -> A -> C
+		MySQLTrackerOperator opD = this.addOperator();
+		MySQLTrackerOperator opA = this.addOperator(opD);
+		MySQLTrackerOperator opC = this.addOperator(opA);
+		this.assertNoError(this.qPlan.deployPlan());
+
+		// output of D is lost but A already survived on node 2
+		OperatorDesc descD = this.place(opD, NODE1, EnumOperatorStatus.FINISHED);
+		OperatorDesc descA = this.place(opA, NODE2, EnumOperatorStatus.FINISHED);
+		this.place(opC, NODE1, EnumOperatorStatus.ABORTED);
+		this.computeClient.kill(NODE1);
+
+		this.qPlan.monitorExecution();
+		assertFalse(this.qPlan.isDone());
+
+		// only failed operator is re-run
+		assertEquals(0, this.qPlan.getRecomputedOperators());
+		Map<Identifier, OperatorDesc> deployment = this.qPlan
+				.getCurrentDeployment();
+		assertSame(descD, deployment.get(opD.getOperatorId()));
+		assertSame(descA, deployment.get(opA.getOperatorId()));
+		assertEquals(EnumOperatorStatus.DEPLOYED,
+				deployment.get(opC.getOperatorId()).getOperatorStatus());
+		assertTrue(this.computeClient.getReadySignals().contains(
+				descA.getOperatorID() + "->"
+						+ deployment.get(opC.getOperatorId()).getOperatorID()));
+	}
+}
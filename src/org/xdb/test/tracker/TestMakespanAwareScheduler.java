@@ -0,0 +1,127 @@
+package org.xdb.test.tracker;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.tracker.scheduler.MakespanAwareScheduler;
+import org.xdb.utils.Identifier;
+
+public class TestMakespanAwareScheduler extends TestCase {
+	private static final ComputeNodeDesc NODE1 = new ComputeNodeDesc(
+			"10.0.0.1", 55500);
+	private static final ComputeNodeDesc NODE2 = new ComputeNodeDesc(
+			"10.0.0.2", 55500);
+	private static final double DELTA = 0.001;
+
+	private QueryTrackerPlan plan;
+	private boolean simulationMode;
+	private int bandwidth;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.plan = new QueryTrackerPlan();
+		this.simulationMode = Config.SIMULATION_MODE;
+		this.bandwidth = Config.QUERYTRACKER_NETWORK_BANDWIDTH;
+
+		// 1000 bytes take 1 s
+		Config.SIMULATION_MODE = false;
+		Config.QUERYTRACKER_NETWORK_BANDWIDTH = 1000;
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		Config.SIMULATION_MODE = this.simulationMode;
+		Config.QUERYTRACKER_NETWORK_BANDWIDTH = this.bandwidth;
+		super.tearDown();
+	}
+
+	private MySQLTrackerOperator addSource(double runtime, long outputSize) {
+		MySQLTrackerOperator op = new MySQLTrackerOperator();
+		op.setRunime(runtime);
+		op.setOutputSize(outputSize);
+		this.plan.addOperator(op);
+		return op;
+	}
+
+	private MySQLTrackerOperator addConsumer(double runtime,
+			MySQLTrackerOperator... sources) {
+		MySQLTrackerOperator op = new MySQLTrackerOperator();
+		op.setRunime(runtime);
+		this.plan.addOperator(op);
+
+		Set<Identifier> sourceIds = new HashSet<Identifier>();
+		for (MySQLTrackerOperator source : sources) {
+			TableDesc table = new TableDesc(source.getOperatorId() + "_OUT",
+					source.getOperatorId());
+			op.addInTableFederated(source.getOperatorId() + "_IN", table);
+			this.plan.addConsumer(source.getOperatorId(), op.getOperatorId());
+			sourceIds.add(source.getOperatorId());
+		}
+		this.plan.setSources(op.getOperatorId(), sourceIds);
+		return op;
+	}
+
+	private MakespanAwareScheduler schedule() {
+		Map<String, ComputeNodeDesc> nodes = new HashMap<String, ComputeNodeDesc>();
+		nodes.put(NODE1.getUrl(), NODE1);
+		nodes.put(NODE2.getUrl(), NODE2);
+
+		MakespanAwareScheduler scheduler = new MakespanAwareScheduler(
+				this.plan);
+		scheduler.assignComputeNodes(nodes);
+		return scheduler;
+	}
+
+	@Test
+	public void testParallelSources() {
+		MySQLTrackerOperator scan1 = this.addSource(10.0, 1000);
+		MySQLTrackerOperator scan2 = this.addSource(10.0, 1000);
+		MySQLTrackerOperator join = this.addConsumer(1.0, scan1, scan2);
+
+		// independent sources run in parallel on different nodes
+		MakespanAwareScheduler scheduler = this.schedule();
+		assertFalse(scheduler.getComputeNode(scan1.getOperatorId())
+				.equalsWPort(scheduler.getComputeNode(scan2.getOperatorId())));
+
+		// 10 s for sources, 1 s to transfer remote input, 1 s for join
+		assertEquals(12.0, scheduler.getEstimatedMakespan(), DELTA);
+		assertEquals(scheduler.getEstimatedMakespan(),
+				scheduler.estimateMakespan(scheduler.getPlacement()), DELTA);
+
+		// sources on the same node run one after the other
+		Map<Identifier, ComputeNodeDesc> placement = new HashMap<Identifier, ComputeNodeDesc>();
+		placement.put(scan1.getOperatorId(), NODE1);
+		placement.put(scan2.getOperatorId(), NODE1);
+		placement.put(join.getOperatorId(), NODE1);
+		assertEquals(21.0, scheduler.estimateMakespan(placement), DELTA);
+	}
+
+	@Test
+	public void testTransferDominates() {
+		MySQLTrackerOperator scan1 = this.addSource(10.0, 100000);
+		MySQLTrackerOperator scan2 = this.addSource(10.0, 1000);
+		MySQLTrackerOperator join = this.addConsumer(1.0, scan1, scan2);
+
+		// join is placed with its large input
+		MakespanAwareScheduler scheduler = this.schedule();
+		assertTrue(scheduler.getComputeNode(scan1.getOperatorId())
+				.equalsWPort(scheduler.getComputeNode(join.getOperatorId())));
+		assertEquals(12.0, scheduler.getEstimatedMakespan(), DELTA);
+
+		// alternative nodes are ordered by estimated finish time
+		assertEquals(2, scheduler.getNumberOfConnections(join.getOperatorId()));
+		assertTrue(scheduler.getComputeNode(scan2.getOperatorId())
+				.equalsWPort(
+						scheduler.getComputeNode(join.getOperatorId(), 1)));
+	}
+}
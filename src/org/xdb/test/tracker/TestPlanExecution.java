@@ -0,0 +1,98 @@
+package org.xdb.test.tracker;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.EnumPlanEvent;
+import org.xdb.tracker.EnumPlanExecutionState;
+import org.xdb.tracker.PlanExecution;
+import org.xdb.tracker.QueryTrackerNode;
+import org.xdb.tracker.QueryTrackerPlan;
+
+public class TestPlanExecution extends TestCase {
+	private int executorThreads;
+	private QueryTrackerNode tracker;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.executorThreads = Config.QUERYTRACKER_EXECUTOR_THREADS;
+
+		// all events are handled by one thread
+		Config.QUERYTRACKER_EXECUTOR_THREADS = 1;
+		try {
+			this.tracker = new QueryTrackerNode("127.0.0.1");
+		} catch (Exception e) {
+			fail(e.toString());
+		}
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		Config.QUERYTRACKER_EXECUTOR_THREADS = this.executorThreads;
+		super.tearDown();
+	}
+
+	private QueryTrackerPlan createPlan() {
+		QueryTrackerPlan plan = new QueryTrackerPlan();
+		plan.assignTracker(this.tracker);
+		return plan;
+	}
+
+	@Test
+	public void testCompletion() throws Exception {
+		PlanExecution execution = new PlanExecution(this.tracker,
+				this.createPlan(), false);
+		final CountDownLatch callback = new CountDownLatch(1);
+		execution.onCompletion(new Runnable() {
+			@Override
+			public void run() {
+				callback.countDown();
+			}
+		});
+
+		execution.post(EnumPlanEvent.START);
+		this.assertNoError(execution.waitForCompletion());
+		assertEquals(EnumPlanExecutionState.FINISHED, execution.getState());
+		assertTrue(callback.await(10, TimeUnit.SECONDS));
+		assertEquals(0, this.tracker.getRunningExecutions());
+	}
+
+	@Test
+	public void testBlockingStart() throws Exception {
+		// start signals of first plan block until released
+		final CountDownLatch release = new CountDownLatch(1);
+		QueryTrackerPlan blockedPlan = new QueryTrackerPlan() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Error startExecution() {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// continue
+				}
+				return super.startExecution();
+			}
+		};
+		blockedPlan.assignTracker(this.tracker);
+		PlanExecution blocked = new PlanExecution(this.tracker, blockedPlan,
+				false);
+		blocked.post(EnumPlanEvent.START);
+
+		// other plans are executed meanwhile by the same executor thread
+		PlanExecution execution = new PlanExecution(this.tracker,
+				this.createPlan(), false);
+		execution.post(EnumPlanEvent.START);
+		this.assertNoError(execution.waitForCompletion());
+		assertEquals(EnumPlanExecutionState.STARTING, blocked.getState());
+
+		release.countDown();
+		this.assertNoError(blocked.waitForCompletion());
+		assertEquals(EnumPlanExecutionState.FINISHED, blocked.getState());
+	}
+}
@@ -1,13 +1,20 @@
 package org.xdb.test.tracker;
 
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.test.XDBTestCase;
+import org.xdb.tracker.EnumPlanEvent;
+import org.xdb.tracker.EnumPlanExecutionState;
+import org.xdb.tracker.PlanExecution;
 import org.xdb.tracker.QueryTrackerNode;
 import org.xdb.tracker.QueryTrackerPlan;
 import org.xdb.tracker.operator.MySQLTrackerOperator;
@@ -71,6 +78,43 @@ public class TestQueryTracker extends XDBTestCase {
 	}
 
 	
+	@Test
+	public void testConcurrentPlans() throws Exception {
+		final QueryTrackerNode qTracker = this.qTrackerServer.getNode();
+		final List<PlanExecution> executions = new ArrayList<PlanExecution>();
+
+		// deploy plans and start all of them without waiting
+		for (int i = 0; i < 5; ++i) {
+			final QueryTrackerPlan qPlan = new QueryTrackerPlan();
+			qPlan.assignTracker(qTracker);
+
+			final MySQLTrackerOperator op1 = new MySQLTrackerOperator();
+			final StringTemplate r1DDL = new StringTemplate(
+					"<R1> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+			op1.addOutTable("R1", r1DDL);
+			final StringTemplate q1DML = new StringTemplate(
+					"INSERT INTO <R1> SELECT * FROM tpch_s01.REGION ");
+			op1.addExecuteSQL(q1DML);
+			qPlan.addOperator(op1);
+
+			org.xdb.error.Error err = qPlan.deployPlan();
+			if (err.isError())
+				qPlan.cleanPlan();
+			this.assertNoError(err);
+
+			PlanExecution execution = new PlanExecution(qTracker, qPlan, true);
+			execution.post(EnumPlanEvent.START);
+			executions.add(execution);
+		}
+
+		// wait for all plans
+		for (PlanExecution execution : executions) {
+			this.assertNoError(execution.waitForCompletion());
+			assertEquals(EnumPlanExecutionState.FINISHED, execution.getState());
+		}
+		assertEquals(0, qTracker.getRunningExecutions());
+	}
+	
 	@Test
 	public void testPlan2Ops() throws Exception {
 		final QueryTrackerNode qTracker = this.qTrackerServer.getNode();
@@ -144,4 +188,167 @@ public class TestQueryTracker extends XDBTestCase {
 		assertEquals(5, actualCnt); 
 	}
 
+
+	@Test
+	public void testPlan2OpsLazyDeployment() throws Exception {
+		final QueryTrackerNode qTracker = this.qTrackerServer.getNode();
+		final QueryTrackerPlan qPlan = new QueryTrackerPlan();
+		qPlan.assignTracker(qTracker);
+		qPlan.setLazyDeployment(true);
+
+		final MySQLTrackerOperator op1 = new MySQLTrackerOperator();
+		final MySQLTrackerOperator op2 = new MySQLTrackerOperator();
+
+		// op1
+		final StringTemplate r1DDL = new StringTemplate(
+				"<R1> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate q1DML = new StringTemplate(
+				"INSERT INTO <R1> SELECT * FROM tpch_s01.REGION ");
+
+		op1.addExecuteSQL(q1DML);
+		op1.addOutTable("R1", r1DDL);
+		qPlan.addOperator(op1);
+
+		// op2
+		final StringTemplate r2DDL = new StringTemplate(
+				"<R2> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate r3DDL = new StringTemplate(
+				"<R3> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate q2DML = new StringTemplate(
+				"INSERT INTO <R3> <R2> ");
+
+		op2.addExecuteSQL(q2DML);
+		op2.addInTable("R2", r2DDL);
+		op2.addOutTable("R3", r3DDL);
+		qPlan.addOperator(op2);
+
+		// connect operators
+		final Set<Identifier> op1Consumer = new HashSet<Identifier>();
+		op1Consumer.add(op2.getOperatorId());
+		qPlan.setConsumers(op1.getOperatorId(), op1Consumer);
+
+		final Set<Identifier> op2Sources = new HashSet<Identifier>();
+		op2Sources.add(op1.getOperatorId());
+		qPlan.setSources(op2.getOperatorId(), op2Sources);
+		op2.addInTableFederated("R2", new TableDesc("R1", op1.getOperatorId()));
+
+		// deploy plan: only leave is opened
+		org.xdb.error.Error err = qPlan.deployPlan();
+		if (err.isError())
+			qPlan.cleanPlan();
+		this.assertNoError(err);
+
+		final Map<Identifier, OperatorDesc> currentDeployment = qPlan.getCurrentDeployment();
+		assertEquals(EnumOperatorStatus.DEPLOYED,
+				currentDeployment.get(op1.getOperatorId()).getOperatorStatus());
+		assertEquals(EnumOperatorStatus.INIT,
+				currentDeployment.get(op2.getOperatorId()).getOperatorStatus());
+
+		// execute plan
+		err = qPlan.executePlan();
+		if (err.isError())
+			qPlan.cleanPlan();
+		this.assertNoError(err);
+
+		// read result
+		Identifier deployOp2Id = currentDeployment.get(op2.getOperatorId()).getOperatorID();
+		final ResultSet rs = this.executeComputeQuery("SELECT COUNT(*) FROM "+deployOp2Id+"_R3");
+		int actualCnt = 0;
+		if (rs.next()) {
+			actualCnt = rs.getInt(1);
+		}
+
+		// clean plan
+		this.assertNoError(qPlan.cleanPlan());
+
+		// verify results
+		assertEquals(5, actualCnt);
+	}
+
+	@Test
+	public void testPlan2OpsSpeculation() throws Exception {
+		final QueryTrackerNode qTracker = this.qTrackerServer.getNode();
+		final QueryTrackerPlan qPlan = new QueryTrackerPlan();
+		qPlan.assignTracker(qTracker);
+		qPlan.setSpeculationActivated(true);
+		qPlan.setMonitoringInterval(100);
+
+		final MySQLTrackerOperator op1 = new MySQLTrackerOperator();
+		final MySQLTrackerOperator op2 = new MySQLTrackerOperator();
+
+		// op1: straggler which runs much longer than its estimate
+		final StringTemplate r1DDL = new StringTemplate(
+				"<R1> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate q1DML = new StringTemplate(
+				"INSERT INTO <R1> SELECT * FROM tpch_s01.REGION WHERE SLEEP(0.2)=0 ");
+
+		op1.addExecuteSQL(q1DML);
+		op1.addOutTable("R1", r1DDL);
+		op1.setRunime(0.1);
+		qPlan.addOperator(op1);
+
+		// op2
+		final StringTemplate r2DDL = new StringTemplate(
+				"<R2> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate r3DDL = new StringTemplate(
+				"<R3> (R_REGIONKEY INTEGER NOT NULL, R_NAME CHAR(25) NOT NULL, R_COMMENT VARCHAR(152))");
+
+		final StringTemplate q2DML = new StringTemplate(
+				"INSERT INTO <R3> <R2> ");
+
+		op2.addExecuteSQL(q2DML);
+		op2.addInTable("R2", r2DDL);
+		op2.addOutTable("R3", r3DDL);
+		qPlan.addOperator(op2);
+
+		// connect operators
+		final Set<Identifier> op1Consumer = new HashSet<Identifier>();
+		op1Consumer.add(op2.getOperatorId());
+		qPlan.setConsumers(op1.getOperatorId(), op1Consumer);
+
+		final Set<Identifier> op2Sources = new HashSet<Identifier>();
+		op2Sources.add(op1.getOperatorId());
+		qPlan.setSources(op2.getOperatorId(), op2Sources);
+		op2.addInTableFederated("R2", new TableDesc("R1", op1.getOperatorId()));
+
+		// deploy and execute plan: consumer must read result of the winner
+		int minTime = Config.QUERYTRACKER_SPECULATION_MIN_TIME;
+		Config.QUERYTRACKER_SPECULATION_MIN_TIME = 0;
+		org.xdb.error.Error err;
+		try {
+			err = qPlan.deployPlan();
+			if (err.isError())
+				qPlan.cleanPlan();
+			this.assertNoError(err);
+
+			err = qPlan.executePlan();
+			if (err.isError())
+				qPlan.cleanPlan();
+			this.assertNoError(err);
+		} finally {
+			Config.QUERYTRACKER_SPECULATION_MIN_TIME = minTime;
+		}
+
+		// read result
+		final Map<Identifier, OperatorDesc> currentDeployment = qPlan.getCurrentDeployment();
+		Identifier deployOp2Id = currentDeployment.get(op2.getOperatorId()).getOperatorID();
+		final ResultSet rs = this.executeComputeQuery("SELECT COUNT(*) FROM "+deployOp2Id+"_R3");
+		int actualCnt = 0;
+		if (rs.next()) {
+			actualCnt = rs.getInt(1);
+		}
+
+		// clean plan
+		this.assertNoError(qPlan.cleanPlan());
+
+		// verify results
+		assertEquals(5, actualCnt);
+		assertTrue(qPlan.getSpeculationWins() <= qPlan.getSpeculativeLaunches());
+	}
+
 }
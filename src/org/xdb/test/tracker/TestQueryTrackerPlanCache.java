@@ -0,0 +1,102 @@
+package org.xdb.test.tracker;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.QueryTrackerPlanCache;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.utils.Identifier;
+
+public class TestQueryTrackerPlanCache extends TestCase {
+
+	private CompilePlan createCompilePlan(String fingerprint, long version) {
+		CompilePlan cplan = new CompilePlan();
+		cplan.setFingerprint(fingerprint, version);
+		return cplan;
+	}
+
+	/**
+	 * Creates plan: op1 -> op2
+	 */
+	private QueryTrackerPlan createPlan() {
+		QueryTrackerPlan qplan = new QueryTrackerPlan();
+		MySQLTrackerOperator op1 = new MySQLTrackerOperator();
+		MySQLTrackerOperator op2 = new MySQLTrackerOperator();
+		qplan.addOperator(op1);
+		qplan.addOperator(op2);
+		op2.addInTableFederated("IN1", new TableDesc("OUT1",
+				op1.getOperatorId()));
+
+		Set<Identifier> sources = new HashSet<Identifier>();
+		sources.add(op1.getOperatorId());
+		qplan.setSources(op2.getOperatorId(), sources);
+		Set<Identifier> consumers = new HashSet<Identifier>();
+		consumers.add(op2.getOperatorId());
+		qplan.setConsumers(op1.getOperatorId(), consumers);
+		return qplan;
+	}
+
+	@Test
+	public void testInstantiate() throws Exception {
+		QueryTrackerPlanCache cache = new QueryTrackerPlanCache(10);
+		QueryTrackerPlan template = this.createPlan();
+
+		// first execution misses
+		assertNull(cache.instantiate(this.createCompilePlan("Q1", 1)));
+		cache.put(this.createCompilePlan("Q1", 1), template, 50);
+		assertEquals(1, cache.getMisses());
+
+		// second execution gets copy with fresh IDs
+		QueryTrackerPlan qplan = cache.instantiate(this.createCompilePlan(
+				"Q1", 1));
+		assertNotNull(qplan);
+		assertFalse(template.getPlanId().equals(qplan.getPlanId()));
+		assertEquals(2, qplan.getTrackerOperatorIds().size());
+		assertEquals(1, cache.getHits());
+		assertEquals(50, cache.getSavedTime());
+
+		Identifier op1Id = qplan.getTrackerOperatorIds().get(0);
+		Identifier op2Id = qplan.getTrackerOperatorIds().get(1);
+		assertTrue(qplan.getSources(op2Id).contains(op1Id));
+		assertTrue(qplan.getConsumers(op1Id).contains(op2Id));
+		assertTrue(qplan.getLeaves().contains(op1Id));
+		assertTrue(qplan.getRoots().contains(op2Id));
+
+		AbstractTrackerOperator op2 = qplan.getTrackerOperator(op2Id);
+		TableDesc input = op2.getInTablesFederated().iterator().next();
+		assertEquals(op1Id, input.getOperatorID());
+
+		// template is not changed by copies
+		AbstractTrackerOperator templateOp2 = template
+				.getTrackerOperator(template.getTrackerOperatorIds().get(1));
+		assertEquals(template.getTrackerOperatorIds().get(0), templateOp2
+				.getInTablesFederated().iterator().next().getOperatorID());
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		QueryTrackerPlanCache cache = new QueryTrackerPlanCache(1);
+		cache.put(this.createCompilePlan("Q1", 1), this.createPlan(), 10);
+
+		// plans without fingerprint are not cached
+		assertNull(cache.instantiate(this.createCompilePlan(null, 1)));
+
+		// catalog changed
+		assertNull(cache.instantiate(this.createCompilePlan("Q1", 2)));
+		assertEquals(1, cache.getInvalidations());
+		assertEquals(0, cache.size());
+
+		// least recently used template is evicted
+		cache.put(this.createCompilePlan("Q1", 2), this.createPlan(), 10);
+		cache.put(this.createCompilePlan("Q2", 2), this.createPlan(), 10);
+		assertEquals(1, cache.size());
+		assertNull(cache.instantiate(this.createCompilePlan("Q1", 2)));
+		assertNotNull(cache.instantiate(this.createCompilePlan("Q2", 2)));
+	}
+}
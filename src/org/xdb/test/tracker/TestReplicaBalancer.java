@@ -0,0 +1,59 @@
+package org.xdb.test.tracker;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.ReplicaBalancer;
+import org.xdb.utils.Identifier;
+
+public class TestReplicaBalancer extends TestCase {
+
+	private List<URI> createReplicas() throws Exception {
+		List<URI> replicas = new ArrayList<URI>();
+		replicas.add(new URI("mysql://10.0.0.1/tpch_s01"));
+		replicas.add(new URI("mysql://10.0.0.2/tpch_s01"));
+		replicas.add(new URI("mysql://10.0.0.3/tpch_s01"));
+		return replicas;
+	}
+
+	@Test
+	public void testLeastLoaded() throws Exception {
+		ReplicaBalancer balancer = new ReplicaBalancer();
+		List<URI> replicas = this.createReplicas();
+
+		// reads are spread over all replicas
+		for (int i = 0; i < 3; ++i) {
+			List<URI> ranked = balancer.rankReplicas(replicas, "10.0.0.9");
+			assertEquals(replicas.get(i), ranked.get(0));
+			balancer.acquire(new Identifier("1_1_" + i), ranked.get(0)
+					.getHost());
+		}
+		assertEquals(1, balancer.getLoad("10.0.0.1"));
+		assertEquals(1, balancer.getLoad("10.0.0.2"));
+		assertEquals(1, balancer.getLoad("10.0.0.3"));
+
+		// released replica is preferred again
+		balancer.release(new Identifier("1_1_1"));
+		assertEquals(0, balancer.getLoad("10.0.0.2"));
+		assertEquals(replicas.get(1),
+				balancer.rankReplicas(replicas, "10.0.0.9").get(0));
+	}
+
+	@Test
+	public void testLocalReplica() throws Exception {
+		ReplicaBalancer balancer = new ReplicaBalancer();
+		List<URI> replicas = this.createReplicas();
+
+		balancer.acquire(new Identifier("1_1_1"), "10.0.0.3");
+		balancer.acquire(new Identifier("1_1_2"), "10.0.0.3");
+
+		// local replica is read even if it has a higher load
+		List<URI> ranked = balancer.rankReplicas(replicas, "10.0.0.3");
+		assertEquals(replicas.get(2), ranked.get(0));
+		assertEquals(replicas.get(0), ranked.get(1));
+		assertEquals(replicas.get(1), ranked.get(2));
+	}
+}
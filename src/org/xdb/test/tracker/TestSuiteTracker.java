@@ -12,6 +12,15 @@ public class TestSuiteTracker extends TestSuite
     suite.addTestSuite( TestPlanTranslation.class );
     suite.addTestSuite( TestSQLPlanTranslation.class );
     suite.addTestSuite( TestDistributed2ComputeNodes.class );
+    suite.addTestSuite( TestReplicaBalancer.class );
+    suite.addTestSuite( TestAdmissionControl.class );
+    suite.addTestSuite( TestQueryTrackerPlanCache.class );
+    suite.addTestSuite( TestTransferAwareScheduler.class );
+    suite.addTestSuite( TestMakespanAwareScheduler.class );
+    suite.addTestSuite( TestPlanExecution.class );
+    suite.addTestSuite( TestLineageRecovery.class );
+    suite.addTestSuite( TestAdaptivePlanning.class );
+    suite.addTestSuite( TestBloomFilter.class );
     return suite;
   }
 }
\ No newline at end of file
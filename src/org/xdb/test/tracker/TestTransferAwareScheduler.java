@@ -0,0 +1,131 @@
+package org.xdb.test.tracker;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.tracker.scheduler.TransferAwareScheduler;
+
+public class TestTransferAwareScheduler extends TestCase {
+	private static final ComputeNodeDesc NODE1 = new ComputeNodeDesc(
+			"10.0.0.1", 55500);
+	private static final ComputeNodeDesc NODE2 = new ComputeNodeDesc(
+			"10.0.0.2", 55500);
+
+	private QueryTrackerPlan plan;
+	private int capacity;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.plan = new QueryTrackerPlan();
+		this.capacity = Config.QUERYTRACKER_NODE_CAPACITY;
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		Config.QUERYTRACKER_NODE_CAPACITY = this.capacity;
+		super.tearDown();
+	}
+
+	private MySQLTrackerOperator addScan(String host, long size)
+			throws Exception {
+		List<URI> uris = new ArrayList<URI>();
+		uris.add(new URI("mysql://" + host + "/tpch_s01"));
+		TableDesc table = new TableDesc("LINEITEM", uris);
+		table.setSize(size);
+
+		MySQLTrackerOperator op = new MySQLTrackerOperator();
+		op.addInTableFederated("LINEITEM", table);
+		this.plan.addOperator(op);
+		return op;
+	}
+
+	private MySQLTrackerOperator addConsumer(int sourceParts,
+			MySQLTrackerOperator... sources) {
+		MySQLTrackerOperator op = new MySQLTrackerOperator();
+		this.plan.addOperator(op);
+		for (MySQLTrackerOperator source : sources) {
+			TableDesc table = new TableDesc(source.getOperatorId() + "_OUT",
+					source.getOperatorId());
+			table.setSourceParts(sourceParts);
+			op.addInTableFederated(source.getOperatorId() + "_IN", table);
+			this.plan.addConsumer(source.getOperatorId(), op.getOperatorId());
+		}
+		return op;
+	}
+
+	private TransferAwareScheduler schedule() {
+		Map<String, ComputeNodeDesc> nodes = new HashMap<String, ComputeNodeDesc>();
+		nodes.put(NODE1.getUrl(), NODE1);
+		nodes.put(NODE2.getUrl(), NODE2);
+
+		TransferAwareScheduler scheduler = new TransferAwareScheduler(
+				this.plan);
+		scheduler.assignComputeNodes(nodes);
+		return scheduler;
+	}
+
+	@Test
+	public void testDerivedSizes() throws Exception {
+		// sources without size estimate return as many bytes as they read
+		MySQLTrackerOperator scan1 = this.addScan(NODE1.getUrl(), 1000);
+		MySQLTrackerOperator scan2 = this.addScan(NODE2.getUrl(), 10);
+		MySQLTrackerOperator join = this.addConsumer(1, scan1, scan2);
+
+		TransferAwareScheduler scheduler = this.schedule();
+		assertTrue(NODE1.equalsWPort(scheduler.getComputeNode(scan1
+				.getOperatorId())));
+		assertTrue(NODE2.equalsWPort(scheduler.getComputeNode(scan2
+				.getOperatorId())));
+
+		// join moves the smaller input
+		assertTrue(NODE1.equalsWPort(scheduler.getComputeNode(join
+				.getOperatorId())));
+		assertEquals(10, scheduler.getPlannedBytes());
+	}
+
+	@Test
+	public void testBroadcastInput() throws Exception {
+		MySQLTrackerOperator scan = this.addScan(NODE1.getUrl(), 1000);
+		scan.setOutputSize(800);
+
+		// each consumer reads complete output of broadcast source
+		this.addConsumer(1, scan);
+		this.addConsumer(1, scan);
+		Config.QUERYTRACKER_NODE_CAPACITY = 2;
+		TransferAwareScheduler scheduler = this.schedule();
+		assertEquals(800, scheduler.getPlannedBytes());
+
+		// repartitioned output is split among consumers
+		this.plan = new QueryTrackerPlan();
+		scan = this.addScan(NODE1.getUrl(), 1000);
+		scan.setOutputSize(800);
+		this.addConsumer(2, scan);
+		this.addConsumer(2, scan);
+		scheduler = this.schedule();
+		assertEquals(400, scheduler.getPlannedBytes());
+	}
+
+	@Test
+	public void testCapacity() throws Exception {
+		Config.QUERYTRACKER_NODE_CAPACITY = 1;
+		this.addScan(NODE1.getUrl(), 1000);
+		this.addScan(NODE1.getUrl(), 1000);
+		this.addScan(NODE1.getUrl(), 1000);
+
+		// third operator exceeds capacity of both nodes
+		TransferAwareScheduler scheduler = this.schedule();
+		assertEquals(1, scheduler.getOverloadedOps());
+		assertEquals(1000, scheduler.getPlannedBytes());
+	}
+}
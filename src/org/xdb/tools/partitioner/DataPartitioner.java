@@ -192,7 +192,7 @@ public class DataPartitioner {
 			else 
 				hash = Utils.calculateHash(line, partitionIndices);
 
-			partitionNumber = (hash % numberOfPartitions + numberOfPartitions) % numberOfPartitions;   
+			partitionNumber = Utils.calculatePartition(hash, numberOfPartitions);   
 			
 
 			//partitionNumber = lineCounter%numberOfPartitions; 
@@ -116,21 +116,46 @@ public class Utils {
 		int hash = 0; 
 		String[] lineTokens = line.split("\\|"); 
 	    
-		StringBuffer keysString = new StringBuffer();
-		
-		//if (keys.length == 1 && Integer.)
-		for(int i=keys.length-1; i >= 0; i--){
-			keysString.append(lineTokens[keys[i]].trim() );
+		String[] keyValues = new String[keys.length];
+		for(int i=0; i < keys.length; i++){
+			keyValues[i] = lineTokens[keys[i]];
 		}  
 		
-	
-		Long a = Long.parseLong(keysString.toString());
-		hash = a.hashCode();
+		hash = calculateHash(keyValues);
 		//hash = keysString.toString().hashCode(); 
 		
 		return hash; 
 	} 
 	
+	/**
+	 * Calculate the hash code of the given key values (in order of the
+	 * partition columns). Used by the compiler to find the partitions which
+	 * can contain a given key.
+	 * @param keyValues the values of the key columns
+	 * @return the hash code of the concatenated values
+	 */
+	public static int calculateHash (String[] keyValues) {
+		
+		StringBuffer keysString = new StringBuffer();
+		
+		for(int i=keyValues.length-1; i >= 0; i--){
+			keysString.append(keyValues[i].trim() );
+		}  
+		
+		Long a = Long.parseLong(keysString.toString());
+		return a.hashCode(); 
+	}
+	
+	/**
+	 * Calculate the partition of a hash code
+	 * @param hash the hash code of a record
+	 * @param numberOfPartitions
+	 * @return the partition number in [0, numberOfPartitions)
+	 */
+	public static int calculatePartition (int hash, int numberOfPartitions) {
+		return (hash % numberOfPartitions + numberOfPartitions) % numberOfPartitions;
+	}
+	
 	/**
 	 * Calculate the hash code for integer key only. 
 	 * @param line the record
@@ -0,0 +1,407 @@
+package org.xdb.tracker;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+/**
+ * Admission queue of master tracker: limits the number of running plans and
+ * the number of their operators. Waiting plans are admitted using weighted
+ * fair sharing across clients: each client accumulates a virtual time of
+ * cost/weight for its admitted plans and the next plan is taken from the
+ * waiting client with the smallest virtual time. Clients without running or
+ * waiting plans are forgotten, i.e., a client which becomes active again
+ * starts at the smallest virtual time of the active clients.
+ */
+public class AdmissionControl {
+	public static final String DEFAULT_CLIENT = "default";
+
+	/**
+	 * Plan waiting for or holding admission
+	 */
+	public static class Ticket {
+		private final Identifier planId;
+		private final String clientId;
+		private final int cost;
+		private final long enqueueTime;
+		private long admitTime = -1;
+
+		private Ticket(Identifier planId, String clientId, int cost) {
+			this.planId = planId;
+			this.clientId = clientId;
+			this.cost = cost;
+			this.enqueueTime = System.currentTimeMillis();
+		}
+
+		public Identifier getPlanId() {
+			return this.planId;
+		}
+
+		public String getClientId() {
+			return this.clientId;
+		}
+
+		public boolean isAdmitted() {
+			return this.admitTime >= 0;
+		}
+
+		public long getQueueTime() {
+			if (!this.isAdmitted())
+				return System.currentTimeMillis() - this.enqueueTime;
+			return this.admitTime - this.enqueueTime;
+		}
+
+		@Override
+		public String toString() {
+			return this.planId + "(" + this.clientId + "," + this.cost + ")";
+		}
+	}
+
+	// limits (0 = unbounded)
+	private final int maxRunningPlans;
+	private final int maxRunningOps;
+	private final long timeout;
+
+	// weights per client
+	private final Map<String, Integer> weights = new HashMap<String, Integer>();
+
+	// waiting plans per client
+	private final Map<String, LinkedList<Ticket>> queues = new HashMap<String, LinkedList<Ticket>>();
+
+	// virtual time per client
+	private final Map<String, Double> virtualTimes = new HashMap<String, Double>();
+
+	// running plans per client
+	private final Map<String, Integer> runningPerClient = new HashMap<String, Integer>();
+
+	// current load
+	private int runningPlans = 0;
+	private int runningOps = 0;
+	private int waitingPlans = 0;
+
+	// metrics
+	private long admittedPlans = 0;
+	private long rejectedPlans = 0;
+	private long totalQueueTime = 0;
+	private long maxQueueTime = 0;
+	private int peakRunningPlans = 0;
+	private int peakWaitingPlans = 0;
+
+	// logger
+	private final Logger logger;
+
+	// constructors
+	public AdmissionControl() {
+		this(Config.MASTERTRACKER_MAX_RUNNING_PLANS,
+				Config.MASTERTRACKER_MAX_RUNNING_OPS,
+				Config.MASTERTRACKER_ADMISSION_TIMEOUT,
+				Config.MASTERTRACKER_CLIENT_WEIGHTS);
+	}
+
+	public AdmissionControl(int maxRunningPlans, int maxRunningOps,
+			long timeout, String clientWeights) {
+		this.maxRunningPlans = maxRunningPlans;
+		this.maxRunningOps = maxRunningOps;
+		this.timeout = timeout;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.MASTER_TRACKER_SERVER);
+
+		this.parseWeights(clientWeights);
+	}
+
+	// getters and setters
+	public synchronized int getRunningPlans() {
+		return this.runningPlans;
+	}
+
+	public synchronized int getRunningOps() {
+		return this.runningOps;
+	}
+
+	public synchronized int getWaitingPlans() {
+		return this.waitingPlans;
+	}
+
+	public synchronized int getActiveClients() {
+		return this.queues.size();
+	}
+
+	public synchronized int getRunningPlans(String clientId) {
+		Integer running = this.runningPerClient.get(clientId);
+		return running == null ? 0 : running;
+	}
+
+	public synchronized long getAdmittedPlans() {
+		return this.admittedPlans;
+	}
+
+	public synchronized long getRejectedPlans() {
+		return this.rejectedPlans;
+	}
+
+	public synchronized long getMaxQueueTime() {
+		return this.maxQueueTime;
+	}
+
+	public synchronized int getPeakRunningPlans() {
+		return this.peakRunningPlans;
+	}
+
+	public synchronized int getPeakWaitingPlans() {
+		return this.peakWaitingPlans;
+	}
+
+	/**
+	 * Returns average queue time of admitted plans in ms
+	 *
+	 * @return
+	 */
+	public synchronized double getAvgQueueTime() {
+		if (this.admittedPlans == 0)
+			return 0.0;
+		return (double) this.totalQueueTime / this.admittedPlans;
+	}
+
+	public int getWeight(String clientId) {
+		Integer weight = this.weights.get(clientId);
+		return weight == null ? 1 : weight;
+	}
+
+	// methods
+	/**
+	 * Blocks until plan is admitted for execution or timeout is reached
+	 *
+	 * @param plan
+	 * @return ticket which must be released after execution
+	 */
+	public synchronized Tuple<Error, Ticket> admit(CompilePlan plan) {
+		String clientId = plan.getClientId();
+		if (clientId == null)
+			clientId = DEFAULT_CLIENT;
+
+		int cost = Math.max(1, plan.getOperators().size());
+		Ticket ticket = new Ticket(plan.getPlanId(), clientId, cost);
+
+		// client becomes active: do not give credit for idle time
+		LinkedList<Ticket> queue = this.queues.get(clientId);
+		if (queue == null) {
+			queue = new LinkedList<Ticket>();
+			this.queues.put(clientId, queue);
+		}
+		if (queue.isEmpty() && this.getRunningPlans(clientId) == 0) {
+			double vtime = this.getVirtualTime(clientId);
+			Double minActive = this.getMinActiveVirtualTime();
+			if (minActive != null && minActive > vtime)
+				this.virtualTimes.put(clientId, minActive);
+		}
+
+		queue.add(ticket);
+		this.waitingPlans++;
+		this.peakWaitingPlans = Math.max(this.peakWaitingPlans,
+				this.waitingPlans);
+		this.dispatch();
+
+		// wait for admission
+		long deadline = System.currentTimeMillis() + this.timeout;
+		while (!ticket.isAdmitted()) {
+			long wait = 0;
+			if (this.timeout > 0) {
+				wait = deadline - System.currentTimeMillis();
+				if (wait <= 0)
+					break;
+			}
+
+			try {
+				this.wait(wait);
+			} catch (InterruptedException e) {
+				break;
+			}
+		}
+
+		// timeout: remove plan from queue
+		if (!ticket.isAdmitted()) {
+			queue.remove(ticket);
+			this.waitingPlans--;
+			this.rejectedPlans++;
+			this.removeIdleClient(clientId);
+			this.dispatch();
+
+			String[] args = { "MasterTracker: Plan " + ticket.getPlanId()
+					+ " was not admitted after " + ticket.getQueueTime()
+					+ " ms (running plans: " + this.runningPlans + ")" };
+			return new Tuple<Error, Ticket>(new Error(
+					EnumError.TRACKER_GENERIC, args), ticket);
+		}
+
+		return new Tuple<Error, Ticket>(new Error(), ticket);
+	}
+
+	/**
+	 * Releases resources of executed plan and admits waiting plans
+	 *
+	 * @param ticket
+	 */
+	public synchronized void release(Ticket ticket) {
+		if (!ticket.isAdmitted())
+			return;
+
+		this.runningPlans--;
+		this.runningOps -= ticket.cost;
+		this.runningPerClient.put(ticket.clientId,
+				this.getRunningPlans(ticket.clientId) - 1);
+		this.removeIdleClient(ticket.clientId);
+		this.dispatch();
+	}
+
+	/**
+	 * Removes state of client if it has neither running nor waiting plans
+	 *
+	 * @param clientId
+	 */
+	private void removeIdleClient(String clientId) {
+		LinkedList<Ticket> queue = this.queues.get(clientId);
+		if (queue != null && !queue.isEmpty())
+			return;
+		if (this.getRunningPlans(clientId) > 0)
+			return;
+
+		this.queues.remove(clientId);
+		this.virtualTimes.remove(clientId);
+		this.runningPerClient.remove(clientId);
+	}
+
+	/**
+	 * Admits waiting plans as long as limits are not reached
+	 */
+	private void dispatch() {
+		boolean admitted = false;
+		while (this.waitingPlans > 0) {
+			if (this.maxRunningPlans > 0
+					&& this.runningPlans >= this.maxRunningPlans)
+				break;
+
+			// pick client with smallest virtual time
+			String nextClient = null;
+			for (Map.Entry<String, LinkedList<Ticket>> entry : this.queues
+					.entrySet()) {
+				if (entry.getValue().isEmpty())
+					continue;
+				if (nextClient == null
+						|| this.getVirtualTime(entry.getKey()) < this
+								.getVirtualTime(nextClient))
+					nextClient = entry.getKey();
+			}
+
+			// plans which exceed the limit alone run if nothing else runs
+			Ticket ticket = this.queues.get(nextClient).getFirst();
+			if (this.maxRunningOps > 0 && this.runningPlans > 0
+					&& this.runningOps + ticket.cost > this.maxRunningOps)
+				break;
+
+			this.queues.get(nextClient).removeFirst();
+			this.waitingPlans--;
+			this.admitTicket(ticket);
+			admitted = true;
+		}
+
+		if (admitted)
+			this.notifyAll();
+	}
+
+	/**
+	 * Marks ticket as admitted and updates metrics
+	 *
+	 * @param ticket
+	 */
+	private void admitTicket(Ticket ticket) {
+		ticket.admitTime = System.currentTimeMillis();
+
+		this.runningPlans++;
+		this.runningOps += ticket.cost;
+		this.runningPerClient.put(ticket.clientId,
+				this.getRunningPlans(ticket.clientId) + 1);
+		this.virtualTimes.put(ticket.clientId,
+				this.getVirtualTime(ticket.clientId) + (double) ticket.cost
+						/ this.getWeight(ticket.clientId));
+
+		long queueTime = ticket.getQueueTime();
+		this.admittedPlans++;
+		this.totalQueueTime += queueTime;
+		this.maxQueueTime = Math.max(this.maxQueueTime, queueTime);
+		this.peakRunningPlans = Math.max(this.peakRunningPlans,
+				this.runningPlans);
+
+		this.logger.log(Level.INFO, "MasterTracker: Admitted plan " + ticket
+				+ " after " + queueTime + " ms " + this.toString());
+	}
+
+	private double getVirtualTime(String clientId) {
+		Double vtime = this.virtualTimes.get(clientId);
+		return vtime == null ? 0.0 : vtime;
+	}
+
+	/**
+	 * Returns smallest virtual time of clients which have running or waiting
+	 * plans (null if no client is active)
+	 *
+	 * @return
+	 */
+	private Double getMinActiveVirtualTime() {
+		Double minVTime = null;
+		for (String clientId : this.queues.keySet()) {
+			if (this.queues.get(clientId).isEmpty()
+					&& this.getRunningPlans(clientId) == 0)
+				continue;
+
+			double vtime = this.getVirtualTime(clientId);
+			if (minVTime == null || vtime < minVTime)
+				minVTime = vtime;
+		}
+		return minVTime;
+	}
+
+	/**
+	 * Parses weights of form client1:weight1,client2:weight2
+	 *
+	 * @param clientWeights
+	 */
+	private void parseWeights(String clientWeights) {
+		if (clientWeights == null)
+			return;
+
+		for (String clientWeight : clientWeights.split(",")) {
+			String[] parts = clientWeight.trim().split(":");
+			if (parts.length != 2)
+				continue;
+
+			try {
+				int weight = Integer.parseInt(parts[1].trim());
+				if (weight > 0)
+					this.weights.put(parts[0].trim(), weight);
+			} catch (NumberFormatException e) {
+				this.logger.log(Level.WARNING,
+						"MasterTracker: Invalid client weight " + clientWeight);
+			}
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "[running=" + this.runningPlans + ", runningOps="
+				+ this.runningOps + ", waiting=" + this.waitingPlans
+				+ ", admitted=" + this.admittedPlans + ", rejected="
+				+ this.rejectedPlans + ", avgQueueTime="
+				+ this.getAvgQueueTime() + " ms, maxQueueTime="
+				+ this.maxQueueTime + " ms]";
+	}
+}
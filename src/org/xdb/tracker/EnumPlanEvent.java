@@ -0,0 +1,10 @@
+package org.xdb.tracker;
+
+/**
+ * Events which drive the execution of a query tracker plan: STARTED,
+ * OPERATOR_READY, MONITORED and FINISHED are posted when the blocking work
+ * for the corresponding step was done by a worker of the query tracker
+ */
+public enum EnumPlanEvent {
+	START, STARTED, OPERATOR_READY, MONITOR_TIMER, MONITORED, STOP, FINISHED
+}
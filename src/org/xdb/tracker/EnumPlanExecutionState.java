@@ -0,0 +1,12 @@
+package org.xdb.tracker;
+
+/**
+ * States of a query tracker plan which is executed by a PlanExecution
+ */
+public enum EnumPlanExecutionState {
+	SUBMITTED, STARTING, RUNNING, FINISHING, FINISHED, FAILED;
+
+	public boolean isDone() {
+		return this == FINISHED || this == FAILED;
+	}
+}
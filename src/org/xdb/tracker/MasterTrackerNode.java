@@ -66,12 +66,16 @@ public class MasterTrackerNode {
 
 	/** Compile plan information **/
 	// map: planId -> running CompilePlan
-	private final Map<Identifier, CompilePlan> runningPlans = new HashMap<Identifier, CompilePlan>();
+	private final Map<Identifier, CompilePlan> runningPlans = Collections
+			.synchronizedMap(new HashMap<Identifier, CompilePlan>());
 	private CompilePlan lastCompilePlan = null;
 
 	// map: plan ID -> URL of assigned query tracker
 	private final Map<Identifier, QueryTrackerNodeDesc> planAssignment = new HashMap<Identifier, QueryTrackerNodeDesc>();
 
+	// admission queue for plan execution
+	private final AdmissionControl admissionControl = new AdmissionControl();
+
 	/** Helper **/
 	// server
 	private MasterTrackerServer server;
@@ -126,6 +130,10 @@ public class MasterTrackerNode {
 		return runningPlans.size();
 	}
 
+	public AdmissionControl getAdmissionControl() {
+		return this.admissionControl;
+	}
+
 	public Collection<ComputeNodeDesc> getComputeNodes() {
 		return this.computeNodes;
 	}
@@ -208,17 +216,29 @@ public class MasterTrackerNode {
 		logger.log(Level.INFO,
 				"MasterTracker: Received CompilePlan for execution: " + plan);
 
-		// get query tracker
-		Error err = new Error();
-		final QueryTrackerNodeDesc qTracker = getAvailableQueryTracker();
-		if (qTracker == null) {
-			String[] args = { "MasterTracker: No query tracker available!" };
-			err = new Error(EnumError.TRACKER_GENERIC, args);
+		// wait for admission
+		Tuple<Error, AdmissionControl.Ticket> admission = this.admissionControl
+				.admit(plan);
+		Error err = admission.getObject1();
+		if (err.isError()) {
 			return err;
 		}
 
-		// execute plan on query tracker
-		err = this.executeOnQueryTracker(qTracker, plan);
+		try {
+			// get query tracker
+			final QueryTrackerNodeDesc qTracker = getAvailableQueryTracker();
+			if (qTracker == null) {
+				String[] args = { "MasterTracker: No query tracker available!" };
+				err = new Error(EnumError.TRACKER_GENERIC, args);
+				return err;
+			}
+
+			// execute plan on query tracker
+			err = this.executeOnQueryTracker(qTracker, plan);
+		} finally {
+			this.runningPlans.remove(plan.getPlanId());
+			this.admissionControl.release(admission.getObject2());
+		}
 		return err;
 	}
 
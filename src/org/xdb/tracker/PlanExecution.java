@@ -0,0 +1,403 @@
+package org.xdb.tracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+/**
+ * State machine which executes one query tracker plan. The execution is
+ * driven by events (start, ready signals of operators, monitoring timer,
+ * stop) which are handled on the shared executor of the query tracker node,
+ * i.e., no thread is blocked while the plan is running. Steps which block
+ * (code generation, deployment and RPCs to compute nodes) are run by the
+ * workers of the query tracker node which post an event when they are done.
+ */
+public class PlanExecution {
+	// query tracker which executes plan
+	private final QueryTrackerNode tracker;
+
+	// compile plan (null if query tracker plan is already prepared)
+	private final CompilePlan compilePlan;
+
+	// query tracker plan
+	private QueryTrackerPlan plan;
+
+	// close operators after execution
+	private final boolean cleanPlan;
+
+	// state
+	private EnumPlanExecutionState state = EnumPlanExecutionState.SUBMITTED;
+	private Error err = new Error();
+	private final CountDownLatch done = new CountDownLatch(1);
+	private final List<Runnable> completionCallbacks = new ArrayList<Runnable>();
+	private ScheduledFuture<?> monitorTimer;
+	private boolean started = false;
+	private boolean monitoring = false;
+
+	// metrics
+	private final long submitTime;
+	private long startTime = -1;
+	private long finishTime = -1;
+
+	// logger
+	private final Logger logger;
+
+	// constructors
+	/**
+	 * Execution which generates, deploys, executes and cleans plan for a
+	 * compile plan
+	 *
+	 * @param tracker
+	 * @param compilePlan
+	 */
+	public PlanExecution(QueryTrackerNode tracker, CompilePlan compilePlan) {
+		this(tracker, compilePlan, null, true);
+	}
+
+	/**
+	 * Execution of an already deployed plan
+	 *
+	 * @param tracker
+	 * @param plan
+	 * @param cleanPlan
+	 */
+	public PlanExecution(QueryTrackerNode tracker, QueryTrackerPlan plan,
+			boolean cleanPlan) {
+		this(tracker, null, plan, cleanPlan);
+	}
+
+	private PlanExecution(QueryTrackerNode tracker, CompilePlan compilePlan,
+			QueryTrackerPlan plan, boolean cleanPlan) {
+		this.tracker = tracker;
+		this.compilePlan = compilePlan;
+		this.plan = plan;
+		this.cleanPlan = cleanPlan;
+		this.submitTime = System.currentTimeMillis();
+		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+	}
+
+	// getters and setters
+	public synchronized EnumPlanExecutionState getState() {
+		return this.state;
+	}
+
+	public synchronized QueryTrackerPlan getPlan() {
+		return this.plan;
+	}
+
+	public synchronized Error getError() {
+		return this.err;
+	}
+
+	/**
+	 * Returns time between submission and start of execution in ms (i.e.,
+	 * code generation and deployment)
+	 *
+	 * @return
+	 */
+	public synchronized long getPrepareTime() {
+		if (this.startTime < 0)
+			return -1;
+		return this.startTime - this.submitTime;
+	}
+
+	/**
+	 * Returns time between submission and end of execution in ms
+	 *
+	 * @return
+	 */
+	public synchronized long getTotalTime() {
+		if (this.finishTime < 0)
+			return -1;
+		return this.finishTime - this.submitTime;
+	}
+
+	// methods
+	/**
+	 * Enqueues event for this execution on executor of query tracker
+	 *
+	 * @param event
+	 */
+	public void post(final EnumPlanEvent event) {
+		this.post(event, new Error());
+	}
+
+	private void post(final EnumPlanEvent event, final Error eventErr) {
+		this.tracker.getPlanExecutor().execute(new Runnable() {
+			@Override
+			public void run() {
+				PlanExecution.this.handle(event, eventErr);
+			}
+		});
+	}
+
+	/**
+	 * Signals that an operator of the plan is ready: consumers are deployed
+	 * by a worker and the execution checks afterwards if the plan is done
+	 *
+	 * @param execOp
+	 */
+	public void operatorReady(final AbstractExecuteOperator execOp) {
+		this.runBlocking(EnumPlanEvent.OPERATOR_READY, new Callable<Error>() {
+			@Override
+			public Error call() {
+				return PlanExecution.this.getPlan().operatorReady(execOp);
+			}
+		});
+	}
+
+	/**
+	 * Registers callback which is run by a worker after the execution is
+	 * done (immediately if it is already done)
+	 *
+	 * @param callback
+	 */
+	public void onCompletion(Runnable callback) {
+		synchronized (this) {
+			if (!this.state.isDone()) {
+				this.completionCallbacks.add(callback);
+				return;
+			}
+		}
+		this.tracker.getWorkerExecutor().execute(callback);
+	}
+
+	/**
+	 * Blocks until plan is executed
+	 *
+	 * @return
+	 */
+	public Error waitForCompletion() {
+		try {
+			this.done.await();
+		} catch (InterruptedException e) {
+			String[] args = { "Waiting for plan execution was interrupted!" };
+			return new Error(EnumError.TRACKER_GENERIC, args);
+		}
+		return this.getError();
+	}
+
+	/**
+	 * Runs blocking work on a worker of the query tracker and posts event
+	 * with the result of the work afterwards
+	 *
+	 * @param event
+	 * @param work
+	 */
+	private void runBlocking(final EnumPlanEvent event, final Callable<Error> work) {
+		this.tracker.getWorkerExecutor().execute(new Runnable() {
+			@Override
+			public void run() {
+				Error workErr;
+				try {
+					workErr = work.call();
+				} catch (Exception e) {
+					String[] args = { "Execution of plan failed: "
+							+ e.toString() };
+					workErr = new Error(EnumError.TRACKER_GENERIC, args);
+				}
+				PlanExecution.this.post(event, workErr);
+			}
+		});
+	}
+
+	/**
+	 * Handles an event: events of one execution are handled one after the
+	 * other
+	 *
+	 * @param event
+	 * @param eventErr
+	 *            result of blocking work which triggered the event
+	 */
+	private synchronized void handle(EnumPlanEvent event, Error eventErr) {
+		if (this.state.isDone())
+			return;
+
+		try {
+			switch (event) {
+			case START:
+				if (this.state != EnumPlanExecutionState.SUBMITTED)
+					return;
+				this.state = EnumPlanExecutionState.STARTING;
+				this.runBlocking(EnumPlanEvent.STARTED, new Callable<Error>() {
+					@Override
+					public Error call() {
+						return PlanExecution.this.start();
+					}
+				});
+				return;
+			case STARTED:
+				this.err = eventErr;
+				if (!this.started) {
+					this.fail();
+					return;
+				}
+				this.state = EnumPlanExecutionState.RUNNING;
+				if (this.err.isError()) {
+					this.finish();
+					return;
+				}
+				this.scheduleMonitoring();
+				break;
+			case OPERATOR_READY:
+				if (eventErr.isError())
+					this.logger.log(Level.SEVERE, "Ready signal for plan "
+							+ this.plan.getPlanId() + " failed: " + eventErr);
+				break;
+			case MONITOR_TIMER:
+				if (this.state != EnumPlanExecutionState.RUNNING
+						|| this.monitoring)
+					return;
+				this.monitoring = true;
+				this.runBlocking(EnumPlanEvent.MONITORED, new Callable<Error>() {
+					@Override
+					public Error call() {
+						QueryTrackerPlan qplan = PlanExecution.this.getPlan();
+						if (qplan.isMonitored())
+							qplan.monitorExecution();
+						qplan.speculateStragglers();
+						return new Error();
+					}
+				});
+				return;
+			case MONITORED:
+				this.monitoring = false;
+				if (eventErr.isError()
+						&& this.state == EnumPlanExecutionState.RUNNING) {
+					this.err = eventErr;
+					this.finish();
+					return;
+				}
+				break;
+			case FINISHED:
+				if (eventErr.isError())
+					this.err = eventErr;
+				this.state = this.err.isError() ? EnumPlanExecutionState.FAILED
+						: EnumPlanExecutionState.FINISHED;
+				this.complete();
+				return;
+			case STOP:
+				break;
+			}
+
+			if (this.state == EnumPlanExecutionState.RUNNING
+					&& this.plan.isDone())
+				this.finish();
+		} catch (RuntimeException e) {
+			String[] args = { "Execution of plan failed: " + e.toString() };
+			this.err = new Error(EnumError.TRACKER_GENERIC, args);
+			this.logger.log(Level.SEVERE, args[0]);
+			if (this.state == EnumPlanExecutionState.RUNNING)
+				this.finish();
+			else if (this.state != EnumPlanExecutionState.FINISHING)
+				this.fail();
+		}
+	}
+
+	/**
+	 * Prepares plan if necessary and sends start signals (run by a worker)
+	 *
+	 * @return
+	 */
+	private Error start() {
+		// 1. generate and deploy plan
+		QueryTrackerPlan qplan = this.getPlan();
+		if (qplan == null) {
+			Tuple<Error, QueryTrackerPlan> result = this.tracker
+					.prepareQTPlan(this.compilePlan);
+			qplan = result.getObject2();
+			synchronized (this) {
+				this.plan = qplan;
+			}
+			if (qplan == null) {
+				return result.getObject1();
+			} else if (result.getObject1().isError()) {
+				qplan.cleanPlan();
+				return result.getObject1();
+			}
+		}
+		this.tracker.registerExecution(this);
+
+		// 2. send start signals to leave operators
+		synchronized (this) {
+			this.started = true;
+			this.startTime = System.currentTimeMillis();
+		}
+		return qplan.startExecution();
+	}
+
+	/**
+	 * Schedules monitoring and straggler detection
+	 */
+	private void scheduleMonitoring() {
+		if (!this.plan.isMonitored() && !this.plan.isSpeculationActivated())
+			return;
+
+		int interval = this.plan.getMonitoringInterval();
+		this.monitorTimer = this.tracker.getPlanExecutor()
+				.scheduleWithFixedDelay(new Runnable() {
+					@Override
+					public void run() {
+						PlanExecution.this.handle(EnumPlanEvent.MONITOR_TIMER,
+								new Error());
+					}
+				}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Finishes execution of a running plan: operators are closed by a worker
+	 */
+	private void finish() {
+		if (this.monitorTimer != null)
+			this.monitorTimer.cancel(false);
+
+		this.state = EnumPlanExecutionState.FINISHING;
+		final QueryTrackerPlan qplan = this.plan;
+		this.runBlocking(EnumPlanEvent.FINISHED, new Callable<Error>() {
+			@Override
+			public Error call() {
+				Error planErr = qplan.finishExecution();
+				if (PlanExecution.this.cleanPlan)
+					qplan.cleanPlan();
+				return planErr;
+			}
+		});
+	}
+
+	/**
+	 * Marks execution as failed before plan was started
+	 */
+	private void fail() {
+		this.state = EnumPlanExecutionState.FAILED;
+		this.complete();
+	}
+
+	private void complete() {
+		this.finishTime = System.currentTimeMillis();
+		Identifier planId = this.plan != null ? this.plan.getPlanId() : null;
+		this.logger.log(Level.INFO, "Execution of plan " + planId + " "
+				+ this.state + " after " + this.getTotalTime() + " ms");
+
+		this.tracker.executionFinished(this);
+		this.done.countDown();
+
+		for (Runnable callback : this.completionCallbacks) {
+			this.tracker.getWorkerExecutor().execute(callback);
+		}
+		this.completionCallbacks.clear();
+	}
+}
@@ -1,9 +1,13 @@
 package org.xdb.tracker;
 
 import java.net.InetAddress;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +25,7 @@ import org.xdb.funsql.codegen.CodeGenerator;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
 import org.xdb.utils.Identifier;
 import org.xdb.utils.Tuple;
 
@@ -40,7 +45,22 @@ public class QueryTrackerNode {
 	private final QueryTrackerNodeDesc description;
 
 	// query tracker plans
-	private Map<Identifier, QueryTrackerPlan> qPlans = new HashMap<Identifier, QueryTrackerPlan>();
+	private final Map<Identifier, QueryTrackerPlan> qPlans = new ConcurrentHashMap<Identifier, QueryTrackerPlan>();
+
+	// running plan executions: plan ID -> execution
+	private final Map<Identifier, PlanExecution> executions = new ConcurrentHashMap<Identifier, PlanExecution>();
+
+	// shared executor which drives all plan executions
+	private final ScheduledExecutorService planExecutor;
+
+	// workers for blocking steps of plan executions
+	private final ExecutorService workerExecutor;
+
+	// load of replicated partitions shared by all plans
+	private final ReplicaBalancer replicaBalancer = new ReplicaBalancer();
+
+	// templates of generated plans for repeated queries
+	private final QueryTrackerPlanCache planCache = new QueryTrackerPlanCache();
 	
 	// logger
 	private final Logger logger;
@@ -55,6 +75,24 @@ public class QueryTrackerNode {
 		this.description = new QueryTrackerNodeDesc(address);
 		this.masterTrackerClient = new MasterTrackerClient();
 		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+		this.planExecutor = Executors.newScheduledThreadPool(
+				Config.QUERYTRACKER_EXECUTOR_THREADS, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "PlanExecutor");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		this.workerExecutor = Executors.newFixedThreadPool(
+				Config.QUERYTRACKER_WORKER_THREADS, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "PlanWorker");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
 	}
 
 	// getters and setters
@@ -86,6 +124,42 @@ public class QueryTrackerNode {
 		return computeClient;
 	}
 
+	public ReplicaBalancer getReplicaBalancer() {
+		return replicaBalancer;
+	}
+
+	public QueryTrackerPlanCache getPlanCache() {
+		return planCache;
+	}
+
+	/**
+	 * Returns executor which handles events of all plan executions
+	 * 
+	 * @return
+	 */
+	public ScheduledExecutorService getPlanExecutor() {
+		return this.planExecutor;
+	}
+
+	/**
+	 * Returns executor which runs blocking steps of plan executions (code
+	 * generation, deployment and RPCs to compute nodes)
+	 * 
+	 * @return
+	 */
+	public ExecutorService getWorkerExecutor() {
+		return this.workerExecutor;
+	}
+
+	/**
+	 * Returns number of plans which are currently executed
+	 * 
+	 * @return
+	 */
+	public int getRunningExecutions() {
+		return this.executions.size();
+	}
+
 	/**
 	 * Returns self-description of query tracker
 	 * 
@@ -112,14 +186,32 @@ public class QueryTrackerNode {
 		// generate QTPLan from CPlan
 		Error err = new Error(); 
 	
-		CodeGenerator codeGen = new CodeGenerator(compilePlan);
-		err = codeGen.generate();
-		if (err.isError()){
-			return new Tuple<QueryTrackerPlan, Error>(null, err);
+		// reuse plan generated for same query if possible
+		QueryTrackerPlan qplan = null;
+		if (Config.QUERYTRACKER_PLAN_CACHE)
+			qplan = this.planCache.instantiate(compilePlan);
+
+		if (qplan == null) {
+			long codeGenStart = System.currentTimeMillis();
+			CodeGenerator codeGen = new CodeGenerator(compilePlan);
+			err = codeGen.generate();
+			if (err.isError()){
+				return new Tuple<QueryTrackerPlan, Error>(null, err);
+			}
+			qplan = codeGen.getQueryTrackerPlan();
+
+			if (Config.QUERYTRACKER_PLAN_CACHE)
+				this.planCache.put(compilePlan, qplan,
+						System.currentTimeMillis() - codeGenStart);
 		}
 		
+		// bind parameters of prepared statement
+		if (compilePlan.hasParameters()) {
+			for (AbstractTrackerOperator op : qplan.getTrackerOperators())
+				op.bindParameters(compilePlan.getParameters());
+		}
+
 		// assign QT to QTPlan
-		QueryTrackerPlan qplan = codeGen.getQueryTrackerPlan();
 		qplan.assignTracker(this);
 		
 		// trace QTPLan
@@ -137,7 +229,7 @@ public class QueryTrackerNode {
 	 * @param cplan
 	 * @return
 	 */
-	private Tuple<Error, QueryTrackerPlan> prepareQTPlan(
+	Tuple<Error, QueryTrackerPlan> prepareQTPlan(
 			final CompilePlan cplan) {
 		// initialize compile plan: get logger back
 		cplan.init();
@@ -157,48 +249,59 @@ public class QueryTrackerNode {
 	}
 
 	/**
-	 * Phase 2 of execution: actually execute prepared query tracker plan
+	 * Submits a compile plan for execution: code generation, deployment and
+	 * execution are driven by the plan executor without blocking the caller
 	 * 
-	 * @param qplan
-	 * @return
+	 * @param cplan
+	 * @return execution of plan
 	 */
-	private Error executeQTPlan(QueryTrackerPlan qplan) {
-		Error err = new Error();
+	public PlanExecution submitPlan(final CompilePlan cplan) {
+		logger.log(Level.INFO, "Query tracker " + this.description.getUrl()
+				+ " received compileplan: " + cplan.getPlanId());
 
-		// 1. Execute query tracker plan
-		err = qplan.executePlan();
-		return err;
+		final PlanExecution execution = new PlanExecution(this, cplan);
+
+		// plan is not needed anymore after execution
+		execution.onCompletion(new Runnable() {
+			@Override
+			public void run() {
+				if (execution.getPlan() != null)
+					qPlans.remove(execution.getPlan().getPlanId());
+			}
+		});
+
+		execution.post(EnumPlanEvent.START);
+		return execution;
 	}
 
 	/**
-	 * Execute a given compile plan
+	 * Execute a given compile plan and wait for its result (the server uses
+	 * submitPlan and answers when the execution is done)
 	 * 
 	 * @param plan
 	 * @return
 	 */
 	public Error executePlan(final CompilePlan cplan) {
-		logger.log(Level.INFO, "Query tracker " + this.description.getUrl()
-				+ " received compileplan: " + cplan.getPlanId());
-		Error err = new Error();
-		QueryTrackerPlan qplan = null;
+		return this.submitPlan(cplan).waitForCompletion();
+	}
 
-		// 1. prepare query tracker plan
-		Tuple<Error, QueryTrackerPlan> qPLanResult = this.prepareQTPlan(cplan);
-		err = qPLanResult.getObject1();
-		qplan = qPLanResult.getObject2();
-		if(qplan == null){
-			return err;
-		}
-		else if (err.isError()) {
-			qplan.cleanPlan();
-			return err;
-		}
+	/**
+	 * Registers a started execution so that it receives events
+	 * 
+	 * @param execution
+	 */
+	void registerExecution(PlanExecution execution) {
+		this.executions.put(execution.getPlan().getPlanId(), execution);
+	}
 
-		// 2. execute prepared plan
-		err = this.executeQTPlan(qplan);
-		qplan.cleanPlan();
-		
-		return err;
+	/**
+	 * Removes a finished execution
+	 * 
+	 * @param execution
+	 */
+	void executionFinished(PlanExecution execution) {
+		if (execution.getPlan() != null)
+			this.executions.remove(execution.getPlan().getPlanId());
 	}
 
 	/**
@@ -230,27 +333,41 @@ public class QueryTrackerNode {
 	}
 
 	/**
-	 * Execute a prepared query tracker plan for a given DoomDBPlan
+	 * Submits a prepared query tracker plan for a given DoomDBPlan for
+	 * execution without blocking the caller
 	 * 
 	 * @param dplanDesc
 	 * @return
 	 */
-	public Error executeDoomDBQTPlan(DoomDBPlanDesc dplanDesc) {
-		Error err = new Error();
-		
+	public Tuple<Error, PlanExecution> submitDoomDBQTPlan(
+			DoomDBPlanDesc dplanDesc) {
 		// 1. get QTracker plan for DoomDB plan
 		if (!this.qPlans.containsKey(dplanDesc.getQtrackerPlanId())) {
 			String[] args = { "Plan with id " + dplanDesc.getQtrackerPlanId()
 					+ " not found in " + this.qPlans.keySet() };
 			this.logger.log(Level.SEVERE, args[0]);
-			return new Error(EnumError.TRACKER_GENERIC, args);
+			return new Tuple<Error, PlanExecution>(new Error(
+					EnumError.TRACKER_GENERIC, args), null);
 		}
 		QueryTrackerPlan qplan = this.qPlans.get(dplanDesc.getQtrackerPlanId());
-		
+
 		// 2. execute prepared QTracker plan
-		err = this.executeQTPlan(qplan);
-		qplan.cleanPlan();
-		return err;
+		PlanExecution execution = new PlanExecution(this, qplan, true);
+		execution.post(EnumPlanEvent.START);
+		return new Tuple<Error, PlanExecution>(new Error(), execution);
+	}
+
+	/**
+	 * Execute a prepared query tracker plan for a given DoomDBPlan
+	 * 
+	 * @param dplanDesc
+	 * @return
+	 */
+	public Error executeDoomDBQTPlan(DoomDBPlanDesc dplanDesc) {
+		Tuple<Error, PlanExecution> result = this.submitDoomDBQTPlan(dplanDesc);
+		if (result.getObject1().isError())
+			return result.getObject1();
+		return result.getObject2().waitForCompletion();
 	}
 	
 	
@@ -270,6 +387,10 @@ public class QueryTrackerNode {
 		}
 		QueryTrackerPlan qplan = this.qPlans.get(dplanDesc.getQtrackerPlanId());
 		qplan.stopPlan();
+
+		PlanExecution execution = this.executions.get(qplan.getPlanId());
+		if (execution != null)
+			execution.post(EnumPlanEvent.STOP);
 		
 		return err;
 	}
@@ -313,13 +434,15 @@ public class QueryTrackerNode {
 	}
 
 	/**
-	 * Signal consumers of a given operator that their input sources are ready
+	 * Signal consumers of a given operator that their input sources are
+	 * ready: for plans which are driven by an execution the signal is only
+	 * enqueued, i.e., the caller does not wait for the deployment of
+	 * consumers
 	 * 
 	 * @param execOp
 	 * @return
 	 */
 	public Error operatorReady(final AbstractExecuteOperator execOp) {
-		//System.out.println("Start operatorReady "+execOp.getOperatorId());
 		Identifier execOpId = execOp.getOperatorId();
 		Identifier planId = execOpId.getParentId(0);
 		QueryTrackerPlan qPlan = this.qPlans.get(planId);
@@ -329,8 +452,13 @@ public class QueryTrackerNode {
 			this.logger.log(Level.SEVERE, args[0]);
 			return new Error(EnumError.TRACKER_GENERIC, args);
 		}
-		Error err =  qPlan.operatorReady(execOp);
-		//System.out.println("Stop operatorReady "+execOp.getOperatorId());
-		return err;
+
+		// let execution handle signal and check if plan is finished
+		PlanExecution execution = this.executions.get(planId);
+		if (execution != null) {
+			execution.operatorReady(execOp);
+			return new Error();
+		}
+		return qPlan.operatorReady(execOp);
 	}
 }
@@ -1,6 +1,7 @@
 package org.xdb.tracker;
 
 import java.io.Serializable;
+import java.net.URI;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,11 +27,14 @@ import org.xdb.execute.ComputeNodeDesc;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.funsql.parallelize.CreatePartitionDescVisitor;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBExecuteTimeMeasurement;
 import org.xdb.logging.XDBLog;
 import org.xdb.monitor.ComputeServersMonitor;
 import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.JoinInputDesc;
+import org.xdb.tracker.operator.TableDesc;
 import org.xdb.tracker.scheduler.AbstractResourceScheduler;
 import org.xdb.utils.Dotty;
 import org.xdb.utils.Identifier;
@@ -81,11 +85,55 @@ public class QueryTrackerPlan implements Serializable {
 	// execution plan
 	private final Map<Identifier, OperatorDesc> currentDeployment = new HashMap<Identifier, OperatorDesc>();
 	private final Map<AbstractExecuteOperator, OperatorDesc> executeOps = new HashMap<AbstractExecuteOperator, OperatorDesc>();
+
+	// measured output sizes of finished operators: tracker operator ID -> bytes
+	private final Map<Identifier, Long> outputSizes = new HashMap<Identifier, Long>();
+
+	// measured output rows of finished operators: tracker operator ID -> rows
+	private final Map<Identifier, Long> outputRows = new HashMap<Identifier, Long>();
+
+	// speculative execution: start and finish times of tracker operators in
+	// ms and running backup copies of stragglers (tracker operator ID -> copy)
+	private final Map<Identifier, Long> startTimes = new HashMap<Identifier, Long>();
+	private final Map<Identifier, Long> finishTimes = new HashMap<Identifier, Long>();
+	private final Map<Identifier, OperatorDesc> speculativeOps = new HashMap<Identifier, OperatorDesc>();
+	private boolean speculationActivated = Config.QUERYTRACKER_SPECULATION_ACTIVATED;
+	private int speculativeLaunches = 0;
+	private int speculationWins = 0;
+
+	// replicas of materialized outputs on buddy nodes: tracker operator ID ->
+	// copy (status FINISHED once output is copied)
+	private final Map<Identifier, OperatorDesc> outputReplicas = new HashMap<Identifier, OperatorDesc>();
+	private boolean replicateOutputs = Config.QUERYTRACKER_OUTPUT_REPLICATION;
+	private int replicaFailovers = 0;
+	private int recomputedOps = 0;
+
+	// deploy operators only once their sources run (status INIT until then)
+	private boolean lazyDeployment = Config.QUERYTRACKER_LAZY_DEPLOYMENT
+			|| Config.QUERYTRACKER_ADAPTIVE_PLANNING;
+	private int lazilyPlacedOps = 0;
+
+	// correct estimates of operators which are not deployed yet using the
+	// measured outputs of their sources
+	private boolean adaptivePlanning = Config.QUERYTRACKER_ADAPTIVE_PLANNING;
+	private int replannedOps = 0;
+	private int switchedJoinInputs = 0;
+
+	// rows of operators with Bloom filters: estimated before filter and
+	// measured after filter
+	private long filterInputRows = 0;
+	private long filterOutputRows = 0;
+
+	// recovery: operators aborted by a failure which did not finish yet
+	private final Set<Identifier> recoveringOps = new HashSet<Identifier>();
+	private long recoveryStart = -1;
+	private long recoveryTime = 0;
 	
 	private Boolean isExecuted = false;
 	private int maxAttempts = Config.QUERYTRACKER_MONITOR_ATTEMPTS;
 	private Boolean monitorFailures = Config.QUERYTRACKER_MONITOR_ACTIVATED;
 	private int monitoringInterval = Config.QUERYTRACKER_MONITOR_INTERVAL;
+	private int monitorAttempts = 0;
 
 	// helper to measure execution time
 	private final XDBExecuteTimeMeasurement timeMeasure;
@@ -131,6 +179,8 @@ public class QueryTrackerPlan implements Serializable {
 	public DoomDBPlanStatus getDoomDBPlanStatus() {
 		DoomDBPlanStatus planStatus = new DoomDBPlanStatus(this.isExecuted(),
 				this.getCurrentDeployment(), this.getError());
+		planStatus.setRecoveryTime(this.recoveryTime);
+		planStatus.setReplicaFailovers(this.replicaFailovers);
 		return planStatus;
 	}
 
@@ -146,6 +196,115 @@ public class QueryTrackerPlan implements Serializable {
 		this.monitoringInterval = interval;
 	}
 
+	public void setSpeculationActivated(boolean speculationActivated) {
+		this.speculationActivated = speculationActivated;
+	}
+
+	public boolean isSpeculationActivated() {
+		return this.speculationActivated;
+	}
+
+	public int getSpeculativeLaunches() {
+		return this.speculativeLaunches;
+	}
+
+	public int getSpeculationWins() {
+		return this.speculationWins;
+	}
+
+	public void setLazyDeployment(boolean lazyDeployment) {
+		this.lazyDeployment = lazyDeployment;
+	}
+
+	public boolean isLazyDeployment() {
+		return this.lazyDeployment;
+	}
+
+	/**
+	 * Returns number of lazily deployed operators which were moved to another
+	 * compute node than planned
+	 * 
+	 * @return
+	 */
+	public int getLazilyPlacedOperators() {
+		return this.lazilyPlacedOps;
+	}
+
+	/**
+	 * Activates adaptive planning which requires lazy deployment
+	 * 
+	 * @param adaptivePlanning
+	 */
+	public void setAdaptivePlanning(boolean adaptivePlanning) {
+		this.adaptivePlanning = adaptivePlanning;
+		if (adaptivePlanning)
+			this.lazyDeployment = true;
+	}
+
+	/**
+	 * Returns number of unfinished operators whose estimates were corrected
+	 * 
+	 * @return
+	 */
+	public int getReplannedOperators() {
+		return this.replannedOps;
+	}
+
+	/**
+	 * Returns number of join inputs which were switched between
+	 * re-partitioning and broadcasting
+	 * 
+	 * @return
+	 */
+	public int getSwitchedJoinInputs() {
+		return this.switchedJoinInputs;
+	}
+
+	/**
+	 * Returns observed fraction of rows passing Bloom filters (measured
+	 * output rows of filtered operators divided by their estimated output
+	 * rows without filter) or -1 if no filtered operator finished
+	 * 
+	 * @return
+	 */
+	public double getBloomFilterRate() {
+		if (this.filterInputRows <= 0)
+			return -1;
+		return (double) this.filterOutputRows / this.filterInputRows;
+	}
+
+	public void setReplicateOutputs(boolean replicateOutputs) {
+		this.replicateOutputs = replicateOutputs;
+	}
+
+	public int getReplicatedOutputs() {
+		return this.outputReplicas.size();
+	}
+
+	public int getReplicaFailovers() {
+		return this.replicaFailovers;
+	}
+
+	/**
+	 * Returns number of finished operators which were re-run since their
+	 * outputs were lost
+	 * 
+	 * @return
+	 */
+	public int getRecomputedOperators() {
+		return this.recomputedOps;
+	}
+
+	/**
+	 * Returns time in ms between detection of failures and the point when all
+	 * aborted operators finished again (summed over all failures)
+	 * 
+	 * @return
+	 */
+	public long getRecoveryTime() {
+		return this.recoveryTime;
+	}
+
 	public Set<Identifier> getLeaves() {
 		return Collections.unmodifiableSet(leaves);
 	}
@@ -183,6 +342,44 @@ public class QueryTrackerPlan implements Serializable {
 		return trackerOps.get(opId);
 	}
 
+	/**
+	 * Returns IDs of tracker operators in the order they were added (i.e.,
+	 * sources before consumers)
+	 * 
+	 * @return
+	 */
+	public List<Identifier> getTrackerOperatorIds() {
+		return Collections.unmodifiableList(trackerOpsOrder);
+	}
+
+	/**
+	 * Returns measured output size of a finished operator or its estimated
+	 * size if it was not measured (-1 if unknown)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	public long getOutputSize(Identifier opId) {
+		if (this.outputSizes.containsKey(opId))
+			return this.outputSizes.get(opId);
+
+		return this.trackerOps.get(opId).getOutputSize();
+	}
+
+	/**
+	 * Returns measured number of output rows of a finished operator (-1 if
+	 * unknown)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	public long getOutputRows(Identifier opId) {
+		if (this.outputRows.containsKey(opId))
+			return this.outputRows.get(opId);
+
+		return -1;
+	}
+
 	public Set<Identifier> getSources(Identifier opId) {
 		return this.sources.get(opId);
 	}
@@ -339,6 +536,11 @@ public class QueryTrackerPlan implements Serializable {
 			}
 		}
 
+		// release reads of replicas of operators which did not signal
+		for (final OperatorDesc operDesc : this.executeOps.values()) {
+			this.releaseInputReplicas(operDesc.getOperatorID());
+		}
+
 		// set status to executed after cleaning
 		this.setExecuted();
 
@@ -346,11 +548,46 @@ public class QueryTrackerPlan implements Serializable {
 	}
 
 	/**
-	 * Executes a plan using a given deployment description
+	 * Executes a plan using a given deployment description and blocks until
+	 * plan is executed or an error occurred
 	 * 
 	 * @param currentDeployment
 	 */
 	public Error executePlan() {
+		Error err = this.startExecution();
+		if (err.isError())
+			return err;
+
+		// wait until plan is executed or error occurred
+		while (!this.isDone()) {
+			try {
+				if (this.monitorFailures || this.speculationActivated) {
+					if (this.monitorFailures)
+						this.monitorExecution();
+					this.speculateStragglers();
+					if (!this.isDone()) {
+						this.logger.log(Level.INFO, "Monitor sleeping "
+								+ monitoringInterval);
+						Thread.sleep(monitoringInterval);
+					}
+				} else {
+					Thread.sleep(100);
+				}
+			} catch (InterruptedException e) {
+
+			}
+		}
+
+		return this.finishExecution();
+	}
+
+	/**
+	 * Starts execution of a deployed plan by sending start signals to leave
+	 * operators (does not wait for the plan to finish)
+	 * 
+	 * @return
+	 */
+	public Error startExecution() {
 
 		if (this.hasError()) {
 			return this.getError();
@@ -368,72 +605,169 @@ public class QueryTrackerPlan implements Serializable {
 			}
 
 			// Set the operator status to RUNNING and execute operator
+			this.startTimes.put(leaveId, System.currentTimeMillis());
 			computeClient.executeOperator(leaveOpDesc);
 		}
 
-		// wait until plan is executed or error occurred
-		int attempt = 0;
-		execLoop: while (!this.isExecutedInternal() && !this.hasError()) {
-			if (this.monitorFailures) {
-				try {
-					// Starting the compute servers monitoring.
-					// Lock to prevent operator signaling.
-					monitoringLock.lock();
-					computeServersMonitor.monitorAllOperators();
-
-					// Check if a failure is detected
-					if (computeServersMonitor.hasDetectedFailure()) {
-						logger.log(Level.INFO, "Monitoring detected a failure!");
-
-						if (attempt >= this.maxAttempts) {
-							String args[] = { "Maximal attempts reached for plan "
-									+ this.getPlanId().toString() };
-							this.setError(new Error(EnumError.TRACKER_GENERIC,
-									args));
-							monitoringLock.unlock();
-							break execLoop;
-						} else {
-							// re-deploy the failed operators 
-							redeployAbortedOperators();
-						}
-						attempt++;
-						logger.log(Level.INFO, "Monitor: start attempt "
-								+ attempt);
-						
-						SimpleDateFormat sdfDate = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");//dd/MM/yyyy
-					    Date now = new Date();
-					    String strDate = sdfDate.format(now);
-						System.out.println("Monitor: start attempt " + attempt + " [" + strDate + "]");
-					}
+		// deploy consumers of running leaves
+		if (this.lazyDeployment) {
+			monitoringLock.lock();
+			try {
+				this.deployFrontier();
+			} finally {
+				monitoringLock.unlock();
+			}
+		}
 
-					// unlock to allow operators signaling.
-					monitoringLock.unlock();
+		return this.getError();
+	}
 
-					// sleep interval
-					if (!this.isExecutedInternal()) {
-						this.logger.log(Level.INFO, "Monitor sleeping "
-								+ monitoringInterval);
-						Thread.sleep(monitoringInterval);
-					}
+	/**
+	 * Checks if plan is executed or an error occurred
+	 * 
+	 * @return
+	 */
+	public boolean isDone() {
+		return this.isExecutedInternal() || this.hasError();
+	}
+
+	public boolean isMonitored() {
+		return this.monitorFailures;
+	}
 
-				} catch (InterruptedException e) {
+	public int getMonitoringInterval() {
+		return this.monitoringInterval;
+	}
 
-					if (monitoringLock.isLocked())
-						monitoringLock.unlock();
+	/**
+	 * One monitoring round: checks compute servers of all operators and
+	 * re-deploys aborted operators if a failure was detected
+	 */
+	public void monitorExecution() {
+		// Lock to prevent operator signaling.
+		monitoringLock.lock();
+		try {
+			computeServersMonitor.monitorAllOperators();
+
+			// Check if a failure is detected
+			if (computeServersMonitor.hasDetectedFailure()) {
+				logger.log(Level.INFO, "Monitoring detected a failure!");
+
+				if (this.monitorAttempts >= this.maxAttempts) {
+					String args[] = { "Maximal attempts reached for plan "
+							+ this.getPlanId().toString() };
+					this.setError(new Error(EnumError.TRACKER_GENERIC, args));
+					return;
 				}
-			} else {
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException e) {
 
+				// remember aborted operators to measure recovery time
+				for (Identifier opId : this.trackerOpsOrder) {
+					if (this.currentDeployment.get(opId).getOperatorStatus()
+							.isRepairableFailure())
+						this.recoveringOps.add(opId);
+				}
+				if (this.recoveryStart < 0 && !this.recoveringOps.isEmpty())
+					this.recoveryStart = System.currentTimeMillis();
+
+				// re-deploy the failed operators
+				redeployAbortedOperators();
+				this.monitorAttempts++;
+				logger.log(Level.INFO, "Monitor: start attempt "
+						+ this.monitorAttempts);
+
+				SimpleDateFormat sdfDate = new SimpleDateFormat(
+						"yyyy-MM-dd HH:mm:ss");// dd/MM/yyyy
+				Date now = new Date();
+				String strDate = sdfDate.format(now);
+				System.out.println("Monitor: start attempt "
+						+ this.monitorAttempts + " [" + strDate + "]");
+			}
+		} finally {
+			// unlock to allow operators signaling.
+			monitoringLock.unlock();
+		}
+	}
+
+	/**
+	 * Launches backup copies of running operators which take considerably
+	 * longer than expected. The expected time of an operator is its runtime
+	 * estimate or the median time of finished operators which were generated
+	 * from the same compile operator (e.g., other partitions). Root operators
+	 * are never copied since their result tables are read by name.
+	 */
+	public void speculateStragglers() {
+		if (!this.speculationActivated)
+			return;
+
+		monitoringLock.lock();
+		try {
+			if (this.hasError())
+				return;
+
+			long now = System.currentTimeMillis();
+			for (Identifier trackerOpId : this.trackerOpsOrder) {
+				if (this.roots.contains(trackerOpId)
+						|| this.speculativeOps.containsKey(trackerOpId)
+						|| this.finishTimes.containsKey(trackerOpId)
+						|| !this.startTimes.containsKey(trackerOpId))
+					continue;
+
+				OperatorDesc opDesc = this.currentDeployment.get(trackerOpId);
+				if (opDesc.getOperatorStatus().isFailure()
+						|| opDesc.getOperatorStatus().isFinished())
+					continue;
+
+				long expected = this.getExpectedTime(trackerOpId);
+				if (expected <= 0)
+					continue;
+
+				long elapsed = now - this.startTimes.get(trackerOpId);
+				long threshold = Math.max(
+						(long) (Config.QUERYTRACKER_SPECULATION_FACTOR * expected),
+						Config.QUERYTRACKER_SPECULATION_MIN_TIME);
+				if (elapsed > threshold) {
+					logger.log(Level.INFO, "Operator " + opDesc.getOperatorID()
+							+ " is a straggler: running " + elapsed
+							+ " ms, expected " + expected + " ms");
+					this.launchSpeculativeCopy(trackerOpId, opDesc);
+					if (this.hasError())
+						return;
 				}
 			}
+		} finally {
+			monitoringLock.unlock();
 		}
+	}
 
+	/**
+	 * Stops time measurement of executed plan and reports execution to
+	 * scheduler
+	 * 
+	 * @return
+	 */
+	public Error finishExecution() {
 		this.timeMeasure.stop(this.getPlanId().toString());
 		this.setQueryExecutionTime(this.timeMeasure.getExecutionTime(this
 				.getPlanId().toString()));
 
+		if (this.monitorAttempts > 0) {
+			logger.log(Level.INFO, "Recovery for plan " + this.getPlanId()
+					+ ": " + this.monitorAttempts + " attempts, "
+					+ this.recoveryTime + " ms, " + this.recomputedOps
+					+ " lost outputs recomputed, " + this.replicaFailovers
+					+ " of " + this.outputReplicas.size()
+					+ " replicated outputs used");
+		}
+
+		if (this.speculativeLaunches > 0) {
+			logger.log(Level.INFO, "Speculation for plan " + this.getPlanId()
+					+ ": launched " + this.speculativeLaunches
+					+ " backup copies, " + this.speculationWins + " won");
+		}
+
+		// report execution to scheduler
+		this.resourceScheduler.planExecuted(this.currentDeployment);
+
 		return this.getError();
 	}
 
@@ -495,6 +829,9 @@ public class QueryTrackerPlan implements Serializable {
 	 * 
 	 */
 	private void redeployAbortedOperators() {
+		// re-run or fail over operators whose outputs were lost
+		final Set<Identifier> waitingConsumers = this.recoverLostOutputs();
+
 		// assign compute nodes to aborted operators
 		this.assignComputeNodes2AbortedOperators();
 		if (this.hasError()) { 
@@ -506,6 +843,13 @@ public class QueryTrackerPlan implements Serializable {
 		if (this.hasError())
 			return;
 
+		// let waiting consumers read the new outputs
+		for (Identifier consumerId : waitingConsumers) {
+			this.repointConsumer(consumerId);
+			if (this.hasError())
+				return;
+		}
+
 		// reset monitor
 		this.computeServersMonitor.setFailureDetected(false);
 	}
@@ -624,7 +968,14 @@ public class QueryTrackerPlan implements Serializable {
 	 */
 	private void deployAllOperators() {
 		// distribute all operators in deployment
-		for (Identifier trackerOpId : this.trackerOpsOrder) {			
+		for (Identifier trackerOpId : this.trackerOpsOrder) {
+			// other operators are deployed once their sources run
+			if (this.lazyDeployment && !this.leaves.contains(trackerOpId)) {
+				this.currentDeployment.get(trackerOpId).setOperatorStatus(
+						EnumOperatorStatus.INIT);
+				continue;
+			}
+
 			// create executable operator and set query tracker URL
 			final AbstractExecuteOperator execOp = genDeployOperator(trackerOpId);
 			
@@ -657,12 +1008,24 @@ public class QueryTrackerPlan implements Serializable {
 	 * @return
 	 */
 	private AbstractExecuteOperator genDeployOperator(Identifier trackerOpId){
-		final OperatorDesc executeOpDesc = this.currentDeployment
-				.get(trackerOpId);
+		return this.genDeployOperator(trackerOpId,
+				this.currentDeployment.get(trackerOpId));
+	}
 
+	/**
+	 * Generate executable operator from tracker operator using a given
+	 * deployment description (e.g., of a backup copy)
+	 * 
+	 * @param trackerOpId
+	 * @param executeOpDesc
+	 * @return
+	 */
+	private AbstractExecuteOperator genDeployOperator(Identifier trackerOpId,
+			final OperatorDesc executeOpDesc) {
 		final AbstractTrackerOperator trackerOp = trackerOps
 				.get(trackerOpId);
 
+		this.balanceInputReplicas(trackerOp, executeOpDesc);
 		final AbstractExecuteOperator execOp = trackerOp.genDeployOperator(
 				executeOpDesc, currentDeployment); 
 		// for simulation purposes
@@ -682,6 +1045,351 @@ public class QueryTrackerPlan implements Serializable {
 		return execOp;
 	}
 
+	/**
+	 * Corrects estimates of operators which did not finish yet if the
+	 * measured output of a finished operator deviates from its estimate by
+	 * more than the configured factor. Estimates are scaled linearly with the
+	 * corrected share of their input volume (in topological order, also
+	 * through running operators). Join inputs which are not produced yet
+	 * switch between re-partitioning and broadcasting if the corrected sizes
+	 * favor the other strategy. Lazily deployed operators are then placed
+	 * using the corrected sizes.
+	 * 
+	 * @param trackerOpId
+	 */
+	private void adaptPlan(Identifier trackerOpId) {
+		long estimated = this.trackerOps.get(trackerOpId).getOutputSize();
+		Long actual = this.outputSizes.get(trackerOpId);
+		if (estimated <= 0 || actual == null)
+			return;
+
+		double error = (double) Math.max(actual, 1) / estimated;
+		double factor = Config.QUERYTRACKER_ADAPTIVE_ERROR_FACTOR;
+		if (error < factor && error > 1.0 / factor)
+			return;
+
+		// correction factor of operator outputs
+		final Map<Identifier, Double> corrections = new HashMap<Identifier, Double>();
+		corrections.put(trackerOpId, error);
+
+		int corrected = 0;
+		for (Identifier opId : this.trackerOpsOrder) {
+			if (this.currentDeployment.get(opId).getOperatorStatus()
+					.isFinished())
+				continue;
+
+			// weight corrections of sources by their share of the input
+			Set<Identifier> opSources = this.sources.get(opId);
+			long totalInput = 0;
+			for (Identifier sourceId : opSources) {
+				long size = this.getOutputSize(sourceId);
+				totalInput = (size > 0 && totalInput >= 0) ? totalInput + size
+						: -1;
+			}
+
+			double correction = 0.0;
+			boolean affected = false;
+			for (Identifier sourceId : opSources) {
+				double share = totalInput > 0 ? (double) this
+						.getOutputSize(sourceId) / totalInput
+						: 1.0 / opSources.size();
+				Double sourceCorrection = corrections.get(sourceId);
+				if (sourceCorrection != null)
+					affected = true;
+				else
+					sourceCorrection = 1.0;
+				correction += share * sourceCorrection;
+			}
+			if (!affected)
+				continue;
+
+			AbstractTrackerOperator trackerOp = this.trackerOps.get(opId);
+			if (trackerOp.getOutputSize() >= 0)
+				trackerOp.setOutputSize((long) (trackerOp.getOutputSize() * correction));
+			trackerOp.setRunime(trackerOp.getRuntime() * correction);
+			corrections.put(opId, correction);
+			corrected++;
+		}
+
+		this.replannedOps += corrected;
+		logger.log(Level.INFO, "Output of " + trackerOpId + " has " + actual
+				+ " bytes instead of " + estimated + " estimated bytes: "
+				+ "corrected estimates of " + corrected + " unfinished operators");
+
+		if (Config.COMPILE_BROADCAST_JOIN)
+			this.adaptJoinInputs();
+	}
+
+	/**
+	 * Switches outputs of pending operators which are read by an equi join
+	 * between re-partitioning by join key and broadcasting if the corrected
+	 * sizes favor the other strategy (using the cost model of the compiler).
+	 * Producers and partitions of the join must not be deployed yet.
+	 */
+	private void adaptJoinInputs() {
+		// producers of join inputs: compile operator ID -> tracker operator IDs
+		final Map<Identifier, List<Identifier>> joinInputs = new HashMap<Identifier, List<Identifier>>();
+		for (Identifier opId : this.trackerOpsOrder) {
+			AbstractTrackerOperator trackerOp = this.trackerOps.get(opId);
+			if (trackerOp.getJoinInput() == null)
+				continue;
+
+			Identifier compileOpId = trackerOp.getCompileOperatorId();
+			if (!joinInputs.containsKey(compileOpId))
+				joinInputs.put(compileOpId, new ArrayList<Identifier>());
+			joinInputs.get(compileOpId).add(opId);
+		}
+
+		for (List<Identifier> producerIds : joinInputs.values()) {
+			// partitions of join read parts or complete outputs of producers
+			final Set<Identifier> joinIds = new HashSet<Identifier>();
+			boolean pending = true;
+			long inputSize = 0;
+			for (Identifier producerId : producerIds) {
+				pending &= this.isPending(producerId);
+				long size = this.getOutputSize(producerId);
+				inputSize = (size >= 0 && inputSize >= 0) ? inputSize + size
+						: -1;
+				for (Identifier consumerId : this.consumers.get(producerId)) {
+					for (TableDesc tableDesc : this.trackerOps.get(consumerId)
+							.getInTablesFederated()) {
+						if (tableDesc.getPartTableName() != null
+								&& producerId.equals(tableDesc.getOperatorID()))
+							joinIds.add(consumerId);
+					}
+				}
+			}
+			for (Identifier joinId : joinIds) {
+				pending &= this.isPending(joinId);
+			}
+			if (!pending || inputSize < 0)
+				continue;
+
+			// re-partitioning moves join input once (and other input if it
+			// is not partitioned by join key)
+			JoinInputDesc joinInput = this.trackerOps.get(producerIds.get(0))
+					.getJoinInput();
+			double rePartitionCost = inputSize;
+			if (!joinInput.isKeyPartitioned()) {
+				long otherSize = this.getOtherInputSize(joinIds, producerIds);
+				if (otherSize < 0)
+					continue;
+				rePartitionCost += otherSize;
+			}
+			boolean broadcast = CreatePartitionDescVisitor.isBroadcastCheaper(
+					inputSize, joinIds.size(), rePartitionCost);
+
+			// other input would have to be re-partitioned as well
+			if (!broadcast && !joinInput.isKeyPartitioned())
+				continue;
+			if (broadcast == joinInput.isBroadcast())
+				continue;
+
+			for (Identifier producerId : producerIds) {
+				AbstractTrackerOperator producer = this.trackerOps
+						.get(producerId);
+				producer.broadcastOutput(broadcast);
+				for (Identifier joinId : joinIds) {
+					this.trackerOps.get(joinId).readJoinInput(producerId,
+							producer.getJoinInput());
+				}
+			}
+			this.switchedJoinInputs++;
+			logger.log(Level.INFO, "Output of " + producerIds + " with "
+					+ inputSize + " bytes is "
+					+ (broadcast ? "broadcast to " : "re-partitioned into ")
+					+ joinIds.size() + " partitions of join");
+		}
+	}
+
+	/**
+	 * Checks if operator is not deployed yet
+	 * 
+	 * @param trackerOpId
+	 * @return
+	 */
+	private boolean isPending(Identifier trackerOpId) {
+		return this.currentDeployment.get(trackerOpId).getOperatorStatus() == EnumOperatorStatus.INIT;
+	}
+
+	/**
+	 * Returns bytes read by partitions of a join from inputs which are not
+	 * produced by given operators (-1 if unknown)
+	 * 
+	 * @param joinIds
+	 * @param producerIds
+	 * @return
+	 */
+	private long getOtherInputSize(Set<Identifier> joinIds,
+			List<Identifier> producerIds) {
+		long otherSize = 0;
+		for (Identifier joinId : joinIds) {
+			for (TableDesc tableDesc : this.trackerOps.get(joinId)
+					.getInTablesFederated()) {
+				long size = tableDesc.getSize();
+				if (tableDesc.isTemp()) {
+					if (producerIds.contains(tableDesc.getOperatorID()))
+						continue;
+					size = this.getOutputSize(tableDesc.getOperatorID())
+							/ Math.max(1, tableDesc.getSourceParts());
+				}
+				if (size < 0)
+					return -1;
+				otherSize += size;
+			}
+		}
+		return otherSize;
+	}
+
+	/**
+	 * Deploys all operators which are not deployed yet and whose sources are
+	 * running or finished. Each operator is placed using the actual placement
+	 * and measured output sizes of its sources and receives signals of its
+	 * finished sources after deployment.
+	 * 
+	 * @return IDs of deployed operators
+	 */
+	private Set<Identifier> deployFrontier() {
+		final Set<Identifier> deployedOps = new HashSet<Identifier>();
+		for (Identifier trackerOpId : this.trackerOpsOrder) {
+			if (this.currentDeployment.get(trackerOpId).getOperatorStatus() != EnumOperatorStatus.INIT)
+				continue;
+
+			boolean sourcesStarted = true;
+			for (Identifier sourceId : this.sources.get(trackerOpId)) {
+				if (!this.isStarted(sourceId)) {
+					sourcesStarted = false;
+					break;
+				}
+			}
+			if (!sourcesStarted)
+				continue;
+
+			if (this.deployLazily(trackerOpId))
+				deployedOps.add(trackerOpId);
+			if (this.hasError())
+				break;
+		}
+		return deployedOps;
+	}
+
+	/**
+	 * Checks if a deployed operator runs or is finished (i.e., all its
+	 * sources are finished)
+	 * 
+	 * @param trackerOpId
+	 * @return
+	 */
+	private boolean isStarted(Identifier trackerOpId) {
+		EnumOperatorStatus status = this.currentDeployment.get(trackerOpId)
+				.getOperatorStatus();
+		if (status.isFinished())
+			return true;
+		if (status != EnumOperatorStatus.DEPLOYED
+				&& status != EnumOperatorStatus.RUNNING)
+			return false;
+
+		for (Identifier sourceId : this.sources.get(trackerOpId)) {
+			if (!this.currentDeployment.get(sourceId).getOperatorStatus()
+					.isFinished())
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Places and deploys an operator whose sources are running or finished
+	 * 
+	 * @param trackerOpId
+	 * @return true if operator was deployed
+	 */
+	private boolean deployLazily(Identifier trackerOpId) {
+		OperatorDesc executeOpDesc = this.currentDeployment.get(trackerOpId);
+
+		// place operator using actual placement of its sources
+		final Map<Identifier, ComputeNodeDesc> placement = new HashMap<Identifier, ComputeNodeDesc>();
+		for (Entry<Identifier, OperatorDesc> entry : this.currentDeployment
+				.entrySet()) {
+			placement.put(entry.getKey(), entry.getValue().getComputeNode());
+		}
+		ComputeNodeDesc node = this.pickAvailableComputeNode(this.resourceScheduler
+				.rankComputeNodes(trackerOpId, placement));
+		if (node != null && !node.equalsWPort(executeOpDesc.getComputeNode())) {
+			logger.log(Level.INFO, "Operator " + executeOpDesc.getOperatorID()
+					+ " is moved from compute node "
+					+ executeOpDesc.getComputeNode() + " to " + node);
+			executeOpDesc = new OperatorDesc(executeOpDesc.getOperatorID(), node);
+			this.currentDeployment.put(trackerOpId, executeOpDesc);
+			this.lazilyPlacedOps++;
+		}
+
+		// deploy operator
+		final AbstractExecuteOperator execOp = this
+				.genDeployOperator(trackerOpId);
+		Tuple<Error, EnumOperatorStatus> result = computeClient.openOperator(
+				executeOpDesc.getComputeNode(), execOp);
+		Error opErr = result.getObject1();
+		EnumOperatorStatus opStatus = result.getObject2();
+		executeOpDesc.setOperatorStatus(opStatus);
+		if (opStatus.isNonRepairableFailure()
+				|| (opStatus.isRepairableFailure() && !this.monitorFailures)) {
+			this.setError(opErr);
+			return false;
+		} else if (opStatus.isRepairableFailure()) {
+			// monitor re-deploys operator
+			return false;
+		}
+		this.executeOps.put(execOp, executeOpDesc);
+
+		// send signals of finished sources
+		for (Identifier sourceId : this.sources.get(trackerOpId)) {
+			OperatorDesc sourceDesc = this.currentDeployment.get(sourceId);
+			if (sourceDesc.getOperatorStatus().isFinished()) {
+				computeClient.executeOperator(sourceDesc.getOperatorID(),
+						executeOpDesc);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Ranks replicas of replicated input tables by load of replica hosts and
+	 * registers reads of execute operator on chosen replicas
+	 * 
+	 * @param trackerOp
+	 * @param executeOpDesc
+	 */
+	private void balanceInputReplicas(AbstractTrackerOperator trackerOp,
+			OperatorDesc executeOpDesc) {
+		if (!Config.QUERYTRACKER_REPLICA_BALANCING || this.tracker == null)
+			return;
+
+		final ReplicaBalancer balancer = this.tracker.getReplicaBalancer();
+		final Identifier execOpId = executeOpDesc.getOperatorID();
+		final String deployHost = executeOpDesc.getComputeNode().getUrl();
+
+		balancer.release(execOpId);
+		for (Entry<String, TableDesc> entry : trackerOp
+				.getReplicatedInTables().entrySet()) {
+			List<URI> replicas = balancer.rankReplicas(entry.getValue()
+					.getURIs(), deployHost);
+			executeOpDesc.setInputReplicas(entry.getKey(), replicas);
+			balancer.acquire(execOpId, replicas.get(0).getHost());
+		}
+	}
+
+	/**
+	 * Removes reads of execute operator from replica load
+	 * 
+	 * @param execOpId
+	 */
+	private void releaseInputReplicas(Identifier execOpId) {
+		if (this.tracker == null)
+			return;
+
+		this.tracker.getReplicaBalancer().release(execOpId);
+	}
+
 	/**
 	 * Distribute the failed operators
 	 * 
@@ -728,6 +1436,10 @@ public class QueryTrackerPlan implements Serializable {
 							+ "been redeployed on compute node "
 							+ executeOpDesc.getComputeNode().getUrl());
 
+			// restart time measurement for straggler detection
+			this.startTimes.remove(trackerOpId);
+			this.markStarted(trackerOpId);
+
 			// if the operator is a leave, then send a start signal
 			if (this.leaves.contains(trackerOpId)) {
 				opErr = computeClient.executeOperator(executeOpDesc);
@@ -775,13 +1487,60 @@ public class QueryTrackerPlan implements Serializable {
 		Identifier signallingExecOpId = signallingExecOp.getOperatorId();
 		Identifier signallingTrackerOpId = signallingExecOpId.getParentId(1);
 
-		// check if execOpId is still in current deployment
-		if (!this.currentDeployment.get(signallingTrackerOpId).getOperatorID()
-				.equals(signallingExecOpId)) {
+		// operator does not read from replicas anymore
+		this.releaseInputReplicas(signallingExecOpId);
+
+		// replication of output finished
+		OperatorDesc replicaOpDesc = this.outputReplicas
+				.get(signallingTrackerOpId);
+		if (replicaOpDesc != null
+				&& replicaOpDesc != this.currentDeployment
+						.get(signallingTrackerOpId)
+				&& replicaOpDesc.getOperatorID().equals(signallingExecOpId)) {
+			this.replicaReady(signallingTrackerOpId, signallingExecOp);
 			monitoringLock.unlock();
 			return opErr;
 		}
 
+		// check if execOpId is still in current deployment or a backup copy
+		OperatorDesc currentOpDesc = this.currentDeployment
+				.get(signallingTrackerOpId);
+		OperatorDesc copyOpDesc = this.speculativeOps
+				.get(signallingTrackerOpId);
+		boolean isCopy = copyOpDesc != null
+				&& copyOpDesc.getOperatorID().equals(signallingExecOpId);
+		if (!isCopy
+				&& !currentOpDesc.getOperatorID().equals(signallingExecOpId)) {
+			monitoringLock.unlock();
+			return opErr;
+		}
+
+		// resolve race between operator and its backup copy
+		if (copyOpDesc != null) {
+			this.speculativeOps.remove(signallingTrackerOpId);
+			boolean failed = signallingExecOp.getStatus().isFailure();
+
+			// failed copy is dropped, otherwise the first finisher wins
+			OperatorDesc loserDesc = isCopy != failed ? currentOpDesc
+					: copyOpDesc;
+			this.discardExecuteOp(loserDesc);
+
+			if (loserDesc == currentOpDesc) {
+				copyOpDesc.setOperatorStatus(EnumOperatorStatus.DEPLOYED);
+				this.currentDeployment.put(signallingTrackerOpId, copyOpDesc);
+				this.repointConsumers(signallingTrackerOpId);
+				if (isCopy)
+					this.speculationWins++;
+				logger.log(Level.INFO, "Backup copy " + copyOpDesc.getOperatorID()
+						+ " replaces operator " + currentOpDesc.getOperatorID());
+			}
+
+			if (failed || this.hasError()) {
+				monitoringLock.unlock();
+				return this.getError();
+			}
+		}
+
 		// do not signal consumers if error occured
 		OperatorDesc signallingOpDesc = this.currentDeployment.get(signallingTrackerOpId);
 		signallingOpDesc.setOperatorStatus(signallingExecOp.getStatus());
@@ -794,10 +1553,60 @@ public class QueryTrackerPlan implements Serializable {
 			return opErr;
 		}
 
+		// remember measured output size
+		if (signallingExecOp.getOutputSize() >= 0) {
+			this.outputSizes.put(signallingTrackerOpId,
+					signallingExecOp.getOutputSize());
+		}
+		if (signallingExecOp.getOutputRows() >= 0) {
+			this.outputRows.put(signallingTrackerOpId,
+					signallingExecOp.getOutputRows());
+		}
+
+		// report observed rate of Bloom filter
+		long filterInputRows = this.trackerOps.get(signallingTrackerOpId)
+				.getFilterInputRows();
+		if (filterInputRows > 0 && signallingExecOp.getOutputRows() >= 0) {
+			this.filterInputRows += filterInputRows;
+			this.filterOutputRows += signallingExecOp.getOutputRows();
+			logger.log(Level.INFO, "Bloom filter of " + signallingTrackerOpId
+					+ " passed " + signallingExecOp.getOutputRows() + " of "
+					+ filterInputRows + " estimated rows");
+		}
+
+		// re-plan operators which are not deployed yet
+		if (this.adaptivePlanning)
+			this.adaptPlan(signallingTrackerOpId);
+
+		// remember execution time for straggler detection
+		this.finishTimes.put(signallingTrackerOpId, System.currentTimeMillis());
+
+		// operator recovered from failure
+		if (this.recoveringOps.remove(signallingTrackerOpId)
+				&& this.recoveringOps.isEmpty()) {
+			this.recoveryTime += System.currentTimeMillis()
+					- this.recoveryStart;
+			this.recoveryStart = -1;
+		}
+
+		// deploy operators whose sources run now: they already received
+		// signals of all finished sources
+		Set<Identifier> deployedOps = new HashSet<Identifier>();
+		if (this.lazyDeployment) {
+			deployedOps = this.deployFrontier();
+			if (this.hasError()) {
+				monitoringLock.unlock();
+				return this.getError();
+			}
+		}
+
 		// otherwise continue and send signals to consumers
 		final Set<Identifier> consumerTrackerIds = signallingExecOp
 				.getConsumerTrackerIds();
 		for (final Identifier consumerTrackerId : consumerTrackerIds) {
+			this.markStarted(consumerTrackerId);
+			if (deployedOps.contains(consumerTrackerId))
+				continue;
 
 			logger.log(Level.INFO,
 					"Send READY_SIGNAL from Query Tracker to consumer: "
@@ -808,11 +1617,402 @@ public class QueryTrackerPlan implements Serializable {
 			computeClient.executeOperator(signallingExecOp.getOperatorId(), consumer);
 		}
 
+		// copy output to buddy node while consumers run
+		if (this.replicateOutputs)
+			this.replicateOutput(signallingTrackerOpId, signallingOpDesc);
+
 		monitoringLock.unlock();
 
 		return this.getError();
 	}
 
+	/**
+	 * Remembers start time of an operator once all its sources are finished
+	 * 
+	 * @param trackerOpId
+	 */
+	private void markStarted(Identifier trackerOpId) {
+		if (this.startTimes.containsKey(trackerOpId))
+			return;
+
+		for (Identifier sourceId : this.sources.get(trackerOpId)) {
+			if (!this.currentDeployment.get(sourceId).getOperatorStatus()
+					.isFinished())
+				return;
+		}
+		this.startTimes.put(trackerOpId, System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns expected execution time of an operator in ms: the maximum of
+	 * its runtime estimate and the median time of finished sibling operators
+	 * (0 if unknown)
+	 * 
+	 * @param trackerOpId
+	 * @return
+	 */
+	private long getExpectedTime(Identifier trackerOpId) {
+		AbstractTrackerOperator trackerOp = this.trackerOps.get(trackerOpId);
+		long expected = (long) (trackerOp.getRuntime() * 1000);
+
+		Identifier compileOpId = trackerOp.getCompileOperatorId();
+		if (compileOpId == null)
+			return expected;
+
+		List<Long> siblingTimes = new ArrayList<Long>();
+		for (Identifier siblingId : this.finishTimes.keySet()) {
+			if (compileOpId.equals(this.trackerOps.get(siblingId)
+					.getCompileOperatorId())
+					&& this.startTimes.containsKey(siblingId)) {
+				siblingTimes.add(this.finishTimes.get(siblingId)
+						- this.startTimes.get(siblingId));
+			}
+		}
+		if (!siblingTimes.isEmpty()) {
+			Collections.sort(siblingTimes);
+			expected = Math.max(expected,
+					siblingTimes.get(siblingTimes.size() / 2));
+		}
+		return expected;
+	}
+
+	/**
+	 * Deploys a backup copy of a straggler on another compute node and starts
+	 * it
+	 * 
+	 * @param trackerOpId
+	 * @param opDesc
+	 */
+	private void launchSpeculativeCopy(Identifier trackerOpId,
+			OperatorDesc opDesc) {
+		// pick available compute node other than node of straggler
+		List<ComputeNodeDesc> candidates = new ArrayList<ComputeNodeDesc>();
+		for (ComputeNodeDesc node : this.resourceScheduler
+				.getAllComputeNodes(trackerOpId)) {
+			if (!node.equalsWPort(opDesc.getComputeNode()))
+				candidates.add(node);
+		}
+		ComputeNodeDesc node = this.pickAvailableComputeNode(candidates);
+		if (node == null) {
+			logger.log(Level.INFO, "No compute node available for backup copy of "
+					+ opDesc.getOperatorID());
+			return;
+		}
+
+		// deploy copy
+		final Identifier copyId = trackerOpId.clone();
+		copyId.append(lastExecuteOpId++);
+		final OperatorDesc copyDesc = new OperatorDesc(copyId, node);
+		final AbstractExecuteOperator execOp = this.genDeployOperator(
+				trackerOpId, copyDesc);
+		Tuple<Error, EnumOperatorStatus> result = computeClient.openOperator(
+				node, execOp);
+		copyDesc.setOperatorStatus(result.getObject2());
+		if (result.getObject2().isFailure()) {
+			this.releaseInputReplicas(copyId);
+			logger.log(Level.INFO, "Backup copy " + copyId
+					+ " could not be deployed: " + result.getObject1());
+			return;
+		}
+
+		this.executeOps.put(execOp, copyDesc);
+		this.speculativeOps.put(trackerOpId, copyDesc);
+		this.speculativeLaunches++;
+		logger.log(Level.INFO, "Launched backup copy " + copyId
+				+ " of operator " + opDesc.getOperatorID()
+				+ " on compute node " + node);
+
+		// start copy: all sources are finished already
+		if (this.leaves.contains(trackerOpId)) {
+			computeClient.executeOperator(copyDesc);
+		} else {
+			for (Identifier sourceId : this.sources.get(trackerOpId)) {
+				computeClient.executeOperator(this.currentDeployment
+						.get(sourceId).getOperatorID(), copyDesc);
+			}
+		}
+	}
+
+	/**
+	 * Re-deploys waiting consumers of an operator whose output was replaced
+	 * (by a backup copy or a replica) such that they read the new output.
+	 * Consumers keep their IDs and receive the signals of their finished
+	 * sources again.
+	 * 
+	 * @param trackerOpId
+	 */
+	private void repointConsumers(Identifier trackerOpId) {
+		for (Identifier consumerId : this.consumers.get(trackerOpId)) {
+			this.repointConsumer(consumerId);
+			if (this.hasError())
+				return;
+		}
+	}
+
+	/**
+	 * Re-deploys a waiting operator in place using the current deployment of
+	 * its sources
+	 * 
+	 * @param consumerId
+	 */
+	private void repointConsumer(Identifier consumerId) {
+		final OperatorDesc consumerDesc = this.currentDeployment
+				.get(consumerId);
+		EnumOperatorStatus consumerStatus = consumerDesc.getOperatorStatus();
+		if (consumerStatus != EnumOperatorStatus.DEPLOYED
+				&& consumerStatus != EnumOperatorStatus.REDEPLOYED)
+			return;
+
+		final AbstractExecuteOperator oldOp = this
+				.removeExecuteOp(consumerDesc);
+		if (oldOp == null)
+			return;
+
+		computeClient.closeOperator(consumerDesc, oldOp);
+		this.releaseInputReplicas(consumerDesc.getOperatorID());
+
+		final AbstractExecuteOperator execOp = this.genDeployOperator(
+				consumerId, consumerDesc);
+		Tuple<Error, EnumOperatorStatus> result = computeClient.openOperator(
+				consumerDesc.getComputeNode(), execOp);
+		EnumOperatorStatus opStatus = result.getObject2();
+		consumerDesc.setOperatorStatus(opStatus);
+		if (opStatus.isNonRepairableFailure()) {
+			this.setError(result.getObject1());
+			return;
+		} else if (opStatus.isRepairableFailure()) {
+			return;
+		}
+		this.executeOps.put(execOp, consumerDesc);
+
+		for (Identifier sourceId : this.sources.get(consumerId)) {
+			OperatorDesc sourceDesc = this.currentDeployment.get(sourceId);
+			if (sourceDesc.getOperatorStatus().isFinished()) {
+				computeClient.executeOperator(sourceDesc.getOperatorID(),
+						consumerDesc);
+			}
+		}
+	}
+
+	/**
+	 * Copies output of a finished operator to a buddy compute node in the
+	 * background. Root operators are not replicated since their results are
+	 * read by the client.
+	 * 
+	 * @param trackerOpId
+	 * @param opDesc
+	 */
+	private void replicateOutput(Identifier trackerOpId, OperatorDesc opDesc) {
+		final AbstractTrackerOperator trackerOp = this.trackerOps
+				.get(trackerOpId);
+		if (this.roots.contains(trackerOpId) || !trackerOp.isReplicable()
+				|| this.outputReplicas.containsKey(trackerOpId))
+			return;
+
+		// prefer buddy on other host since compute nodes of one host share
+		// their database
+		ComputeNodeDesc sourceNode = opDesc.getComputeNode();
+		List<ComputeNodeDesc> remoteNodes = new ArrayList<ComputeNodeDesc>();
+		List<ComputeNodeDesc> localNodes = new ArrayList<ComputeNodeDesc>();
+		for (ComputeNodeDesc node : this.resourceScheduler
+				.getAllComputeNodes(trackerOpId)) {
+			if (!node.getUrl().equalsIgnoreCase(sourceNode.getUrl()))
+				remoteNodes.add(node);
+			else if (!node.equalsWPort(sourceNode))
+				localNodes.add(node);
+		}
+		remoteNodes.addAll(localNodes);
+		ComputeNodeDesc buddyNode = this.pickAvailableComputeNode(remoteNodes);
+		if (buddyNode == null)
+			return;
+
+		// deploy and start copy
+		final Identifier replicaId = trackerOpId.clone();
+		replicaId.append(lastExecuteOpId++);
+		final OperatorDesc replicaDesc = new OperatorDesc(replicaId, buddyNode);
+		final AbstractExecuteOperator execOp = trackerOp.genReplicaOperator(
+				opDesc, replicaDesc);
+		execOp.setMattime(trackerOp.getMattime());
+		execOp.setQueryTracker(this.tracker.getDescription());
+
+		Tuple<Error, EnumOperatorStatus> result = computeClient.openOperator(
+				buddyNode, execOp);
+		replicaDesc.setOperatorStatus(result.getObject2());
+		if (result.getObject2().isFailure()) {
+			logger.log(Level.INFO, "Output of " + opDesc.getOperatorID()
+					+ " could not be replicated: " + result.getObject1());
+			return;
+		}
+
+		this.executeOps.put(execOp, replicaDesc);
+		this.outputReplicas.put(trackerOpId, replicaDesc);
+		computeClient.executeOperator(replicaDesc);
+	}
+
+	/**
+	 * Marks replica of an output as usable or drops it if copying failed
+	 * 
+	 * @param trackerOpId
+	 * @param replicaOp
+	 */
+	private void replicaReady(Identifier trackerOpId,
+			AbstractExecuteOperator replicaOp) {
+		OperatorDesc replicaDesc = this.outputReplicas.get(trackerOpId);
+		if (replicaOp.getStatus().isFailure()) {
+			this.outputReplicas.remove(trackerOpId);
+			this.discardExecuteOp(replicaDesc);
+			logger.log(Level.INFO, "Replication of output of " + trackerOpId
+					+ " failed: " + replicaOp.getLastError());
+			return;
+		}
+
+		replicaDesc.setOperatorStatus(EnumOperatorStatus.FINISHED);
+		logger.log(Level.INFO, "Output of " + trackerOpId
+				+ " replicated to compute node " + replicaDesc.getComputeNode());
+	}
+
+	/**
+	 * Computes the minimal set of finished operators which must be re-run
+	 * since their outputs were stored on dead compute nodes: walking the plan
+	 * from the roots to the leaves, the output of a finished operator is
+	 * needed if a root or an unfinished (or re-run) consumer reads it. Lost
+	 * outputs are read from a replica if possible, otherwise the operator is
+	 * marked as aborted and re-deployed. Outputs on surviving nodes stop the
+	 * walk.
+	 * 
+	 * @return waiting consumers which must be re-deployed in place to read
+	 *         the replaced outputs
+	 */
+	private Set<Identifier> recoverLostOutputs() {
+		final Map<String, Boolean> aliveNodes = new HashMap<String, Boolean>();
+		final Set<Identifier> needed = new HashSet<Identifier>();
+		final Set<Identifier> replaced = new HashSet<Identifier>();
+
+		for (int i = this.trackerOpsOrder.size() - 1; i >= 0; --i) {
+			Identifier trackerOpId = this.trackerOpsOrder.get(i);
+			OperatorDesc opDesc = this.currentDeployment.get(trackerOpId);
+
+			if (opDesc.getOperatorStatus().isFinished()) {
+				// output is not read anymore or survived
+				if (!needed.contains(trackerOpId)
+						&& !this.roots.contains(trackerOpId))
+					continue;
+				if (this.isNodeAlive(opDesc.getComputeNode(), aliveNodes))
+					continue;
+
+				// output is lost: use replica or re-run operator
+				replaced.add(trackerOpId);
+				if (this.failoverToReplica(trackerOpId, aliveNodes))
+					continue;
+
+				logger.log(Level.INFO, "Output of " + opDesc.getOperatorID()
+						+ " was lost on compute node "
+						+ opDesc.getComputeNode() + " and is recomputed");
+				opDesc.setOperatorStatus(EnumOperatorStatus.ABORTED);
+				this.startTimes.remove(trackerOpId);
+				this.finishTimes.remove(trackerOpId);
+				this.recoveringOps.add(trackerOpId);
+				this.recomputedOps++;
+			}
+
+			needed.addAll(this.sources.get(trackerOpId));
+		}
+
+		// consumers of replaced outputs: running ones will fail and are
+		// re-run, waiting ones are re-deployed in place
+		final Set<Identifier> waitingConsumers = new HashSet<Identifier>();
+		for (Identifier trackerOpId : replaced) {
+			for (Identifier consumerId : this.consumers.get(trackerOpId)) {
+				OperatorDesc consumerDesc = this.currentDeployment
+						.get(consumerId);
+				switch (consumerDesc.getOperatorStatus()) {
+				case RUNNING:
+					computeClient.killOperator(consumerDesc);
+					consumerDesc.setOperatorStatus(EnumOperatorStatus.ABORTED);
+					this.startTimes.remove(consumerId);
+					this.recoveringOps.add(consumerId);
+					break;
+				case DEPLOYED:
+					waitingConsumers.add(consumerId);
+					break;
+				default:
+					break;
+				}
+			}
+		}
+		return waitingConsumers;
+	}
+
+	/**
+	 * Replaces a finished operator on a dead compute node by its replica
+	 * 
+	 * @param trackerOpId
+	 * @param aliveNodes
+	 * @return true if replica is used
+	 */
+	private boolean failoverToReplica(Identifier trackerOpId,
+			Map<String, Boolean> aliveNodes) {
+		OperatorDesc opDesc = this.currentDeployment.get(trackerOpId);
+		OperatorDesc replicaDesc = this.outputReplicas.get(trackerOpId);
+		if (replicaDesc == null || replicaDesc == opDesc
+				|| !replicaDesc.getOperatorStatus().isFinished()
+				|| !this.isNodeAlive(replicaDesc.getComputeNode(), aliveNodes))
+			return false;
+
+		this.currentDeployment.put(trackerOpId, replicaDesc);
+		this.replicaFailovers++;
+		logger.log(Level.INFO, "Output of " + opDesc.getOperatorID()
+				+ " is read from replica " + replicaDesc.getOperatorID()
+				+ " on compute node " + replicaDesc.getComputeNode());
+		return true;
+	}
+
+	/**
+	 * Pings compute node once per recovery round
+	 * 
+	 * @param node
+	 * @param aliveNodes
+	 * @return
+	 */
+	private boolean isNodeAlive(ComputeNodeDesc node,
+			Map<String, Boolean> aliveNodes) {
+		String key = node.toString();
+		if (!aliveNodes.containsKey(key)) {
+			aliveNodes.put(key, !this.computeClient.pingComputeServer(node)
+					.isError());
+		}
+		return aliveNodes.get(key);
+	}
+
+	/**
+	 * Kills and closes an execute operator which is not needed anymore
+	 * 
+	 * @param opDesc
+	 */
+	private void discardExecuteOp(OperatorDesc opDesc) {
+		computeClient.killOperator(opDesc);
+		final AbstractExecuteOperator execOp = this.removeExecuteOp(opDesc);
+		if (execOp != null)
+			computeClient.closeOperator(opDesc, execOp);
+		this.releaseInputReplicas(opDesc.getOperatorID());
+	}
+
+	/**
+	 * Removes deployed execute operator with given description
+	 * 
+	 * @param opDesc
+	 * @return removed operator or null
+	 */
+	private AbstractExecuteOperator removeExecuteOp(OperatorDesc opDesc) {
+		for (AbstractExecuteOperator execOp : this.executeOps.keySet()) {
+			if (this.executeOps.get(execOp) == opDesc) {
+				this.executeOps.remove(execOp);
+				return execOp;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * 
 	 * @param fileName
@@ -0,0 +1,278 @@
+package org.xdb.tracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.utils.Identifier;
+
+/**
+ * Cache of generated query tracker plans: a repeated query (same fingerprint
+ * compiled against the same catalog version) skips code generation and gets a
+ * copy of the cached template with fresh plan and operator IDs. Templates are
+ * evicted in LRU order.
+ */
+public class QueryTrackerPlanCache {
+
+	/**
+	 * Generated plan as it was before deployment
+	 */
+	private static class Template {
+		// catalog version plan was compiled against
+		private final long catalogVersion;
+
+		// serialized tracker operators in plan order
+		private final byte[] operators;
+
+		// dependencies between template operator IDs
+		private final Map<Identifier, Set<Identifier>> sources = new HashMap<Identifier, Set<Identifier>>();
+		private final Map<Identifier, Set<Identifier>> consumers = new HashMap<Identifier, Set<Identifier>>();
+
+		// time needed to generate plan in ms
+		private final long codeGenTime;
+
+		private Template(long catalogVersion, byte[] operators,
+				long codeGenTime) {
+			this.catalogVersion = catalogVersion;
+			this.operators = operators;
+			this.codeGenTime = codeGenTime;
+		}
+	}
+
+	// templates by fingerprint in access order
+	private final LinkedHashMap<String, Template> templates;
+
+	// metrics
+	private long hits = 0;
+	private long misses = 0;
+	private long invalidations = 0;
+	private long savedTime = 0;
+
+	// logger
+	private final Logger logger;
+
+	// constructors
+	public QueryTrackerPlanCache() {
+		this(Config.QUERYTRACKER_PLAN_CACHE_SIZE);
+	}
+
+	public QueryTrackerPlanCache(final int maxSize) {
+		this.templates = new LinkedHashMap<String, Template>(16, 0.75f, true) {
+			private static final long serialVersionUID = 2418825634771452139L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, Template> eldest) {
+				return maxSize > 0 && this.size() > maxSize;
+			}
+		};
+		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+	}
+
+	// getters and setters
+	public synchronized int size() {
+		return this.templates.size();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized long getInvalidations() {
+		return this.invalidations;
+	}
+
+	/**
+	 * Returns code generation time saved by cache hits in ms
+	 *
+	 * @return
+	 */
+	public synchronized long getSavedTime() {
+		return this.savedTime;
+	}
+
+	public synchronized double getHitRate() {
+		if (this.hits + this.misses == 0)
+			return 0.0;
+		return (double) this.hits / (this.hits + this.misses);
+	}
+
+	// methods
+	/**
+	 * Checks if plans generated for compile plan can be cached
+	 *
+	 * @param cplan
+	 * @return
+	 */
+	public static boolean isCacheable(CompilePlan cplan) {
+		return cplan.getFingerprint() != null;
+	}
+
+	/**
+	 * Creates a new query tracker plan from the template for compile plan
+	 * (null if there is no valid template)
+	 *
+	 * @param cplan
+	 * @return
+	 */
+	public synchronized QueryTrackerPlan instantiate(CompilePlan cplan) {
+		if (!isCacheable(cplan))
+			return null;
+
+		Template template = this.templates.get(cplan.getFingerprint());
+		if (template != null
+				&& template.catalogVersion != cplan.getCatalogVersion()) {
+			this.templates.remove(cplan.getFingerprint());
+			this.invalidations++;
+			template = null;
+		}
+
+		if (template == null) {
+			this.misses++;
+			return null;
+		}
+
+		List<AbstractTrackerOperator> ops = this.readOperators(template);
+		if (ops == null) {
+			this.templates.remove(cplan.getFingerprint());
+			this.misses++;
+			return null;
+		}
+
+		// add copies of operators with fresh IDs
+		QueryTrackerPlan qplan = new QueryTrackerPlan();
+		Map<Identifier, Identifier> idMapping = new HashMap<Identifier, Identifier>();
+		for (AbstractTrackerOperator op : ops) {
+			Identifier templateId = op.getOperatorId();
+			qplan.addOperator(op);
+			idMapping.put(templateId, op.getOperatorId());
+		}
+
+		// connect operators
+		for (AbstractTrackerOperator op : ops) {
+			op.remapSourceIds(idMapping);
+		}
+		for (Map.Entry<Identifier, Identifier> entry : idMapping.entrySet()) {
+			qplan.setSources(entry.getValue(), remap(
+					template.sources.get(entry.getKey()), idMapping));
+			qplan.setConsumers(entry.getValue(), remap(
+					template.consumers.get(entry.getKey()), idMapping));
+		}
+
+		this.hits++;
+		this.savedTime += template.codeGenTime;
+		this.logger.log(Level.INFO, "Reused template for plan "
+				+ qplan.getPlanId() + " " + this.toString());
+		return qplan;
+	}
+
+	/**
+	 * Adds generated query tracker plan as template for compile plan: must be
+	 * called before plan is deployed
+	 *
+	 * @param cplan
+	 * @param qplan
+	 * @param codeGenTime
+	 */
+	public synchronized void put(CompilePlan cplan, QueryTrackerPlan qplan,
+			long codeGenTime) {
+		if (!isCacheable(cplan))
+			return;
+
+		List<AbstractTrackerOperator> ops = new ArrayList<AbstractTrackerOperator>();
+		for (Identifier opId : qplan.getTrackerOperatorIds()) {
+			ops.add(qplan.getTrackerOperator(opId));
+		}
+
+		byte[] serializedOps;
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(ops);
+			out.close();
+			serializedOps = bytes.toByteArray();
+		} catch (IOException e) {
+			this.logger.log(Level.WARNING, "Plan " + qplan.getPlanId()
+					+ " can not be cached: " + e.toString());
+			return;
+		}
+
+		Template template = new Template(cplan.getCatalogVersion(),
+				serializedOps, codeGenTime);
+		for (Identifier opId : qplan.getTrackerOperatorIds()) {
+			template.sources.put(opId,
+					new HashSet<Identifier>(qplan.getSources(opId)));
+			template.consumers.put(opId,
+					new HashSet<Identifier>(qplan.getConsumers(opId)));
+		}
+		this.templates.put(cplan.getFingerprint(), template);
+	}
+
+	/**
+	 * Removes all templates
+	 */
+	public synchronized void clear() {
+		this.templates.clear();
+	}
+
+	/**
+	 * Deserializes a fresh copy of the operators of a template
+	 *
+	 * @param template
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private List<AbstractTrackerOperator> readOperators(Template template) {
+		try {
+			ObjectInputStream in = new ObjectInputStream(
+					new ByteArrayInputStream(template.operators));
+			List<AbstractTrackerOperator> ops = (List<AbstractTrackerOperator>) in
+					.readObject();
+			in.close();
+			return ops;
+		} catch (Exception e) {
+			this.logger.log(Level.WARNING, "Template can not be read: "
+					+ e.toString());
+			return null;
+		}
+	}
+
+	private static Set<Identifier> remap(Set<Identifier> ids,
+			Map<Identifier, Identifier> idMapping) {
+		Set<Identifier> remapped = new HashSet<Identifier>();
+		if (ids == null)
+			return remapped;
+
+		for (Identifier id : ids) {
+			remapped.add(idMapping.get(id));
+		}
+		return remapped;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "[templates=" + this.templates.size() + ", hits=" + this.hits
+				+ ", misses=" + this.misses + ", hitRate=" + this.getHitRate()
+				+ ", savedTime=" + this.savedTime + " ms]";
+	}
+}
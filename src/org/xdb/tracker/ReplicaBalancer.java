@@ -0,0 +1,128 @@
+package org.xdb.tracker;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xdb.utils.Identifier;
+
+/**
+ * Balances reads of replicated base table partitions across their replicas:
+ * counts the reads which are currently assigned to each replica host by
+ * deployed execute operators of all plans of a query tracker.
+ */
+public class ReplicaBalancer {
+
+	// number of assigned reads per replica host
+	private final Map<String, Integer> hostLoad = new HashMap<String, Integer>();
+
+	// replica hosts read by execute operator
+	private final Map<Identifier, List<String>> opReads = new HashMap<Identifier, List<String>>();
+
+	// getters and setters
+	public synchronized int getLoad(String host) {
+		Integer load = this.hostLoad.get(host.toLowerCase());
+		if (load == null)
+			return 0;
+		return load;
+	}
+
+	// methods
+	/**
+	 * Ranks replicas of a partition for an operator on given host: a local
+	 * replica comes first, remote replicas are ordered by their current load
+	 * (ties keep order of catalog)
+	 *
+	 * @param replicas
+	 * @param deployHost
+	 * @return
+	 */
+	public synchronized List<URI> rankReplicas(List<URI> replicas,
+			final String deployHost) {
+		final List<URI> ranked = new ArrayList<URI>(replicas);
+		final List<URI> original = replicas;
+		Collections.sort(ranked, new Comparator<URI>() {
+			@Override
+			public int compare(URI u1, URI u2) {
+				boolean local1 = isSameHost(u1.getHost(), deployHost);
+				boolean local2 = isSameHost(u2.getHost(), deployHost);
+				if (local1 != local2)
+					return local1 ? -1 : 1;
+
+				int cmp = getLoad(u1.getHost()) - getLoad(u2.getHost());
+				if (cmp != 0)
+					return cmp;
+				return original.indexOf(u1) - original.indexOf(u2);
+			}
+		});
+		return ranked;
+	}
+
+	/**
+	 * Registers a read of an execute operator from replica host
+	 *
+	 * @param execOpId
+	 * @param host
+	 */
+	public synchronized void acquire(Identifier execOpId, String host) {
+		host = host.toLowerCase();
+		List<String> reads = this.opReads.get(execOpId);
+		if (reads == null) {
+			reads = new ArrayList<String>();
+			this.opReads.put(execOpId, reads);
+		}
+		reads.add(host);
+		this.hostLoad.put(host, this.getLoad(host) + 1);
+	}
+
+	/**
+	 * Removes all reads of an execute operator
+	 *
+	 * @param execOpId
+	 */
+	public synchronized void release(Identifier execOpId) {
+		List<String> reads = this.opReads.remove(execOpId);
+		if (reads == null)
+			return;
+
+		for (String host : reads) {
+			int load = this.getLoad(host) - 1;
+			if (load > 0)
+				this.hostLoad.put(host, load);
+			else
+				this.hostLoad.remove(host);
+		}
+	}
+
+	/**
+	 * Checks if both host names denote the same machine
+	 *
+	 * @param host1
+	 * @param host2
+	 * @return
+	 */
+	private static boolean isSameHost(String host1, String host2) {
+		if (host1 == null || host2 == null)
+			return false;
+		if (host1.equalsIgnoreCase(host2))
+			return true;
+
+		try {
+			return InetAddress.getByName(host1).equals(
+					InetAddress.getByName(host2));
+		} catch (UnknownHostException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return this.hostLoad.toString();
+	}
+}
@@ -7,14 +7,18 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.MySQLExecuteOperator;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.funsql.compile.tokens.TokenParameter;
 import org.xdb.metadata.Connection;
 import org.xdb.utils.Identifier;
 import org.xdb.utils.StringTemplate;
@@ -33,6 +37,12 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	
 	protected double runtime;
 
+	// estimated size of output in bytes (-1 if unknown)
+	protected long outputSize = -1;
+
+	// estimated rows of output before Bloom filter (-1 if not filtered)
+	protected long filterInputRows = -1;
+
 	private static final String OUTPUT_TABLE_DDL = " ENGINE="+Config.COMPUTE_ENGINE;
 
 	private static final StringTemplate INPUT_TABLE_DDL = new StringTemplate(
@@ -49,6 +59,9 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	private static final String KEY_TABLE = "TABLE";
 	private static final String KEY_DB = "DB";
 
+	// suffix of federated tables which read the output to be replicated
+	private static final String REPLICA_SOURCE_SUFFIX = "_SRC";
+
 	// map: output table name -> DDLs
 	protected HashMap<String, StringTemplate> outTables = new HashMap<String, StringTemplate>();
 
@@ -61,12 +74,19 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	// map: input view name -> DDLs
 	protected HashMap<String, StringTemplate> inViews = new HashMap<String, StringTemplate>();
 
+	// output tables which do not count as output of operator (e.g., Bloom filters)
+	protected HashSet<String> auxOutTables = new HashSet<String>();
+
 	// map: output table name -> PartitionInfo String
 	protected HashMap<String, String> outTablesPartDesc = new HashMap<String, String>();
 
 	// map: federated table names -> TableDesc
 	protected HashMap<String, TableDesc> inFederatedTables = new HashMap<String, TableDesc>();
 
+	// output read by an equi join which may switch between re-partitioning
+	// and broadcasting (null otherwise)
+	protected JoinInputDesc joinInput = null;
+
 	// list: possible connections
 	// "ranked based on the frequencies of the connections"
 	protected List<Connection> trackerOpConnections = new ArrayList<Connection>();
@@ -74,9 +94,15 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	// unique operator id
 	protected Identifier operatorId;
 
+	// compile operator which generated this operator (same for all partitions)
+	protected Identifier compileOperatorId;
+
 	// flag for root operator
 	protected boolean isRoot = false;
 
+	// map: template variable -> value of parameter marker
+	protected HashMap<String, String> parameters = new HashMap<String, String>();
+
 	// Error handling
 	protected Error err = new Error();
 
@@ -100,6 +126,22 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	public double getRuntime(){
 		return this.runtime;
 	}
+
+	public void setOutputSize(long outputSize){
+		this.outputSize = outputSize;
+	}
+
+	public long getOutputSize(){
+		return this.outputSize;
+	}
+
+	public void setFilterInputRows(long filterInputRows){
+		this.filterInputRows = filterInputRows;
+	}
+
+	public long getFilterInputRows(){
+		return this.filterInputRows;
+	}
 	
 	// getters and setters
 	public void setIsRoot(boolean isRoot) {
@@ -114,6 +156,49 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		return isRoot;
 	}
 
+	/**
+	 * Binds values of parameter markers which are instantiated in the SQL
+	 * statements of the operator when it is deployed (see instantiate)
+	 * 
+	 * @param parameters
+	 *            map: template variable -> SQL literal
+	 */
+	public void bindParameters(final Map<String, String> parameters) {
+		this.parameters.clear();
+		for (Map.Entry<String, String> param : parameters.entrySet()) {
+			// values are used as replacement strings of templates
+			this.parameters.put(param.getKey(),
+					Matcher.quoteReplacement(param.getValue()));
+		}
+	}
+
+	/**
+	 * Instantiates template with given table names of deployment and then
+	 * with bound parameter values in a single pass: values are inserted last
+	 * so that tags in string values are never instantiated
+	 * 
+	 * @param template
+	 * @param args
+	 * @return
+	 */
+	protected String instantiate(final StringTemplate template,
+			final Map<String, String> args) {
+		String sql = template.toString(args);
+		if (this.parameters.isEmpty())
+			return sql;
+
+		Matcher matcher = TokenParameter.KEY_PATTERN.matcher(sql);
+		StringBuffer instance = new StringBuffer();
+		while (matcher.find()) {
+			String value = this.parameters.get(matcher.group(1));
+			if (value == null)
+				value = Matcher.quoteReplacement(matcher.group());
+			matcher.appendReplacement(instance, value);
+		}
+		matcher.appendTail(instance);
+		return instance.toString();
+	}
+
 	public void addInTableFederated(final String tableName,
 			final TableDesc tableDesc) {
 		inFederatedTables.put(tableName, tableDesc);
@@ -123,6 +208,26 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		inTables.put(tableName, tableDDL);
 	}
 
+	public Collection<TableDesc> getInTablesFederated() {
+		return inFederatedTables.values();
+	}
+
+	/**
+	 * Returns base table inputs which are stored on more than one connection
+	 * 
+	 * @return map: table name -> TableDesc
+	 */
+	public Map<String, TableDesc> getReplicatedInTables() {
+		Map<String, TableDesc> replicated = new HashMap<String, TableDesc>();
+		for (Map.Entry<String, TableDesc> entry : inFederatedTables.entrySet()) {
+			TableDesc tableDesc = entry.getValue();
+			if (!tableDesc.isTemp() && tableDesc.getURIs() != null
+					&& tableDesc.getURIs().size() > 1)
+				replicated.put(entry.getKey(), tableDesc);
+		}
+		return replicated;
+	}
+
 	public Collection<StringTemplate> getInTables() {
 		return inTables.values();
 	}
@@ -148,6 +253,11 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		outTablesPartDesc.put(tableName, partition);
 	}
 
+	public void addAuxOutTable(final String tableName, final String tableDDL) {
+		outTables.put(tableName, new StringTemplate(tableDDL));
+		auxOutTables.add(tableName);
+	}
+
 	public Collection<StringTemplate> getOutTables() {
 		return outTables.values();
 	}
@@ -160,10 +270,75 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		this.inViews.put(viewName, new StringTemplate(viewDML));
 	}
 
+	public void setJoinInput(final JoinInputDesc joinInput) {
+		this.joinInput = joinInput;
+	}
+
+	public JoinInputDesc getJoinInput() {
+		return this.joinInput;
+	}
+
+	/**
+	 * Switches output which is read by an equi join between broadcasting it
+	 * in one partition and re-partitioning it by the join key (must be
+	 * called before operator is deployed)
+	 * 
+	 * @param broadcast
+	 */
+	public void broadcastOutput(final boolean broadcast) {
+		String tableName = this.joinInput.getTableName();
+		if (broadcast) {
+			this.outTablesPartDesc.remove(tableName);
+			this.outViews.keySet().removeAll(
+					this.joinInput.getViews().keySet());
+		} else {
+			this.outTablesPartDesc.put(tableName,
+					this.joinInput.getRePartitionDDL());
+			for (Map.Entry<String, String> view : this.joinInput.getViews()
+					.entrySet()) {
+				this.addOutView(view.getKey(), view.getValue());
+			}
+		}
+		this.joinInput.setBroadcast(broadcast);
+	}
+
+	/**
+	 * Reads complete output of source if it is broadcast or the part of this
+	 * operator otherwise (after source switched its output)
+	 * 
+	 * @param sourceId
+	 * @param sourceOutput
+	 */
+	public void readJoinInput(final Identifier sourceId,
+			final JoinInputDesc sourceOutput) {
+		for (TableDesc tableDesc : this.inFederatedTables.values()) {
+			if (!tableDesc.isTemp()
+					|| !tableDesc.getOperatorID().equals(sourceId)
+					|| tableDesc.getPartTableName() == null)
+				continue;
+
+			if (sourceOutput.isBroadcast()) {
+				tableDesc.setTableName(sourceOutput.getTableName());
+				tableDesc.setSourceParts(1);
+			} else {
+				tableDesc.setTableName(tableDesc.getPartTableName());
+				tableDesc.setSourceParts(sourceOutput.getPartitionCount());
+			}
+		}
+	}
+
 	public void setOperatorId(final Identifier operatorId) {
 		this.operatorId = operatorId;
 	}
 
+	public void setCompileOperatorId(final Identifier compileOperatorId) {
+		this.compileOperatorId = compileOperatorId;
+	}
+
+	public Identifier getCompileOperatorId() {
+		return this.compileOperatorId;
+	}
+
 	public Identifier getOperatorId() {
 		return operatorId;
 	}
@@ -177,6 +352,22 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	}
 
 	// methods
+	/**
+	 * Replaces IDs of source tracker operators in intermediate inputs (used
+	 * when operator is copied into another plan)
+	 * 
+	 * @param idMapping
+	 *            old tracker operator ID -> new tracker operator ID
+	 */
+	public void remapSourceIds(Map<Identifier, Identifier> idMapping) {
+		for (TableDesc tableDesc : this.inFederatedTables.values()) {
+			if (tableDesc.isTemp()
+					&& idMapping.containsKey(tableDesc.getOperatorID()))
+				tableDesc.setOperatorID(idMapping.get(tableDesc
+						.getOperatorID()));
+		}
+	}
+
 	public abstract AbstractExecuteOperator genDeployOperator(
 			OperatorDesc operDesc,
 			Map<Identifier, OperatorDesc> currentDeployment);
@@ -230,14 +421,31 @@ public abstract class AbstractTrackerOperator implements Serializable {
 			}
 			// input table is stored in an XDB instance
 			else {
-				URI connURI = inTableDesc.getURI();
+				// replicas are ranked by query tracker (first is read)
+				List<URI> replicas = operDesc.getInputReplicas(tableName);
+				URI connURI = replicas != null ? replicas.get(0) : inTableDesc
+						.getURI();
 				String sourceTableName = inTableDesc.getTableName();
 				String sourceURL = connURI.getHost();
 				String sourceDB = connURI.getPath().substring(1);
 
 				String deployTableDDL = this.genDeployInputTableDDL(tableName,
 						deployOperId, sourceTableName, sourceDB, sourceURL);
-				execOp.addOpenSQL(deployTableDDL);
+
+				// other replicas are used if first one fails
+				if (replicas != null && replicas.size() > 1) {
+					List<String> replicaDDLs = new ArrayList<String>();
+					replicaDDLs.add(deployTableDDL);
+					for (URI replicaURI : replicas.subList(1, replicas.size())) {
+						replicaDDLs.add(this.genDeployInputTableDDL(tableName,
+								deployOperId, sourceTableName, replicaURI
+										.getPath().substring(1), replicaURI
+										.getHost()));
+					}
+					execOp.addReplicatedOpenSQL(deployTableName, replicaDDLs);
+				} else {
+					execOp.addOpenSQL(deployTableDDL);
+				}
 
 				// if URL of table is local then use directly its output
 				if (isLocalInput(sourceURL, deployURL)) {
@@ -256,6 +464,8 @@ public abstract class AbstractTrackerOperator implements Serializable {
 			String deployTableDDL = this.genDeployOutputTableDDL(tableName,
 					deployOperId, args);
 			execOp.addOpenSQL(deployTableDDL);
+			if (!this.auxOutTables.contains(tableName))
+				execOp.addOutTableName(genDeployName(tableName, deployOperId));
 		}
 		
 		for (String viewName : this.inViews.keySet()) {
@@ -290,6 +500,62 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		return args;
 	}
 
+	/**
+	 * Checks if output of operator can be replicated to another compute node
+	 * (i.e., consumers only read output tables)
+	 * 
+	 * @return
+	 */
+	public boolean isReplicable() {
+		return this.outViews.isEmpty() && !this.outTables.isEmpty();
+	}
+
+	/**
+	 * Generates operator which copies the output tables of a deployed
+	 * operator to the compute node of the replica. Output tables of the copy
+	 * are named by the replica such that consumers can read them instead of
+	 * the original output.
+	 * 
+	 * @param sourceDesc
+	 * @param replicaDesc
+	 * @return
+	 */
+	public AbstractExecuteOperator genReplicaOperator(OperatorDesc sourceDesc,
+			OperatorDesc replicaDesc) {
+		Identifier replicaOperId = replicaDesc.getOperatorID();
+		MySQLExecuteOperator execOp = new MySQLExecuteOperator(replicaOperId);
+		Map<String, String> args = new HashMap<String, String>();
+
+		for (String tableName : this.outTables.keySet()) {
+			String copyTableName = genDeployName(tableName
+					+ REPLICA_SOURCE_SUFFIX, replicaOperId);
+
+			// federated table which reads original output
+			final StringBuffer copyTableDDL = new StringBuffer(CREATE_TABLE_DDL);
+			args.put(tableName, copyTableName);
+			copyTableDDL.append(this.outTables.get(tableName).toString(args));
+			Map<String, String> fedArgs = new HashMap<String, String>();
+			fedArgs.put(KEY_HOST, sourceDesc.getComputeNode().getUrl());
+			fedArgs.put(KEY_TABLE,
+					genDeployName(tableName, sourceDesc.getOperatorID()));
+			copyTableDDL.append(INPUT_TABLE_DDL.toString(fedArgs));
+			execOp.addOpenSQL(copyTableDDL.toString());
+
+			// replicated output table
+			execOp.addOpenSQL(this.genDeployOutputTableDDL(tableName,
+					replicaOperId, args));
+			String replicaTableName = genDeployName(tableName, replicaOperId);
+			execOp.addOutTableName(replicaTableName);
+			execOp.addExecuteSQL("INSERT INTO " + replicaTableName
+					+ " SELECT * FROM " + copyTableName);
+
+			execOp.addCloseSQL(DROP_TABLE_DDL + copyTableName);
+			execOp.addCloseSQL(genDropDeployTableDDL(tableName, replicaOperId));
+		}
+
+		return execOp;
+	}
+
 	/**
 	 * Generate SQL DDL to deploy partitioned in-memory output table
 	 * @param tableName
@@ -0,0 +1,76 @@
+package org.xdb.tracker.operator;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes the output of an operator which is only read by the partitions
+ * of an equi join: the output is either re-partitioned by the join key (one
+ * view per partition of the join) or broadcast in one partition to all
+ * partitions of the join. The query tracker switches between both while the
+ * operator is not deployed yet.
+ */
+public class JoinInputDesc implements Serializable {
+
+	private static final long serialVersionUID = -3861440577513407452L;
+
+	// output table of operator
+	private String tableName;
+
+	// partition specification of output table if re-partitioned
+	private String rePartitionDDL;
+
+	// map: output view name -> DDL (one view per partition of join)
+	private Map<String, String> views = new LinkedHashMap<String, String>();
+
+	// true if output is broadcast
+	private boolean broadcast;
+
+	// true if other input of join is partitioned by join key (output can
+	// only be re-partitioned then)
+	private boolean keyPartitioned;
+
+	// constructor
+	public JoinInputDesc(String tableName, String rePartitionDDL,
+			boolean broadcast, boolean keyPartitioned) {
+		super();
+		this.tableName = tableName;
+		this.rePartitionDDL = rePartitionDDL;
+		this.broadcast = broadcast;
+		this.keyPartitioned = keyPartitioned;
+	}
+
+	// getters and setters
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	public String getRePartitionDDL() {
+		return this.rePartitionDDL;
+	}
+
+	public void addView(String viewName, String viewDML) {
+		this.views.put(viewName, viewDML);
+	}
+
+	public Map<String, String> getViews() {
+		return this.views;
+	}
+
+	public int getPartitionCount() {
+		return this.views.size();
+	}
+
+	public boolean isBroadcast() {
+		return this.broadcast;
+	}
+
+	public void setBroadcast(boolean broadcast) {
+		this.broadcast = broadcast;
+	}
+
+	public boolean isKeyPartitioned() {
+		return this.keyPartitioned;
+	}
+}
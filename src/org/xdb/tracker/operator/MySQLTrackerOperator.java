@@ -16,6 +16,11 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 	private static final long serialVersionUID = -6394800229111645825L;
 	private Vector<StringTemplate> executeSQLs = new Vector<StringTemplate>();
 
+	// alternative DMLs executed if check query exceeds bypass ratio
+	private StringTemplate bypassCheckSQL = null;
+	private double bypassRatio;
+	private Vector<StringTemplate> bypassSQLs = new Vector<StringTemplate>();
+
 	// constructors
 	public MySQLTrackerOperator() {
 		super();
@@ -30,6 +35,15 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 		return executeSQLs;
 	}
 
+	public void setBypass(StringTemplate checkSQL, double ratio) {
+		this.bypassCheckSQL = checkSQL;
+		this.bypassRatio = ratio;
+	}
+
+	public void addBypassSQL(StringTemplate dml) {
+		this.bypassSQLs.add(dml);
+	}
+
 	// methods
 	@Override
 	public AbstractExecuteOperator genDeployOperator(OperatorDesc operDesc,
@@ -44,7 +58,15 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 
 		// generate DMLs to execute operator
 		for (StringTemplate executeSQL : this.executeSQLs) {
-			execOp.addExecuteSQL(executeSQL.toString(args));
+			execOp.addExecuteSQL(this.instantiate(executeSQL, args));
+		}
+
+		if (this.bypassCheckSQL != null) {
+			execOp.setBypass(this.instantiate(this.bypassCheckSQL, args),
+					this.bypassRatio);
+			for (StringTemplate bypassSQL : this.bypassSQLs) {
+				execOp.addBypassSQL(this.instantiate(bypassSQL, args));
+			}
 		}
 
 		return execOp;
@@ -19,6 +19,17 @@ public class TableDesc implements Serializable {
 		//table connections 
 		private List<URI> uris;
 		
+		//estimated size of table in bytes (-1 if unknown)
+		private long size = -1;
+		
+		//number of parts the output of the source operator is split into
+		//(1 if table holds the complete output, e.g., for broadcasts)
+		private int sourceParts = 1;
+		
+		//name of part which is read if source re-partitions its output
+		//(only set if source may switch to broadcasting, see JoinInputDesc)
+		private String partTableName = null;
+		
 		//constructor for intermediate result
 		public TableDesc(String tableName, Identifier operatorId) {
 			super();
@@ -42,10 +53,26 @@ public class TableDesc implements Serializable {
 		public String getTableName() {
 			return tableName;
 		}
+		
+		public void setTableName(String tableName) {
+			this.tableName = tableName;
+		}
+		
+		public String getPartTableName() {
+			return partTableName;
+		}
+		
+		public void setPartTableName(String partTableName) {
+			this.partTableName = partTableName;
+		}
 
 		public Identifier getOperatorID() {
 			return operatorId;
 		}
+		
+		public void setOperatorID(Identifier operatorId) {
+			this.operatorId = operatorId;
+		}
 
 		public URI getURI() {
 			if(this.uris.size()==0)
@@ -54,6 +81,26 @@ public class TableDesc implements Serializable {
 			return uris.get(0);
 		}
 		
+		public List<URI> getURIs() {
+			return uris;
+		}
+		
+		public long getSize() {
+			return size;
+		}
+		
+		public void setSize(long size) {
+			this.size = size;
+		}
+		
+		public int getSourceParts() {
+			return sourceParts;
+		}
+		
+		public void setSourceParts(int sourceParts) {
+			this.sourceParts = sourceParts;
+		}
+		
 		//methods
 		@Override
 		public int hashCode(){
@@ -1,13 +1,22 @@
 package org.xdb.tracker.scheduler;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.xdb.Config;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
 import org.xdb.utils.Identifier;
 
 /**
@@ -46,6 +55,10 @@ public abstract class AbstractResourceScheduler {
 			return new WishlistAwareScheduler(plan);
 		case SIMULATION:
 			return new SimulationResourceScheduler(plan);
+		case TRANSFER_AWARE:
+			return new TransferAwareScheduler(plan);
+		case MAKESPAN_AWARE:
+			return new MakespanAwareScheduler(plan);
 		}
 		return new SimpleResourceScheduler(plan);
 	}
@@ -105,4 +118,197 @@ public abstract class AbstractResourceScheduler {
 	}
 
 	public abstract List<ComputeNodeDesc> getAllComputeNodes(Identifier opId);
+
+	/**
+	 * Ranks compute nodes of an operator which is deployed after its sources
+	 * by the number of bytes it reads from other nodes using the actual
+	 * placement and measured output sizes of the sources (ties keep order of
+	 * scheduler)
+	 * 
+	 * @param opId
+	 * @param placement
+	 * @return
+	 */
+	public List<ComputeNodeDesc> rankComputeNodes(final Identifier opId,
+			final Map<Identifier, ComputeNodeDesc> placement) {
+		final List<ComputeNodeDesc> ranked = new ArrayList<ComputeNodeDesc>(
+				this.getAllComputeNodes(opId));
+		final Map<ComputeNodeDesc, Long> costs = new IdentityHashMap<ComputeNodeDesc, Long>();
+		for (ComputeNodeDesc node : ranked) {
+			costs.put(node,
+					this.computeTransferCost(opId, node, placement, true));
+		}
+
+		Collections.sort(ranked, new Comparator<ComputeNodeDesc>() {
+			@Override
+			public int compare(ComputeNodeDesc n1, ComputeNodeDesc n2) {
+				return costs.get(n1).compareTo(costs.get(n2));
+			}
+		});
+		return ranked;
+	}
+
+	/**
+	 * Called after plan was executed with the final deployment of the plan
+	 * 
+	 * @param deployment
+	 */
+	public void planExecuted(Map<Identifier, OperatorDesc> deployment) {
+		// nothing to do by default
+	}
+
+	/**
+	 * Computes number of bytes which must be transferred to given node if
+	 * operator is executed on that node
+	 *
+	 * @param opId
+	 * @param node
+	 * @param opPlacement
+	 * @param measured
+	 *            use measured output sizes if available
+	 * @return
+	 */
+	protected long computeTransferCost(Identifier opId, ComputeNodeDesc node,
+			Map<Identifier, ComputeNodeDesc> opPlacement, boolean measured) {
+		long cost = 0;
+		AbstractTrackerOperator op = this.plan.getTrackerOperator(opId);
+
+		for (TableDesc inTable : op.getInTablesFederated()) {
+			// input is intermediate result of source operator
+			if (inTable.isTemp()) {
+				ComputeNodeDesc sourceNode = opPlacement.get(inTable
+						.getOperatorID());
+				if (sourceNode != null && sourceNode.equalsWPort(node))
+					continue;
+			}
+			// input is partition of base table
+			else if (isLocalTable(inTable, node)) {
+				continue;
+			}
+
+			cost += this.estimateInputSize(inTable, measured);
+		}
+		return cost;
+	}
+
+	/**
+	 * Estimates number of bytes an operator reads from given input table
+	 * 
+	 * @param inTable
+	 * @param measured
+	 *            use measured output sizes if available
+	 * @return
+	 */
+	protected long estimateInputSize(TableDesc inTable, boolean measured) {
+		return this.estimateInputSize(inTable, measured,
+				new HashMap<Identifier, Long>());
+	}
+
+	private long estimateInputSize(TableDesc inTable, boolean measured,
+			Map<Identifier, Long> outputSizes) {
+		// input is partition of base table
+		if (!inTable.isTemp()) {
+			long size = inTable.getSize();
+			if (size < 0)
+				size = Config.QUERYTRACKER_DEFAULT_SIZE;
+			return size;
+		}
+
+		// input is intermediate result of source operator: if the output was
+		// repartitioned the table only holds one part of it, else (e.g., for
+		// broadcasts or outputs read by several consumers) the complete output
+		long size = this.estimateOutputSize(inTable.getOperatorID(), measured,
+				outputSizes);
+		if (inTable.getSourceParts() > 1)
+			size /= inTable.getSourceParts();
+
+		return size;
+	}
+
+	/**
+	 * Estimates output size of an operator: if neither a measured nor an
+	 * estimated size is known, the operator is assumed to return as many
+	 * bytes as it reads
+	 * 
+	 * @param opId
+	 * @param measured
+	 * @param outputSizes
+	 *            output sizes derived so far
+	 * @return
+	 */
+	private long estimateOutputSize(Identifier opId, boolean measured,
+			Map<Identifier, Long> outputSizes) {
+		if (outputSizes.containsKey(opId))
+			return outputSizes.get(opId);
+
+		AbstractTrackerOperator op = this.plan.getTrackerOperator(opId);
+		long size = measured ? this.plan.getOutputSize(opId) : op
+				.getOutputSize();
+		if (size >= 0)
+			return size;
+
+		// guards against cycles while size is derived
+		outputSizes.put(opId, (long) Config.QUERYTRACKER_DEFAULT_SIZE);
+		if (!op.getInTablesFederated().isEmpty()) {
+			size = 0;
+			for (TableDesc inTable : op.getInTablesFederated()) {
+				size += this.estimateInputSize(inTable, measured, outputSizes);
+			}
+			outputSizes.put(opId, size);
+		}
+		return outputSizes.get(opId);
+	}
+
+	/**
+	 * Returns hosts of all base table partitions read by an operator
+	 *
+	 * @param op
+	 * @return
+	 */
+	protected Set<String> getInputHosts(AbstractTrackerOperator op) {
+		Set<String> hosts = new HashSet<String>();
+		for (TableDesc inTable : op.getInTablesFederated()) {
+			if (inTable.isTemp() || inTable.getURIs() == null)
+				continue;
+
+			for (URI uri : inTable.getURIs()) {
+				hosts.add(uri.getHost());
+			}
+		}
+		return hosts;
+	}
+
+	/**
+	 * Checks if one replica of a base table is stored on given node
+	 *
+	 * @param inTable
+	 * @param node
+	 * @return
+	 */
+	protected static boolean isLocalTable(TableDesc inTable, ComputeNodeDesc node) {
+		if (inTable.getURIs() == null)
+			return false;
+
+		for (URI uri : inTable.getURIs()) {
+			if (node.getUrl().equalsIgnoreCase(uri.getHost()))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Finds compute node (URL and port) in list
+	 *
+	 * @param nodes
+	 * @param node
+	 * @return
+	 */
+	protected static ComputeNodeDesc findNode(List<ComputeNodeDesc> nodes,
+			ComputeNodeDesc node) {
+		for (ComputeNodeDesc n : nodes) {
+			if (n.equalsWPort(node))
+				return n;
+		}
+		return null;
+	}
 }
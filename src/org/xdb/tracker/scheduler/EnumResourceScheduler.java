@@ -3,5 +3,7 @@ package org.xdb.tracker.scheduler;
 public enum EnumResourceScheduler {
 	SIMPLE,
 	WISHLIST_AWARE,
-	SIMULATION
+	SIMULATION,
+	TRANSFER_AWARE,
+	MAKESPAN_AWARE
 }
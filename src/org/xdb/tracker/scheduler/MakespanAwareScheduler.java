@@ -0,0 +1,368 @@
+package org.xdb.tracker.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.Connection;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.utils.Identifier;
+
+/**
+ * Resource scheduler which places the operators of a plan such that the
+ * estimated makespan is minimal (HEFT list scheduling). Operator costs are
+ * the runtime and materialization estimates set by the code generator,
+ * communication costs are the estimated bytes read over FEDERATED tables
+ * divided by QUERYTRACKER_NETWORK_BANDWIDTH.
+ *
+ * In SIMULATION_MODE the scheduler uses the same simulated compute nodes as
+ * SimulationResourceScheduler, so that both can be compared without a
+ * cluster.
+ */
+public class MakespanAwareScheduler extends AbstractResourceScheduler {
+	private static String SIMULATION_HOST = "127.0.0.1";
+
+	// compute nodes which can be used for placement
+	private List<ComputeNodeDesc> computeNodes = new ArrayList<ComputeNodeDesc>();
+
+	// planned placement: tracker operator ID -> compute node
+	private Map<Identifier, ComputeNodeDesc> placement = new HashMap<Identifier, ComputeNodeDesc>();
+
+	// alternative compute nodes per tracker operator ordered by finish time
+	private Map<Identifier, List<ComputeNodeDesc>> alternatives = new HashMap<Identifier, List<ComputeNodeDesc>>();
+
+	// upward ranks of tracker operators
+	private Map<Identifier, Double> ranks = new HashMap<Identifier, Double>();
+
+	// estimated makespan of planned placement in s
+	private double estimatedMakespan = 0.0;
+
+	// logger
+	private Logger logger;
+
+	// constructor
+	public MakespanAwareScheduler(QueryTrackerPlan plan) {
+		super(plan);
+
+		this.type = EnumResourceScheduler.MAKESPAN_AWARE;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+
+		if (Config.SIMULATION_MODE) {
+			for (int i = 0; i < Config.NUMBER_OF_NODES; ++i) {
+				this.computeNodes.add(new ComputeNodeDesc(SIMULATION_HOST,
+						Config.COMPUTE_PORT + i));
+			}
+		}
+	}
+
+	// getters and setters
+	public double getEstimatedMakespan() {
+		return this.estimatedMakespan;
+	}
+
+	public Map<Identifier, ComputeNodeDesc> getPlacement() {
+		return Collections.unmodifiableMap(this.placement);
+	}
+
+	@Override
+	public int getNumberOfConnections(Identifier opId) {
+		if (!this.alternatives.containsKey(opId))
+			return 0;
+
+		return this.alternatives.get(opId).size();
+	}
+
+	// methods
+	@Override
+	public Set<String> createComputeNodesWishList() {
+		Set<String> wishedHosts = new HashSet<String>();
+		if (Config.SIMULATION_MODE) {
+			wishedHosts.add(SIMULATION_HOST);
+			return wishedHosts;
+		}
+
+		for (AbstractTrackerOperator op : this.plan.getTrackerOperators()) {
+			wishedHosts.addAll(this.getInputHosts(op));
+			for (Connection conn : op.getTrackerOpConnections()) {
+				wishedHosts.add(conn.getURI().getHost());
+			}
+		}
+
+		if (wishedHosts.isEmpty())
+			wishedHosts.add(RANDOM_COMPUTE_NODE);
+
+		return wishedHosts;
+	}
+
+	@Override
+	public void assignComputeNodes(Map<String, ComputeNodeDesc> nodes) {
+		super.assignComputeNodes(nodes);
+
+		// simulated compute nodes are fixed
+		if (!Config.SIMULATION_MODE) {
+			this.computeNodes.clear();
+			for (ComputeNodeDesc node : this.assignedComputeNodes.values()) {
+				if (findNode(this.computeNodes, node) == null)
+					this.computeNodes.add(node);
+			}
+		}
+
+		this.computeSchedule();
+	}
+
+	@Override
+	public void clearAssignedComputeNodes() {
+		super.clearAssignedComputeNodes();
+		if (!Config.SIMULATION_MODE)
+			this.computeNodes.clear();
+		this.placement.clear();
+		this.alternatives.clear();
+		this.ranks.clear();
+		this.estimatedMakespan = 0.0;
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(Identifier opId) {
+		return this.placement.get(opId);
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(Identifier opId, int nodeNumber) {
+		if (!this.alternatives.containsKey(opId))
+			return null;
+
+		List<ComputeNodeDesc> nodes = this.alternatives.get(opId);
+		if (nodeNumber >= nodes.size())
+			return null;
+
+		return nodes.get(nodeNumber);
+	}
+
+	@Override
+	public List<ComputeNodeDesc> getAllComputeNodes(Identifier opId) {
+		if (!this.alternatives.containsKey(opId))
+			return new ArrayList<ComputeNodeDesc>();
+
+		return this.alternatives.get(opId);
+	}
+
+	@Override
+	public void planExecuted(Map<Identifier, OperatorDesc> deployment) {
+		Map<Identifier, ComputeNodeDesc> actualPlacement = new HashMap<Identifier, ComputeNodeDesc>();
+		for (Map.Entry<Identifier, OperatorDesc> entry : deployment.entrySet()) {
+			actualPlacement.put(entry.getKey(), entry.getValue()
+					.getComputeNode());
+		}
+
+		this.logger.log(Level.INFO, "Makespan for plan "
+				+ this.plan.getPlanId() + ": estimated "
+				+ this.estimatedMakespan + " s, estimated for deployment "
+				+ this.estimateMakespan(actualPlacement) + " s, actual "
+				+ this.plan.getQueryExecutionTime() / 1000.0 + " s");
+	}
+
+	/**
+	 * Estimates the makespan of the plan for a given placement: operators
+	 * are started in topological order as soon as all sources are finished
+	 * and their compute node is free. Can be used to compare placements of
+	 * different schedulers.
+	 *
+	 * @param opPlacement
+	 * @return makespan in s
+	 */
+	public double estimateMakespan(Map<Identifier, ComputeNodeDesc> opPlacement) {
+		Map<ComputeNodeDesc, Double> available = new IdentityHashMap<ComputeNodeDesc, Double>();
+		Map<Identifier, Double> finish = new HashMap<Identifier, Double>();
+		double makespan = 0.0;
+
+		for (Identifier opId : this.plan.getTrackerOperatorIds()) {
+			ComputeNodeDesc node = opPlacement.get(opId);
+			if (node == null)
+				continue;
+
+			// compute nodes equal by host and port share a timeline
+			ComputeNodeDesc timeline = node;
+			for (ComputeNodeDesc other : available.keySet()) {
+				if (other.equalsWPort(node)) {
+					timeline = other;
+					break;
+				}
+			}
+			Double free = available.get(timeline);
+			double start = free == null ? 0.0 : free;
+			start = Math.max(start,
+					this.getReadyTime(opId, node, opPlacement, finish));
+
+			double end = start + this.getCost(opId)
+					+ this.getBaseTransferTime(opId, node);
+			finish.put(opId, end);
+			available.put(timeline, end);
+			makespan = Math.max(makespan, end);
+		}
+		return makespan;
+	}
+
+	/**
+	 * Computes HEFT schedule: operators are ordered by decreasing upward rank
+	 * and assigned to the compute node with the earliest finish time
+	 */
+	private void computeSchedule() {
+		this.placement.clear();
+		this.alternatives.clear();
+		this.ranks.clear();
+		this.estimatedMakespan = 0.0;
+
+		if (this.computeNodes.isEmpty())
+			return;
+
+		// compute upward ranks in reverse topological order
+		final List<Identifier> topoOrder = this.plan.getTrackerOperatorIds();
+		for (int i = topoOrder.size() - 1; i >= 0; --i) {
+			Identifier opId = topoOrder.get(i);
+			double maxSucc = 0.0;
+			Set<Identifier> consumerIds = this.plan.getConsumers(opId);
+			if (consumerIds != null) {
+				for (Identifier consumerId : consumerIds) {
+					double succ = this.getAvgTransferTime(consumerId, opId)
+							+ this.ranks.get(consumerId);
+					maxSucc = Math.max(maxSucc, succ);
+				}
+			}
+			this.ranks.put(opId, this.getCost(opId) + maxSucc);
+		}
+
+		// order by decreasing rank (ties in topological order)
+		List<Identifier> order = new ArrayList<Identifier>(topoOrder);
+		Collections.sort(order, new Comparator<Identifier>() {
+			@Override
+			public int compare(Identifier o1, Identifier o2) {
+				int cmp = ranks.get(o2).compareTo(ranks.get(o1));
+				if (cmp != 0)
+					return cmp;
+				return topoOrder.indexOf(o1) - topoOrder.indexOf(o2);
+			}
+		});
+
+		// assign operators to compute node with earliest finish time
+		Map<ComputeNodeDesc, Double> available = new IdentityHashMap<ComputeNodeDesc, Double>();
+		for (ComputeNodeDesc node : this.computeNodes) {
+			available.put(node, 0.0);
+		}
+		Map<Identifier, Double> finish = new HashMap<Identifier, Double>();
+
+		for (Identifier opId : order) {
+			final Map<ComputeNodeDesc, Double> eft = new IdentityHashMap<ComputeNodeDesc, Double>();
+			for (ComputeNodeDesc node : this.computeNodes) {
+				double start = Math.max(available.get(node), this
+						.getReadyTime(opId, node, this.placement, finish));
+				eft.put(node, start + this.getCost(opId)
+						+ this.getBaseTransferTime(opId, node));
+			}
+
+			List<ComputeNodeDesc> ranked = new ArrayList<ComputeNodeDesc>(
+					this.computeNodes);
+			Collections.sort(ranked, new Comparator<ComputeNodeDesc>() {
+				@Override
+				public int compare(ComputeNodeDesc n1, ComputeNodeDesc n2) {
+					return eft.get(n1).compareTo(eft.get(n2));
+				}
+			});
+
+			ComputeNodeDesc bestNode = ranked.get(0);
+			double end = eft.get(bestNode);
+			this.placement.put(opId, bestNode);
+			this.alternatives.put(opId, ranked);
+			available.put(bestNode, end);
+			finish.put(opId, end);
+			this.estimatedMakespan = Math.max(this.estimatedMakespan, end);
+		}
+
+		this.logger.log(Level.INFO, "Estimated makespan for plan "
+				+ this.plan.getPlanId() + ": " + this.estimatedMakespan
+				+ " s for placement " + this.placement);
+	}
+
+	/**
+	 * Estimated execution and materialization time of operator in s (at
+	 * least 1 s if code generator did not set any estimate)
+	 */
+	private double getCost(Identifier opId) {
+		AbstractTrackerOperator op = this.plan.getTrackerOperator(opId);
+		double cost = op.getRuntime() + op.getMattime();
+		if (cost <= 0.0)
+			cost = 1.0;
+		return cost;
+	}
+
+	/**
+	 * Time until all intermediate inputs of operator are available on node
+	 */
+	private double getReadyTime(Identifier opId, ComputeNodeDesc node,
+			Map<Identifier, ComputeNodeDesc> opPlacement,
+			Map<Identifier, Double> finish) {
+		double ready = 0.0;
+		Set<Identifier> sourceIds = this.plan.getSources(opId);
+		if (sourceIds == null)
+			return ready;
+
+		for (Identifier sourceId : sourceIds) {
+			Double sourceFinish = finish.get(sourceId);
+			if (sourceFinish == null)
+				continue;
+
+			double arrival = sourceFinish;
+			ComputeNodeDesc sourceNode = opPlacement.get(sourceId);
+			if (sourceNode == null || !sourceNode.equalsWPort(node))
+				arrival += this.getAvgTransferTime(opId, sourceId);
+			ready = Math.max(ready, arrival);
+		}
+		return ready;
+	}
+
+	/**
+	 * Time to read intermediate results of source operator into operator
+	 */
+	private double getAvgTransferTime(Identifier opId, Identifier sourceId) {
+		long bytes = 0;
+		for (TableDesc inTable : this.plan.getTrackerOperator(opId)
+				.getInTablesFederated()) {
+			if (inTable.isTemp() && inTable.getOperatorID().equals(sourceId))
+				bytes += this.estimateInputSize(inTable, false);
+		}
+		return this.toSeconds(bytes);
+	}
+
+	/**
+	 * Time to read remote base table partitions into operator on node
+	 */
+	private double getBaseTransferTime(Identifier opId, ComputeNodeDesc node) {
+		long bytes = 0;
+		for (TableDesc inTable : this.plan.getTrackerOperator(opId)
+				.getInTablesFederated()) {
+			if (!inTable.isTemp() && !isLocalTable(inTable, node))
+				bytes += this.estimateInputSize(inTable, false);
+		}
+		return this.toSeconds(bytes);
+	}
+
+	private double toSeconds(long bytes) {
+		if (Config.QUERYTRACKER_NETWORK_BANDWIDTH <= 0)
+			return 0.0;
+		return (double) bytes / Config.QUERYTRACKER_NETWORK_BANDWIDTH;
+	}
+}
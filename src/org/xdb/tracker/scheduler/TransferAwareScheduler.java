@@ -0,0 +1,239 @@
+package org.xdb.tracker.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.Connection;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.utils.Identifier;
+
+/**
+ * Resource scheduler which places operators such that the estimated number of
+ * bytes moved over FEDERATED tables is minimal. Operators are placed greedily
+ * in topological order: each operator is assigned to the compute node which
+ * holds most of its input (intermediate results of sources or partitions of
+ * base tables) and which has not reached its capacity yet.
+ */
+public class TransferAwareScheduler extends AbstractResourceScheduler {
+	// compute nodes which can be used for placement
+	private List<ComputeNodeDesc> computeNodes = new ArrayList<ComputeNodeDesc>();
+
+	// planned placement: tracker operator ID -> compute node
+	private Map<Identifier, ComputeNodeDesc> placement = new HashMap<Identifier, ComputeNodeDesc>();
+
+	// alternative compute nodes per tracker operator ordered by costs
+	private Map<Identifier, List<ComputeNodeDesc>> alternatives = new HashMap<Identifier, List<ComputeNodeDesc>>();
+
+	// planned number of bytes moved between compute nodes
+	private long plannedBytes = 0;
+
+	// number of operators placed on a compute node beyond its capacity
+	private int overloadedOps = 0;
+
+	// logger
+	private Logger logger;
+
+	// constructor
+	public TransferAwareScheduler(QueryTrackerPlan plan) {
+		super(plan);
+
+		this.type = EnumResourceScheduler.TRANSFER_AWARE;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+	}
+
+	// getters and setters
+	public long getPlannedBytes() {
+		return this.plannedBytes;
+	}
+
+	public int getOverloadedOps() {
+		return this.overloadedOps;
+	}
+
+	@Override
+	public int getNumberOfConnections(Identifier opId) {
+		if (!this.alternatives.containsKey(opId))
+			return 0;
+
+		return this.alternatives.get(opId).size();
+	}
+
+	// methods
+	@Override
+	public Set<String> createComputeNodesWishList() {
+		Set<String> wishedHosts = new HashSet<String>();
+		for (AbstractTrackerOperator op : this.plan.getTrackerOperators()) {
+			wishedHosts.addAll(this.getInputHosts(op));
+			for (Connection conn : op.getTrackerOpConnections()) {
+				wishedHosts.add(conn.getURI().getHost());
+			}
+		}
+
+		if (wishedHosts.isEmpty())
+			wishedHosts.add(RANDOM_COMPUTE_NODE);
+
+		return wishedHosts;
+	}
+
+	@Override
+	public void assignComputeNodes(Map<String, ComputeNodeDesc> nodes) {
+		super.assignComputeNodes(nodes);
+
+		this.computeNodes.clear();
+		for (ComputeNodeDesc node : this.assignedComputeNodes.values()) {
+			if (findNode(this.computeNodes, node) == null)
+				this.computeNodes.add(node);
+		}
+
+		this.computePlacement();
+	}
+
+	@Override
+	public void clearAssignedComputeNodes() {
+		super.clearAssignedComputeNodes();
+		this.computeNodes.clear();
+		this.placement.clear();
+		this.alternatives.clear();
+		this.plannedBytes = 0;
+		this.overloadedOps = 0;
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(Identifier opId) {
+		return this.placement.get(opId);
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(Identifier opId, int nodeNumber) {
+		if (!this.alternatives.containsKey(opId))
+			return null;
+
+		List<ComputeNodeDesc> nodes = this.alternatives.get(opId);
+		if (nodeNumber >= nodes.size())
+			return null;
+
+		return nodes.get(nodeNumber);
+	}
+
+	@Override
+	public List<ComputeNodeDesc> getAllComputeNodes(Identifier opId) {
+		if (!this.alternatives.containsKey(opId))
+			return new ArrayList<ComputeNodeDesc>();
+
+		return this.alternatives.get(opId);
+	}
+
+	@Override
+	public void planExecuted(Map<Identifier, OperatorDesc> deployment) {
+		Map<Identifier, ComputeNodeDesc> actualPlacement = new HashMap<Identifier, ComputeNodeDesc>();
+		for (Map.Entry<Identifier, OperatorDesc> entry : deployment.entrySet()) {
+			actualPlacement.put(entry.getKey(), entry.getValue()
+					.getComputeNode());
+		}
+
+		long actualBytes = 0;
+		for (Identifier opId : this.plan.getTrackerOperatorIds()) {
+			ComputeNodeDesc node = actualPlacement.get(opId);
+			if (node != null)
+				actualBytes += this.computeTransferCost(opId, node,
+						actualPlacement, true);
+		}
+
+		this.logger.log(Level.INFO, "Transfer for plan "
+				+ this.plan.getPlanId() + ": planned " + this.plannedBytes
+				+ " bytes, actual " + actualBytes + " bytes");
+	}
+
+	/**
+	 * Places all operators of plan greedily in topological order
+	 */
+	private void computePlacement() {
+		this.placement.clear();
+		this.alternatives.clear();
+		this.plannedBytes = 0;
+		this.overloadedOps = 0;
+
+		if (this.computeNodes.isEmpty())
+			return;
+
+		final Map<ComputeNodeDesc, Integer> load = new IdentityHashMap<ComputeNodeDesc, Integer>();
+		for (ComputeNodeDesc node : this.computeNodes) {
+			load.put(node, 0);
+		}
+
+		int capacity = Config.QUERYTRACKER_NODE_CAPACITY;
+		if (capacity <= 0)
+			capacity = Integer.MAX_VALUE;
+
+		for (final Identifier opId : this.plan.getTrackerOperatorIds()) {
+			// compute costs for all compute nodes
+			final Map<ComputeNodeDesc, Long> costs = new IdentityHashMap<ComputeNodeDesc, Long>();
+			for (ComputeNodeDesc node : this.computeNodes) {
+				costs.put(node, this.computeTransferCost(opId, node,
+						this.placement, false));
+			}
+
+			// rank compute nodes by costs and load
+			List<ComputeNodeDesc> ranked = new ArrayList<ComputeNodeDesc>(
+					this.computeNodes);
+			Collections.sort(ranked, new Comparator<ComputeNodeDesc>() {
+				@Override
+				public int compare(ComputeNodeDesc n1, ComputeNodeDesc n2) {
+					int cmp = costs.get(n1).compareTo(costs.get(n2));
+					if (cmp != 0)
+						return cmp;
+					return load.get(n1).compareTo(load.get(n2));
+				}
+			});
+
+			// pick cheapest compute node with free capacity
+			int bestIdx = -1;
+			for (int i = 0; i < ranked.size(); ++i) {
+				if (load.get(ranked.get(i)) < capacity) {
+					bestIdx = i;
+					break;
+				}
+			}
+
+			// all compute nodes are at capacity: pick least loaded node
+			if (bestIdx < 0) {
+				bestIdx = 0;
+				for (int i = 1; i < ranked.size(); ++i) {
+					if (load.get(ranked.get(i)) < load.get(ranked.get(bestIdx)))
+						bestIdx = i;
+				}
+				this.overloadedOps++;
+				this.logger.log(Level.WARNING, "All compute nodes reached "
+						+ "capacity of " + capacity + " operators: operator "
+						+ opId + " is placed on least loaded compute node "
+						+ ranked.get(bestIdx));
+			}
+			ComputeNodeDesc bestNode = ranked.remove(bestIdx);
+			ranked.add(0, bestNode);
+
+			this.placement.put(opId, bestNode);
+			this.alternatives.put(opId, ranked);
+			load.put(bestNode, load.get(bestNode) + 1);
+			this.plannedBytes += costs.get(bestNode);
+		}
+
+		this.logger.log(Level.INFO, "Planned transfer for plan "
+				+ this.plan.getPlanId() + ": " + this.plannedBytes
+				+ " bytes for placement " + this.placement);
+	}
+}